@@ -3,15 +3,20 @@ package com.sap.cloudfoundry.client.facade;
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.cloudfoundry.client.v3.Metadata;
 
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
@@ -38,6 +43,8 @@ import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.domain.UserRole;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 
+import reactor.core.Disposable;
+
 /**
  * The interface defining operations making up the Cloud Foundry Java client's API.
  *
@@ -150,6 +157,20 @@ public interface CloudControllerClient {
      */
     void deleteAllServiceInstances();
 
+    /**
+     * Delete all applications concurrently, without stopping at the first failure.
+     *
+     * @return the deleted applications and the reasons the others could not be deleted
+     */
+    BulkDeleteResult tryDeleteAllApplications();
+
+    /**
+     * Delete all service instances concurrently, without stopping at the first failure.
+     *
+     * @return the deleted service instances and the reasons the others could not be deleted
+     */
+    BulkDeleteResult tryDeleteAllServiceInstances();
+
     /**
      * Delete application.
      *
@@ -395,6 +416,35 @@ public interface CloudControllerClient {
      */
     List<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset);
 
+    /**
+     * Get all log entries after the offset which are still in the log cache, and not only the newest ones like
+     * {@link #getRecentLogs(UUID, LocalDateTime)}.
+     *
+     * @param applicationGuid the guid of the application
+     * @param offset only entries produced after this point in time are returned
+     * @param timeSlices the number of parts of the time range which are read concurrently
+     * @return the log entries, ordered by their timestamp
+     */
+    List<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices);
+
+    /**
+     * Get all log entries of several applications after the offset which are still in the log cache, merged into one list.
+     *
+     * @param applicationGuids the guids of the applications
+     * @param offset only entries produced after this point in time are returned
+     * @return the log entries of all applications, ordered by their timestamp
+     */
+    List<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset);
+
+    /**
+     * Push the log entries which an app produces from now on to a listener.
+     *
+     * @param applicationGuid the guid of the application
+     * @param listener receives the log entries in the order of their timestamp, and an error if the logs cannot be read
+     * @return a handle which stops tailing the logs and completes the listener when disposed
+     */
+    Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener);
+
     /**
      * Get the info for all routes for a domain.
      *
@@ -794,6 +844,25 @@ public interface CloudControllerClient {
 
     CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
 
+    /**
+     * Uploads the files of the given archive to a new package of the application, zipping them while they are uploaded, so that no
+     * archive needs to be written to disk first.
+     *
+     * @param applicationName the name of the application
+     * @param archive the application files, e.g. a {@link com.sap.cloudfoundry.client.facade.archive.DirectoryApplicationArchive}
+     * @param callback receives the package processing status, can be null
+     * @return the created package
+     */
+    CloudPackage asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback);
+
+    /**
+     * Uploads the bits of many applications, a few at a time and the smallest first, without waiting for them.
+     *
+     * @param uploads the applications and their bits
+     * @return a future per application name, which completes as soon as the bits of the package of the application are uploaded
+     */
+    Map<String, CompletableFuture<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads);
+
     Upload getUploadStatus(UUID packageGuid);
 
     CloudTask getTask(UUID taskGuid);
@@ -857,6 +926,25 @@ public interface CloudControllerClient {
 
     CloudPackage createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo);
 
+    /**
+     * Creates a package of the target application with the bits of the source package, which are copied by the cloud controller instead
+     * of being uploaded again.
+     *
+     * @param sourcePackageGuid the package to copy, e.g. the current package of the application which is replaced in a blue-green deploy
+     * @param targetApplicationGuid the application which gets the copy
+     * @return the copied package, once it is ready
+     */
+    CloudPackage copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid);
+
     CloudAsyncJob getAsyncJob(String jobId);
 
+    /**
+     * Waits for the given asynchronous jobs to finish. All jobs are polled together, so waiting for many jobs does not need a thread or
+     * a poll loop per job.
+     *
+     * @param jobIds the GUIDs of the jobs
+     * @throws CloudOperationException if any of the jobs fails or does not finish in time. The remaining jobs are still awaited.
+     */
+    void awaitJobs(Collection<String> jobIds);
+
 }
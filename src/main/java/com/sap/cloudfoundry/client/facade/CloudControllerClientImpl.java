@@ -3,11 +3,14 @@ package com.sap.cloudfoundry.client.facade;
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.cloudfoundry.AbstractCloudFoundryException;
@@ -15,7 +18,10 @@ import org.cloudfoundry.client.v3.Metadata;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
@@ -45,6 +51,8 @@ import com.sap.cloudfoundry.client.facade.rest.CloudControllerRestClient;
 import com.sap.cloudfoundry.client.facade.rest.CloudControllerRestClientFactory;
 import com.sap.cloudfoundry.client.facade.rest.ImmutableCloudControllerRestClientFactory;
 
+import reactor.core.Disposable;
+
 /**
  * A Java client to exercise the Cloud Foundry API.
  *
@@ -152,6 +160,16 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         handleExceptions(() -> delegate.deleteAllServiceInstances());
     }
 
+    @Override
+    public BulkDeleteResult tryDeleteAllApplications() {
+        return handleExceptions(() -> delegate.tryDeleteAllApplications());
+    }
+
+    @Override
+    public BulkDeleteResult tryDeleteAllServiceInstances() {
+        return handleExceptions(() -> delegate.tryDeleteAllServiceInstances());
+    }
+
     @Override
     public void deleteApplication(String applicationName) {
         handleExceptions(() -> delegate.deleteApplication(applicationName));
@@ -342,6 +360,21 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getRecentLogs(applicationGuid, offset));
     }
 
+    @Override
+    public List<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices) {
+        return handleExceptions(() -> delegate.getAllLogs(applicationGuid, offset, timeSlices));
+    }
+
+    @Override
+    public List<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset) {
+        return handleExceptions(() -> delegate.getAllLogs(applicationGuids, offset));
+    }
+
+    @Override
+    public Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        return delegate.tailLogs(applicationGuid, listener);
+    }
+
     @Override
     public List<CloudRoute> getRoutes(String domainName) {
         return handleExceptions(() -> delegate.getRoutes(domainName));
@@ -658,6 +691,19 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, file, callback));
     }
 
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback) {
+        return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, archive, callback));
+    }
+
+    @Override
+    public Map<String, CompletableFuture<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads) {
+        Map<String, CompletableFuture<CloudPackage>> uploadedPackages = new LinkedHashMap<>();
+        delegate.uploadApplications(uploads)
+                .forEach((applicationName, uploadedPackage) -> uploadedPackages.put(applicationName, handleExceptions(uploadedPackage)));
+        return uploadedPackages;
+    }
+
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
         return handleExceptions(() -> delegate.getUploadStatus(packageGuid));
@@ -733,11 +779,21 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.createDockerPackage(applicationGuid, dockerInfo));
     }
 
+    @Override
+    public CloudPackage copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid) {
+        return handleExceptions(() -> delegate.copyPackage(sourcePackageGuid, targetApplicationGuid));
+    }
+
     @Override
     public CloudAsyncJob getAsyncJob(String jobId) {
         return handleExceptions(() -> delegate.getAsyncJob(jobId));
     }
 
+    @Override
+    public void awaitJobs(Collection<String> jobIds) {
+        handleExceptions(() -> delegate.awaitJobs(jobIds));
+    }
+
     private void handleExceptions(Runnable runnable) {
         handleExceptions(() -> {
             runnable.run();
@@ -753,6 +809,20 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         }
     }
 
+    private <T> CompletableFuture<T> handleExceptions(CompletableFuture<T> future) {
+        CompletableFuture<T> convertedFuture = new CompletableFuture<>();
+        future.whenComplete((result, error) -> {
+            if (error instanceof AbstractCloudFoundryException) {
+                convertedFuture.completeExceptionally(convertV3ClientException((AbstractCloudFoundryException) error));
+            } else if (error != null) {
+                convertedFuture.completeExceptionally(error);
+            } else {
+                convertedFuture.complete(result);
+            }
+        });
+        return convertedFuture;
+    }
+
     private CloudOperationException convertV3ClientException(AbstractCloudFoundryException e) {
         HttpStatus httpStatus = HttpStatus.valueOf(e.getStatusCode());
         return new CloudOperationException(httpStatus, httpStatus.getReasonPhrase(), e.getMessage(), e);
@@ -13,7 +13,16 @@ public final class Messages {
     public static final String SERVICE_PLAN_WITH_GUID_0_NOT_AVAILABLE_FOR_SERVICE_INSTANCE_1 = "Service plan with guid \"{0}\" is not available for service instance \"{1}\".";
     public static final String SERVICE_OFFERING_WITH_GUID_0_IS_NOT_AVAILABLE = "Service offering with guid \"{0}\" is not available.";
     public static final String SERVICE_OFFERING_WITH_GUID_0_NOT_FOUND = "Service offering with guid \"{0}\" not found.";
-    public static final String CANT_READ_APP_LOGS_RESPONSE = "Failed to read application recent logs response: %s";
     public static final String CANT_DESERIALIZE_APP_LOGS_RESPONSE = "Failed to deserialize application recent logs response: %s";
+    public static final String CANT_READ_APPLICATION_ARCHIVE = "Failed to read application archive \"%s\": %s";
+    public static final String CANT_READ_APPLICATION_DIRECTORY = "Failed to read application directory \"%s\": %s";
+    public static final String CANT_READ_APPLICATION_FILE = "Failed to read application file \"%s\": %s";
+    public static final String CANT_OPEN_DIGEST_CACHE = "Failed to open digest cache \"%s\": %s";
+    public static final String CANT_COPY_PACKAGE = "Failed to copy package \"%s\", the copy is %s: %s";
+    public static final String CANT_CREATE_DELTA_ARCHIVE = "Failed to create archive of the application files which are not cached: %s";
+
+    // WARN messages
+    public static final String CANT_REFRESH_TOKEN_IN_BACKGROUND = "Failed to refresh token in the background, it will be refreshed when it is needed: %s";
+    public static final String DIGEST_CACHE_LOCKED = "Digest cache \"%s\" is used by another process, digests will only be cached in memory";
 
 }
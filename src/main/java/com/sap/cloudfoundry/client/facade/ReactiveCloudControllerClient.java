@@ -0,0 +1,399 @@
+package com.sap.cloudfoundry.client.facade;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.cloudfoundry.client.v3.Metadata;
+
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
+import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
+import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudProcess;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceKey;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.CloudStack;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.ServicePlanVisibility;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+import com.sap.cloudfoundry.client.facade.domain.UserRole;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CloudControllerClient}. Nothing is sent to the cloud controller until the returned publisher is
+ * subscribed to. Operations which return an optional job id in the blocking API complete empty when there is no job to poll. Lookups with
+ * a {@code required} flag complete empty instead of failing when the flag is false and the entity does not exist.
+ *
+ */
+public interface ReactiveCloudControllerClient {
+
+    Mono<Void> addDomain(String domainName);
+
+    Mono<Void> addRoute(String host, String domainName, String path);
+
+    /**
+     * Associate (provision) a service with an application.
+     *
+     * @param applicationName the application name
+     * @param serviceInstanceName the service instance name
+     * @return job id for async polling if present
+     */
+    Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName);
+
+    Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters);
+
+    Mono<Void> createApplication(String applicationName, Staging staging, Integer disk, Integer memory, Metadata metadata,
+                                 Set<CloudRoute> routes);
+
+    Mono<Void> createServiceInstance(CloudServiceInstance serviceInstance);
+
+    Mono<String> createServiceBroker(CloudServiceBroker serviceBroker);
+
+    Mono<CloudServiceKey> createAndFetchServiceKey(CloudServiceKey keyModel, String serviceInstanceName);
+
+    Mono<String> createServiceKey(CloudServiceKey keyModel, String serviceInstanceName);
+
+    Mono<String> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters);
+
+    Mono<Void> createUserProvidedServiceInstance(CloudServiceInstance serviceInstance);
+
+    Mono<Void> deleteAllApplications();
+
+    Mono<Void> deleteAllServiceInstances();
+
+    Mono<BulkDeleteResult> tryDeleteAllApplications();
+
+    Mono<BulkDeleteResult> tryDeleteAllServiceInstances();
+
+    Mono<Void> deleteApplication(String applicationName);
+
+    Mono<Void> deleteDomain(String domainName);
+
+    Mono<Void> deleteOrphanedRoutes();
+
+    Mono<Void> deleteRoute(String host, String domainName, String path);
+
+    Mono<Void> deleteServiceInstance(String serviceInstanceName);
+
+    Mono<Void> deleteServiceInstance(CloudServiceInstance serviceInstance);
+
+    Mono<String> deleteServiceBroker(String name);
+
+    Mono<String> deleteServiceBinding(String serviceInstanceName, String serviceKeyName);
+
+    Mono<String> deleteServiceBinding(UUID bindingGuid);
+
+    Mono<CloudApplication> getApplication(String applicationName);
+
+    Mono<CloudApplication> getApplication(String applicationName, boolean required);
+
+    Mono<UUID> getApplicationGuid(String applicationName);
+
+    Mono<String> getApplicationName(UUID applicationGuid);
+
+    Mono<Map<String, String>> getApplicationEnvironment(String applicationName);
+
+    Mono<Map<String, String>> getApplicationEnvironment(UUID applicationGuid);
+
+    Flux<CloudEvent> getApplicationEvents(String applicationName);
+
+    Flux<CloudEvent> getEventsByActee(UUID uuid);
+
+    Mono<InstancesInfo> getApplicationInstances(CloudApplication app);
+
+    Mono<InstancesInfo> getApplicationInstances(UUID applicationGuid);
+
+    Mono<CloudProcess> getApplicationProcess(UUID applicationGuid);
+
+    Flux<CloudRoute> getApplicationRoutes(UUID applicationGuid);
+
+    Mono<Boolean> getApplicationSshEnabled(UUID applicationGuid);
+
+    Flux<CloudApplication> getApplications();
+
+    Flux<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector);
+
+    Mono<CloudDomain> getDefaultDomain();
+
+    Flux<CloudDomain> getDomains();
+
+    Flux<CloudDomain> getDomainsForOrganization();
+
+    Flux<CloudEvent> getEvents();
+
+    Mono<CloudOrganization> getOrganization(String organizationName);
+
+    Mono<CloudOrganization> getOrganization(String organizationName, boolean required);
+
+    Flux<CloudOrganization> getOrganizations();
+
+    Flux<CloudDomain> getPrivateDomains();
+
+    /**
+     * Get recent log entries, ordered by their timestamp.
+     *
+     * @param applicationName the name of the application
+     * @param offset only entries produced after this point in time are returned
+     * @return the recent log entries
+     */
+    Flux<ApplicationLog> getRecentLogs(String applicationName, LocalDateTime offset);
+
+    Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset);
+
+    /**
+     * Get all log entries after the offset which are still in the log cache, and not only the newest ones like
+     * {@link #getRecentLogs(UUID, LocalDateTime)}. The log cache is read backwards page by page, and the time range can be split into
+     * slices which are read concurrently.
+     *
+     * @param applicationGuid the guid of the application
+     * @param offset only entries produced after this point in time are returned
+     * @param timeSlices the number of parts of the time range which are read concurrently
+     * @return the log entries, ordered by their timestamp
+     */
+    Flux<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices);
+
+    /**
+     * Get all log entries of several applications after the offset which are still in the log cache, merged into one stream. The logs
+     * of every application are read concurrently and oldest first, and are emitted as they are read, so only the next few entries of each
+     * application are held in memory.
+     *
+     * @param applicationGuids the guids of the applications
+     * @param offset only entries produced after this point in time are returned
+     * @return the log entries of all applications, ordered by their timestamp
+     */
+    Flux<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset);
+
+    /**
+     * Pushes the log entries which the application produces from now on to the listener. The log cache is polled for all tailed
+     * applications together, less often for applications which produce no logs.
+     *
+     * @param applicationGuid the guid of the application
+     * @param listener receives the log entries in the order of their timestamp, and an error if the logs cannot be read
+     * @return a handle which stops tailing the logs and completes the listener when disposed
+     */
+    Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener);
+
+    Flux<CloudRoute> getRoutes(String domainName);
+
+    Mono<CloudServiceBroker> getServiceBroker(String name);
+
+    Mono<CloudServiceBroker> getServiceBroker(String name, boolean required);
+
+    Flux<CloudServiceBroker> getServiceBrokers();
+
+    Mono<UUID> getRequiredServiceInstanceGuid(String serviceInstanceName);
+
+    Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName);
+
+    Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName, boolean required);
+
+    Mono<String> getServiceInstanceName(UUID serviceInstanceGuid);
+
+    Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName);
+
+    Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName, boolean required);
+
+    Mono<CloudServiceBinding> getServiceBinding(UUID serviceBindingGuid);
+
+    Flux<CloudServiceBinding> getServiceAppBindings(UUID serviceInstanceGuid);
+
+    Flux<CloudServiceBinding> getAppBindings(UUID applicationGuid);
+
+    Mono<CloudServiceBinding> getServiceBindingForApplication(UUID applicationId, UUID serviceInstanceGuid);
+
+    Mono<Map<String, Object>> getServiceInstanceParameters(UUID guid);
+
+    Mono<Map<String, Object>> getUserProvidedServiceInstanceParameters(UUID guid);
+
+    Mono<Map<String, Object>> getServiceBindingParameters(UUID guid);
+
+    Mono<CloudServiceKey> getServiceKey(String serviceInstanceName, String serviceKeyName);
+
+    Flux<CloudServiceKey> getServiceKeys(String serviceInstanceName);
+
+    Flux<CloudServiceKey> getServiceKeysWithCredentials(String serviceInstanceName);
+
+    Flux<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance);
+
+    Flux<CloudServiceKey> getServiceKeysWithCredentials(CloudServiceInstance serviceInstance);
+
+    Flux<CloudServiceOffering> getServiceOfferings();
+
+    Flux<CloudServiceInstance> getServiceInstances();
+
+    Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByNames(List<String> names);
+
+    Flux<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector);
+
+    Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(String labelSelector);
+
+    Flux<CloudDomain> getSharedDomains();
+
+    Mono<CloudSpace> getSpace(UUID spaceGuid);
+
+    Mono<CloudSpace> getSpace(String organizationName, String spaceName);
+
+    Mono<CloudSpace> getSpace(String organizationName, String spaceName, boolean required);
+
+    Mono<CloudSpace> getSpace(String spaceName);
+
+    Mono<CloudSpace> getSpace(String spaceName, boolean required);
+
+    Flux<CloudSpace> getSpaces();
+
+    Flux<CloudSpace> getSpaces(String organizationName);
+
+    Mono<CloudStack> getStack(String name);
+
+    Mono<CloudStack> getStack(String name, boolean required);
+
+    Flux<CloudStack> getStacks();
+
+    Mono<Void> rename(String applicationName, String newName);
+
+    Mono<Void> restartApplication(String applicationName);
+
+    Mono<Void> startApplication(String applicationName);
+
+    Mono<Void> stopApplication(String applicationName);
+
+    Mono<String> unbindServiceInstance(String applicationName, String serviceInstanceName);
+
+    Mono<String> unbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid);
+
+    Mono<Void> updateApplicationDiskQuota(String applicationName, int disk);
+
+    Mono<Void> updateApplicationEnv(String applicationName, Map<String, String> env);
+
+    Mono<Void> updateApplicationInstances(String applicationName, int instances);
+
+    Mono<Void> updateApplicationMemory(String applicationName, int memory);
+
+    Mono<Void> updateApplicationStaging(String applicationName, Staging staging);
+
+    Mono<Void> updateApplicationRoutes(String applicationName, Set<CloudRoute> routes);
+
+    Mono<Void> updateApplicationMetadata(UUID guid, Metadata metadata);
+
+    Mono<String> updateServiceBroker(CloudServiceBroker serviceBroker);
+
+    Mono<Void> updateServicePlanVisibilityForBroker(String name, ServicePlanVisibility visibility);
+
+    Mono<Void> updateServicePlan(String serviceName, String planName);
+
+    Mono<Void> updateServiceParameters(String serviceName, Map<String, Object> parameters);
+
+    Mono<Void> updateServiceTags(String serviceName, List<String> tags);
+
+    Mono<Void> updateServiceSyslogDrainUrl(String serviceName, String syslogDrainUrl);
+
+    Mono<Void> updateServiceInstanceMetadata(UUID guid, Metadata metadata);
+
+    /**
+     * Create a package for the application and upload the given archive to it. The returned publisher completes as soon as the bits are
+     * uploaded, the processing of the package on the cloud controller side is reported through the callback.
+     * The callback is notified until the package is processed or until {@link UploadStatusCallback#onProgress(String)} returns
+     * {@code true}. Use {@link #monitorUpload(UUID)} instead to stop watching the package at any time.
+     *
+     * @param applicationName the name of the application
+     * @param file the application archive
+     * @param callback receives the package processing status, can be null
+     * @return the created package
+     */
+    Mono<CloudPackage> asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
+
+    /**
+     * Create a package for the application and upload the files of the given archive to it, zipping them while they are uploaded. The
+     * returned publisher completes as soon as the bits are uploaded, the processing of the package on the cloud controller side is
+     * reported through the callback, as with {@link #asyncUploadApplication(String, Path, UploadStatusCallback)}.
+     *
+     * @param applicationName the name of the application
+     * @param archive the application files, e.g. a {@link com.sap.cloudfoundry.client.facade.archive.DirectoryApplicationArchive}
+     * @param callback receives the package processing status, can be null
+     * @return the created package
+     */
+    Mono<CloudPackage> asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback);
+
+    /**
+     * Uploads the bits of many applications, a few at a time and the smallest first. The sizes of the uploads are
+     * estimated in the background as soon as this method is called, and the uploads are queued right after.
+     *
+     * @return a publisher per application name, which completes as soon as the bits of the package of the application are uploaded
+     */
+    Map<String, Mono<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads);
+
+    /**
+     * Watches the processing of an uploaded package.
+     *
+     * @return a {@link Flux} which emits the status of the package on every poll and completes once the package is ready, has failed or
+     *         has expired. Cancelling the subscription stops watching the package.
+     */
+    Flux<Upload> monitorUpload(UUID packageGuid);
+
+    Mono<Upload> getUploadStatus(UUID packageGuid);
+
+    Mono<CloudTask> getTask(UUID taskGuid);
+
+    Flux<CloudTask> getTasks(String applicationName);
+
+    Mono<CloudTask> runTask(String applicationName, CloudTask task);
+
+    Mono<CloudTask> cancelTask(UUID taskGuid);
+
+    Mono<CloudBuild> createBuild(UUID packageGuid);
+
+    Mono<CloudBuild> getBuild(UUID buildGuid);
+
+    Mono<Void> bindDropletToApp(UUID dropletGuid, UUID applicationGuid);
+
+    Flux<CloudBuild> getBuildsForApplication(UUID applicationGuid);
+
+    Flux<CloudBuild> getBuildsForPackage(UUID packageGuid);
+
+    Mono<DropletInfo> getCurrentDropletForApplication(UUID applicationGuid);
+
+    Mono<CloudPackage> getPackage(UUID packageGuid);
+
+    Flux<CloudPackage> getPackagesForApplication(UUID applicationGuid);
+
+    Flux<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid);
+
+    Mono<CloudPackage> createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo);
+
+    /**
+     * Creates a package of the target application with the bits of the source package, which are copied by the cloud controller instead
+     * of being uploaded again. The copy is watched like an upload.
+     *
+     * @return the copied package, once it is ready
+     */
+    Mono<CloudPackage> copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid);
+
+    Mono<CloudAsyncJob> getAsyncJob(String jobId);
+
+    Mono<Void> awaitJobs(Collection<String> jobIds);
+
+}
@@ -0,0 +1,757 @@
+package com.sap.cloudfoundry.client.facade;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.cloudfoundry.AbstractCloudFoundryException;
+import org.cloudfoundry.client.v3.Metadata;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
+import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
+import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudProcess;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceKey;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.CloudStack;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.ServicePlanVisibility;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+import com.sap.cloudfoundry.client.facade.domain.UserRole;
+import com.sap.cloudfoundry.client.facade.rest.CloudControllerRestClientFactory;
+import com.sap.cloudfoundry.client.facade.rest.ImmutableCloudControllerRestClientFactory;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A non-blocking Java client to exercise the Cloud Foundry API.
+ *
+ */
+public class ReactiveCloudControllerClientImpl implements ReactiveCloudControllerClient {
+
+    private ReactiveCloudControllerClient delegate;
+
+    public ReactiveCloudControllerClientImpl(URL controllerUrl, CloudCredentials credentials, CloudSpace target,
+                                             boolean trustSelfSignedCerts) {
+        Assert.notNull(controllerUrl, "URL for cloud controller cannot be null");
+        CloudControllerRestClientFactory restClientFactory = ImmutableCloudControllerRestClientFactory.builder()
+                                                                                                      .shouldTrustSelfSignedCertificates(trustSelfSignedCerts)
+                                                                                                      .build();
+        this.delegate = restClientFactory.createReactiveClient(controllerUrl, credentials, target);
+    }
+
+    /**
+     * Construct a client with a pre-configured ReactiveCloudControllerClient
+     */
+    public ReactiveCloudControllerClientImpl(ReactiveCloudControllerClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Void> addDomain(String domainName) {
+        return handleExceptions(() -> delegate.addDomain(domainName));
+    }
+
+    @Override
+    public Mono<Void> addRoute(String host, String domainName, String path) {
+        return handleExceptions(() -> delegate.addRoute(host, domainName, path));
+    }
+
+    @Override
+    public Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName) {
+        return handleExceptions(() -> delegate.bindServiceInstance(applicationName, serviceInstanceName));
+    }
+
+    @Override
+    public Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters) {
+        return handleExceptions(() -> delegate.bindServiceInstance(applicationName, serviceInstanceName, parameters));
+    }
+
+    @Override
+    public Mono<Void> createApplication(String applicationName, Staging staging, Integer disk, Integer memory, Metadata metadata,
+                                        Set<CloudRoute> routes) {
+        return handleExceptions(() -> delegate.createApplication(applicationName, staging, disk, memory, metadata, routes));
+    }
+
+    @Override
+    public Mono<Void> createServiceInstance(CloudServiceInstance serviceInstance) {
+        return handleExceptions(() -> delegate.createServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public Mono<String> createServiceBroker(CloudServiceBroker serviceBroker) {
+        return handleExceptions(() -> delegate.createServiceBroker(serviceBroker));
+    }
+
+    @Override
+    public Mono<CloudServiceKey> createAndFetchServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return handleExceptions(() -> delegate.createAndFetchServiceKey(keyModel, serviceInstanceName));
+    }
+
+    @Override
+    public Mono<String> createServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return handleExceptions(() -> delegate.createServiceKey(keyModel, serviceInstanceName));
+    }
+
+    @Override
+    public Mono<String> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
+        return handleExceptions(() -> delegate.createServiceKey(serviceInstanceName, serviceKeyName, parameters));
+    }
+
+    @Override
+    public Mono<Void> createUserProvidedServiceInstance(CloudServiceInstance serviceInstance) {
+        return handleExceptions(() -> delegate.createUserProvidedServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public Mono<Void> deleteAllApplications() {
+        return handleExceptions(() -> delegate.deleteAllApplications());
+    }
+
+    @Override
+    public Mono<Void> deleteAllServiceInstances() {
+        return handleExceptions(() -> delegate.deleteAllServiceInstances());
+    }
+
+    @Override
+    public Mono<BulkDeleteResult> tryDeleteAllApplications() {
+        return handleExceptions(() -> delegate.tryDeleteAllApplications());
+    }
+
+    @Override
+    public Mono<BulkDeleteResult> tryDeleteAllServiceInstances() {
+        return handleExceptions(() -> delegate.tryDeleteAllServiceInstances());
+    }
+
+    @Override
+    public Mono<Void> deleteApplication(String applicationName) {
+        return handleExceptions(() -> delegate.deleteApplication(applicationName));
+    }
+
+    @Override
+    public Mono<Void> deleteDomain(String domainName) {
+        return handleExceptions(() -> delegate.deleteDomain(domainName));
+    }
+
+    @Override
+    public Mono<Void> deleteOrphanedRoutes() {
+        return handleExceptions(() -> delegate.deleteOrphanedRoutes());
+    }
+
+    @Override
+    public Mono<Void> deleteRoute(String host, String domainName, String path) {
+        return handleExceptions(() -> delegate.deleteRoute(host, domainName, path));
+    }
+
+    @Override
+    public Mono<Void> deleteServiceInstance(String serviceInstanceName) {
+        return handleExceptions(() -> delegate.deleteServiceInstance(serviceInstanceName));
+    }
+
+    @Override
+    public Mono<Void> deleteServiceInstance(CloudServiceInstance serviceInstance) {
+        return handleExceptions(() -> delegate.deleteServiceInstance(serviceInstance));
+    }
+
+    @Override
+    public Mono<String> deleteServiceBroker(String name) {
+        return handleExceptions(() -> delegate.deleteServiceBroker(name));
+    }
+
+    @Override
+    public Mono<String> deleteServiceBinding(String serviceInstanceName, String serviceKeyName) {
+        return handleExceptions(() -> delegate.deleteServiceBinding(serviceInstanceName, serviceKeyName));
+    }
+
+    @Override
+    public Mono<String> deleteServiceBinding(UUID bindingGuid) {
+        return handleExceptions(() -> delegate.deleteServiceBinding(bindingGuid));
+    }
+
+    @Override
+    public Mono<CloudApplication> getApplication(String applicationName) {
+        return handleExceptions(() -> delegate.getApplication(applicationName));
+    }
+
+    @Override
+    public Mono<CloudApplication> getApplication(String applicationName, boolean required) {
+        return handleExceptions(() -> delegate.getApplication(applicationName, required));
+    }
+
+    @Override
+    public Mono<UUID> getApplicationGuid(String applicationName) {
+        return handleExceptions(() -> delegate.getApplicationGuid(applicationName));
+    }
+
+    @Override
+    public Mono<String> getApplicationName(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getApplicationName(applicationGuid));
+    }
+
+    @Override
+    public Mono<Map<String, String>> getApplicationEnvironment(String applicationName) {
+        return handleExceptions(() -> delegate.getApplicationEnvironment(applicationName));
+    }
+
+    @Override
+    public Mono<Map<String, String>> getApplicationEnvironment(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getApplicationEnvironment(applicationGuid));
+    }
+
+    @Override
+    public Flux<CloudEvent> getApplicationEvents(String applicationName) {
+        return handleFluxExceptions(() -> delegate.getApplicationEvents(applicationName));
+    }
+
+    @Override
+    public Flux<CloudEvent> getEventsByActee(UUID uuid) {
+        return handleFluxExceptions(() -> delegate.getEventsByActee(uuid));
+    }
+
+    @Override
+    public Mono<InstancesInfo> getApplicationInstances(CloudApplication app) {
+        return handleExceptions(() -> delegate.getApplicationInstances(app));
+    }
+
+    @Override
+    public Mono<InstancesInfo> getApplicationInstances(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getApplicationInstances(applicationGuid));
+    }
+
+    @Override
+    public Mono<CloudProcess> getApplicationProcess(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getApplicationProcess(applicationGuid));
+    }
+
+    @Override
+    public Flux<CloudRoute> getApplicationRoutes(UUID applicationGuid) {
+        return handleFluxExceptions(() -> delegate.getApplicationRoutes(applicationGuid));
+    }
+
+    @Override
+    public Mono<Boolean> getApplicationSshEnabled(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getApplicationSshEnabled(applicationGuid));
+    }
+
+    @Override
+    public Flux<CloudApplication> getApplications() {
+        return handleFluxExceptions(() -> delegate.getApplications());
+    }
+
+    @Override
+    public Flux<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
+        return handleFluxExceptions(() -> delegate.getApplicationsByMetadataLabelSelector(labelSelector));
+    }
+
+    @Override
+    public Mono<CloudDomain> getDefaultDomain() {
+        return handleExceptions(() -> delegate.getDefaultDomain());
+    }
+
+    @Override
+    public Flux<CloudDomain> getDomains() {
+        return handleFluxExceptions(() -> delegate.getDomains());
+    }
+
+    @Override
+    public Flux<CloudDomain> getDomainsForOrganization() {
+        return handleFluxExceptions(() -> delegate.getDomainsForOrganization());
+    }
+
+    @Override
+    public Flux<CloudEvent> getEvents() {
+        return handleFluxExceptions(() -> delegate.getEvents());
+    }
+
+    @Override
+    public Mono<CloudOrganization> getOrganization(String organizationName) {
+        return handleExceptions(() -> delegate.getOrganization(organizationName));
+    }
+
+    @Override
+    public Mono<CloudOrganization> getOrganization(String organizationName, boolean required) {
+        return handleExceptions(() -> delegate.getOrganization(organizationName, required));
+    }
+
+    @Override
+    public Flux<CloudOrganization> getOrganizations() {
+        return handleFluxExceptions(() -> delegate.getOrganizations());
+    }
+
+    @Override
+    public Flux<CloudDomain> getPrivateDomains() {
+        return handleFluxExceptions(() -> delegate.getPrivateDomains());
+    }
+
+    @Override
+    public Flux<ApplicationLog> getRecentLogs(String applicationName, LocalDateTime offset) {
+        return handleFluxExceptions(() -> delegate.getRecentLogs(applicationName, offset));
+    }
+
+    @Override
+    public Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset) {
+        return handleFluxExceptions(() -> delegate.getRecentLogs(applicationGuid, offset));
+    }
+
+    @Override
+    public Flux<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices) {
+        return handleFluxExceptions(() -> delegate.getAllLogs(applicationGuid, offset, timeSlices));
+    }
+
+    @Override
+    public Flux<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset) {
+        return handleFluxExceptions(() -> delegate.getAllLogs(applicationGuids, offset));
+    }
+
+    @Override
+    public Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        return delegate.tailLogs(applicationGuid, listener);
+    }
+
+    @Override
+    public Flux<CloudRoute> getRoutes(String domainName) {
+        return handleFluxExceptions(() -> delegate.getRoutes(domainName));
+    }
+
+    @Override
+    public Mono<CloudServiceBroker> getServiceBroker(String name) {
+        return handleExceptions(() -> delegate.getServiceBroker(name));
+    }
+
+    @Override
+    public Mono<CloudServiceBroker> getServiceBroker(String name, boolean required) {
+        return handleExceptions(() -> delegate.getServiceBroker(name, required));
+    }
+
+    @Override
+    public Flux<CloudServiceBroker> getServiceBrokers() {
+        return handleFluxExceptions(() -> delegate.getServiceBrokers());
+    }
+
+    @Override
+    public Mono<UUID> getRequiredServiceInstanceGuid(String serviceInstanceName) {
+        return handleExceptions(() -> delegate.getRequiredServiceInstanceGuid(serviceInstanceName));
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+        return handleExceptions(() -> delegate.getServiceInstance(serviceInstanceName));
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName, boolean required) {
+        return handleExceptions(() -> delegate.getServiceInstance(serviceInstanceName, required));
+    }
+
+    @Override
+    public Mono<String> getServiceInstanceName(UUID serviceInstanceGuid) {
+        return handleExceptions(() -> delegate.getServiceInstanceName(serviceInstanceGuid));
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName) {
+        return handleExceptions(() -> delegate.getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName));
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName, boolean required) {
+        return handleExceptions(() -> delegate.getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName, required));
+    }
+
+    @Override
+    public Mono<CloudServiceBinding> getServiceBinding(UUID serviceBindingGuid) {
+        return handleExceptions(() -> delegate.getServiceBinding(serviceBindingGuid));
+    }
+
+    @Override
+    public Flux<CloudServiceBinding> getServiceAppBindings(UUID serviceInstanceGuid) {
+        return handleFluxExceptions(() -> delegate.getServiceAppBindings(serviceInstanceGuid));
+    }
+
+    @Override
+    public Flux<CloudServiceBinding> getAppBindings(UUID applicationGuid) {
+        return handleFluxExceptions(() -> delegate.getAppBindings(applicationGuid));
+    }
+
+    @Override
+    public Mono<CloudServiceBinding> getServiceBindingForApplication(UUID applicationId, UUID serviceInstanceGuid) {
+        return handleExceptions(() -> delegate.getServiceBindingForApplication(applicationId, serviceInstanceGuid));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getServiceInstanceParameters(UUID guid) {
+        return handleExceptions(() -> delegate.getServiceInstanceParameters(guid));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getUserProvidedServiceInstanceParameters(UUID guid) {
+        return handleExceptions(() -> delegate.getUserProvidedServiceInstanceParameters(guid));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getServiceBindingParameters(UUID guid) {
+        return handleExceptions(() -> delegate.getServiceBindingParameters(guid));
+    }
+
+    @Override
+    public Mono<CloudServiceKey> getServiceKey(String serviceInstanceName, String serviceKeyName) {
+        return handleExceptions(() -> delegate.getServiceKey(serviceInstanceName, serviceKeyName));
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeys(String serviceInstanceName) {
+        return handleFluxExceptions(() -> delegate.getServiceKeys(serviceInstanceName));
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeysWithCredentials(String serviceInstanceName) {
+        return handleFluxExceptions(() -> delegate.getServiceKeysWithCredentials(serviceInstanceName));
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance) {
+        return handleFluxExceptions(() -> delegate.getServiceKeys(serviceInstance));
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeysWithCredentials(CloudServiceInstance serviceInstance) {
+        return handleFluxExceptions(() -> delegate.getServiceKeysWithCredentials(serviceInstance));
+    }
+
+    @Override
+    public Flux<CloudServiceOffering> getServiceOfferings() {
+        return handleFluxExceptions(() -> delegate.getServiceOfferings());
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstances() {
+        return handleFluxExceptions(() -> delegate.getServiceInstances());
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByNames(List<String> names) {
+        return handleFluxExceptions(() -> delegate.getServiceInstancesWithoutAuxiliaryContentByNames(names));
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
+        return handleFluxExceptions(() -> delegate.getServiceInstancesByMetadataLabelSelector(labelSelector));
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(String labelSelector) {
+        return handleFluxExceptions(() -> delegate.getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(labelSelector));
+    }
+
+    @Override
+    public Flux<CloudDomain> getSharedDomains() {
+        return handleFluxExceptions(() -> delegate.getSharedDomains());
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(UUID spaceGuid) {
+        return handleExceptions(() -> delegate.getSpace(spaceGuid));
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String organizationName, String spaceName) {
+        return handleExceptions(() -> delegate.getSpace(organizationName, spaceName));
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String organizationName, String spaceName, boolean required) {
+        return handleExceptions(() -> delegate.getSpace(organizationName, spaceName, required));
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String spaceName) {
+        return handleExceptions(() -> delegate.getSpace(spaceName));
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String spaceName, boolean required) {
+        return handleExceptions(() -> delegate.getSpace(spaceName, required));
+    }
+
+    @Override
+    public Flux<CloudSpace> getSpaces() {
+        return handleFluxExceptions(() -> delegate.getSpaces());
+    }
+
+    @Override
+    public Flux<CloudSpace> getSpaces(String organizationName) {
+        return handleFluxExceptions(() -> delegate.getSpaces(organizationName));
+    }
+
+    @Override
+    public Mono<CloudStack> getStack(String name) {
+        return handleExceptions(() -> delegate.getStack(name));
+    }
+
+    @Override
+    public Mono<CloudStack> getStack(String name, boolean required) {
+        return handleExceptions(() -> delegate.getStack(name, required));
+    }
+
+    @Override
+    public Flux<CloudStack> getStacks() {
+        return handleFluxExceptions(() -> delegate.getStacks());
+    }
+
+    @Override
+    public Mono<Void> rename(String applicationName, String newName) {
+        return handleExceptions(() -> delegate.rename(applicationName, newName));
+    }
+
+    @Override
+    public Mono<Void> restartApplication(String applicationName) {
+        return handleExceptions(() -> delegate.restartApplication(applicationName));
+    }
+
+    @Override
+    public Mono<Void> startApplication(String applicationName) {
+        return handleExceptions(() -> delegate.startApplication(applicationName));
+    }
+
+    @Override
+    public Mono<Void> stopApplication(String applicationName) {
+        return handleExceptions(() -> delegate.stopApplication(applicationName));
+    }
+
+    @Override
+    public Mono<String> unbindServiceInstance(String applicationName, String serviceInstanceName) {
+        return handleExceptions(() -> delegate.unbindServiceInstance(applicationName, serviceInstanceName));
+    }
+
+    @Override
+    public Mono<String> unbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return handleExceptions(() -> delegate.unbindServiceInstance(applicationGuid, serviceInstanceGuid));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationDiskQuota(String applicationName, int disk) {
+        return handleExceptions(() -> delegate.updateApplicationDiskQuota(applicationName, disk));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationEnv(String applicationName, Map<String, String> env) {
+        return handleExceptions(() -> delegate.updateApplicationEnv(applicationName, env));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationInstances(String applicationName, int instances) {
+        return handleExceptions(() -> delegate.updateApplicationInstances(applicationName, instances));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationMemory(String applicationName, int memory) {
+        return handleExceptions(() -> delegate.updateApplicationMemory(applicationName, memory));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationStaging(String applicationName, Staging staging) {
+        return handleExceptions(() -> delegate.updateApplicationStaging(applicationName, staging));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationRoutes(String applicationName, Set<CloudRoute> routes) {
+        return handleExceptions(() -> delegate.updateApplicationRoutes(applicationName, routes));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationMetadata(UUID guid, Metadata metadata) {
+        return handleExceptions(() -> delegate.updateApplicationMetadata(guid, metadata));
+    }
+
+    @Override
+    public Mono<String> updateServiceBroker(CloudServiceBroker serviceBroker) {
+        return handleExceptions(() -> delegate.updateServiceBroker(serviceBroker));
+    }
+
+    @Override
+    public Mono<Void> updateServicePlanVisibilityForBroker(String name, ServicePlanVisibility visibility) {
+        return handleExceptions(() -> delegate.updateServicePlanVisibilityForBroker(name, visibility));
+    }
+
+    @Override
+    public Mono<Void> updateServicePlan(String serviceName, String planName) {
+        return handleExceptions(() -> delegate.updateServicePlan(serviceName, planName));
+    }
+
+    @Override
+    public Mono<Void> updateServiceParameters(String serviceName, Map<String, Object> parameters) {
+        return handleExceptions(() -> delegate.updateServiceParameters(serviceName, parameters));
+    }
+
+    @Override
+    public Mono<Void> updateServiceTags(String serviceName, List<String> tags) {
+        return handleExceptions(() -> delegate.updateServiceTags(serviceName, tags));
+    }
+
+    @Override
+    public Mono<Void> updateServiceSyslogDrainUrl(String serviceName, String syslogDrainUrl) {
+        return handleExceptions(() -> delegate.updateServiceSyslogDrainUrl(serviceName, syslogDrainUrl));
+    }
+
+    @Override
+    public Mono<Void> updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+        return handleExceptions(() -> delegate.updateServiceInstanceMetadata(guid, metadata));
+    }
+
+    @Override
+    public Mono<CloudPackage> asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+        return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, file, callback));
+    }
+
+    @Override
+    public Mono<CloudPackage> asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback) {
+        return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, archive, callback));
+    }
+
+    @Override
+    public Map<String, Mono<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads) {
+        Map<String, Mono<CloudPackage>> uploadedPackages = new LinkedHashMap<>();
+        delegate.uploadApplications(uploads)
+                .forEach((applicationName, uploadedPackage) -> uploadedPackages.put(applicationName, handleExceptions(() -> uploadedPackage)));
+        return uploadedPackages;
+    }
+
+    @Override
+    public Flux<Upload> monitorUpload(UUID packageGuid) {
+        return handleFluxExceptions(() -> delegate.monitorUpload(packageGuid));
+    }
+
+    @Override
+    public Mono<Upload> getUploadStatus(UUID packageGuid) {
+        return handleExceptions(() -> delegate.getUploadStatus(packageGuid));
+    }
+
+    @Override
+    public Mono<CloudTask> getTask(UUID taskGuid) {
+        return handleExceptions(() -> delegate.getTask(taskGuid));
+    }
+
+    @Override
+    public Flux<CloudTask> getTasks(String applicationName) {
+        return handleFluxExceptions(() -> delegate.getTasks(applicationName));
+    }
+
+    @Override
+    public Mono<CloudTask> runTask(String applicationName, CloudTask task) {
+        return handleExceptions(() -> delegate.runTask(applicationName, task));
+    }
+
+    @Override
+    public Mono<CloudTask> cancelTask(UUID taskGuid) {
+        return handleExceptions(() -> delegate.cancelTask(taskGuid));
+    }
+
+    @Override
+    public Mono<CloudBuild> createBuild(UUID packageGuid) {
+        return handleExceptions(() -> delegate.createBuild(packageGuid));
+    }
+
+    @Override
+    public Mono<CloudBuild> getBuild(UUID buildGuid) {
+        return handleExceptions(() -> delegate.getBuild(buildGuid));
+    }
+
+    @Override
+    public Mono<Void> bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
+        return handleExceptions(() -> delegate.bindDropletToApp(dropletGuid, applicationGuid));
+    }
+
+    @Override
+    public Flux<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
+        return handleFluxExceptions(() -> delegate.getBuildsForApplication(applicationGuid));
+    }
+
+    @Override
+    public Flux<CloudBuild> getBuildsForPackage(UUID packageGuid) {
+        return handleFluxExceptions(() -> delegate.getBuildsForPackage(packageGuid));
+    }
+
+    @Override
+    public Mono<DropletInfo> getCurrentDropletForApplication(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getCurrentDropletForApplication(applicationGuid));
+    }
+
+    @Override
+    public Mono<CloudPackage> getPackage(UUID packageGuid) {
+        return handleExceptions(() -> delegate.getPackage(packageGuid));
+    }
+
+    @Override
+    public Flux<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
+        return handleFluxExceptions(() -> delegate.getPackagesForApplication(applicationGuid));
+    }
+
+    @Override
+    public Flux<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
+        return handleFluxExceptions(() -> delegate.getUserRolesBySpaceAndUser(spaceGuid, userGuid));
+    }
+
+    @Override
+    public Mono<CloudPackage> createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+        return handleExceptions(() -> delegate.createDockerPackage(applicationGuid, dockerInfo));
+    }
+
+    @Override
+    public Mono<CloudPackage> copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid) {
+        return handleExceptions(() -> delegate.copyPackage(sourcePackageGuid, targetApplicationGuid));
+    }
+
+    @Override
+    public Mono<CloudAsyncJob> getAsyncJob(String jobId) {
+        return handleExceptions(() -> delegate.getAsyncJob(jobId));
+    }
+
+    @Override
+    public Mono<Void> awaitJobs(Collection<String> jobIds) {
+        return handleExceptions(() -> delegate.awaitJobs(jobIds));
+    }
+
+    private <T> Mono<T> handleExceptions(Supplier<Mono<T>> monoSupplier) {
+        return Mono.defer(monoSupplier)
+                   .onErrorMap(AbstractCloudFoundryException.class, this::convertV3ClientException);
+    }
+
+    private <T> Flux<T> handleFluxExceptions(Supplier<Flux<T>> fluxSupplier) {
+        return Flux.defer(fluxSupplier)
+                   .onErrorMap(AbstractCloudFoundryException.class, this::convertV3ClientException);
+    }
+
+    private CloudOperationException convertV3ClientException(AbstractCloudFoundryException e) {
+        HttpStatus httpStatus = HttpStatus.valueOf(e.getStatusCode());
+        return new CloudOperationException(httpStatus, httpStatus.getReasonPhrase(), e.getMessage(), e);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.sap.cloudfoundry.client.facade;
+
+import com.sap.cloudfoundry.client.facade.domain.UploadProgress;
+
+/**
+ * Reports how many bytes of an application upload have been sent. Implemented by {@link UploadStatusCallback}s which also want to follow
+ * the transfer of the bits, and not only the processing of the package. Reports are made periodically while the upload is in progress,
+ * also when no bytes were sent since the previous one, and once more when all bytes are sent.
+ */
+public interface UploadProgressCallback {
+
+    void onBytesSent(UploadProgress progress);
+
+}
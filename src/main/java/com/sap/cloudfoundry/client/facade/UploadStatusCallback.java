@@ -52,6 +52,16 @@ public interface UploadStatusCallback {
      */
     void onProcessMatchedResources(int length);
 
+    /**
+     * Called after the files which are already in the resource cache of the cloud controller have been left out of the upload. Only
+     * called for uploads which match resources.
+     *
+     * @param skippedBytes the size of the files which are not uploaded (before compression)
+     * @param totalBytes the size of all files of the application (before compression)
+     */
+    default void onSkipCachedResources(long skippedBytes, long totalBytes) {
+    }
+
     /**
      * Called during asynchronous upload process.
      *
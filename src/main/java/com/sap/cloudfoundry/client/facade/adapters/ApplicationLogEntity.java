@@ -29,11 +29,23 @@ public abstract class ApplicationLogEntity implements Comparable<ApplicationLogE
     @JsonDeserialize(as = ImmutableApplicationLogEntity.ImmutableLogBody.class)
     public interface LogBody {
 
+        /**
+         * The base64 encoded payload, or the decoded one if {@link #isMessageDecoded()}.
+         */
         @JsonProperty("payload")
         String getMessage();
 
         @JsonProperty("type")
         String getMessageType();
+
+        /**
+         * Whether {@link #getMessage()} is already decoded. {@link LogEnvelopeParser} decodes the payloads while it parses them.
+         */
+        @Value.Default
+        @JsonProperty(LogEnvelopeParser.MESSAGE_DECODED_PROPERTY)
+        default boolean isMessageDecoded() {
+            return false;
+        }
     }
 
     @Override
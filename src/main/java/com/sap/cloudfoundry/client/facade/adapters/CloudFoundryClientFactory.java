@@ -15,6 +15,7 @@ import org.immutables.value.Value;
 
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
 @Value.Immutable
@@ -32,6 +33,8 @@ public abstract class CloudFoundryClientFactory {
 
     public abstract Optional<Duration> getResponseTimeout();
 
+    public abstract Optional<Duration> getLogCacheResponseTimeout();
+
     public CloudFoundryClient createClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
         return ReactorCloudFoundryClient.builder()
                                         .connectionContext(getOrCreateConnectionContext(controllerUrl.getHost()))
@@ -43,7 +46,30 @@ public abstract class CloudFoundryClientFactory {
     public LogCacheClient createLogCacheClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
         String logCacheApi = controllerUrl.toString()
                                           .replace("api", "log-cache");
-        return new LogCacheClient(logCacheApi, oAuthClient, requestTags);
+        ConnectionContext connectionContext = getOrCreateConnectionContext(controllerUrl.getHost());
+        return new LogCacheClient(logCacheApi, connectionContext, oAuthClient.getTokenProvider(), requestTags,
+                                  getLogCacheResponseTimeout().orElse(LogCacheClient.DEFAULT_RESPONSE_TIMEOUT));
+    }
+
+    public SideLoadingClient createSideLoadingClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
+        ConnectionContext connectionContext = getOrCreateConnectionContext(controllerUrl.getHost());
+        Mono<String> root = connectionContext.getRootProvider()
+                                             .getRoot("cloud_controller_v3", connectionContext);
+        return new SideLoadingClient(connectionContext, root, oAuthClient.getTokenProvider(), requestTags);
+    }
+
+    public ResourceMatchingClient createResourceMatchingClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
+        ConnectionContext connectionContext = getOrCreateConnectionContext(controllerUrl.getHost());
+        Mono<String> root = connectionContext.getRootProvider()
+                                             .getRoot("cloud_controller_v3", connectionContext);
+        return new ResourceMatchingClient(connectionContext, root, oAuthClient.getTokenProvider(), requestTags);
+    }
+
+    public StreamingUploadClient createStreamingUploadClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
+        ConnectionContext connectionContext = getOrCreateConnectionContext(controllerUrl.getHost());
+        Mono<String> root = connectionContext.getRootProvider()
+                                             .getRoot("cloud_controller_v3", connectionContext);
+        return new StreamingUploadClient(connectionContext, root, oAuthClient.getTokenProvider(), requestTags);
     }
 
     public ConnectionContext getOrCreateConnectionContext(String controllerApiHost) {
@@ -0,0 +1,63 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.List;
+
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v3.serviceplans.ServicePlanRelationships;
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * A page of service instances listed with {@code fields[service_plan]} and {@code fields[service_plan.service_offering]}. The included
+ * plans and offerings only carry the requested fields.
+ */
+@Value.Immutable
+@Value.Enclosing
+@JsonDeserialize(as = ImmutableListServiceInstancesWithServicePlansResponse.class)
+public abstract class ListServiceInstancesWithServicePlansResponse extends PaginatedResponse<ServiceInstanceResource> {
+
+    @Nullable
+    @JsonProperty("included")
+    public abstract Included getIncluded();
+
+    @Value.Immutable
+    @JsonDeserialize(as = ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncluded.class)
+    public interface Included {
+
+        @JsonProperty("service_plans")
+        List<IncludedServicePlan> getServicePlans();
+
+        @JsonProperty("service_offerings")
+        List<IncludedServiceOffering> getServiceOfferings();
+    }
+
+    @Value.Immutable
+    @JsonDeserialize(as = ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncludedServicePlan.class)
+    public interface IncludedServicePlan {
+
+        @JsonProperty("guid")
+        String getId();
+
+        @JsonProperty("name")
+        String getName();
+
+        @JsonProperty("relationships")
+        ServicePlanRelationships getRelationships();
+    }
+
+    @Value.Immutable
+    @JsonDeserialize(as = ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncludedServiceOffering.class)
+    public interface IncludedServiceOffering {
+
+        @JsonProperty("guid")
+        String getId();
+
+        @JsonProperty("name")
+        String getName();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.List;
+
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * A page of spaces listed with {@code include=organization}.
+ */
+@Value.Immutable
+@Value.Enclosing
+@JsonDeserialize(as = ImmutableListSpacesWithOrganizationsResponse.class)
+public abstract class ListSpacesWithOrganizationsResponse extends PaginatedResponse<SpaceResource> {
+
+    @Nullable
+    @JsonProperty("included")
+    public abstract Included getIncluded();
+
+    @Value.Immutable
+    @JsonDeserialize(as = ImmutableListSpacesWithOrganizationsResponse.ImmutableIncluded.class)
+    public interface Included {
+
+        @JsonProperty("organizations")
+        List<OrganizationResource> getOrganizations();
+    }
+
+}
@@ -1,109 +1,180 @@
 package com.sap.cloudfoundry.client.facade.adapters;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import com.sap.cloudfoundry.client.facade.CloudException;
 import com.sap.cloudfoundry.client.facade.CloudOperationException;
 import com.sap.cloudfoundry.client.facade.Messages;
-import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
-import org.apache.commons.io.IOUtils;
-import org.springframework.http.HttpHeaders;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.springframework.util.Assert;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.util.UriComponentsBuilder;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
 
+/**
+ * Reads application logs from the log cache. The requests share the connection pool and the event loop of the cloud controller requests,
+ * and the responses are parsed while they arrive, so no thread is blocked while the log cache is read.
+ *
+ */
 public class LogCacheClient {
 
-    private static final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                                                                 .configure(DeserializationFeature.UNWRAP_ROOT_VALUE, true);
-    private final HttpClient client;
+    public static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofMinutes(5);
+    /**
+     * The maximum number of logs which {@link #getRecentLogs(UUID, LocalDateTime)} returns.
+     */
+    public static final int RECENT_LOGS_LIMIT = LogCachePager.PAGE_SIZE;
+
+    private static final ObjectReader entityReader = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                                                                       .readerFor(ApplicationLogEntity.class);
     private final String logCacheApi;
-    private final OAuthClient oAuthClient;
+    private final ConnectionContext connectionContext;
+    private final HttpClient httpClient;
+    private final TokenProvider tokenProvider;
     private final Map<String, String> requestTags;
 
-    public LogCacheClient(String logCacheApi, OAuthClient oAuthClient, Map<String, String> requestTags) {
-        this.client = HttpClient.newBuilder()
-                                .followRedirects(HttpClient.Redirect.NORMAL)
-                                .connectTimeout(Duration.ofMinutes(30))
-                                .build();
+    public LogCacheClient(String logCacheApi, ConnectionContext connectionContext, TokenProvider tokenProvider,
+                          Map<String, String> requestTags) {
+        this(logCacheApi, connectionContext, tokenProvider, requestTags, DEFAULT_RESPONSE_TIMEOUT);
+    }
+
+    public LogCacheClient(String logCacheApi, ConnectionContext connectionContext, TokenProvider tokenProvider,
+                          Map<String, String> requestTags, Duration responseTimeout) {
         this.logCacheApi = logCacheApi;
-        this.oAuthClient = oAuthClient;
+        this.connectionContext = connectionContext;
+        this.httpClient = connectionContext.getHttpClient()
+                                           .followRedirect(true)
+                                           .responseTimeout(responseTimeout);
+        this.tokenProvider = tokenProvider;
         this.requestTags = requestTags;
     }
 
+    /**
+     * Reads the newest {@value #RECENT_LOGS_LIMIT} logs of the application after the offset. The logs are emitted while they are read, but
+     * the page is requested twice, as only a descending read finds the newest logs. See {@link LogCacheNewestPageReader}.
+     *
+     * @return the logs, ordered by their timestamp
+     */
     public Flux<ApplicationLogEntity> getRecentLogs(UUID applicationGuid, LocalDateTime offset) {
-        HttpRequest request = buildGetLogsRequest(applicationGuid, offset);
+        LogCacheNewestPageReader reader = new LogCacheNewestPageReader(startTime -> getLogs(applicationGuid, startTime, null, true),
+                                                                       (startTime, endTime) -> getLogs(applicationGuid, startTime,
+                                                                                                       endTime, false));
+        return reader.read(toEpochNanos(offset) + 1);
+    }
 
-        HttpResponse<InputStream> response = sendRequest(request);
+    /**
+     * Reads all logs of the application after the offset, and not only the newest {@value LogCachePager#PAGE_SIZE} of them like
+     * {@link #getRecentLogs(UUID, LocalDateTime)}.
+     *
+     * @param timeSlices the number of parts of the time range which are read concurrently
+     * @return the logs, ordered by their timestamp
+     */
+    public Flux<ApplicationLogEntity> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices) {
+        Assert.isTrue(timeSlices > 0, "Time slices must be positive");
+        LogCachePager pager = new LogCachePager((startTime, endTime) -> getLogs(applicationGuid, startTime, endTime, false));
+        return Flux.defer(() -> pager.read(toEpochNanos(offset) + 1, toEpochNanos(Instant.now()) + 1, timeSlices));
+    }
 
-        if (response.statusCode() / 100 != 2) {
-            var status = HttpStatus.valueOf(response.statusCode());
-            throw new CloudOperationException(status, status.getReasonPhrase(), parseBodyToString(response.body()));
-        }
-        return Flux.fromIterable(parseBody(response.body()).getLogs());
+    /**
+     * Reads all logs of the application after the offset oldest first, one page at a time. Unlike
+     * {@link #getAllLogs(UUID, LocalDateTime, int)}, the range is read as a single slice, so no logs of later slices are buffered while
+     * the earlier ones are emitted.
+     *
+     * @return the logs, ordered by their timestamp
+     */
+    public Flux<ApplicationLogEntity> streamLogs(UUID applicationGuid, LocalDateTime offset) {
+        LogCacheCursor cursor = new LogCacheCursor((startTime, endTime) -> getLogs(applicationGuid, startTime, endTime, false));
+        return Flux.defer(() -> cursor.read(toEpochNanos(offset) + 1, toEpochNanos(Instant.now()) + 1));
     }
 
-    private HttpRequest buildGetLogsRequest(UUID applicationGuid, LocalDateTime offset) {
-        var requestBuilder = HttpRequest.newBuilder()
-                                        .GET()
-                                        .uri(buildGetLogsUrl(applicationGuid, offset))
-                                        .timeout(Duration.ofMinutes(5))
-                                        .header(HttpHeaders.AUTHORIZATION, oAuthClient.getAuthorizationHeaderValue());
-        requestTags.forEach(requestBuilder::header);
-        return requestBuilder.build();
+    private Flux<ApplicationLogEntity> getLogs(UUID applicationGuid, long startTime, Long endTime, boolean descending) {
+        URI url = buildGetLogsUrl(applicationGuid, startTime, endTime, descending);
+        return tokenProvider.getToken(connectionContext)
+                            .flatMapMany(authorization -> httpClient.headers(headers -> addHeaders(headers, authorization))
+                                                                    .get()
+                                                                    .uri(url)
+                                                                    .response(this::readLogs));
     }
 
-    private URI buildGetLogsUrl(UUID applicationGuid, LocalDateTime offset) {
-        var instant = offset.toInstant(ZoneOffset.UTC);
-        var secondsInNanos = Duration.ofSeconds(instant.getEpochSecond())
-                                     .toNanos();
-        return UriComponentsBuilder.fromHttpUrl(logCacheApi)
-                                   .pathSegment("api", "v1", "read", applicationGuid.toString())
-                                   .queryParam("envelope_types", "LOG")
-                                   .queryParam("descending", "true")
-                                   .queryParam("limit", "1000")
-                                   .queryParam("start_time", Long.toString(secondsInNanos + instant.getNano() + 1))
-                                   .build()
-                                   .toUri();
+    private void addHeaders(HttpHeaders headers, String authorization) {
+        headers.set(HttpHeaderNames.AUTHORIZATION, authorization);
+        requestTags.forEach(headers::set);
     }
 
-    private HttpResponse<InputStream> sendRequest(HttpRequest request) {
-        try {
-            return client.send(request, BodyHandlers.ofInputStream());
-        } catch (IOException | InterruptedException e) {
-            throw new CloudException(e.getMessage(), e);
+    private Flux<ApplicationLogEntity> readLogs(HttpClientResponse response, ByteBufFlux body) {
+        int statusCode = response.status()
+                                 .code();
+        if (statusCode / 100 != 2) {
+            var status = HttpStatus.valueOf(statusCode);
+            return body.aggregate()
+                       .asString()
+                       .defaultIfEmpty("")
+                       .flatMapMany(description -> Flux.error(new CloudOperationException(status, status.getReasonPhrase(), description)));
         }
+        // The envelopes are parsed from the chunks of the response as they arrive, so only the unparsed rest of a chunk is buffered
+        return Mono.fromCallable(() -> new LogEnvelopeParser(entityReader))
+                   .flatMapMany(parser -> body.asByteArray()
+                                              .concatMapIterable(chunk -> feed(parser, chunk))
+                                              .concatWith(Flux.defer(() -> Flux.fromIterable(finish(parser)))));
     }
 
-    private String parseBodyToString(InputStream is) {
-        try (InputStream wrapped = is) {
-            return IOUtils.toString(wrapped, StandardCharsets.UTF_8);
+    private static List<ApplicationLogEntity> feed(LogEnvelopeParser parser, byte[] chunk) {
+        try {
+            return parser.feed(chunk);
         } catch (IOException e) {
-            throw new CloudException(String.format(Messages.CANT_READ_APP_LOGS_RESPONSE, e.getMessage()), e);
+            throw new CloudException(String.format(Messages.CANT_DESERIALIZE_APP_LOGS_RESPONSE, e.getMessage()), e);
         }
     }
 
-    private ApplicationLogsResponse parseBody(InputStream is) {
-        try (InputStream wrapped = is) {
-            return mapper.readValue(wrapped, ApplicationLogsResponse.class);
+    private static List<ApplicationLogEntity> finish(LogEnvelopeParser parser) {
+        try {
+            return parser.finish();
         } catch (IOException e) {
             throw new CloudException(String.format(Messages.CANT_DESERIALIZE_APP_LOGS_RESPONSE, e.getMessage()), e);
         }
     }
+
+    private URI buildGetLogsUrl(UUID applicationGuid, long startTime, Long endTime, boolean descending) {
+        var uriBuilder = UriComponentsBuilder.fromHttpUrl(logCacheApi)
+                                             .pathSegment("api", "v1", "read", applicationGuid.toString())
+                                             .queryParam("envelope_types", "LOG")
+                                             .queryParam("descending", Boolean.toString(descending))
+                                             .queryParam("limit", Integer.toString(LogCachePager.PAGE_SIZE))
+                                             .queryParam("start_time", Long.toString(startTime));
+        if (endTime != null) {
+            uriBuilder.queryParam("end_time", Long.toString(endTime));
+        }
+        return uriBuilder.build()
+                         .toUri();
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return toEpochNanos(dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        var secondsInNanos = Duration.ofSeconds(instant.getEpochSecond())
+                                     .toNanos();
+        return secondsInNanos + instant.getNano();
+    }
+
 }
@@ -0,0 +1,106 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads all log envelopes of a time range from the log cache oldest first, page by page, with the newest timestamp of a page as the start
+ * of the next one. The envelopes are emitted while the pages are read, so a reader holds no more than the envelopes at the timestamp where
+ * the last page ended, which are needed to skip them in the next page.
+ *
+ */
+class LogCacheCursor {
+
+    private final PageReader pageReader;
+    private final int pageSize;
+
+    LogCacheCursor(PageReader pageReader) {
+        this(pageReader, LogCachePager.PAGE_SIZE);
+    }
+
+    LogCacheCursor(PageReader pageReader, int pageSize) {
+        this.pageReader = pageReader;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param startTime the start of the range in nanoseconds since the epoch, inclusive
+     * @param endTime the end of the range in nanoseconds since the epoch, exclusive
+     */
+    Flux<ApplicationLogEntity> read(long startTime, long endTime) {
+        return Flux.defer(() -> readPages(new Position(startTime), endTime));
+    }
+
+    private Flux<ApplicationLogEntity> readPages(Position position, long endTime) {
+        long pageStartTime = position.timestamp;
+        position.logsInPage = 0;
+        return pageReader.read(pageStartTime, endTime)
+                         .filter(position::advance)
+                         .concatWith(Flux.defer(() -> readNextPages(position, pageStartTime, endTime)));
+    }
+
+    private Flux<ApplicationLogEntity> readNextPages(Position position, long pageStartTime, long endTime) {
+        if (position.logsInPage < pageSize) {
+            return Flux.empty();
+        }
+        // If the whole page has the timestamp it started at, the rest of the envelopes with that timestamp are skipped, as they can never
+        // be reached
+        if (position.timestamp == pageStartTime) {
+            position.skipTimestamp();
+        }
+        if (position.timestamp >= endTime) {
+            return Flux.empty();
+        }
+        return readPages(position, endTime);
+    }
+
+    /**
+     * Reads the oldest envelopes of a time range, oldest first.
+     */
+    @FunctionalInterface
+    interface PageReader {
+
+        /**
+         * @param startTime inclusive, in nanoseconds since the epoch
+         * @param endTime exclusive, in nanoseconds since the epoch
+         */
+        Flux<ApplicationLogEntity> read(long startTime, long endTime);
+
+    }
+
+    private static class Position {
+
+        private final Set<ApplicationLogEntity> logsAtTimestamp = new HashSet<>();
+        private long timestamp;
+        private int logsInPage;
+
+        Position(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @return whether the envelope was not emitted yet
+         */
+        boolean advance(ApplicationLogEntity log) {
+            logsInPage++;
+            long logTimestamp = log.getTimestampInNanoseconds();
+            if (logTimestamp < timestamp) {
+                return false;
+            }
+            if (logTimestamp > timestamp) {
+                timestamp = logTimestamp;
+                logsAtTimestamp.clear();
+            }
+            return logsAtTimestamp.add(log);
+        }
+
+        void skipTimestamp() {
+            timestamp++;
+            logsAtTimestamp.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the newest page of log envelopes after a point in time, oldest first, without holding the page in memory. Only a descending read
+ * finds the newest envelopes, so the newest page is read twice: first newest first, keeping nothing but its time range, and then that
+ * range oldest first, while the envelopes are emitted.
+ *
+ */
+class LogCacheNewestPageReader {
+
+    private final LongFunction<Flux<ApplicationLogEntity>> newestFirstReader;
+    private final LogCacheCursor cursor;
+
+    /**
+     * @param newestFirstReader reads the newest page of envelopes after a start time in nanoseconds since the epoch, inclusive, newest
+     *        first
+     * @param pageReader reads the oldest page of envelopes of a time range, oldest first
+     */
+    LogCacheNewestPageReader(LongFunction<Flux<ApplicationLogEntity>> newestFirstReader, LogCacheCursor.PageReader pageReader) {
+        this(newestFirstReader, pageReader, LogCachePager.PAGE_SIZE);
+    }
+
+    LogCacheNewestPageReader(LongFunction<Flux<ApplicationLogEntity>> newestFirstReader, LogCacheCursor.PageReader pageReader,
+                             int pageSize) {
+        this.newestFirstReader = newestFirstReader;
+        this.cursor = new LogCacheCursor(pageReader, pageSize);
+    }
+
+    /**
+     * @param startTime in nanoseconds since the epoch, inclusive
+     */
+    Flux<ApplicationLogEntity> read(long startTime) {
+        return newestFirstReader.apply(startTime)
+                                .collect(PageRange::new, PageRange::add)
+                                .flatMapMany(this::read);
+    }
+
+    private Flux<ApplicationLogEntity> read(PageRange range) {
+        if (range.isEmpty()) {
+            return Flux.empty();
+        }
+        // More envelopes than the page had may share its oldest timestamp, so only as many of them as it had are emitted. Taking no more
+        // envelopes than the page had also stops the cursor from requesting another page after the last one.
+        return Flux.defer(() -> {
+            AtomicInteger logsAtOldestTimestamp = new AtomicInteger();
+            return cursor.read(range.oldestTimestamp, range.newestTimestamp + 1)
+                         .filter(log -> log.getTimestampInNanoseconds() > range.oldestTimestamp
+                             || logsAtOldestTimestamp.incrementAndGet() <= range.logsAtOldestTimestamp)
+                         .take(range.logs);
+        });
+    }
+
+    private static class PageRange {
+
+        private long newestTimestamp = Long.MIN_VALUE;
+        private long oldestTimestamp = Long.MAX_VALUE;
+        private int logsAtOldestTimestamp;
+        private int logs;
+
+        void add(ApplicationLogEntity log) {
+            logs++;
+            long timestamp = log.getTimestampInNanoseconds();
+            newestTimestamp = Math.max(newestTimestamp, timestamp);
+            if (timestamp < oldestTimestamp) {
+                oldestTimestamp = timestamp;
+                logsAtOldestTimestamp = 0;
+            }
+            if (timestamp == oldestTimestamp) {
+                logsAtOldestTimestamp++;
+            }
+        }
+
+        boolean isEmpty() {
+            return logs == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads all log envelopes of a time range from the log cache, split into slices which are read concurrently. Every slice is read oldest
+ * first by a {@link LogCacheCursor}, and the slices are concatenated in the order of their ranges, so the envelopes are emitted in the
+ * order of their timestamps without being sorted. Only the envelopes of the later slices which arrive before the earlier slices are
+ * emitted are buffered.
+ *
+ */
+class LogCachePager {
+
+    static final int PAGE_SIZE = 1000;
+
+    private final LogCacheCursor cursor;
+
+    LogCachePager(LogCacheCursor.PageReader pageReader) {
+        this(pageReader, PAGE_SIZE);
+    }
+
+    LogCachePager(LogCacheCursor.PageReader pageReader, int pageSize) {
+        this.cursor = new LogCacheCursor(pageReader, pageSize);
+    }
+
+    /**
+     * @param startTime the start of the range in nanoseconds since the epoch, inclusive
+     * @param endTime the end of the range in nanoseconds since the epoch, exclusive
+     * @param timeSlices the number of slices which are read concurrently
+     */
+    Flux<ApplicationLogEntity> read(long startTime, long endTime, int timeSlices) {
+        return Flux.fromIterable(split(startTime, endTime, timeSlices))
+                   .flatMapSequential(slice -> cursor.read(slice.startTime, slice.endTime), timeSlices);
+    }
+
+    private static List<TimeRange> split(long startTime, long endTime, int timeSlices) {
+        List<TimeRange> slices = new ArrayList<>(timeSlices);
+        long sliceLength = Math.max((endTime - startTime) / timeSlices, 1);
+        long sliceStart = startTime;
+        while (sliceStart < endTime) {
+            long sliceEnd = slices.size() == timeSlices - 1 ? endTime : Math.min(sliceStart + sliceLength, endTime);
+            slices.add(new TimeRange(sliceStart, sliceEnd));
+            sliceStart = sliceEnd;
+        }
+        return slices;
+    }
+
+    private static class TimeRange {
+
+        private final long startTime;
+        private final long endTime;
+
+        TimeRange(long startTime, long endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Parses the log envelopes of a log cache response, which looks like {@code {"envelopes": {"batch": [...]}}}, from the chunks of the
+ * response as they arrive, without blocking for the rest of it. Only the envelope which is being parsed is held in memory.
+ * <p>
+ * The base64 encoded payloads are decoded from the text buffer of the parser, so no {@link String} is created for the encoded form. A
+ * payload which is not valid base64 is kept encoded, so that decoding it fails when the log is derived, like it does for other envelopes.
+ *
+ */
+class LogEnvelopeParser {
+
+    /**
+     * Marks the envelopes whose payload was decoded by the parser. Not sent by the log cache.
+     */
+    static final String MESSAGE_DECODED_PROPERTY = "payload_decoded";
+
+    private static final int BATCH_NOT_REACHED = -1;
+    private static final int BATCH_PASSED = -2;
+
+    private final ObjectReader entityReader;
+    private final JsonParser parser;
+    private int depth;
+    private int batchDepth = BATCH_NOT_REACHED;
+    private TokenBuffer envelope;
+
+    LogEnvelopeParser(ObjectReader entityReader) throws IOException {
+        this.entityReader = entityReader;
+        this.parser = entityReader.getFactory()
+                                  .createNonBlockingByteArrayParser();
+    }
+
+    /**
+     * @return the envelopes which are complete with the given chunk
+     */
+    List<ApplicationLogEntity> feed(byte[] chunk) throws IOException {
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk, 0, chunk.length);
+        return parseAvailableTokens();
+    }
+
+    /**
+     * @return the envelopes which are complete with the end of the response
+     * @throws IOException if the response ends in the middle of the JSON document
+     */
+    List<ApplicationLogEntity> finish() throws IOException {
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+        List<ApplicationLogEntity> logs = parseAvailableTokens();
+        parser.close();
+        return logs;
+    }
+
+    private List<ApplicationLogEntity> parseAvailableTokens() throws IOException {
+        List<ApplicationLogEntity> logs = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (envelope != null) {
+                if (token == JsonToken.VALUE_STRING && isPayload(parser.getParsingContext())) {
+                    copyDecodedPayload();
+                } else {
+                    envelope.copyCurrentEvent(parser);
+                }
+                if (depth == batchDepth) {
+                    logs.add(entityReader.readValue(envelope.asParser()));
+                    envelope = null;
+                }
+            } else if (batchDepth == BATCH_NOT_REACHED && token == JsonToken.START_ARRAY && isBatch(parser.getParsingContext())) {
+                batchDepth = depth;
+            } else if (batchDepth > 0 && depth == batchDepth + 1 && token == JsonToken.START_OBJECT) {
+                envelope = new TokenBuffer(parser);
+                envelope.copyCurrentEvent(parser);
+            } else if (batchDepth > 0 && depth < batchDepth) {
+                batchDepth = BATCH_PASSED;
+            }
+        }
+        return logs;
+    }
+
+    private boolean isPayload(JsonStreamContext valueContext) {
+        if (depth != batchDepth + 2 || !valueContext.inObject() || !"payload".equals(valueContext.getCurrentName())) {
+            return false;
+        }
+        JsonStreamContext envelopeContext = valueContext.getParent();
+        return envelopeContext.inObject() && "log".equals(envelopeContext.getCurrentName());
+    }
+
+    private void copyDecodedPayload() throws IOException {
+        String message;
+        try {
+            message = LogPayloadDecoder.decode(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (IllegalArgumentException e) {
+            envelope.copyCurrentEvent(parser);
+            return;
+        }
+        envelope.writeString(message);
+        envelope.writeBooleanField(MESSAGE_DECODED_PROPERTY, true);
+    }
+
+    private static boolean isBatch(JsonStreamContext arrayContext) {
+        JsonStreamContext envelopesContext = arrayContext.getParent();
+        if (!envelopesContext.inObject() || !"batch".equals(envelopesContext.getCurrentName())) {
+            return false;
+        }
+        JsonStreamContext responseContext = envelopesContext.getParent();
+        return responseContext.inObject() && "envelopes".equals(responseContext.getCurrentName()) && responseContext.getParent()
+                                                                                                                    .inRoot();
+    }
+
+}
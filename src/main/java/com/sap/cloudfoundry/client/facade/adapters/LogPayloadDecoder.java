@@ -0,0 +1,114 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes the base64 encoded payloads of log envelopes. The characters are decoded straight into a buffer which every thread reuses, so
+ * a payload costs no more than the decoded {@link String}, instead of the copies made by {@link java.util.Base64.Decoder}. Accepts and
+ * rejects the same input as {@link java.util.Base64#getDecoder()}.
+ *
+ */
+final class LogPayloadDecoder {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int[] DECODING_TABLE = createDecodingTable();
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[1024]);
+
+    private LogPayloadDecoder() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not valid base64
+     */
+    static String decode(String base64Encoded) {
+        return decode(base64Encoded, 0, base64Encoded.length());
+    }
+
+    /**
+     * Decodes the characters in a range of a buffer, like the text buffer of a JSON parser, without copying them to a {@link String} first.
+     *
+     * @throws IllegalArgumentException if the payload is not valid base64
+     */
+    static String decode(char[] characters, int offset, int length) {
+        return decode(CharBuffer.wrap(characters, offset, length), 0, length);
+    }
+
+    private static String decode(CharSequence base64Encoded, int start, int end) {
+        byte[] buffer = getBuffer((end - start) / 4 * 3 + 2);
+        int decodedLength = 0;
+        int bits = 0;
+        int bitCount = 0;
+        int position = start;
+        while (position < end) {
+            char character = base64Encoded.charAt(position);
+            if (character == '=') {
+                break;
+            }
+            int value = character < DECODING_TABLE.length ? DECODING_TABLE[character] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Illegal base64 character " + Integer.toHexString(character));
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                buffer[decodedLength++] = (byte) (bits >> bitCount);
+            }
+            position++;
+        }
+        checkEnding(base64Encoded, position, end, bitCount);
+        return new String(buffer, 0, decodedLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks the end of the payload like {@link java.util.Base64.Decoder}. A last unit of one character leaves 6 bits, which is invalid. One
+     * of two characters leaves 4 bits and may be followed by two padding characters, and one of three leaves 2 bits and may be followed by
+     * one. Nothing may follow the padding.
+     */
+    private static void checkEnding(CharSequence base64Encoded, int paddingStart, int end, int leftoverBitCount) {
+        if (leftoverBitCount == 6) {
+            throw new IllegalArgumentException("Last unit does not have enough valid bits");
+        }
+        if (paddingStart == end) {
+            return;
+        }
+        int expectedPadding = leftoverBitCount == 4 ? 2 : leftoverBitCount == 2 ? 1 : 0;
+        int padding = 0;
+        while (paddingStart + padding < end && padding < expectedPadding && base64Encoded.charAt(paddingStart + padding) == '=') {
+            padding++;
+        }
+        if (expectedPadding == 0 || padding != expectedPadding) {
+            throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+        }
+        if (paddingStart + padding != end) {
+            throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + (paddingStart + padding));
+        }
+    }
+
+    private static byte[] getBuffer(int size) {
+        byte[] buffer = BUFFERS.get();
+        if (buffer.length >= size) {
+            return buffer;
+        }
+        if (size > MAX_RETAINED_BUFFER_SIZE) {
+            // Rare large payloads should not pin a large buffer to the thread
+            return new byte[size];
+        }
+        buffer = new byte[Math.min(Math.max(size, buffer.length * 2), MAX_RETAINED_BUFFER_SIZE)];
+        BUFFERS.set(buffer);
+        return buffer;
+    }
+
+    private static int[] createDecodingTable() {
+        int[] table = new int[128];
+        Arrays.fill(table, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = i;
+        }
+        return table;
+    }
+
+}
@@ -3,7 +3,6 @@ package com.sap.cloudfoundry.client.facade.adapters;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 
-import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
 import reactor.core.publisher.Mono;
@@ -18,10 +17,7 @@ public class OAuthTokenProvider implements TokenProvider {
 
     @Override
     public Mono<String> getToken(ConnectionContext connectionContext) {
-        return Mono.fromSupplier(() -> {
-            OAuth2AccessTokenWithAdditionalInfo token = oAuthClient.getToken();
-            return token.getAuthorizationHeaderValue();
-        });
+        return oAuthClient.getAuthorizationHeaderValueAsync();
     }
 
 }
@@ -1,21 +1,21 @@
 package com.sap.cloudfoundry.client.facade.adapters;
 
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Base64;
+import java.time.ZoneOffset;
 
 import org.immutables.value.Value;
 
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.CompactApplicationLog;
 import com.sap.cloudfoundry.client.facade.domain.Derivable;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCompactApplicationLog;
 
 @Value.Immutable
 public abstract class RawApplicationLog implements Derivable<ApplicationLog> {
 
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     @Value.Parameter
     public abstract ApplicationLogEntity getLog();
 
@@ -24,8 +24,7 @@ public abstract class RawApplicationLog implements Derivable<ApplicationLog> {
         ApplicationLogEntity log = getLog();
         return ImmutableApplicationLog.builder()
                                       .applicationGuid(log.getSourceId())
-                                      .message(decodeLogPayload(log.getLogBody()
-                                                                   .getMessage()))
+                                      .message(decodeMessage(log.getLogBody()))
                                       .timestamp(fromLogTimestamp(log.getTimestampInNanoseconds()))
                                       .messageType(fromLogMessageType(log.getLogBody()
                                                                          .getMessageType()))
@@ -34,16 +33,27 @@ public abstract class RawApplicationLog implements Derivable<ApplicationLog> {
                                       .build();
     }
 
-    private static String decodeLogPayload(String base64Encoded) {
-        var result = Base64.getDecoder()
-                           .decode(base64Encoded.getBytes(StandardCharsets.UTF_8));
-        return new String(result, StandardCharsets.UTF_8);
+    /**
+     * Derives a {@link CompactApplicationLog} straight from the log envelope, without wrapping it first, for reading many logs at once.
+     */
+    public static ApplicationLog deriveCompact(ApplicationLogEntity log) {
+        ApplicationLogEntity.LogBody logBody = log.getLogBody();
+        String sourceName = log.getTags()
+                               .get("source_type");
+        return ImmutableCompactApplicationLog.of(log.getSourceId(), decodeMessage(logBody), log.getTimestampInNanoseconds(),
+                                                 fromLogMessageType(logBody.getMessageType()), sourceName);
+    }
+
+    private static String decodeMessage(ApplicationLogEntity.LogBody logBody) {
+        if (logBody.isMessageDecoded()) {
+            return logBody.getMessage();
+        }
+        return LogPayloadDecoder.decode(logBody.getMessage());
     }
 
     private static LocalDateTime fromLogTimestamp(long timestampNanos) {
-        Duration duration = Duration.ofNanos(timestampNanos);
-        Instant instant = Instant.ofEpochSecond(duration.getSeconds(), duration.getNano());
-        return LocalDateTime.ofInstant(instant, ZoneId.of("UTC"));
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestampNanos, NANOS_PER_SECOND),
+                                           (int) Math.floorMod(timestampNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
     }
 
     private static ApplicationLog.MessageType fromLogMessageType(String messageType) {
@@ -26,13 +26,19 @@ public abstract class RawCloudServiceInstance extends RawCloudEntity<CloudServic
 
     @Override
     public CloudServiceInstance derive() {
-        ServiceInstanceResource resource = getResource();
+        return deriveServiceInstance(getResource(), getServicePlanName(), getLabelName());
+    }
+
+    /**
+     * Shared with {@link RawSideLoadedCloudServiceInstance}, which finds the plan and the offering elsewhere.
+     */
+    static CloudServiceInstance deriveServiceInstance(ServiceInstanceResource resource, String servicePlanName, String label) {
         return ImmutableCloudServiceInstance.builder()
                                             .metadata(parseResourceMetadata(resource))
                                             .v3Metadata(resource.getMetadata())
                                             .name(resource.getName())
-                                            .plan(getServicePlanName())
-                                            .label(getLabelName())
+                                            .plan(servicePlanName)
+                                            .label(label)
                                             .type(resource.getType())
                                             .tags(resource.getTags())
                                             .lastOperation(ServiceOperation.fromLastOperation(resource.getLastOperation()))
@@ -0,0 +1,46 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Optional;
+
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.Nullable;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse.IncludedServiceOffering;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse.IncludedServicePlan;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+
+/**
+ * Same as {@link RawCloudServiceInstance}, but built from the partial plan and offering side-loaded with the service instance. The plan
+ * and the offering are only absent for user-provided service instances.
+ */
+@Value.Immutable
+public abstract class RawSideLoadedCloudServiceInstance extends RawCloudEntity<CloudServiceInstance> {
+
+    @Value.Parameter
+    public abstract ServiceInstanceResource getResource();
+
+    @Nullable
+    public abstract IncludedServicePlan getServicePlan();
+
+    @Nullable
+    public abstract IncludedServiceOffering getServiceOffering();
+
+    @Override
+    public CloudServiceInstance derive() {
+        return RawCloudServiceInstance.deriveServiceInstance(getResource(), getServicePlanName(), getLabelName());
+    }
+
+    private String getServicePlanName() {
+        return Optional.ofNullable(getServicePlan())
+                       .map(IncludedServicePlan::getName)
+                       .orElse(null);
+    }
+
+    private String getLabelName() {
+        return Optional.ofNullable(getServiceOffering())
+                       .map(IncludedServiceOffering::getName)
+                       .orElse(null);
+    }
+
+}
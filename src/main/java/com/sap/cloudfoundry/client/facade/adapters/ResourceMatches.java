@@ -0,0 +1,56 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.List;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * The body of {@code POST /v3/resource_matches}, listing the files of an application, and of its response, listing those files which
+ * are already in the resource cache of the cloud controller.
+ */
+@Value.Immutable
+@Value.Enclosing
+@JsonSerialize(as = ImmutableResourceMatches.class)
+@JsonDeserialize(as = ImmutableResourceMatches.class)
+public interface ResourceMatches {
+
+    @JsonProperty("resources")
+    List<Resource> getResources();
+
+    @Value.Immutable
+    @JsonSerialize(as = ImmutableResourceMatches.ImmutableResource.class)
+    @JsonDeserialize(as = ImmutableResourceMatches.ImmutableResource.class)
+    interface Resource {
+
+        @JsonProperty("checksum")
+        Checksum getChecksum();
+
+        @JsonProperty("size_in_bytes")
+        long getSizeInBytes();
+
+        @JsonProperty("path")
+        String getPath();
+
+        @Nullable
+        @JsonProperty("mode")
+        String getMode();
+
+    }
+
+    @Value.Immutable
+    @JsonSerialize(as = ImmutableResourceMatches.ImmutableChecksum.class)
+    @JsonDeserialize(as = ImmutableResourceMatches.ImmutableChecksum.class)
+    interface Checksum {
+
+        @Value.Parameter
+        @JsonProperty("value")
+        String getValue();
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Map;
+
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Matches application files against the resource cache of the cloud controller, which the operations of the Cloud Foundry Java client do
+ * not support. Packages which consist partly of cached files are uploaded by the {@link StreamingUploadClient}.
+ */
+public class ResourceMatchingClient extends AbstractClientV3Operations {
+
+    public ResourceMatchingClient(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider,
+                                  Map<String, String> requestTags) {
+        super(connectionContext, root, tokenProvider, requestTags);
+    }
+
+    /**
+     * @return those of the given resources which the cloud controller already has
+     */
+    public Mono<ResourceMatches> matchResources(ResourceMatches resources) {
+        return post(resources, ResourceMatches.class, builder -> builder.pathSegment("resource_matches")).checkpoint();
+    }
+
+}
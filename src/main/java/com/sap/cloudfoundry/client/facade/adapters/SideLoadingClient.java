@@ -0,0 +1,36 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Map;
+
+import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Lists v3 resources together with related resources which the cloud controller can side-load (via {@code include} or
+ * {@code fields}), which the operations of the Cloud Foundry Java client do not support.
+ */
+public class SideLoadingClient extends AbstractClientV3Operations {
+
+    public SideLoadingClient(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider,
+                             Map<String, String> requestTags) {
+        super(connectionContext, root, tokenProvider, requestTags);
+    }
+
+    public Mono<ListSpacesWithOrganizationsResponse> listSpaces(ListSpacesRequest request) {
+        return get(request, ListSpacesWithOrganizationsResponse.class, builder -> builder.pathSegment("spaces")
+                                                                                         .queryParam("include", "organization")).checkpoint();
+    }
+
+    public Mono<ListServiceInstancesWithServicePlansResponse> listServiceInstances(ListServiceInstancesRequest request) {
+        return get(request, ListServiceInstancesWithServicePlansResponse.class,
+                   builder -> builder.pathSegment("service_instances")
+                                     .queryParam("fields[service_plan]", "guid,name,relationships.service_offering")
+                                     .queryParam("fields[service_plan.service_offering]", "guid,name")).checkpoint();
+    }
+
+}
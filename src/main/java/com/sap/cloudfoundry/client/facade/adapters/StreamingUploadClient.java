@@ -0,0 +1,126 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.reactivestreams.Publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatches.Resource;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Uploads the bits of packages while they are being read or produced, which the operations of the Cloud Foundry Java client do not
+ * support, as they need the whole archive as a file. Bits of a known size are sent with a {@code Content-Length}, the others in a chunked
+ * request.
+ */
+public class StreamingUploadClient extends AbstractClientV3Operations {
+
+    /**
+     * The size of bits which is only known once they are produced, e.g. of an archive which is zipped while it is uploaded.
+     */
+    public static final long UNKNOWN_SIZE = -1;
+
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final byte[] LINE_BREAK = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    public StreamingUploadClient(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider,
+                                 Map<String, String> requestTags) {
+        super(connectionContext, root, tokenProvider, requestTags);
+    }
+
+    /**
+     * @param bits the chunks of a zip archive, subscribed to once the request is sent
+     * @param size the number of bytes of the archive, or {@link #UNKNOWN_SIZE}
+     */
+    public Mono<UploadPackageResponse> uploadPackage(String packageId, Publisher<byte[]> bits, long size) {
+        return uploadPackage(packageId, Collections.emptyList(), bits, size);
+    }
+
+    /**
+     * Uploads the bits of a package as the given cached resources plus an archive of the remaining files.
+     *
+     * @param cachedResources the files of the package which are in the resource cache of the cloud controller
+     * @param bits the chunks of a zip archive of the files which are not cached, or {@code null} if all files are cached
+     * @param size the number of bytes of the archive, or {@link #UNKNOWN_SIZE}
+     */
+    public Mono<UploadPackageResponse> uploadPackage(String packageId, List<Resource> cachedResources, Publisher<byte[]> bits, long size) {
+        String boundary = UUID.randomUUID()
+                              .toString();
+        return Mono.fromCallable(() -> getResourcesPart(boundary, cachedResources))
+                   .flatMap(resourcesPart -> uploadPackage(packageId, boundary, resourcesPart, bits, size));
+    }
+
+    private Mono<UploadPackageResponse> uploadPackage(String packageId, String boundary, byte[] resourcesPart, Publisher<byte[]> bits,
+                                                      long size) {
+        byte[] bitsPartHeader = bits == null ? NO_BYTES
+            : getPartHeader(boundary, "name=\"bits\"; filename=\"application.zip\"", "application/zip");
+        byte[] bitsPartTrailer = bits == null ? NO_BYTES : LINE_BREAK;
+        byte[] closingBoundary = getClosingBoundary(boundary);
+        Flux<byte[]> body = Flux.concat(Mono.just(resourcesPart), Mono.just(bitsPartHeader), bits == null ? Flux.empty() : bits,
+                                        Mono.just(bitsPartTrailer), Mono.just(closingBoundary))
+                                .filter(chunk -> chunk.length > 0);
+        long contentLength = getContentLength(size, bits, resourcesPart, bitsPartHeader, bitsPartTrailer, closingBoundary);
+        return createOperator().flatMap(operator -> operator.post()
+                                                            .uri(builder -> builder.pathSegment("packages", packageId, "upload"))
+                                                            .send((request, outbound) -> {
+                                                                request.header("Content-Type", "multipart/form-data; boundary=" + boundary);
+                                                                if (contentLength == UNKNOWN_SIZE) {
+                                                                    request.header("Transfer-Encoding", "chunked");
+                                                                } else {
+                                                                    request.header("Content-Length", Long.toString(contentLength));
+                                                                }
+                                                                return outbound.sendByteArray(body);
+                                                            })
+                                                            .response()
+                                                            .parseBody(UploadPackageResponse.class))
+                               .checkpoint();
+    }
+
+    private static long getContentLength(long size, Publisher<byte[]> bits, byte[]... parts) {
+        if (bits != null && size == UNKNOWN_SIZE) {
+            return UNKNOWN_SIZE;
+        }
+        long contentLength = bits == null ? 0 : size;
+        for (byte[] part : parts) {
+            contentLength += part.length;
+        }
+        return contentLength;
+    }
+
+    private byte[] getResourcesPart(String boundary, List<Resource> cachedResources) throws JsonProcessingException {
+        if (cachedResources.isEmpty()) {
+            return NO_BYTES;
+        }
+        ByteArrayOutputStream part = new ByteArrayOutputStream();
+        part.writeBytes(getPartHeader(boundary, "name=\"resources\"", "application/json"));
+        part.writeBytes(toJson(cachedResources));
+        part.writeBytes(LINE_BREAK);
+        return part.toByteArray();
+    }
+
+    private byte[] toJson(List<Resource> resources) throws JsonProcessingException {
+        return connectionContext.getObjectMapper()
+                                .writeValueAsBytes(resources);
+    }
+
+    private static byte[] getPartHeader(String boundary, String disposition, String contentType) {
+        return ("--" + boundary + "\r\n" + "Content-Disposition: form-data; " + disposition + "\r\n" + "Content-Type: " + contentType
+            + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] getClosingBoundary(String boundary) {
+        return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
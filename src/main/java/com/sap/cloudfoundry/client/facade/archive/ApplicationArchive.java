@@ -0,0 +1,41 @@
+package com.sap.cloudfoundry.client.facade.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The files of an application which are zipped while they are uploaded, so that no archive needs to be written beforehand.
+ *
+ * @see DirectoryApplicationArchive
+ * @see ZipStreamer
+ */
+public interface ApplicationArchive {
+
+    /**
+     * @return the entries of the archive, in the order in which they are zipped
+     */
+    Iterable<Entry> getEntries();
+
+    interface Entry {
+
+        /**
+         * @return the path of the entry in the archive, separated by {@code /}. The names of directories end with {@code /}.
+         */
+        String getName();
+
+        boolean isDirectory();
+
+        long getSize();
+
+        /**
+         * @return the Unix permissions of the entry, or {@code 0} if they are unknown
+         */
+        default int getUnixMode() {
+            return 0;
+        }
+
+        InputStream getInputStream() throws IOException;
+
+    }
+
+}
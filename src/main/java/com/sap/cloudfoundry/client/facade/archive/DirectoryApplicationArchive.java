@@ -0,0 +1,153 @@
+package com.sap.cloudfoundry.client.facade.archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.Messages;
+
+/**
+ * The files of an application directory. Symbolic links are followed.
+ *
+ */
+public class DirectoryApplicationArchive implements ApplicationArchive {
+
+    private final Path directory;
+    private final List<PathMatcher> exclusions;
+
+    public DirectoryApplicationArchive(Path directory) {
+        this(directory, Collections.emptyList());
+    }
+
+    /**
+     * @param exclusionPatterns glob patterns of the files which are left out, like {@code *.log} or {@code .git}. Patterns which contain a
+     *        {@code /} are matched against the paths relative to the directory, the rest against the file names. Excluded directories are
+     *        left out with their content.
+     */
+    public DirectoryApplicationArchive(Path directory, List<String> exclusionPatterns) {
+        Assert.notNull(directory, "Directory must not be null");
+        Assert.notNull(exclusionPatterns, "Exclusion patterns must not be null");
+        this.directory = directory;
+        FileSystem fileSystem = directory.getFileSystem();
+        this.exclusions = exclusionPatterns.stream()
+                                           .map(pattern -> toMatcher(fileSystem, pattern))
+                                           .collect(Collectors.toList());
+    }
+
+    private static PathMatcher toMatcher(FileSystem fileSystem, String pattern) {
+        PathMatcher matcher = fileSystem.getPathMatcher("glob:" + pattern);
+        if (pattern.contains("/")) {
+            return matcher;
+        }
+        return path -> matcher.matches(path.getFileName());
+    }
+
+    @Override
+    public Iterable<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    if (dir.equals(directory)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (isExcluded(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    entries.add(new DirectoryEntry(dir, attributes));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && !isExcluded(file)) {
+                        entries.add(new DirectoryEntry(file, attributes));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new CloudException(String.format(Messages.CANT_READ_APPLICATION_DIRECTORY, directory, e.getMessage()), e);
+        }
+        return entries;
+    }
+
+    private boolean isExcluded(Path path) {
+        Path relativePath = directory.relativize(path);
+        return exclusions.stream()
+                         .anyMatch(exclusion -> exclusion.matches(relativePath));
+    }
+
+    private class DirectoryEntry implements Entry {
+
+        private final Path path;
+        private final BasicFileAttributes attributes;
+
+        DirectoryEntry(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public String getName() {
+            String name = directory.relativize(path)
+                                   .toString()
+                                   .replace(File.separatorChar, '/');
+            return isDirectory() ? name + "/" : name;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return attributes.isDirectory();
+        }
+
+        @Override
+        public long getSize() {
+            return isDirectory() ? 0 : attributes.size();
+        }
+
+        @Override
+        public int getUnixMode() {
+            try {
+                return toUnixMode(Files.getPosixFilePermissions(path));
+            } catch (UnsupportedOperationException | IOException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        private int toUnixMode(Set<PosixFilePermission> permissions) {
+            int mode = 0;
+            // The permissions are declared from OWNER_READ (0400) to OTHERS_EXECUTE (0001)
+            for (PosixFilePermission permission : permissions) {
+                mode |= 1 << (8 - permission.ordinal());
+            }
+            return mode;
+        }
+
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.sap.cloudfoundry.client.facade.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.Messages;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Zips an {@link ApplicationArchive} while it is being read. The files are deflated in parallel, a few entries ahead of the one which is
+ * written, and the compressed entries are written in the order of the archive. Files which are too large to be buffered in memory are
+ * deflated while they are written.
+ *
+ */
+public class ZipStreamer {
+
+    static final long DEFAULT_MAX_BUFFERED_ENTRY_SIZE = 4 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PENDING_CHUNKS = 16;
+
+    private final ApplicationArchive archive;
+    private final int parallelism;
+    private final long maxBufferedEntrySize;
+    private final Scheduler scheduler;
+
+    public ZipStreamer(ApplicationArchive archive) {
+        this(archive, Schedulers.DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * @param parallelism the number of files which are deflated at the same time
+     */
+    public ZipStreamer(ApplicationArchive archive, int parallelism) {
+        this(archive, parallelism, DEFAULT_MAX_BUFFERED_ENTRY_SIZE, Schedulers.boundedElastic());
+    }
+
+    ZipStreamer(ApplicationArchive archive, int parallelism, long maxBufferedEntrySize, Scheduler scheduler) {
+        this.archive = archive;
+        this.parallelism = parallelism;
+        this.maxBufferedEntrySize = maxBufferedEntrySize;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Zips the archive in the background. At most {@value #MAX_PENDING_CHUNKS} chunks are zipped ahead of the subscriber, and cancelling
+     * the subscription stops the zipping.
+     *
+     * @return the chunks of the zip
+     */
+    public Flux<byte[]> stream() {
+        return Flux.using(this::startZipping, pipe -> Flux.generate(pipe::next), ChunkPipe::cancel)
+                   .subscribeOn(scheduler);
+    }
+
+    private ChunkPipe startZipping() {
+        ChunkPipe pipe = new ChunkPipe();
+        pipe.zipping = Mono.fromRunnable(() -> zipInto(pipe))
+                           .subscribeOn(scheduler)
+                           .subscribe();
+        return pipe;
+    }
+
+    private void zipInto(ChunkPipe pipe) {
+        ZipArchiveOutputStream output = new ZipArchiveOutputStream(pipe);
+        try {
+            writeEntries(output);
+            output.close();
+        } catch (IOException | RuntimeException e) {
+            pipe.fail(e);
+            IOUtils.closeQuietly(output);
+        }
+    }
+
+    /**
+     * Zips the archive into the given file. Blocks until the whole archive is written.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (ZipArchiveOutputStream output = new ZipArchiveOutputStream(file.toFile())) {
+            writeEntries(output);
+        }
+    }
+
+    private void writeEntries(ZipArchiveOutputStream output) throws IOException {
+        Iterable<DeflatedEntry> entries = Flux.fromIterable(archive.getEntries())
+                                              .flatMapSequential(this::deflate, parallelism, 1)
+                                              .toIterable(1);
+        for (DeflatedEntry entry : entries) {
+            write(output, entry);
+        }
+    }
+
+    private Mono<DeflatedEntry> deflate(ApplicationArchive.Entry entry) {
+        if (entry.isDirectory() || entry.getSize() > maxBufferedEntrySize) {
+            return Mono.just(new DeflatedEntry(entry));
+        }
+        return Mono.fromCallable(() -> deflateInMemory(entry))
+                   .subscribeOn(scheduler);
+    }
+
+    private static DeflatedEntry deflateInMemory(ApplicationArchive.Entry entry) {
+        DeflatedEntry deflatedEntry = new DeflatedEntry(entry);
+        CRC32 crc = new CRC32();
+        ByteArrayOutputStream content = new ByteArrayOutputStream((int) Math.max(entry.getSize() / 2, 32));
+        // Zip entries are raw deflate streams, without the zlib header and checksum
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (InputStream input = entry.getInputStream();
+            DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(content, deflater, BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                deflaterOutput.write(buffer, 0, read);
+                deflatedEntry.size += read;
+            }
+        } catch (IOException e) {
+            throw new CloudException(String.format(Messages.CANT_READ_APPLICATION_FILE, entry.getName(), e.getMessage()), e);
+        } finally {
+            deflater.end();
+        }
+        deflatedEntry.crc = crc.getValue();
+        deflatedEntry.content = content.toByteArray();
+        return deflatedEntry;
+    }
+
+    private static void write(ZipArchiveOutputStream output, DeflatedEntry deflatedEntry) throws IOException {
+        ApplicationArchive.Entry entry = deflatedEntry.entry;
+        ZipArchiveEntry zipEntry = new ZipArchiveEntry(entry.getName());
+        if (entry.getUnixMode() != 0) {
+            zipEntry.setUnixMode(entry.getUnixMode());
+        }
+        if (deflatedEntry.content != null) {
+            zipEntry.setMethod(ZipEntry.DEFLATED);
+            zipEntry.setSize(deflatedEntry.size);
+            zipEntry.setCompressedSize(deflatedEntry.content.length);
+            zipEntry.setCrc(deflatedEntry.crc);
+            output.addRawArchiveEntry(zipEntry, new ByteArrayInputStream(deflatedEntry.content));
+            return;
+        }
+        if (!entry.isDirectory()) {
+            // Lets the output choose the Zip64 format in advance for large files, as it cannot go back to patch the local header
+            zipEntry.setSize(entry.getSize());
+        }
+        output.putArchiveEntry(zipEntry);
+        if (!entry.isDirectory()) {
+            try (InputStream input = entry.getInputStream()) {
+                IOUtils.copy(input, output, BUFFER_SIZE);
+            }
+        }
+        output.closeArchiveEntry();
+    }
+
+    private static class DeflatedEntry {
+
+        private final ApplicationArchive.Entry entry;
+        private byte[] content;
+        private long size;
+        private long crc;
+
+        DeflatedEntry(ApplicationArchive.Entry entry) {
+            this.entry = entry;
+        }
+
+    }
+
+    /**
+     * Hands the zip over from the thread which writes it to the one which reads it, in chunks.
+     */
+    private static class ChunkPipe extends OutputStream {
+
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+        private byte[] chunk = new byte[BUFFER_SIZE];
+        private int position;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+        private volatile Disposable zipping;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int copied = Math.min(length, chunk.length - position);
+                System.arraycopy(bytes, offset, chunk, position, copied);
+                position += copied;
+                offset += copied;
+                length -= copied;
+                if (position == chunk.length) {
+                    sendChunk();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (failure != null) {
+                return;
+            }
+            if (position > 0) {
+                sendChunk();
+            }
+            send(END);
+        }
+
+        private void sendChunk() throws IOException {
+            send(position == chunk.length ? chunk : Arrays.copyOf(chunk, position));
+            chunk = new byte[BUFFER_SIZE];
+            position = 0;
+        }
+
+        private void send(byte[] bytes) throws IOException {
+            if (cancelled || failure != null) {
+                throw new IOException("The zip stream is closed");
+            }
+            try {
+                chunks.put(bytes);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+
+        void fail(Throwable error) {
+            failure = error;
+            if (!cancelled) {
+                chunks.clear();
+                chunks.offer(END);
+            }
+        }
+
+        void next(SynchronousSink<byte[]> sink) {
+            byte[] next;
+            try {
+                next = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                sink.error(e);
+                return;
+            }
+            if (next != END) {
+                sink.next(next);
+            } else if (failure != null) {
+                sink.error(failure);
+            } else {
+                sink.complete();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            if (zipping != null) {
+                zipping.dispose();
+            }
+            chunks.clear();
+            chunks.offer(END);
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import org.immutables.value.Value;
+
+/**
+ * Generates {@link ImmutableApplicationLog}.
+ *
+ */
+@Value.Immutable
+public abstract class AbstractApplicationLog extends ApplicationLog {
+
+}
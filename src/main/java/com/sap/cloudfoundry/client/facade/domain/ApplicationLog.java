@@ -1,10 +1,13 @@
 package com.sap.cloudfoundry.client.facade.domain;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
-import org.immutables.value.Value;
-
-@Value.Immutable
+/**
+ * A log of an application. {@link ImmutableApplicationLog} holds the timestamp as a {@link LocalDateTime}, and
+ * {@link ImmutableCompactApplicationLog} in nanoseconds since the epoch.
+ *
+ */
 public abstract class ApplicationLog implements Comparable<ApplicationLog> {
 
     public enum MessageType {
@@ -21,9 +24,17 @@ public abstract class ApplicationLog implements Comparable<ApplicationLog> {
 
     public abstract String getSourceName();
 
+    /**
+     * @return the timestamp in nanoseconds since the epoch, in UTC
+     */
+    public long getTimestampInNanoseconds() {
+        LocalDateTime timestamp = getTimestamp();
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+    }
+
     @Override
     public int compareTo(ApplicationLog other) {
-        return getTimestamp().compareTo(other.getTimestamp());
+        return Long.compare(getTimestampInNanoseconds(), other.getTimestampInNanoseconds());
     }
 
     @Override
@@ -0,0 +1,39 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.nio.file.Path;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+import com.sap.cloudfoundry.client.facade.Nullable;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
+
+/**
+ * The bits to upload to a new package of an application, either an archive or directory, or an {@link ApplicationArchive} which is zipped
+ * while it is uploaded.
+ */
+@Value.Immutable
+public interface ApplicationUpload {
+
+    String getApplicationName();
+
+    @Nullable
+    Path getFile();
+
+    @Nullable
+    ApplicationArchive getArchive();
+
+    /**
+     * Receives the package processing status, and the upload progress if it is also an
+     * {@link com.sap.cloudfoundry.client.facade.UploadProgressCallback}.
+     */
+    @Nullable
+    UploadStatusCallback getCallback();
+
+    @Value.Check
+    default void checkBits() {
+        Assert.isTrue((getFile() == null) != (getArchive() == null), "Exactly one of file and archive must be set");
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Outcome of deleting many resources at once. A failure to delete one resource does not stop the deletion of the others.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableBulkDeleteResult.class)
+@JsonDeserialize(as = ImmutableBulkDeleteResult.class)
+public interface BulkDeleteResult {
+
+    List<UUID> getDeletedResources();
+
+    Map<UUID, ErrorDetails> getFailedResources();
+
+    @JsonIgnore
+    default boolean isSuccessful() {
+        return getFailedResources().isEmpty();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.immutables.value.Value;
+
+/**
+ * An {@link ApplicationLog} for reading many logs at once. It keeps the timestamp in nanoseconds since the epoch and creates the
+ * {@link LocalDateTime} only when it is asked for.
+ *
+ */
+@Value.Immutable
+public abstract class CompactApplicationLog extends ApplicationLog {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    @Override
+    @Value.Parameter
+    public abstract String getApplicationGuid();
+
+    @Override
+    @Value.Parameter
+    public abstract String getMessage();
+
+    @Override
+    @Value.Parameter
+    public abstract long getTimestampInNanoseconds();
+
+    @Override
+    @Value.Parameter
+    public abstract MessageType getMessageType();
+
+    @Override
+    @Value.Parameter
+    public abstract String getSourceName();
+
+    @Override
+    @Value.Lazy
+    public LocalDateTime getTimestamp() {
+        long timestampInNanoseconds = getTimestampInNanoseconds();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestampInNanoseconds, NANOS_PER_SECOND),
+                                           (int) Math.floorMod(timestampInNanoseconds, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString();
+    }
+
+}
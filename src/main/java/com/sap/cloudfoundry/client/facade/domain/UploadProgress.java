@@ -0,0 +1,42 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.time.Duration;
+
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * How far the bits of a package have been sent to the cloud controller.
+ */
+@Value.Immutable
+public interface UploadProgress {
+
+    long getBytesSent();
+
+    /**
+     * @return the size of the upload, or {@code -1} if it is not known in advance, as for archives which are zipped while they are
+     *         uploaded
+     */
+    long getTotalBytes();
+
+    /**
+     * @return the bytes per second sent since the previous report, which is {@code 0} while the upload is stalled
+     */
+    double getCurrentThroughput();
+
+    /**
+     * @return the bytes per second sent since the upload started
+     */
+    double getAverageThroughput();
+
+    Duration getElapsedTime();
+
+    /**
+     * @return the time until the upload completes at the average throughput, or {@code null} if the size of the upload is not known or
+     *         nothing has been sent yet
+     */
+    @Nullable
+    Duration getRemainingTime();
+
+}
@@ -3,9 +3,12 @@ package com.sap.cloudfoundry.client.facade.oauth2;
 import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.cloudfoundry.reactor.TokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
@@ -16,22 +19,39 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import org.springframework.web.server.ResponseStatusException;
 
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
+import com.sap.cloudfoundry.client.facade.Messages;
 import com.sap.cloudfoundry.client.facade.adapters.OAuthTokenProvider;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
 /**
  * Client that can handle authentication against a UAA instance
+ * <p>
+ * A token is refreshed once it expires within {@link #REFRESH_WINDOW}. Only one refresh runs at a time, and the callers which need the
+ * token meanwhile wait for its result instead of requesting tokens of their own. Refreshable tokens are also refreshed in the background
+ * shortly before that window, at a random point, so that the clients of a UAA do not refresh all at once and requests rarely wait for a
+ * token.
  *
  */
 public class OAuthClient {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(OAuthClient.class);
     private static final long MAX_RETRY_ATTEMPTS = 3;
     private static final Duration RETRY_INTERVAL = Duration.ofSeconds(3);
+    private static final Duration REFRESH_WINDOW = Duration.ofSeconds(50);
+    private static final Duration MAX_BACKGROUND_REFRESH_JITTER = Duration.ofSeconds(30);
 
     private final URL authorizationUrl;
-    protected OAuth2AccessTokenWithAdditionalInfo token;
-    protected CloudCredentials credentials;
+    private final Object refreshLock = new Object();
+    private final Mono<String> authorizationHeaderValue;
+    private Disposable backgroundRefresh;
+    private Mono<OAuth2AccessTokenWithAdditionalInfo> refresh;
+    protected volatile OAuth2AccessTokenWithAdditionalInfo token;
+    protected volatile CloudCredentials credentials;
     protected final WebClient webClient;
     protected final TokenFactory tokenFactory;
 
@@ -39,32 +59,60 @@ public class OAuthClient {
         this.authorizationUrl = authorizationUrl;
         this.webClient = webClient;
         this.tokenFactory = new TokenFactory();
+        this.authorizationHeaderValue = getTokenAsync().map(OAuth2AccessTokenWithAdditionalInfo::getAuthorizationHeaderValue);
     }
 
     public void init(CloudCredentials credentials) {
         if (credentials != null) {
             this.credentials = credentials;
-            if (credentials.getToken() != null) {
-                this.token = credentials.getToken();
-            } else {
-                this.token = createToken();
+            // The token is requested before the lock is taken, so that refreshes of the previous token do not wait for the request
+            OAuth2AccessTokenWithAdditionalInfo initialToken = credentials.getToken() != null ? credentials.getToken() : createToken();
+            synchronized (refreshLock) {
+                this.refresh = null;
+                this.token = initialToken;
+                scheduleBackgroundRefresh();
             }
         }
     }
 
     public void clear() {
-        this.token = null;
-        this.credentials = null;
+        synchronized (refreshLock) {
+            cancelBackgroundRefresh();
+            this.refresh = null;
+            this.token = null;
+            this.credentials = null;
+        }
     }
 
+    /**
+     * Blocks while the token is refreshed, so must not be called on an event loop thread. Use {@link #getTokenAsync()} there.
+     */
     public OAuth2AccessTokenWithAdditionalInfo getToken() {
-        if (token == null) {
+        OAuth2AccessTokenWithAdditionalInfo currentToken = token;
+        if (currentToken == null) {
             return null;
         }
-        if (shouldRefreshToken()) {
-            token = createToken();
+        if (shouldRefreshToken(currentToken)) {
+            return refreshToken(currentToken).block();
         }
-        return token;
+        return currentToken;
+    }
+
+    /**
+     * Emits the current token right away, unless it has to be refreshed. All subscribers which need a refreshed token meanwhile share a
+     * single refresh, which is not cancelled when they cancel.
+     */
+    public Mono<OAuth2AccessTokenWithAdditionalInfo> getTokenAsync() {
+        return Mono.defer(() -> {
+            OAuth2AccessTokenWithAdditionalInfo currentToken = token;
+            if (currentToken == null) {
+                return Mono.empty();
+            }
+            if (shouldRefreshToken(currentToken)) {
+                return refreshToken(currentToken);
+            }
+            return Mono.just(currentToken);
+        });
     }
 
     public String getAuthorizationHeaderValue() {
@@ -75,18 +123,122 @@ public class OAuthClient {
         return null;
     }
 
+    /**
+     * The non-blocking variant of {@link #getAuthorizationHeaderValue()}, which is empty if there is no token. The same instance is
+     * returned by every call, and may be subscribed to any number of times.
+     */
+    public Mono<String> getAuthorizationHeaderValueAsync() {
+        return authorizationHeaderValue;
+    }
+
     public TokenProvider getTokenProvider() {
         return new OAuthTokenProvider(this);
     }
 
-    private boolean shouldRefreshToken() {
-        return credentials.isRefreshable() && token.getOAuth2AccessToken()
-                                                   .getExpiresAt()
-                                                   .isBefore(Instant.now()
-                                                                    .plus(50, ChronoUnit.SECONDS));
+    private boolean shouldRefreshToken(OAuth2AccessTokenWithAdditionalInfo currentToken) {
+        return isRefreshable() && currentToken.getOAuth2AccessToken()
+                                              .getExpiresAt()
+                                              .isBefore(Instant.now()
+                                                               .plus(REFRESH_WINDOW));
+    }
+
+    private boolean isRefreshable() {
+        CloudCredentials currentCredentials = credentials;
+        return currentCredentials != null && currentCredentials.isRefreshable();
+    }
+
+    /**
+     * Starts to replace the expiring token, unless another caller did so already or is doing so.
+     */
+    private Mono<OAuth2AccessTokenWithAdditionalInfo> refreshToken(OAuth2AccessTokenWithAdditionalInfo expiringToken) {
+        synchronized (refreshLock) {
+            OAuth2AccessTokenWithAdditionalInfo currentToken = token;
+            if (currentToken != expiringToken) {
+                return Mono.justOrEmpty(currentToken);
+            }
+            if (refresh == null) {
+                Sinks.One<OAuth2AccessTokenWithAdditionalInfo> refreshedToken = Sinks.one();
+                Mono<OAuth2AccessTokenWithAdditionalInfo> newRefresh = refreshedToken.asMono();
+                refresh = newRefresh;
+                // Subscribed here rather than by the callers, so that the refresh is not cancelled along with them. It may also complete
+                // right away, before this method returns.
+                Mono.defer(this::createTokenAsync)
+                    .single()
+                    .subscribe(newToken -> {
+                        replaceToken(newRefresh, expiringToken, newToken);
+                        refreshedToken.tryEmitValue(newToken);
+                    }, e -> {
+                        clearRefresh(newRefresh);
+                        refreshedToken.tryEmitError(e);
+                    });
+                return newRefresh;
+            }
+            return refresh;
+        }
+    }
+
+    private void replaceToken(Mono<OAuth2AccessTokenWithAdditionalInfo> completedRefresh, OAuth2AccessTokenWithAdditionalInfo expiringToken,
+                              OAuth2AccessTokenWithAdditionalInfo newToken) {
+        synchronized (refreshLock) {
+            clearRefresh(completedRefresh);
+            // The client may have been cleared or initialized again meanwhile
+            if (token == expiringToken) {
+                token = newToken;
+                scheduleBackgroundRefresh();
+            }
+        }
+    }
+
+    private void clearRefresh(Mono<OAuth2AccessTokenWithAdditionalInfo> completedRefresh) {
+        synchronized (refreshLock) {
+            if (refresh == completedRefresh) {
+                refresh = null;
+            }
+        }
+    }
+
+    private void scheduleBackgroundRefresh() {
+        cancelBackgroundRefresh();
+        OAuth2AccessTokenWithAdditionalInfo currentToken = token;
+        Instant expiresAt = currentToken == null ? null
+            : currentToken.getOAuth2AccessToken()
+                          .getExpiresAt();
+        if (!isRefreshable() || expiresAt == null) {
+            return;
+        }
+        long millisUntilRefreshWindow = Duration.between(Instant.now(), expiresAt.minus(REFRESH_WINDOW))
+                                                .toMillis();
+        if (millisUntilRefreshWindow <= 0) {
+            return;
+        }
+        long jitter = ThreadLocalRandom.current()
+                                       .nextLong(Math.min(MAX_BACKGROUND_REFRESH_JITTER.toMillis(), millisUntilRefreshWindow / 2) + 1);
+        backgroundRefresh = Schedulers.parallel()
+                                      .schedule(() -> refreshInBackground(currentToken), millisUntilRefreshWindow - jitter,
+                                                TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelBackgroundRefresh() {
+        if (backgroundRefresh != null) {
+            backgroundRefresh.dispose();
+            backgroundRefresh = null;
+        }
     }
 
+    private void refreshInBackground(OAuth2AccessTokenWithAdditionalInfo expiringToken) {
+        // The token is refreshed again when it is needed within the refresh window
+        refreshToken(expiringToken).subscribe(null,
+                                              e -> LOGGER.warn(String.format(Messages.CANT_REFRESH_TOKEN_IN_BACKGROUND, e.getMessage()), e));
+    }
+
+    /**
+     * Blocks while the token is requested. Subclasses which obtain tokens differently override {@link #createTokenAsync()}.
+     */
     protected OAuth2AccessTokenWithAdditionalInfo createToken() {
+        return createTokenAsync().block();
+    }
+
+    protected Mono<OAuth2AccessTokenWithAdditionalInfo> createTokenAsync() {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("grant_type", "password");
         formData.add("client_id", credentials.getClientId());
@@ -94,24 +246,21 @@ public class OAuthClient {
         formData.add("username", credentials.getEmail());
         formData.add("password", credentials.getPassword());
         formData.add("response_type", "token");
-        Oauth2AccessTokenResponse oauth2AccessTokenResponse = fetchOauth2AccessToken(formData);
-        return tokenFactory.createToken(oauth2AccessTokenResponse);
-    }
-
-    private Oauth2AccessTokenResponse fetchOauth2AccessToken(MultiValueMap<String, String> formData) {
-        try {
-            return webClient.post()
-                            .uri(authorizationUrl + "/oauth/token")
-                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-                            .body(BodyInserters.fromFormData(formData))
-                            .retrieve()
-                            .bodyToFlux(Oauth2AccessTokenResponse.class)
-                            .retryWhen(Retry.fixedDelay(MAX_RETRY_ATTEMPTS, RETRY_INTERVAL)
-                                            .onRetryExhaustedThrow(this::throwOriginalError))
-                            .blockFirst();
-        } catch (WebClientResponseException e) {
-            throw new ResponseStatusException(e.getStatusCode(), e.getMessage(), e);
-        }
+        return fetchOauth2AccessToken(formData).map(tokenFactory::createToken);
+    }
+
+    private Mono<Oauth2AccessTokenResponse> fetchOauth2AccessToken(MultiValueMap<String, String> formData) {
+        return webClient.post()
+                        .uri(authorizationUrl + "/oauth/token")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                        .body(BodyInserters.fromFormData(formData))
+                        .retrieve()
+                        .bodyToFlux(Oauth2AccessTokenResponse.class)
+                        .retryWhen(Retry.fixedDelay(MAX_RETRY_ATTEMPTS, RETRY_INTERVAL)
+                                        .onRetryExhaustedThrow(this::throwOriginalError))
+                        .next()
+                        .onErrorMap(WebClientResponseException.class,
+                                    e -> new ResponseStatusException(e.getStatusCode(), e.getMessage(), e));
     }
 
     private Throwable throwOriginalError(RetryBackoffSpec retrySpec, Retry.RetrySignal signal) {
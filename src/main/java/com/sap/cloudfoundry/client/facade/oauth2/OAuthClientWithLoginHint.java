@@ -11,6 +11,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.sap.cloudfoundry.client.facade.util.JsonUtil;
 
+import reactor.core.publisher.Mono;
+
 public class OAuthClientWithLoginHint extends OAuthClient {
 
     private static final String ORIGIN_KEY = "origin";
@@ -27,8 +29,9 @@ public class OAuthClientWithLoginHint extends OAuthClient {
     }
 
     @Override
-    protected OAuth2AccessTokenWithAdditionalInfo createToken() {
-        return getOrRefreshToken();
+    protected Mono<OAuth2AccessTokenWithAdditionalInfo> createTokenAsync() {
+        return getTokenProvider().getToken(connectionContext)
+                                 .map(token -> tokenFactory.createToken(getTokenValue(token)));
     }
 
     @Override
@@ -50,12 +53,6 @@ public class OAuthClientWithLoginHint extends OAuthClient {
                                          .build();
     }
 
-    private OAuth2AccessTokenWithAdditionalInfo getOrRefreshToken() {
-        String token = getTokenProvider().getToken(connectionContext)
-                                         .block();
-        return new TokenFactory().createToken(getTokenValue(token));
-    }
-
     private String getTokenValue(String token) {
         // DefaultOAuth2AccessToken constructor requires a string containing only the token value,
         // but the tokenProvider returns the token with token type included in the string
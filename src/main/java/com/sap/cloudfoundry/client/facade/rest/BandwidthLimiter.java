@@ -0,0 +1,63 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Delays the chunks of uploads so that all of them together do not exceed a number of bytes per second. Every chunk reserves the time
+ * which it takes to send it at that rate, after the chunks which reserved before it, so the uploads share the bandwidth in the order in
+ * which their chunks are requested.
+ *
+ */
+class BandwidthLimiter {
+
+    static final long UNLIMITED = Long.MAX_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long maxBytesPerSecond;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoClock;
+    private long nextFreeTime = Long.MIN_VALUE;
+
+    BandwidthLimiter(long maxBytesPerSecond, Scheduler scheduler) {
+        this(maxBytesPerSecond, scheduler, System::nanoTime);
+    }
+
+    BandwidthLimiter(long maxBytesPerSecond, Scheduler scheduler, LongSupplier nanoClock) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+    }
+
+    Flux<byte[]> limit(Flux<byte[]> chunks) {
+        if (maxBytesPerSecond == UNLIMITED) {
+            return chunks;
+        }
+        return chunks.concatMap(this::delay, 1);
+    }
+
+    private Mono<byte[]> delay(byte[] chunk) {
+        long delay = reserve(chunk.length);
+        if (delay == 0) {
+            return Mono.just(chunk);
+        }
+        return Mono.delay(Duration.ofNanos(delay), scheduler)
+                   .thenReturn(chunk);
+    }
+
+    /**
+     * @return how long to wait before sending the bytes, in nanoseconds
+     */
+    synchronized long reserve(long bytes) {
+        long now = nanoClock.getAsLong();
+        // An idle link does not accumulate credit, so a burst is never larger than one chunk
+        long start = nextFreeTime == Long.MIN_VALUE || nextFreeTime - now < 0 ? now : nextFreeTime;
+        nextFreeTime = start + bytes * NANOS_PER_SECOND / maxBytesPerSecond;
+        return start - now;
+    }
+
+}
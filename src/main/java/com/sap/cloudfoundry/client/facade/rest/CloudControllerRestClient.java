@@ -3,17 +3,23 @@ package com.sap.cloudfoundry.client.facade.rest;
 import java.net.URL;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
 import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
@@ -41,6 +47,8 @@ import com.sap.cloudfoundry.client.facade.domain.UserRole;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
+import reactor.core.Disposable;
+
 /**
  * Interface defining operations available for the cloud controller REST client implementations
  *
@@ -74,6 +82,10 @@ public interface CloudControllerRestClient {
 
     void deleteAllServiceInstances();
 
+    BulkDeleteResult tryDeleteAllApplications();
+
+    BulkDeleteResult tryDeleteAllServiceInstances();
+
     void deleteApplication(String applicationName);
 
     void deleteDomain(String domainName);
@@ -142,6 +154,12 @@ public interface CloudControllerRestClient {
 
     List<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset);
 
+    List<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices);
+
+    List<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset);
+
+    Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener);
+
     List<CloudRoute> getRoutes(String domainName);
 
     UUID getRequiredServiceInstanceGuid(String name);
@@ -248,6 +266,10 @@ public interface CloudControllerRestClient {
 
     CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
 
+    CloudPackage asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback);
+
+    Map<String, CompletableFuture<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads);
+
     Upload getUploadStatus(UUID packageGuid);
 
     CloudTask getTask(UUID taskGuid);
@@ -300,6 +322,10 @@ public interface CloudControllerRestClient {
 
     CloudPackage createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo);
 
+    CloudPackage copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid);
+
     CloudAsyncJob getAsyncJob(String jobId);
 
+    void awaitJobs(Collection<String> jobIds);
+
 }
@@ -0,0 +1,142 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+import com.sap.cloudfoundry.client.facade.util.DigestCache;
+import com.sap.cloudfoundry.client.facade.util.JobTracker;
+
+/**
+ * Tuning options of a single {@link ReactiveCloudControllerRestClientImpl}. Usually derived from the
+ * {@link CloudControllerRestClientFactory} which created the client.
+ *
+ */
+@Value.Immutable
+public interface CloudControllerRestClientConfiguration {
+
+    /**
+     * The maximum {@code per_page} value accepted by the cloud controller.
+     */
+    int MAX_PAGE_SIZE = 5000;
+
+    @Value.Default
+    default FanOutConfiguration getDefaultFanOutConfiguration() {
+        return ImmutableFanOutConfiguration.builder()
+                                           .build();
+    }
+
+    Map<ResourceType, FanOutConfiguration> getFanOutConfigurations();
+
+    /**
+     * The {@code per_page} value of list requests for resource types without an entry in {@link #getPageSizes()}. When absent, the
+     * cloud controller's default page size applies.
+     */
+    Optional<Integer> getDefaultPageSize();
+
+    Map<ResourceType, Integer> getPageSizes();
+
+    default Optional<Integer> getPageSize(ResourceType resourceType) {
+        return Optional.ofNullable(getPageSizes().get(resourceType))
+                       .or(this::getDefaultPageSize);
+    }
+
+    @Value.Check
+    default void checkPageSizes() {
+        getDefaultPageSize().ifPresent(CloudControllerRestClientConfiguration::checkPageSize);
+        getPageSizes().values()
+                      .forEach(CloudControllerRestClientConfiguration::checkPageSize);
+    }
+
+    private static void checkPageSize(int pageSize) {
+        Assert.isTrue(pageSize > 0 && pageSize <= MAX_PAGE_SIZE, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    /**
+     * The maximum number of delete requests submitted at the same time by bulk deletions. The resulting jobs are awaited in parallel
+     * regardless of this limit.
+     */
+    @Value.Default
+    default int getBulkDeleteConcurrency() {
+        return 8;
+    }
+
+    @Value.Default
+    default PaginationConfiguration getPaginationConfiguration() {
+        return ImmutablePaginationConfiguration.builder()
+                                               .build();
+    }
+
+    @Value.Default
+    default UploadSchedulingConfiguration getUploadSchedulingConfiguration() {
+        return ImmutableUploadSchedulingConfiguration.builder()
+                                                     .build();
+    }
+
+    /**
+     * Whether application directories and archives are uploaded while they are zipped, in a chunked request, instead of being zipped to a
+     * temporary file first and uploaded with a known size. Some proxies reject chunked requests.
+     */
+    @Value.Default
+    default boolean shouldZipArchivesWhileUploading() {
+        return false;
+    }
+
+    /**
+     * When present, the recent logs of applications are kept in a local store. See {@link LogStoreConfiguration}.
+     */
+    Optional<LogStoreConfiguration> getLogStoreConfiguration();
+
+    default FanOutConfiguration getFanOutConfiguration(ResourceType resourceType) {
+        return getFanOutConfigurations().getOrDefault(resourceType, getDefaultFanOutConfiguration());
+    }
+
+    /**
+     * Service plans and offerings by GUID. May be shared only between clients of the same user, as every user sees different plans and
+     * offerings.
+     */
+    @Value.Default
+    @Value.Auxiliary
+    default ServiceCatalogCache getServiceCatalogCache() {
+        return ServiceCatalogCache.disabled();
+    }
+
+    /**
+     * Polls the jobs which the client waits for. May be shared between clients, so that the jobs of all of them are polled from one
+     * timer.
+     */
+    @Value.Default
+    @Value.Auxiliary
+    default JobTracker getJobTracker() {
+        return new JobTracker();
+    }
+
+    /**
+     * Polls the processing of uploaded packages. May be shared between clients, so that the packages of all of them are polled from one
+     * timer.
+     */
+    @Value.Default
+    @Value.Auxiliary
+    default UploadMonitor getUploadMonitor() {
+        return new UploadMonitor();
+    }
+
+    /**
+     * Polls the logs of tailed applications. May be shared between clients, so that the applications of all of them are polled from one
+     * timer.
+     */
+    @Value.Default
+    @Value.Auxiliary
+    default LogTailer getLogTailer() {
+        return new LogTailer();
+    }
+
+    /**
+     * Digests of uploaded application files, reused by uploads which match resources. May be shared between clients.
+     */
+    @Value.Auxiliary
+    Optional<DigestCache> getDigestCache();
+
+}
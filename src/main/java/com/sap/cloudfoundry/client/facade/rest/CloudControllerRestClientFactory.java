@@ -1,11 +1,16 @@
 package com.sap.cloudfoundry.client.facade.rest;
 
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
+import com.sap.cloudfoundry.client.facade.ReactiveCloudControllerClient;
 import com.sap.cloudfoundry.client.facade.adapters.CloudFoundryClientFactory;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableCloudFoundryClientFactory;
 import com.sap.cloudfoundry.client.facade.adapters.LogCacheClient;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatchingClient;
+import com.sap.cloudfoundry.client.facade.adapters.SideLoadingClient;
+import com.sap.cloudfoundry.client.facade.adapters.StreamingUploadClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
+import com.sap.cloudfoundry.client.facade.util.DigestCache;
 import com.sap.cloudfoundry.client.facade.util.RestUtil;
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.reactor.ConnectionContext;
@@ -15,16 +20,24 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.Builder;
 
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 @Value.Immutable
 public abstract class CloudControllerRestClientFactory {
+
+    private static final Duration DEFAULT_SERVICE_CATALOG_CACHE_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final int DEFAULT_SERVICE_CATALOG_CACHE_MAXIMUM_SIZE = 1000;
+
     private final RestUtil restUtil = new RestUtil();
+    // The caches are referenced weakly, as their cached requests reference the OAuthClient through the token provider of the client
+    private final Map<OAuthClient, WeakReference<ServiceCatalogCache>> serviceCatalogCaches = new WeakHashMap<>();
 
     public abstract Optional<Duration> getSslHandshakeTimeout();
 
@@ -36,6 +49,107 @@ public abstract class CloudControllerRestClientFactory {
 
     public abstract Optional<Duration> getResponseTimeout();
 
+    /**
+     * How long log cache requests wait for the next part of a response. The log cache requests share the connection pool of the cloud
+     * controller requests, so the other connection settings apply to them as well.
+     */
+    public abstract Optional<Duration> getLogCacheResponseTimeout();
+
+    /**
+     * Fan-out settings used for resource types without an entry in {@link #getFanOutConfigurations()}.
+     */
+    public abstract Optional<FanOutConfiguration> getDefaultFanOutConfiguration();
+
+    /**
+     * Per resource type limits for the parallel requests which fetch auxiliary content (service plans, offerings, credentials,
+     * organizations) of listed resources.
+     */
+    public abstract Map<ResourceType, FanOutConfiguration> getFanOutConfigurations();
+
+    /**
+     * The {@code per_page} value of list requests, up to {@value CloudControllerRestClientConfiguration#MAX_PAGE_SIZE}. When absent, the
+     * cloud controller's default page size applies.
+     */
+    public abstract Optional<Integer> getDefaultPageSize();
+
+    /**
+     * Per resource type overrides of {@link #getDefaultPageSize()}.
+     */
+    public abstract Map<ResourceType, Integer> getPageSizes();
+
+    /**
+     * How many pages of a listing are requested at once, and whether their order is kept.
+     */
+    public abstract Optional<PaginationConfiguration> getPaginationConfiguration();
+
+    /**
+     * How many applications {@link ReactiveCloudControllerClient#uploadApplications(List)} uploads at the same time, and how many bytes
+     * per second the uploads of a client may send together.
+     */
+    public abstract Optional<UploadSchedulingConfiguration> getUploadSchedulingConfiguration();
+
+    /**
+     * Enables a store which keeps the recent logs of applications outside of the Java heap, so that
+     * {@link ReactiveCloudControllerClient#getRecentLogs(java.util.UUID, java.time.LocalDateTime)} fetches only the logs which are new
+     * since its last call for an application. Every client has a store of its own.
+     */
+    public abstract Optional<LogStoreConfiguration> getLogStoreConfiguration();
+
+    /**
+     * How many delete requests bulk deletions submit at the same time.
+     */
+    public abstract Optional<Integer> getBulkDeleteConcurrency();
+
+    /**
+     * How long service plans and offerings stay cached. The clients of this factory which use the same {@link OAuthClient} share a cache,
+     * as the cloud controller returns only the plans and offerings which are visible to the user. The cache is dropped together with the
+     * last of these clients. {@link Duration#ZERO} disables the cache.
+     */
+    @Value.Default
+    public Duration getServiceCatalogCacheTimeToLive() {
+        return DEFAULT_SERVICE_CATALOG_CACHE_TIME_TO_LIVE;
+    }
+
+    @Value.Default
+    public int getServiceCatalogCacheMaximumSize() {
+        return DEFAULT_SERVICE_CATALOG_CACHE_MAXIMUM_SIZE;
+    }
+
+    /**
+     * Whether spaces and service instances are listed together with their organizations, plans and offerings (v3 {@code include} and
+     * {@code fields} parameters) instead of fetching those once per listed resource.
+     */
+    @Value.Default
+    public boolean shouldSideLoadAuxiliaryContent() {
+        return true;
+    }
+
+    /**
+     * Whether application uploads leave out the files which are already in the resource cache of the cloud controller (v3
+     * {@code resource_matches}). Only applies to applications uploaded as zip archives.
+     */
+    @Value.Default
+    public boolean shouldMatchUploadedResources() {
+        return false;
+    }
+
+    /**
+     * Whether application directories and archives are uploaded while they are zipped, in a chunked request, instead of being zipped to a
+     * temporary file first. Saves the time and the disk space of the temporary file, but some proxies reject chunked requests.
+     */
+    @Value.Default
+    public boolean shouldZipArchivesWhileUploading() {
+        return false;
+    }
+
+    /**
+     * Keeps the digests of uploaded application files, so that unchanged files are not hashed again by later uploads which match
+     * resources. Only used when {@link #shouldMatchUploadedResources()} is enabled. Shared by all clients of this factory. The caller opens
+     * the cache and closes it once the clients no longer upload applications.
+     */
+    @Value.Auxiliary
+    public abstract Optional<DigestCache> getDigestCache();
+
     @Value.Default
     public boolean shouldTrustSelfSignedCertificates() {
         return false;
@@ -49,6 +163,25 @@ public abstract class CloudControllerRestClientFactory {
         getConnectionPoolSize().ifPresent(builder::connectionPoolSize);
         getThreadPoolSize().ifPresent(builder::threadPoolSize);
         getResponseTimeout().ifPresent(builder::responseTimeout);
+        getLogCacheResponseTimeout().ifPresent(builder::logCacheResponseTimeout);
+        return builder.build();
+    }
+
+    @Value.Derived
+    public CloudControllerRestClientConfiguration getRestClientConfiguration() {
+        ImmutableCloudControllerRestClientConfiguration.Builder builder = ImmutableCloudControllerRestClientConfiguration.builder();
+        getDefaultFanOutConfiguration().ifPresent(builder::defaultFanOutConfiguration);
+        builder.fanOutConfigurations(getFanOutConfigurations());
+        getDefaultPageSize().ifPresent(builder::defaultPageSize);
+        builder.pageSizes(getPageSizes());
+        getPaginationConfiguration().ifPresent(builder::paginationConfiguration);
+        getBulkDeleteConcurrency().ifPresent(builder::bulkDeleteConcurrency);
+        getUploadSchedulingConfiguration().ifPresent(builder::uploadSchedulingConfiguration);
+        getLogStoreConfiguration().ifPresent(builder::logStoreConfiguration);
+        builder.shouldZipArchivesWhileUploading(shouldZipArchivesWhileUploading());
+        if (shouldMatchUploadedResources()) {
+            getDigestCache().ifPresent(builder::digestCache);
+        }
         return builder.build();
     }
 
@@ -74,15 +207,72 @@ public abstract class CloudControllerRestClientFactory {
                                                   OAuthClient oAuthClient, List<ExchangeFilterFunction> exchangeFilters,
                                                   Map<String, String> requestTags) {
         WebClient webClient = createWebClient(credentials, oAuthClient, exchangeFilters);
-        CloudFoundryClient delegate = getCloudFoundryClientFactory().createClient(controllerUrl, oAuthClient, requestTags);
-        LogCacheClient logCacheClient = getCloudFoundryClientFactory().createLogCacheClient(controllerUrl, oAuthClient, requestTags);
         return new CloudControllerRestClientImpl(controllerUrl,
                                                  credentials,
                                                  webClient,
                                                  oAuthClient,
-                                                 delegate,
-                                                 logCacheClient,
-                                                 target);
+                                                 doCreateReactiveClient(controllerUrl, target, oAuthClient, requestTags));
+    }
+
+    public ReactiveCloudControllerClient createReactiveClient(URL controllerUrl, CloudCredentials credentials, CloudSpace target) {
+        return createReactiveClient(controllerUrl, credentials, target, createOAuthClient(controllerUrl, credentials.getOrigin()),
+                                    Collections.emptyMap());
+    }
+
+    public ReactiveCloudControllerClient createReactiveClient(URL controllerUrl, CloudCredentials credentials, CloudSpace target,
+                                                              OAuthClient oAuthClient, Map<String, String> requestTags) {
+        oAuthClient.init(credentials);
+        return doCreateReactiveClient(controllerUrl, target, oAuthClient, requestTags);
+    }
+
+    private ReactiveCloudControllerRestClientImpl doCreateReactiveClient(URL controllerUrl, CloudSpace target, OAuthClient oAuthClient,
+                                                                         Map<String, String> requestTags) {
+        CloudFoundryClient delegate = getCloudFoundryClientFactory().createClient(controllerUrl, oAuthClient, requestTags);
+        LogCacheClient logCacheClient = getCloudFoundryClientFactory().createLogCacheClient(controllerUrl, oAuthClient, requestTags);
+        SideLoadingClient sideLoadingClient = shouldSideLoadAuxiliaryContent()
+            ? getCloudFoundryClientFactory().createSideLoadingClient(controllerUrl, oAuthClient, requestTags)
+            : null;
+        ResourceMatchingClient resourceMatchingClient = shouldMatchUploadedResources()
+            ? getCloudFoundryClientFactory().createResourceMatchingClient(controllerUrl, oAuthClient, requestTags)
+            : null;
+        StreamingUploadClient streamingUploadClient = getCloudFoundryClientFactory().createStreamingUploadClient(controllerUrl, oAuthClient,
+                                                                                                                requestTags);
+        return new ReactiveCloudControllerRestClientImpl(delegate,
+                                                         logCacheClient,
+                                                         sideLoadingClient,
+                                                         resourceMatchingClient,
+                                                         streamingUploadClient,
+                                                         target,
+                                                         getRestClientConfiguration(oAuthClient));
+    }
+
+    CloudControllerRestClientConfiguration getRestClientConfiguration(OAuthClient oAuthClient) {
+        return ImmutableCloudControllerRestClientConfiguration.copyOf(getRestClientConfiguration())
+                                                              .withServiceCatalogCache(getServiceCatalogCache(oAuthClient));
+    }
+
+    private ServiceCatalogCache getServiceCatalogCache(OAuthClient oAuthClient) {
+        synchronized (serviceCatalogCaches) {
+            ServiceCatalogCache serviceCatalogCache = Optional.ofNullable(serviceCatalogCaches.get(oAuthClient))
+                                                              .map(WeakReference::get)
+                                                              .orElse(null);
+            if (serviceCatalogCache == null) {
+                serviceCatalogCache = new ServiceCatalogCache(getServiceCatalogCacheTimeToLive(), getServiceCatalogCacheMaximumSize());
+                serviceCatalogCaches.put(oAuthClient, new WeakReference<>(serviceCatalogCache));
+            }
+            return serviceCatalogCache;
+        }
+    }
+
+    /**
+     * @return the number of service catalog caches which are still used by clients of this factory
+     */
+    int getServiceCatalogCacheCount() {
+        synchronized (serviceCatalogCaches) {
+            serviceCatalogCaches.values()
+                                .removeIf(reference -> reference.get() == null);
+            return serviceCatalogCaches.size();
+        }
     }
 
     private OAuthClient createOAuthClient(URL controllerUrl, String origin) {
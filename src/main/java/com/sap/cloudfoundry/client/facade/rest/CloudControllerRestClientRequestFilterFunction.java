@@ -20,11 +20,11 @@ public class CloudControllerRestClientRequestFilterFunction implements ExchangeF
 
     @Override
     public Mono<ClientResponse> filter(ClientRequest clientRequest, ExchangeFunction nextFilter) {
-        String authorizationHeaderValue = oAuthClient.getAuthorizationHeaderValue();
-        if (authorizationHeaderValue != null) {
-            clientRequest.headers()
-                         .add(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
-        }
-        return nextFilter.exchange(clientRequest);
+        return oAuthClient.getAuthorizationHeaderValueAsync()
+                          .map(authorizationHeaderValue -> ClientRequest.from(clientRequest)
+                                                                        .header(HttpHeaders.AUTHORIZATION, authorizationHeaderValue)
+                                                                        .build())
+                          .defaultIfEmpty(clientRequest)
+                          .flatMap(nextFilter::exchange);
     }
 }
\ No newline at end of file
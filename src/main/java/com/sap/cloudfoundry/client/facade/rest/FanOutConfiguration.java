@@ -0,0 +1,40 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+
+import reactor.util.concurrent.Queues;
+
+/**
+ * Controls how many auxiliary requests (e.g. the service plan and offering of every listed service instance) are sent in parallel while
+ * a listing is being assembled.
+ *
+ */
+@Value.Immutable
+public interface FanOutConfiguration {
+
+    /**
+     * The maximum number of auxiliary requests in flight at the same time.
+     */
+    @Value.Default
+    default int getConcurrency() {
+        return Queues.SMALL_BUFFER_SIZE;
+    }
+
+    /**
+     * The number of resources requested in advance from the underlying listing.
+     */
+    @Value.Default
+    default int getPrefetch() {
+        return Queues.XS_BUFFER_SIZE;
+    }
+
+    /**
+     * Whether the results are emitted in the order of the listing. Otherwise they are emitted as soon as their auxiliary content is
+     * available.
+     */
+    @Value.Default
+    default boolean isOrdered() {
+        return false;
+    }
+
+}
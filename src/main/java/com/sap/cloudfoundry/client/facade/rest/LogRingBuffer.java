@@ -0,0 +1,165 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog.MessageType;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCompactApplicationLog;
+
+/**
+ * Keeps the newest logs of an application in a buffer of fixed size outside of the Java heap, oldest first. When a log does not fit, the
+ * oldest logs are evicted to make room for it. The logs must be appended in the order of their timestamps. Not thread-safe.
+ * <p>
+ * Every log is a record of its length, its timestamp, its message type, the length of its source name, its source name and its message.
+ * A record never wraps around the end of the buffer. If it does not fit before the end, the rest of the buffer is skipped, which is
+ * marked in place of the length of the next record when there is room for it.
+ *
+ */
+class LogRingBuffer {
+
+    private static final int TIMESTAMP_OFFSET = Integer.BYTES;
+    private static final int MESSAGE_TYPE_OFFSET = TIMESTAMP_OFFSET + Long.BYTES;
+    private static final int SOURCE_NAME_LENGTH_OFFSET = MESSAGE_TYPE_OFFSET + Byte.BYTES;
+    private static final int HEADER_SIZE = SOURCE_NAME_LENGTH_OFFSET + Short.BYTES;
+    private static final int WRAP_MARKER = -1;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+    private final ByteBuffer buffer;
+    private int head;
+    private int tail;
+    private int count;
+    private long evictedUntil = Long.MIN_VALUE;
+
+    LogRingBuffer(int capacity) {
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * @return whether the log was appended, which it is not if it is larger than the whole buffer
+     */
+    boolean append(long timestamp, MessageType messageType, byte[] sourceName, byte[] message) {
+        int length = HEADER_SIZE + sourceName.length + message.length;
+        if (length > buffer.capacity() || sourceName.length > Short.MAX_VALUE) {
+            return false;
+        }
+        int position = reserve(length);
+        buffer.putInt(position, length);
+        buffer.putLong(position + TIMESTAMP_OFFSET, timestamp);
+        buffer.put(position + MESSAGE_TYPE_OFFSET, (byte) messageType.ordinal());
+        buffer.putShort(position + SOURCE_NAME_LENGTH_OFFSET, (short) sourceName.length);
+        buffer.position(position + HEADER_SIZE);
+        buffer.put(sourceName);
+        buffer.put(message);
+        tail = position + length;
+        count++;
+        return true;
+    }
+
+    /**
+     * Evicts the logs which are older than the timestamp.
+     */
+    void evictOlderThan(long timestamp) {
+        while (count > 0 && buffer.getLong(head + TIMESTAMP_OFFSET) < timestamp) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * @return the newest timestamp of the evicted logs, or {@link Long#MIN_VALUE} if no log was evicted yet
+     */
+    long getEvictedUntil() {
+        return evictedUntil;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the newest logs which are newer than the timestamp, at most as many as the limit, oldest first
+     */
+    List<ApplicationLog> read(String applicationGuid, long afterTimestamp, int limit) {
+        int[] positions = new int[Math.min(limit, count)];
+        int matches = 0;
+        int position = head;
+        for (int i = 0; i < count; i++) {
+            position = skipWrap(position);
+            if (buffer.getLong(position + TIMESTAMP_OFFSET) > afterTimestamp && positions.length > 0) {
+                positions[matches++ % positions.length] = position;
+            }
+            position += buffer.getInt(position);
+        }
+        int kept = Math.min(matches, positions.length);
+        List<ApplicationLog> logs = new ArrayList<>(kept);
+        byte[] scratch = new byte[256];
+        for (int i = matches - kept; i < matches; i++) {
+            int recordPosition = positions[i % positions.length];
+            scratch = ensureCapacity(scratch, buffer.getInt(recordPosition));
+            logs.add(readLog(applicationGuid, recordPosition, scratch));
+        }
+        return logs;
+    }
+
+    private ApplicationLog readLog(String applicationGuid, int position, byte[] scratch) {
+        int length = buffer.getInt(position);
+        long timestamp = buffer.getLong(position + TIMESTAMP_OFFSET);
+        MessageType messageType = MESSAGE_TYPES[buffer.get(position + MESSAGE_TYPE_OFFSET)];
+        int sourceNameLength = buffer.getShort(position + SOURCE_NAME_LENGTH_OFFSET);
+        int messageLength = length - HEADER_SIZE - sourceNameLength;
+        buffer.position(position + HEADER_SIZE);
+        buffer.get(scratch, 0, sourceNameLength + messageLength);
+        String sourceName = new String(scratch, 0, sourceNameLength, StandardCharsets.UTF_8);
+        String message = new String(scratch, sourceNameLength, messageLength, StandardCharsets.UTF_8);
+        return ImmutableCompactApplicationLog.of(applicationGuid, message, timestamp, messageType, sourceName);
+    }
+
+    private int reserve(int length) {
+        while (count > 0) {
+            int position = tail + length <= buffer.capacity() ? tail : 0;
+            if (isFree(position, length)) {
+                if (position < tail && tail + Integer.BYTES <= buffer.capacity()) {
+                    buffer.putInt(tail, WRAP_MARKER);
+                }
+                return position;
+            }
+            evictOldest();
+        }
+        head = 0;
+        tail = 0;
+        return 0;
+    }
+
+    private boolean isFree(int position, int length) {
+        int end = position + length;
+        if (head < tail) {
+            // The records are between the head and the tail
+            return position >= tail || end <= head;
+        }
+        // The records are from the head to the end of the buffer, and from its start to the tail
+        return position >= tail && end <= head;
+    }
+
+    private void evictOldest() {
+        evictedUntil = Math.max(evictedUntil, buffer.getLong(head + TIMESTAMP_OFFSET));
+        head += buffer.getInt(head);
+        count--;
+        if (count > 0) {
+            head = skipWrap(head);
+        }
+    }
+
+    private int skipWrap(int position) {
+        if (position + Integer.BYTES > buffer.capacity() || buffer.getInt(position) == WRAP_MARKER) {
+            return 0;
+        }
+        return position;
+    }
+
+    private static byte[] ensureCapacity(byte[] scratch, int size) {
+        return scratch.length >= size ? scratch : new byte[Math.max(size, scratch.length * 2)];
+    }
+
+}
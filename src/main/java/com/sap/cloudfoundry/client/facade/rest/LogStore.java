@@ -0,0 +1,188 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import com.sap.cloudfoundry.client.facade.adapters.ApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.LogCacheClient;
+import com.sap.cloudfoundry.client.facade.adapters.RawApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the recent logs of applications from a {@link LogRingBuffer} per application. The first read of an application fills its buffer
+ * with the newest page of its logs. Every later read first fetches the logs which are newer than the newest stored log of the
+ * application, so only new logs are downloaded from the log cache. Reads with an offset before
+ * the oldest log which is still stored go to the log cache, as do the first reads with offsets older than the maximum age of the logs.
+ * <p>
+ * Like the log tailing, the store follows the newest timestamp it fetched. A log which reaches the log cache only after a newer log of the
+ * same application was stored is not served from the store.
+ *
+ */
+class LogStore {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher;
+    private final BiFunction<UUID, LocalDateTime, Flux<ApplicationLog>> recentLogsFetcher;
+    private final LogStoreConfiguration configuration;
+    private final Map<UUID, StoredApplication> applications;
+
+    /**
+     * @param logsFetcher returns all logs of an application after an offset, oldest first, while they are read
+     * @param recentLogsFetcher returns the recent logs of an application from the log cache, oldest first. Fills the store of an application
+     *        on its first read, and serves the offsets which the store does not cover
+     */
+    LogStore(BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher,
+             BiFunction<UUID, LocalDateTime, Flux<ApplicationLog>> recentLogsFetcher, LogStoreConfiguration configuration) {
+        this.logsFetcher = logsFetcher;
+        this.recentLogsFetcher = recentLogsFetcher;
+        this.configuration = configuration;
+        this.applications = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, StoredApplication> eldest) {
+                return size() > configuration.getMaxApplications();
+            }
+
+        };
+    }
+
+    /**
+     * @return the newest {@value LogCacheClient#RECENT_LOGS_LIMIT} logs of the application after the offset, oldest first
+     */
+    Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset) {
+        return Flux.defer(() -> {
+            long offsetInNanos = toEpochNanos(offset);
+            StoredApplication application = getOrCreateApplication(applicationGuid, offsetInNanos);
+            if (!application.covers(offsetInNanos)) {
+                return recentLogsFetcher.apply(applicationGuid, offset);
+            }
+            return application.refresh()
+                              .thenMany(Flux.defer(() -> application.read(offsetInNanos)
+                                                                    .map(Flux::fromIterable)
+                                                                    .orElseGet(() -> recentLogsFetcher.apply(applicationGuid, offset))));
+        });
+    }
+
+    int getStoredApplicationCount() {
+        synchronized (applications) {
+            return applications.size();
+        }
+    }
+
+    private StoredApplication getOrCreateApplication(UUID applicationGuid, long offsetInNanos) {
+        synchronized (applications) {
+            return applications.computeIfAbsent(applicationGuid,
+                                                guid -> new StoredApplication(guid, Math.max(offsetInNanos, getExpiryInNanos())));
+        }
+    }
+
+    private long getExpiryInNanos() {
+        return toEpochNanos(Instant.now()) - configuration.getMaxAge()
+                                                          .toNanos();
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return toEpochNanos(dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long timestampInNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestampInNanos, NANOS_PER_SECOND),
+                                           (int) Math.floorMod(timestampInNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private class StoredApplication {
+
+        private final UUID applicationGuid;
+        private final LogRingBuffer buffer;
+        // The store has the newest logs which are newer than this timestamp, and not newer than the cursor, unless they were evicted
+        private long filledFrom;
+        private long cursor;
+        private boolean filled;
+        private Mono<Void> refresh;
+
+        StoredApplication(UUID applicationGuid, long filledFrom) {
+            this.applicationGuid = applicationGuid;
+            this.buffer = new LogRingBuffer(configuration.getMaxBytesPerApplication());
+            this.filledFrom = filledFrom;
+            this.cursor = filledFrom;
+        }
+
+        synchronized boolean covers(long offsetInNanos) {
+            buffer.evictOlderThan(getExpiryInNanos());
+            return offsetInNanos >= Math.max(filledFrom, buffer.getEvictedUntil());
+        }
+
+        /**
+         * Fetches the newest page of logs on the first refresh, and the logs after the cursor on the later ones. Concurrent reads of the
+         * application share the same fetch.
+         */
+        synchronized Mono<Void> refresh() {
+            if (refresh == null) {
+                refresh = fetchLogs().doOnNext(this::append)
+                                     .then()
+                                     .doFinally(signalType -> clearRefresh())
+                                     .cache();
+            }
+            return refresh;
+        }
+
+        synchronized Optional<List<ApplicationLog>> read(long offsetInNanos) {
+            if (!covers(offsetInNanos)) {
+                return Optional.empty();
+            }
+            return Optional.of(buffer.read(applicationGuid.toString(), offsetInNanos, LogCacheClient.RECENT_LOGS_LIMIT));
+        }
+
+        private Flux<ApplicationLog> fetchLogs() {
+            if (!filled) {
+                // Later logs are fetched after the newest one of the page, so the store never holds more than the newest page at first
+                return recentLogsFetcher.apply(applicationGuid, toDateTime(cursor))
+                                        .doOnComplete(this::markFilled);
+            }
+            return logsFetcher.apply(applicationGuid, toDateTime(cursor))
+                              .map(RawApplicationLog::deriveCompact);
+        }
+
+        private synchronized void markFilled() {
+            filled = true;
+        }
+
+        private synchronized void clearRefresh() {
+            refresh = null;
+        }
+
+        private synchronized void append(ApplicationLog applicationLog) {
+            long timestamp = applicationLog.getTimestampInNanoseconds();
+            if (timestamp < cursor) {
+                return;
+            }
+            byte[] sourceName = applicationLog.getSourceName()
+                                              .getBytes(StandardCharsets.UTF_8);
+            byte[] message = applicationLog.getMessage()
+                                           .getBytes(StandardCharsets.UTF_8);
+            if (!buffer.append(timestamp, applicationLog.getMessageType(), sourceName, message)) {
+                // The log is larger than the whole buffer, so the logs up to it can no longer be served from the store
+                filledFrom = Math.max(filledFrom, timestamp);
+            }
+            cursor = timestamp;
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Controls the local store which keeps the recent logs of applications outside of the Java heap, so that repeated reads of their recent
+ * logs fetch only the logs which are new since the last read. At most {@link #getMaxApplications()} times
+ * {@link #getMaxBytesPerApplication()} bytes are allocated.
+ *
+ */
+@Value.Immutable
+public interface LogStoreConfiguration {
+
+    /**
+     * The size of the buffer of every application. When it is full, its oldest logs are evicted.
+     */
+    @Value.Default
+    default int getMaxBytesPerApplication() {
+        return 1024 * 1024;
+    }
+
+    /**
+     * How long logs are kept, measured from their timestamp.
+     */
+    @Value.Default
+    default Duration getMaxAge() {
+        return Duration.ofHours(1);
+    }
+
+    /**
+     * The maximum number of applications whose logs are kept. When it is exceeded, the application which was read the longest time ago is
+     * evicted.
+     */
+    @Value.Default
+    default int getMaxApplications() {
+        return 32;
+    }
+
+    @Value.Check
+    default void check() {
+        Assert.isTrue(getMaxBytesPerApplication() > 0, "Maximum bytes per application must be positive");
+        Assert.isTrue(!getMaxAge().isNegative() && !getMaxAge().isZero(), "Maximum age must be positive");
+        Assert.isTrue(getMaxApplications() > 0, "Maximum applications must be positive");
+    }
+
+}
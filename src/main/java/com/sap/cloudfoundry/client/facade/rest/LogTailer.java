@@ -0,0 +1,227 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiFunction;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.adapters.ApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.RawApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Pushes the logs of applications to listeners while they are produced. All tailed applications are polled from a single timer, with a
+ * bounded number of log cache requests at a time, and the listeners of an application share its polls. Each application is polled less
+ * often the longer it produces no logs, between the minimum and the maximum poll interval.
+ * <p>
+ * Every application has a cursor at the timestamp of its newest log. The next poll reads the logs with that timestamp again, so that logs
+ * which arrive late within the same nanosecond are not lost, and skips the ones which were already pushed.
+ * <p>
+ * A single tailer may serve many clients. The logs of every application are fetched through the client which tails it, and two clients
+ * which tail the same application poll it separately, as they may see different logs.
+ *
+ */
+public class LogTailer {
+
+    private static final Duration DEFAULT_MINIMUM_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAXIMUM_POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Duration minimumPollInterval;
+    private final Duration maximumPollInterval;
+    private final Scheduler scheduler;
+    private final Map<TailKey, TailedApplication> applications = new ConcurrentHashMap<>();
+    private Disposable poller;
+
+    public LogTailer() {
+        this(DEFAULT_MINIMUM_POLL_INTERVAL, DEFAULT_MAXIMUM_POLL_INTERVAL, Schedulers.parallel());
+    }
+
+    LogTailer(Duration minimumPollInterval, Duration maximumPollInterval, Scheduler scheduler) {
+        this.minimumPollInterval = minimumPollInterval;
+        this.maximumPollInterval = maximumPollInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Pushes the logs which the application produces from now on to the listener, until the returned handle is disposed or a poll fails.
+     * Disposing the handle completes the listener.
+     *
+     * @param logsFetcher returns all logs of an application after an offset, ordered by their timestamp, through the log cache client of
+     *        one client; the listeners of an application which share a fetcher share its polls
+     */
+    Disposable tail(BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher, UUID applicationGuid,
+                    ApplicationLogListener listener) {
+        TailedApplication application;
+        synchronized (this) {
+            application = applications.computeIfAbsent(new TailKey(logsFetcher, applicationGuid), TailedApplication::new);
+            application.listeners.add(listener);
+            startPolling();
+        }
+        return () -> stopTailing(application, listener);
+    }
+
+    int getTailedApplicationCount() {
+        return applications.size();
+    }
+
+    private void stopTailing(TailedApplication application, ApplicationLogListener listener) {
+        synchronized (this) {
+            if (!application.listeners.remove(listener)) {
+                return;
+            }
+            if (application.listeners.isEmpty()) {
+                applications.remove(application.key, application);
+            }
+        }
+        listener.onComplete();
+    }
+
+    private synchronized void startPolling() {
+        if (poller == null) {
+            poller = Flux.interval(minimumPollInterval, minimumPollInterval, scheduler)
+                         .onBackpressureDrop()
+                         .concatMap(tick -> pollDueApplications())
+                         .subscribe();
+        }
+    }
+
+    private synchronized void stopPollingIfIdle() {
+        if (applications.isEmpty() && poller != null) {
+            poller.dispose();
+            poller = null;
+        }
+    }
+
+    private Mono<Void> pollDueApplications() {
+        Instant now = Instant.now();
+        return Flux.fromIterable(applications.values())
+                   .filter(application -> !application.nextPoll.isAfter(now))
+                   .flatMap(this::poll, MAX_CONCURRENT_REQUESTS)
+                   .then(Mono.fromRunnable(this::stopPollingIfIdle));
+    }
+
+    private Mono<Void> poll(TailedApplication application) {
+        return application.key.logsFetcher.apply(application.key.applicationGuid, toDateTime(application.cursor - 1))
+                                          .filter(application::advance)
+                                          .doOnNext(application::push)
+                                          .count()
+                                          .doOnNext(count -> application.scheduleNextPoll(count > 0))
+                                          .doOnError(e -> fail(application, e))
+                                          .onErrorResume(e -> Mono.empty())
+                                          .then();
+    }
+
+    private void fail(TailedApplication application, Throwable error) {
+        synchronized (this) {
+            applications.remove(application.key, application);
+        }
+        for (ApplicationLogListener listener : application.listeners) {
+            listener.onError(error);
+        }
+    }
+
+    private static long nowInNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long timestampInNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(timestampInNanos, NANOS_PER_SECOND),
+                                           (int) Math.floorMod(timestampInNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private static class TailKey {
+
+        private final BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher;
+        private final UUID applicationGuid;
+
+        TailKey(BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher, UUID applicationGuid) {
+            this.logsFetcher = logsFetcher;
+            this.applicationGuid = applicationGuid;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof TailKey)) {
+                return false;
+            }
+            TailKey otherKey = (TailKey) other;
+            return logsFetcher == otherKey.logsFetcher && applicationGuid.equals(otherKey.applicationGuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(logsFetcher), applicationGuid);
+        }
+
+    }
+
+    private class TailedApplication {
+
+        private final TailKey key;
+        private final Set<ApplicationLogListener> listeners = new CopyOnWriteArraySet<>();
+        private final Set<ApplicationLogEntity> logsAtCursor = new HashSet<>();
+        private long cursor = nowInNanos();
+        private Duration pollInterval = minimumPollInterval;
+        private Instant nextPoll = Instant.now();
+
+        TailedApplication(TailKey key) {
+            this.key = key;
+        }
+
+        /**
+         * @return whether the log was not pushed yet
+         */
+        boolean advance(ApplicationLogEntity log) {
+            long timestamp = log.getTimestampInNanoseconds();
+            if (timestamp < cursor) {
+                return false;
+            }
+            if (timestamp > cursor) {
+                cursor = timestamp;
+                logsAtCursor.clear();
+            }
+            return logsAtCursor.add(log);
+        }
+
+        void push(ApplicationLogEntity log) {
+            ApplicationLog applicationLog = RawApplicationLog.deriveCompact(log);
+            for (ApplicationLogListener listener : listeners) {
+                listener.onMessage(applicationLog);
+            }
+        }
+
+        void scheduleNextPoll(boolean receivedLogs) {
+            if (receivedLogs) {
+                pollInterval = minimumPollInterval;
+            } else {
+                Duration doubled = pollInterval.multipliedBy(2);
+                pollInterval = doubled.compareTo(maximumPollInterval) <= 0 ? doubled : maximumPollInterval;
+            }
+            nextPoll = Instant.now()
+                              .plus(pollInterval);
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.apache.commons.io.IOUtils;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.Messages;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reads package archives in chunks, as they are requested by the connection which uploads them.
+ *
+ */
+final class PackageBits {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private PackageBits() {
+    }
+
+    static Flux<byte[]> fromFile(Path file) {
+        return Flux.using(() -> FileChannel.open(file, StandardOpenOption.READ),
+                          channel -> Flux.<byte[]> generate(sink -> readChunk(file, channel, sink)), IOUtils::closeQuietly)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static void readChunk(Path file, FileChannel channel, SynchronousSink<byte[]> sink) {
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        try {
+            while (chunk.hasRemaining() && channel.read(chunk) != -1) {
+                // Fills the whole chunk, unless the end of the file is reached
+            }
+        } catch (IOException e) {
+            sink.error(new CloudException(String.format(Messages.CANT_READ_APPLICATION_ARCHIVE, file, e.getMessage()), e));
+            return;
+        }
+        if (chunk.position() == 0) {
+            sink.complete();
+            return;
+        }
+        sink.next(chunk.position() == CHUNK_SIZE ? chunk.array() : Arrays.copyOf(chunk.array(), chunk.position()));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+
+/**
+ * Controls how the pages of a listing are requested. The first page is always requested alone, because it tells how many pages there
+ * are.
+ *
+ */
+@Value.Immutable
+public interface PaginationConfiguration {
+
+    /**
+     * The maximum number of pages after the first one which are requested at the same time.
+     */
+    @Value.Default
+    default int getConcurrency() {
+        return 4;
+    }
+
+    /**
+     * Whether the resources are emitted in the order of the listing. Otherwise each page is emitted as soon as it arrives.
+     */
+    @Value.Default
+    default boolean isOrdered() {
+        return true;
+    }
+
+}
@@ -0,0 +1,3199 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.AbstractCloudFoundryException;
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.DockerData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.Application;
+import org.cloudfoundry.client.v3.applications.ApplicationRelationships;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.CreateApplicationRequest;
+import org.cloudfoundry.client.v3.applications.CreateApplicationResponse;
+import org.cloudfoundry.client.v3.applications.DeleteApplicationRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentVariablesRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentVariablesResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationSshEnabledRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationSshEnabledResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationBuildsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationPackagesRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationRoutesRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ScaleApplicationRequest;
+import org.cloudfoundry.client.v3.applications.SetApplicationCurrentDropletRequest;
+import org.cloudfoundry.client.v3.applications.StartApplicationRequest;
+import org.cloudfoundry.client.v3.applications.StopApplicationRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationEnvironmentVariablesRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationFeatureRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationRequest;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.cloudfoundry.client.v3.builds.Build;
+import org.cloudfoundry.client.v3.builds.CreateBuildRequest;
+import org.cloudfoundry.client.v3.builds.GetBuildRequest;
+import org.cloudfoundry.client.v3.builds.ListBuildsRequest;
+import org.cloudfoundry.client.v3.domains.CreateDomainRequest;
+import org.cloudfoundry.client.v3.domains.DeleteDomainRequest;
+import org.cloudfoundry.client.v3.domains.Domain;
+import org.cloudfoundry.client.v3.domains.DomainRelationships;
+import org.cloudfoundry.client.v3.domains.DomainResource;
+import org.cloudfoundry.client.v3.domains.ListDomainsRequest;
+import org.cloudfoundry.client.v3.jobs.GetJobRequest;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationDefaultDomainRequest;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationRequest;
+import org.cloudfoundry.client.v3.organizations.ListOrganizationDomainsRequest;
+import org.cloudfoundry.client.v3.organizations.ListOrganizationsRequest;
+import org.cloudfoundry.client.v3.organizations.Organization;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.cloudfoundry.client.v3.packages.CopyPackageRequest;
+import org.cloudfoundry.client.v3.packages.CreatePackageRequest;
+import org.cloudfoundry.client.v3.packages.GetPackageRequest;
+import org.cloudfoundry.client.v3.packages.ListPackagesRequest;
+import org.cloudfoundry.client.v3.packages.Package;
+import org.cloudfoundry.client.v3.packages.PackageRelationships;
+import org.cloudfoundry.client.v3.packages.PackageResource;
+import org.cloudfoundry.client.v3.packages.PackageType;
+import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
+import org.cloudfoundry.client.v3.processes.Data;
+import org.cloudfoundry.client.v3.processes.HealthCheck;
+import org.cloudfoundry.client.v3.processes.HealthCheckType;
+import org.cloudfoundry.client.v3.processes.UpdateProcessRequest;
+import org.cloudfoundry.client.v3.roles.ListRolesRequest;
+import org.cloudfoundry.client.v3.roles.RoleResource;
+import org.cloudfoundry.client.v3.roles.RoleType;
+import org.cloudfoundry.client.v3.routes.CreateRouteRequest;
+import org.cloudfoundry.client.v3.routes.DeleteRouteRequest;
+import org.cloudfoundry.client.v3.routes.Destination;
+import org.cloudfoundry.client.v3.routes.InsertRouteDestinationsRequest;
+import org.cloudfoundry.client.v3.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v3.routes.RemoveRouteDestinationsRequest;
+import org.cloudfoundry.client.v3.routes.RouteRelationships;
+import org.cloudfoundry.client.v3.routes.RouteResource;
+import org.cloudfoundry.client.v3.servicebindings.CreateServiceBindingRequest;
+import org.cloudfoundry.client.v3.servicebindings.DeleteServiceBindingRequest;
+import org.cloudfoundry.client.v3.servicebindings.GetServiceBindingDetailsRequest;
+import org.cloudfoundry.client.v3.servicebindings.GetServiceBindingDetailsResponse;
+import org.cloudfoundry.client.v3.servicebindings.GetServiceBindingParametersRequest;
+import org.cloudfoundry.client.v3.servicebindings.GetServiceBindingParametersResponse;
+import org.cloudfoundry.client.v3.servicebindings.ListServiceBindingsRequest;
+import org.cloudfoundry.client.v3.servicebindings.ServiceBindingRelationships;
+import org.cloudfoundry.client.v3.servicebindings.ServiceBindingResource;
+import org.cloudfoundry.client.v3.servicebindings.ServiceBindingType;
+import org.cloudfoundry.client.v3.servicebrokers.BasicAuthentication;
+import org.cloudfoundry.client.v3.servicebrokers.CreateServiceBrokerRequest;
+import org.cloudfoundry.client.v3.servicebrokers.DeleteServiceBrokerRequest;
+import org.cloudfoundry.client.v3.servicebrokers.ListServiceBrokersRequest;
+import org.cloudfoundry.client.v3.servicebrokers.ServiceBrokerRelationships;
+import org.cloudfoundry.client.v3.servicebrokers.ServiceBrokerResource;
+import org.cloudfoundry.client.v3.servicebrokers.UpdateServiceBrokerRequest;
+import org.cloudfoundry.client.v3.serviceinstances.CreateServiceInstanceRequest;
+import org.cloudfoundry.client.v3.serviceinstances.DeleteServiceInstanceRequest;
+import org.cloudfoundry.client.v3.serviceinstances.GetManagedServiceParametersRequest;
+import org.cloudfoundry.client.v3.serviceinstances.GetManagedServiceParametersResponse;
+import org.cloudfoundry.client.v3.serviceinstances.GetServiceInstanceRequest;
+import org.cloudfoundry.client.v3.serviceinstances.GetUserProvidedCredentialsRequest;
+import org.cloudfoundry.client.v3.serviceinstances.GetUserProvidedCredentialsResponse;
+import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstance;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceRelationships;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceType;
+import org.cloudfoundry.client.v3.serviceinstances.UpdateServiceInstanceRequest;
+import org.cloudfoundry.client.v3.serviceofferings.GetServiceOfferingRequest;
+import org.cloudfoundry.client.v3.serviceofferings.ListServiceOfferingsRequest;
+import org.cloudfoundry.client.v3.serviceofferings.ServiceOffering;
+import org.cloudfoundry.client.v3.serviceofferings.ServiceOfferingResource;
+import org.cloudfoundry.client.v3.serviceplans.GetServicePlanRequest;
+import org.cloudfoundry.client.v3.serviceplans.ListServicePlansRequest;
+import org.cloudfoundry.client.v3.serviceplans.ServicePlan;
+import org.cloudfoundry.client.v3.serviceplans.ServicePlanResource;
+import org.cloudfoundry.client.v3.serviceplans.UpdateServicePlanVisibilityRequest;
+import org.cloudfoundry.client.v3.serviceplans.Visibility;
+import org.cloudfoundry.client.v3.spaces.DeleteUnmappedRoutesRequest;
+import org.cloudfoundry.client.v3.spaces.GetSpaceRequest;
+import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v3.spaces.Space;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.cloudfoundry.client.v3.stacks.ListStacksRequest;
+import org.cloudfoundry.client.v3.stacks.Stack;
+import org.cloudfoundry.client.v3.tasks.CancelTaskRequest;
+import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
+import org.cloudfoundry.client.v3.tasks.GetTaskRequest;
+import org.cloudfoundry.client.v3.tasks.ListTasksRequest;
+import org.cloudfoundry.client.v3.tasks.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.Constants;
+import com.sap.cloudfoundry.client.facade.Messages;
+import com.sap.cloudfoundry.client.facade.ReactiveCloudControllerClient;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.adapters.ApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawApplicationLog;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudApplication;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudAsyncJob;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudBuild;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudDomain;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudEvent;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudOrganization;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudPackage;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudProcess;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudRoute;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServiceKey;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudServicePlan;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudSpace;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudStack;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudTask;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawInstancesInfo;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawSideLoadedCloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawUserRole;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawV3CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse.IncludedServiceOffering;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse.IncludedServicePlan;
+import com.sap.cloudfoundry.client.facade.adapters.ListSpacesWithOrganizationsResponse;
+import com.sap.cloudfoundry.client.facade.adapters.LogCacheClient;
+import com.sap.cloudfoundry.client.facade.adapters.RawApplicationLog;
+import com.sap.cloudfoundry.client.facade.adapters.RawCloudSpace;
+import com.sap.cloudfoundry.client.facade.adapters.RawSideLoadedCloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatchingClient;
+import com.sap.cloudfoundry.client.facade.adapters.SideLoadingClient;
+import com.sap.cloudfoundry.client.facade.adapters.StreamingUploadClient;
+import com.sap.cloudfoundry.client.facade.archive.ApplicationArchive;
+import com.sap.cloudfoundry.client.facade.archive.DirectoryApplicationArchive;
+import com.sap.cloudfoundry.client.facade.archive.ZipStreamer;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.BitsData;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudAsyncJob;
+import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
+import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudMetadata;
+import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudProcess;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceKey;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.domain.CloudServicePlan;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.CloudStack;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.Derivable;
+import com.sap.cloudfoundry.client.facade.domain.DockerCredentials;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.ErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableBulkDeleteResult;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableDropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableInstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableUpload;
+import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.ServicePlanVisibility;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+import com.sap.cloudfoundry.client.facade.domain.Status;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+import com.sap.cloudfoundry.client.facade.domain.UserRole;
+import com.sap.cloudfoundry.client.facade.util.JobTracker;
+import com.sap.cloudfoundry.client.facade.util.ParallelPaginator;
+import com.sap.cloudfoundry.client.facade.util.UriUtil;
+import reactor.core.Disposable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive implementation of the cloud controller operations. None of the methods block, so the blocking
+ * {@link CloudControllerRestClientImpl} is built on top of this class.
+ *
+ */
+public class ReactiveCloudControllerRestClientImpl implements ReactiveCloudControllerClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveCloudControllerRestClientImpl.class);
+    private static final int LOGS_MERGE_PREFETCH = 256;
+    private static final Duration DELETE_JOB_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration BINDING_OPERATIONS_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration ASYNC_JOB_TIMEOUT = Duration.ofMinutes(30);
+    private static final int MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST = 4000;
+    private static final List<String> CHARS_TO_ENCODE = List.of(",");
+    private static final int APPLICATION_GUID_CACHE_MAXIMUM_SIZE = 1000;
+
+    private final CloudSpace target;
+    private final CloudFoundryClient delegate;
+    private final LogCacheClient logCacheClient;
+    private final SideLoadingClient sideLoadingClient;
+    private final ResourceMatchingUploader resourceMatchingUploader;
+    private final StreamingUploadClient streamingUploadClient;
+    private final CloudControllerRestClientConfiguration configuration;
+    private final ParallelPaginator paginator;
+    private final JobTracker jobTracker;
+    private final UploadMonitor uploadMonitor;
+    private final Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher = this::getUploadStatuses;
+    private final LogTailer logTailer;
+    private final BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher;
+    private final LogStore logStore;
+    private final BandwidthLimiter bandwidthLimiter;
+    private final UploadScheduler uploadScheduler;
+    private final Map<String, UUID> applicationGuids = createApplicationGuidCache();
+
+    public ReactiveCloudControllerRestClientImpl(CloudFoundryClient delegate, LogCacheClient logCacheClient, CloudSpace target) {
+        this(delegate, logCacheClient, target, ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                             .build());
+    }
+
+    public ReactiveCloudControllerRestClientImpl(CloudFoundryClient delegate, LogCacheClient logCacheClient, CloudSpace target,
+                                                 CloudControllerRestClientConfiguration configuration) {
+        this(delegate, logCacheClient, null, target, configuration);
+    }
+
+    /**
+     * @param sideLoadingClient used to list spaces and service instances with their auxiliary content in one request per page; when
+     *        {@code null}, the auxiliary content is fetched separately for each listed resource
+     */
+    public ReactiveCloudControllerRestClientImpl(CloudFoundryClient delegate, LogCacheClient logCacheClient,
+                                                 SideLoadingClient sideLoadingClient, CloudSpace target,
+                                                 CloudControllerRestClientConfiguration configuration) {
+        this(delegate, logCacheClient, sideLoadingClient, null, target, configuration);
+    }
+
+    /**
+     * @param resourceMatchingClient used to upload only those application files which are not in the resource cache of the cloud
+     *        controller; when {@code null}, or when there is no {@link StreamingUploadClient}, the whole application archive is uploaded
+     */
+    public ReactiveCloudControllerRestClientImpl(CloudFoundryClient delegate, LogCacheClient logCacheClient,
+                                                 SideLoadingClient sideLoadingClient, ResourceMatchingClient resourceMatchingClient,
+                                                 CloudSpace target, CloudControllerRestClientConfiguration configuration) {
+        this(delegate, logCacheClient, sideLoadingClient, resourceMatchingClient, null, target, configuration);
+    }
+
+    /**
+     * @param streamingUploadClient used to report the progress of uploads, and to upload application directories while they are zipped
+     *        when the configuration enables it; when {@code null}, directories are zipped to a temporary file first and no progress is
+     *        reported
+     */
+    public ReactiveCloudControllerRestClientImpl(CloudFoundryClient delegate, LogCacheClient logCacheClient,
+                                                 SideLoadingClient sideLoadingClient, ResourceMatchingClient resourceMatchingClient,
+                                                 StreamingUploadClient streamingUploadClient, CloudSpace target,
+                                                 CloudControllerRestClientConfiguration configuration) {
+        Assert.notNull(configuration, "Configuration cannot be null");
+        this.delegate = delegate;
+        this.logCacheClient = logCacheClient;
+        this.sideLoadingClient = sideLoadingClient;
+        UploadSchedulingConfiguration uploadSchedulingConfiguration = configuration.getUploadSchedulingConfiguration();
+        this.bandwidthLimiter = new BandwidthLimiter(uploadSchedulingConfiguration.getMaxBytesPerSecond()
+                                                                                  .orElse(BandwidthLimiter.UNLIMITED),
+                                                     Schedulers.parallel());
+        this.uploadScheduler = new UploadScheduler(uploadSchedulingConfiguration.getConcurrency(),
+                                                   ReactiveCloudControllerRestClientImpl::estimateUploadSize, Schedulers.boundedElastic());
+        this.resourceMatchingUploader = createResourceMatchingUploader(resourceMatchingClient, streamingUploadClient, bandwidthLimiter,
+                                                                       configuration);
+        this.streamingUploadClient = streamingUploadClient;
+        this.target = target;
+        this.configuration = configuration;
+        PaginationConfiguration paginationConfiguration = configuration.getPaginationConfiguration();
+        this.paginator = new ParallelPaginator(paginationConfiguration.getConcurrency(), paginationConfiguration.isOrdered());
+        this.jobTracker = configuration.getJobTracker();
+        this.uploadMonitor = configuration.getUploadMonitor();
+        this.logTailer = configuration.getLogTailer();
+        this.logsFetcher = (applicationGuid, offset) -> logCacheClient.streamLogs(applicationGuid, offset);
+        this.logStore = configuration.getLogStoreConfiguration()
+                                     .map(logStoreConfiguration -> new LogStore(logCacheClient::streamLogs,
+                                                                                this::getRecentLogsFromLogCache, logStoreConfiguration))
+                                     .orElse(null);
+    }
+
+    /**
+     * Application GUIDs by name, of which the least recently used are dropped once the cache is full.
+     */
+    private static Map<String, UUID> createApplicationGuidCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UUID> eldest) {
+                return size() > APPLICATION_GUID_CACHE_MAXIMUM_SIZE;
+            }
+
+        });
+    }
+
+    private static ResourceMatchingUploader createResourceMatchingUploader(ResourceMatchingClient resourceMatchingClient,
+                                                                           StreamingUploadClient streamingUploadClient,
+                                                                           BandwidthLimiter bandwidthLimiter,
+                                                                           CloudControllerRestClientConfiguration configuration) {
+        if (resourceMatchingClient == null || streamingUploadClient == null) {
+            return null;
+        }
+        return new ResourceMatchingUploader(resourceMatchingClient, streamingUploadClient, bandwidthLimiter, configuration.getDigestCache()
+                                                                                                                          .orElse(null));
+    }
+
+    public CloudSpace getTarget() {
+        return target;
+    }
+
+    @Override
+    public Mono<Void> addDomain(String domainName) {
+        assertSpaceProvided("add domain");
+        return findDomainByName(domainName).hasElement()
+                                           .flatMap(exists -> exists ? Mono.empty() : doCreateDomain(domainName));
+    }
+
+    @Override
+    public Mono<Void> addRoute(String host, String domainName, String path) {
+        assertSpaceProvided("add route for domain");
+        return getRequiredDomainGuid(domainName).flatMap(domainGuid -> doAddRoute(domainGuid, host, path))
+                                                .then();
+    }
+
+    @Override
+    public Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName) {
+        return bindServiceInstance(applicationName, serviceInstanceName, null);
+    }
+
+    @Override
+    public Mono<String> bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters) {
+        return withApplicationGuid(applicationName,
+                                   applicationGuid -> getRequiredServiceInstanceGuid(serviceInstanceName).flatMap(serviceInstanceGuid -> doBindServiceInstance(applicationGuid,
+                                                                                                                                                             serviceInstanceGuid,
+                                                                                                                                                             parameters)));
+    }
+
+    private Mono<String> doBindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid, Map<String, Object> parameters) {
+        var createBindingRequest = CreateServiceBindingRequest.builder()
+                                                              .type(ServiceBindingType.APPLICATION)
+                                                              .relationships(ServiceBindingRelationships.builder()
+                                                                                                        .application(buildToOneRelationship(applicationGuid))
+                                                                                                        .serviceInstance(buildToOneRelationship(serviceInstanceGuid))
+                                                                                                        .build());
+        if (!CollectionUtils.isEmpty(parameters)) {
+            createBindingRequest.parameters(parameters);
+        }
+        return delegate.serviceBindingsV3()
+                       .create(createBindingRequest.build())
+                       .flatMap(response -> Mono.justOrEmpty(response.getJobId()));
+    }
+
+    @Override
+    public Mono<Void> createApplication(String name, Staging staging, Integer disk, Integer memory, Metadata metadata,
+                                        Set<CloudRoute> routes) {
+        assertSpaceProvided("create application");
+        CreateApplicationRequest applicationRequest = createApplicationRequestBuilder(name,
+                                                                                      metadata).lifecycle(buildApplicationLifecycle(staging))
+                                                                                               .build();
+        return doCreateApplication(staging, disk, memory, routes, applicationRequest);
+    }
+
+    private Lifecycle buildApplicationLifecycle(Staging staging) {
+        return staging.getDockerInfo() != null ? createDockerLifecycle() : createBuildpackLifecycle(staging);
+    }
+
+    private Mono<Void> doCreateApplication(Staging staging, Integer disk, Integer memory, Set<CloudRoute> routes,
+                                           CreateApplicationRequest applicationRequest) {
+        return delegate.applicationsV3()
+                       .create(applicationRequest)
+                       .doOnNext(createApplicationResponse -> applicationGuids.put(createApplicationResponse.getName(),
+                                                                                   UUID.fromString(createApplicationResponse.getId())))
+                       .flatMap(createApplicationResponse -> updateApplicationAttributes(staging, disk, memory, routes,
+                                                                                         createApplicationResponse));
+    }
+
+    private CreateApplicationRequest.Builder createApplicationRequestBuilder(String name, Metadata metadata) {
+        return CreateApplicationRequest.builder()
+                                       .name(name)
+                                       .metadata(metadata)
+                                       .relationships(buildApplicationRelationships());
+    }
+
+    private BuildpackData createBuildpackData(Staging staging) {
+        BuildpackData.Builder buildpackDataBuilder = BuildpackData.builder()
+                                                                  .stack(staging.getStackName());
+        if (staging.getBuildpacks() != null) {
+            buildpackDataBuilder.addAllBuildpacks(staging.getBuildpacks());
+        }
+        return buildpackDataBuilder.build();
+    }
+
+    private Mono<Void> updateApplicationAttributes(Staging staging, Integer disk, Integer memory, Set<CloudRoute> routes,
+                                                   CreateApplicationResponse createApplicationResponse) {
+        UUID createdApplicationGuid = UUID.fromString(createApplicationResponse.getId());
+        Mono<Void> routesUpdate = CollectionUtils.isEmpty(routes) ? Mono.empty() : addRoutes(routes, createdApplicationGuid);
+        return getApplicationProcessResource(createdApplicationGuid).flatMap(applicationProcess -> updateApplicationProcess(createdApplicationGuid,
+                                                                                                                          staging,
+                                                                                                                          applicationProcess))
+                                                                    .then(delegate.applicationsV3()
+                                                                                  .scale(ScaleApplicationRequest.builder()
+                                                                                                                .applicationId(createdApplicationGuid.toString())
+                                                                                                                .type("web")
+                                                                                                                .memoryInMb(memory)
+                                                                                                                .diskInMb(disk)
+                                                                                                                .build()))
+                                                                    .then(routesUpdate);
+    }
+
+    private Lifecycle createBuildpackLifecycle(Staging staging) {
+        BuildpackData buildpackData = createBuildpackData(staging);
+        return Lifecycle.builder()
+                        .type(LifecycleType.BUILDPACK)
+                        .data(buildpackData)
+                        .build();
+    }
+
+    private Lifecycle createDockerLifecycle() {
+        return Lifecycle.builder()
+                        .type(LifecycleType.DOCKER)
+                        .data(DockerData.builder()
+                                        .build())
+                        .build();
+    }
+
+    private ApplicationRelationships buildApplicationRelationships() {
+        return ApplicationRelationships.builder()
+                                       .space(buildToOneRelationship(getTargetSpaceGuid()))
+                                       .build();
+    }
+
+    private Mono<GetApplicationProcessResponse> getApplicationProcessResource(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .getProcess(GetApplicationProcessRequest.builder()
+                                                               .type("web")
+                                                               .applicationId(applicationGuid.toString())
+                                                               .build());
+    }
+
+    private Mono<Void> updateApplicationProcess(UUID applicationGuid, Staging staging, GetApplicationProcessResponse applicationProcess) {
+        Mono<Void> sshUpdate = staging.isSshEnabled() != null ? updateSsh(applicationGuid, staging.isSshEnabled()) : Mono.empty();
+        UpdateProcessRequest.Builder updateProcessRequestBuilder = UpdateProcessRequest.builder()
+                                                                                       .processId(applicationProcess.getId())
+                                                                                       .command(staging.getCommand());
+        if (staging.getHealthCheckType() != null) {
+            updateProcessRequestBuilder.healthCheck(buildHealthCheck(staging));
+        }
+        return sshUpdate.then(delegate.processes()
+                                      .update(updateProcessRequestBuilder.build()))
+                        .then();
+    }
+
+    private Mono<Void> updateSsh(UUID applicationGuid, boolean isSshEnabled) {
+        return delegate.applicationsV3()
+                       .updateFeature(UpdateApplicationFeatureRequest.builder()
+                                                                     .featureName("ssh")
+                                                                     .enabled(isSshEnabled)
+                                                                     .applicationId(applicationGuid.toString())
+                                                                     .build())
+                       .then();
+    }
+
+    private HealthCheck buildHealthCheck(Staging staging) {
+        HealthCheckType healthCheckType = HealthCheckType.from(staging.getHealthCheckType());
+        return HealthCheck.builder()
+                          .type(healthCheckType)
+                          .data(Data.builder()
+                                    .endpoint(staging.getHealthCheckHttpEndpoint())
+                                    .timeout(staging.getHealthCheckTimeout())
+                                    .invocationTimeout(staging.getInvocationTimeout())
+                                    .build())
+                          .build();
+    }
+
+    @Override
+    public Mono<Void> createServiceInstance(CloudServiceInstance serviceInstance) {
+        assertSpaceProvided("create service instance");
+        Assert.notNull(serviceInstance, "Service instance must not be null.");
+        return findPlanForService(serviceInstance, serviceInstance.getPlan()).flatMap(servicePlan -> doCreateServiceInstance(serviceInstance,
+                                                                                                                             servicePlan));
+    }
+
+    private Mono<Void> doCreateServiceInstance(CloudServiceInstance serviceInstance, CloudServicePlan servicePlan) {
+        UUID servicePlanGuid = getGuid(servicePlan);
+        return delegate.serviceInstancesV3()
+                       .create(CreateServiceInstanceRequest.builder()
+                                                           .type(ServiceInstanceType.MANAGED)
+                                                           .name(serviceInstance.getName())
+                                                           .relationships(ServiceInstanceRelationships.builder()
+                                                                                                      .servicePlan(buildToOneRelationship(servicePlanGuid.toString()))
+                                                                                                      .space(buildToOneRelationship(getTargetSpaceGuid().toString()))
+                                                                                                      .build())
+                                                           .tags(serviceInstance.getTags())
+                                                           .parameters(serviceInstance.getCredentials())
+                                                           .build())
+                       .then()
+                       .doOnSuccess(v -> invalidateServiceCatalogCache(servicePlan));
+    }
+
+    @Override
+    public Mono<String> createServiceBroker(CloudServiceBroker serviceBroker) {
+        Assert.notNull(serviceBroker, "Service broker must not be null.");
+
+        ServiceBrokerRelationships serviceBrokerRelationship = Optional.ofNullable(serviceBroker.getSpaceGuid())
+                                                                       .map(UUID::fromString)
+                                                                       .map(this::buildToOneRelationship)
+                                                                       .map(spaceRelationship -> ServiceBrokerRelationships.builder()
+                                                                                                                           .space(spaceRelationship)
+                                                                                                                           .build())
+                                                                       .orElse(null);
+
+        return delegate.serviceBrokersV3()
+                       .create(CreateServiceBrokerRequest.builder()
+                                                         .name(serviceBroker.getName())
+                                                         .url(serviceBroker.getUrl())
+                                                         .authentication(BasicAuthentication.builder()
+                                                                                            .username(serviceBroker.getUsername())
+                                                                                            .password(serviceBroker.getPassword())
+                                                                                            .build())
+                                                         .relationships(serviceBrokerRelationship)
+                                                         .build());
+    }
+
+    @Override
+    public Mono<CloudServiceKey> createAndFetchServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName).flatMap(serviceInstance -> doCreateServiceKeySync(keyModel.getName(),
+                                                                                                         keyModel.getCredentials(),
+                                                                                                         keyModel.getV3Metadata(),
+                                                                                                         serviceInstance).then(Mono.defer(() -> fetchMonoWithAuxiliaryContent(() -> getServiceKeyResourceByNameAndServiceInstanceGuid(keyModel.getName(),
+                                                                                                                                                                                                                                        getGuid(serviceInstance)),
+                                                                                                                                                                              fetchedKey -> zipWithAuxiliaryServiceKeyContent(fetchedKey,
+                                                                                                                                                                                                                              serviceInstance)))));
+    }
+
+    @Override
+    public Mono<String> createServiceKey(CloudServiceKey keyModel, String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName).flatMap(serviceInstance -> doCreateServiceKey(keyModel.getName(),
+                                                                                                     keyModel.getCredentials(),
+                                                                                                     keyModel.getV3Metadata(),
+                                                                                                     serviceInstance));
+    }
+
+    @Override
+    public Mono<String> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
+        return getServiceInstance(serviceInstanceName).flatMap(serviceInstance -> doCreateServiceKey(serviceKeyName, parameters, null,
+                                                                                                     serviceInstance));
+    }
+
+    private Mono<Void> doCreateServiceKeySync(String name, Map<String, Object> parameters, Metadata metadata,
+                                              CloudServiceInstance serviceInstance) {
+        return Mono.fromSupplier(() -> buildServiceCredentialBindingRequest(name, parameters, metadata, serviceInstance))
+                   .flatMap(createServiceBindingRequest -> delegate.serviceBindingsV3()
+                                                                   .create(createServiceBindingRequest))
+                   .map(response -> response.getJobId()
+                                            .get())
+                   .flatMap(jobId -> jobTracker.awaitJob(delegate, jobId, BINDING_OPERATIONS_TIMEOUT));
+    }
+
+    private Mono<String> doCreateServiceKey(String name, Map<String, Object> parameters, Metadata metadata,
+                                            CloudServiceInstance serviceInstance) {
+        return Mono.fromSupplier(() -> buildServiceCredentialBindingRequest(name, parameters, metadata, serviceInstance))
+                   .flatMap(createServiceBindingRequest -> delegate.serviceBindingsV3()
+                                                                   .create(createServiceBindingRequest))
+                   .flatMap(response -> Mono.justOrEmpty(response.getJobId()));
+    }
+
+    private CreateServiceBindingRequest buildServiceCredentialBindingRequest(String name, Map<String, Object> parameters, Metadata metadata,
+                                                                             CloudServiceInstance serviceInstance) {
+        if (serviceInstance.getType() != ServiceInstanceType.MANAGED) {
+            throw new IllegalArgumentException(String.format(Messages.CANT_CREATE_SERVICE_KEY_FOR_USER_PROVIDED_SERVICE,
+                                                             serviceInstance.getName()));
+        }
+        UUID serviceInstanceGuid = getGuid(serviceInstance);
+
+        var createBindingRequest = CreateServiceBindingRequest.builder()
+                                                              .type(ServiceBindingType.KEY)
+                                                              .name(name)
+                                                              .metadata(metadata)
+                                                              .relationships(ServiceBindingRelationships.builder()
+                                                                                                        .serviceInstance(buildToOneRelationship(serviceInstanceGuid))
+                                                                                                        .build());
+        if (!CollectionUtils.isEmpty(parameters)) {
+            createBindingRequest.parameters(parameters);
+        }
+        return createBindingRequest.build();
+    }
+
+    @Override
+    public Mono<Void> createUserProvidedServiceInstance(CloudServiceInstance serviceInstance) {
+        assertSpaceProvided("create service instance");
+        Assert.notNull(serviceInstance, "Service instance must not be null.");
+        String syslogDrainUrl = StringUtils.hasText(serviceInstance.getSyslogDrainUrl()) ? serviceInstance.getSyslogDrainUrl() : "";
+        return delegate.serviceInstancesV3()
+                       .create(CreateServiceInstanceRequest.builder()
+                                                           .name(serviceInstance.getName())
+                                                           .type(ServiceInstanceType.USER_PROVIDED)
+                                                           .credentials(serviceInstance.getCredentials())
+                                                           .syslogDrainUrl(syslogDrainUrl)
+                                                           .tags(serviceInstance.getTags())
+                                                           .relationships(ServiceInstanceRelationships.builder()
+                                                                                                      .space(buildToOneRelationship(getTargetSpaceGuid().toString()))
+                                                                                                      .build())
+                                                           .build())
+                       .then();
+    }
+
+    @Override
+    public Mono<Void> deleteAllApplications() {
+        return deleteApplicationsConcurrently().flatMap(ReactiveCloudControllerRestClientImpl::failOnFirstError);
+    }
+
+    @Override
+    public Mono<Void> deleteAllServiceInstances() {
+        return deleteServiceInstancesConcurrently().flatMap(ReactiveCloudControllerRestClientImpl::failOnFirstError);
+    }
+
+    @Override
+    public Mono<BulkDeleteResult> tryDeleteAllApplications() {
+        return deleteApplicationsConcurrently().map(ReactiveCloudControllerRestClientImpl::toBulkDeleteResult);
+    }
+
+    @Override
+    public Mono<BulkDeleteResult> tryDeleteAllServiceInstances() {
+        return deleteServiceInstancesConcurrently().map(ReactiveCloudControllerRestClientImpl::toBulkDeleteResult);
+    }
+
+    private Mono<List<DeletionOutcome>> deleteApplicationsConcurrently() {
+        return getApplicationIds().flatMap(guids -> deleteConcurrently(guids, this::submitApplicationDeletion))
+                                  .doFinally(signal -> applicationGuids.clear());
+    }
+
+    private Mono<List<DeletionOutcome>> deleteServiceInstancesConcurrently() {
+        return getServiceInstancesIds().flatMap(serviceInstanceGuids -> deleteConcurrently(serviceInstanceGuids,
+                                                                                           this::submitServiceInstanceDeletion));
+    }
+
+    /**
+     * Submits the deletions with bounded concurrency and waits for the resulting jobs in parallel, so that the whole operation takes about
+     * as long as the slowest job.
+     */
+    private Mono<List<DeletionOutcome>> deleteConcurrently(List<UUID> guids, Function<UUID, Mono<Optional<String>>> deletionSubmitter) {
+        return Flux.fromIterable(guids)
+                   .flatMap(guid -> deletionSubmitter.apply(guid)
+                                                     .map(jobId -> awaitDeletion(guid, jobId))
+                                                     .onErrorResume(e -> Mono.just(Mono.just(new DeletionOutcome(guid, e)))),
+                            configuration.getBulkDeleteConcurrency())
+                   .flatMap(Function.identity())
+                   .collectList();
+    }
+
+    private Mono<DeletionOutcome> awaitDeletion(UUID guid, Optional<String> jobId) {
+        return Mono.justOrEmpty(jobId)
+                   .flatMap(id -> jobTracker.awaitJob(delegate, id, DELETE_JOB_TIMEOUT))
+                   .then(Mono.fromSupplier(() -> new DeletionOutcome(guid, null)))
+                   .onErrorResume(e -> Mono.just(new DeletionOutcome(guid, e)));
+    }
+
+    private Mono<Optional<String>> submitApplicationDeletion(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .delete(DeleteApplicationRequest.builder()
+                                                       .applicationId(applicationGuid.toString())
+                                                       .build())
+                       .map(Optional::of);
+    }
+
+    private Mono<Optional<String>> submitServiceInstanceDeletion(UUID serviceInstanceGuid) {
+        return delegate.serviceInstancesV3()
+                       .delete(DeleteServiceInstanceRequest.builder()
+                                                           .serviceInstanceId(serviceInstanceGuid.toString())
+                                                           .build());
+    }
+
+    private static Mono<Void> failOnFirstError(List<DeletionOutcome> outcomes) {
+        return Flux.fromIterable(outcomes)
+                   .filter(outcome -> outcome.error != null)
+                   .next()
+                   .flatMap(outcome -> Mono.error(outcome.error));
+    }
+
+    private static BulkDeleteResult toBulkDeleteResult(List<DeletionOutcome> outcomes) {
+        ImmutableBulkDeleteResult.Builder builder = ImmutableBulkDeleteResult.builder();
+        for (DeletionOutcome outcome : outcomes) {
+            if (outcome.error == null) {
+                builder.addDeletedResource(outcome.guid);
+            } else {
+                builder.putFailedResource(outcome.guid, toErrorDetails(outcome.error));
+            }
+        }
+        return builder.build();
+    }
+
+    private static ErrorDetails toErrorDetails(Throwable error) {
+        ImmutableErrorDetails.Builder builder = ImmutableErrorDetails.builder()
+                                                                     .description(error.getMessage());
+        if (error instanceof AbstractCloudFoundryException) {
+            builder.code(((AbstractCloudFoundryException) error).getStatusCode());
+        } else if (error instanceof CloudOperationException) {
+            CloudOperationException cloudOperationException = (CloudOperationException) error;
+            builder.code(cloudOperationException.getStatusCode()
+                                                .value())
+                   .description(cloudOperationException.getDescription());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Mono<Void> deleteApplication(String applicationName) {
+        return withApplicationGuid(applicationName, this::deleteApplication);
+    }
+
+    private Mono<Void> deleteApplication(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .delete(DeleteApplicationRequest.builder()
+                                                       .applicationId(applicationGuid.toString())
+                                                       .build())
+                       .flatMap(jobId -> jobTracker.awaitJob(delegate, jobId, DELETE_JOB_TIMEOUT))
+                       .doOnSuccess(v -> applicationGuids.values()
+                                                         .remove(applicationGuid));
+    }
+
+    @Override
+    public Mono<Void> deleteDomain(String domainName) {
+        assertSpaceProvided("delete domain");
+        return findDomainByName(domainName, true).flatMap(domain -> findRoutes(domain).collectList()
+                                                                                      .flatMap(routes -> {
+                                                                                          if (!routes.isEmpty()) {
+                                                                                              return Mono.error(new IllegalStateException("Unable to remove domain that is in use --"
+                                                                                                  + " it has " + routes.size() + " routes."));
+                                                                                          }
+                                                                                          return doDeleteDomain(getGuid(domain));
+                                                                                      }));
+    }
+
+    /**
+     * Delete routes that do not have any application which is assigned to them.
+     */
+    @Override
+    public Mono<Void> deleteOrphanedRoutes() {
+        return delegate.spacesV3()
+                       .deleteUnmappedRoutes(DeleteUnmappedRoutesRequest.builder()
+                                                                        .spaceId(getTargetSpaceGuid().toString())
+                                                                        .build())
+                       .flatMap(jobId -> jobTracker.awaitJob(delegate, jobId, DELETE_JOB_TIMEOUT));
+    }
+
+    @Override
+    public Mono<Void> deleteRoute(String host, String domainName, String path) {
+        assertSpaceProvided("delete route for domain");
+        return getRequiredDomainGuid(domainName).flatMap(domainGuid -> getRouteGuid(domainGuid, host, path))
+                                                .switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                            "Not Found",
+                                                                                                            "Host " + host
+                                                                                                                + " not found for domain "
+                                                                                                                + domainName + ".")))
+                                                .flatMap(this::doDeleteRoute);
+    }
+
+    @Override
+    public Mono<Void> deleteServiceInstance(String serviceInstanceName) {
+        return getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName).flatMap(serviceInstance -> doDeleteServiceInstance(serviceInstance.getGuid()));
+    }
+
+    @Override
+    public Mono<Void> deleteServiceInstance(CloudServiceInstance serviceInstance) {
+        return doDeleteServiceInstance(serviceInstance.getGuid());
+    }
+
+    @Override
+    public Mono<String> deleteServiceBroker(String name) {
+        return getServiceBroker(name).map(this::getGuid)
+                                     .flatMap(guid -> delegate.serviceBrokersV3()
+                                                              .delete(DeleteServiceBrokerRequest.builder()
+                                                                                                .serviceBrokerId(guid.toString())
+                                                                                                .build()));
+    }
+
+    @Override
+    public Mono<String> deleteServiceBinding(String serviceInstanceName, String serviceKeyName) {
+        return getServiceKey(serviceInstanceName, serviceKeyName).switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                                             "Not Found",
+                                                                                                                             "Service key "
+                                                                                                                                 + serviceKeyName
+                                                                                                                                 + " not found.")))
+                                                                 .flatMap(serviceKey -> doDeleteServiceBinding(serviceKey.getGuid()));
+    }
+
+    @Override
+    public Mono<CloudApplication> getApplication(String applicationName) {
+        return getApplication(applicationName, true);
+    }
+
+    @Override
+    public Mono<CloudApplication> getApplication(String applicationName, boolean required) {
+        return findApplicationByName(applicationName, required);
+    }
+
+    @Override
+    public Mono<UUID> getApplicationGuid(String applicationName) {
+        return getRequiredApplicationGuid(applicationName);
+    }
+
+    @Override
+    public Mono<String> getApplicationName(UUID applicationGuid) {
+        // This will fail with a CloudOperationException with a 404 if no app with given GUID is present
+        return getApplicationByGuid(applicationGuid).map(Application::getName);
+    }
+
+    @Override
+    public Mono<Map<String, String>> getApplicationEnvironment(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .getEnvironmentVariables(GetApplicationEnvironmentVariablesRequest.builder()
+                                                                                         .applicationId(applicationGuid.toString())
+                                                                                         .build())
+                       .map(GetApplicationEnvironmentVariablesResponse::getVars);
+    }
+
+    @Override
+    public Mono<Map<String, String>> getApplicationEnvironment(String applicationName) {
+        return withApplicationGuid(applicationName, this::getApplicationEnvironment);
+    }
+
+    @Override
+    public Flux<CloudEvent> getApplicationEvents(String applicationName) {
+        return withApplicationGuidFlux(applicationName, this::getEventsByActee);
+    }
+
+    @Override
+    public Flux<CloudEvent> getEventsByActee(UUID uuid) {
+        return findEventsByTarget(uuid.toString());
+    }
+
+    @Override
+    public Mono<InstancesInfo> getApplicationInstances(CloudApplication application) {
+        if (application.getState()
+                       .equals(CloudApplication.State.STARTED)) {
+            return findApplicationInstances(getGuid(application));
+        }
+        return Mono.just(ImmutableInstancesInfo.builder()
+                                               .instances(Collections.emptyList())
+                                               .build());
+    }
+
+    @Override
+    public Mono<InstancesInfo> getApplicationInstances(UUID applicationGuid) {
+        return findApplicationInstances(applicationGuid);
+    }
+
+    @Override
+    public Mono<CloudProcess> getApplicationProcess(UUID applicationGuid) {
+        return fetchMono(() -> getApplicationProcessResource(applicationGuid), ImmutableRawCloudProcess::of);
+    }
+
+    @Override
+    public Flux<CloudRoute> getApplicationRoutes(UUID applicationGuid) {
+        return fetchFlux(() -> getRouteResourcesByAppGuid(applicationGuid), ImmutableRawCloudRoute::of);
+    }
+
+    @Override
+    public Mono<Boolean> getApplicationSshEnabled(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .getSshEnabled(GetApplicationSshEnabledRequest.builder()
+                                                                     .applicationId(applicationGuid.toString())
+                                                                     .build())
+                       .map(GetApplicationSshEnabledResponse::getEnabled)
+                       .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Flux<CloudApplication> getApplications() {
+        return fetchFlux(this::getApplicationResources, application -> ImmutableRawCloudApplication.builder()
+                                                                                                   .application(application)
+                                                                                                   .space(target)
+                                                                                                   .build());
+    }
+
+    @Override
+    public Flux<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
+        assertSpaceProvided("get applications");
+        return fetchFlux(() -> getApplicationsByLabelSelector(labelSelector), application -> ImmutableRawCloudApplication.builder()
+                                                                                                                         .application(application)
+                                                                                                                         .space(target)
+                                                                                                                         .build());
+    }
+
+    private Mono<List<UUID>> getApplicationIds() {
+        return getApplicationResources().map(this::getGuid)
+                                        .collectList();
+    }
+
+    private Mono<List<UUID>> getServiceInstancesIds() {
+        return getServiceInstanceResources().map(this::getGuid)
+                                            .collectList();
+    }
+
+    private Flux<? extends Application> getApplicationsByLabelSelector(String labelSelector) {
+        IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
+                                                                                                  .spaceId(getTargetSpaceGuid().toString())
+                                                                                                  .labelSelector(labelSelector)
+                                                                                                  .page(page)
+                                                                                                  .perPage(getPageSize(ResourceType.APPLICATION))
+                                                                                                  .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    @Override
+    public Mono<CloudDomain> getDefaultDomain() {
+        return fetchMono(() -> getDefaultDomainResource(getTargetOrganizationGuid().toString()), ImmutableRawCloudDomain::of);
+    }
+
+    private Mono<? extends Domain> getDefaultDomainResource(String guid) {
+        return delegate.organizationsV3()
+                       .getDefaultDomain(GetOrganizationDefaultDomainRequest.builder()
+                                                                            .organizationId(guid)
+                                                                            .build());
+    }
+
+    @Override
+    public Flux<CloudDomain> getSharedDomains() {
+        return fetchFlux(this::getSharedDomainResources, ImmutableRawCloudDomain::of);
+    }
+
+    @Override
+    public Flux<CloudDomain> getDomains() {
+        return fetchFlux(this::getDomainResources, ImmutableRawCloudDomain::of);
+    }
+
+    @Override
+    public Flux<CloudDomain> getDomainsForOrganization() {
+        assertSpaceProvided("access organization domains");
+        return findDomainsByOrganizationGuid(getTargetOrganizationGuid());
+    }
+
+    @Override
+    public Flux<CloudDomain> getPrivateDomains() {
+        return fetchFlux(this::getPrivateDomainResources, ImmutableRawCloudDomain::of);
+    }
+
+    @Override
+    public Flux<CloudEvent> getEvents() {
+        return fetchFlux(this::getEventResources, ImmutableRawCloudEvent::of);
+    }
+
+    @Override
+    public Mono<CloudOrganization> getOrganization(String organizationName) {
+        return getOrganization(organizationName, true);
+    }
+
+    @Override
+    public Mono<CloudOrganization> getOrganization(String organizationName, boolean required) {
+        return failIfRequiredAndMissing(findOrganization(organizationName), required,
+                                        "Organization " + organizationName + " not found.");
+    }
+
+    @Override
+    public Flux<CloudOrganization> getOrganizations() {
+        return fetchFlux(this::getOrganizationResources, ImmutableRawCloudOrganization::of);
+    }
+
+    @Override
+    public Flux<ApplicationLog> getRecentLogs(String applicationName, LocalDateTime offset) {
+        return withApplicationGuidFlux(applicationName, applicationGuid -> getRecentLogs(applicationGuid, offset));
+    }
+
+    @Override
+    public Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, LocalDateTime offset) {
+        if (logStore != null) {
+            return logStore.getRecentLogs(applicationGuid, offset);
+        }
+        return getRecentLogsFromLogCache(applicationGuid, offset);
+    }
+
+    private Flux<ApplicationLog> getRecentLogsFromLogCache(UUID applicationGuid, LocalDateTime offset) {
+        return fetchFlux(() -> logCacheClient.getRecentLogs(applicationGuid, offset), ImmutableRawApplicationLog::of);
+    }
+
+    @Override
+    public Flux<ApplicationLog> getAllLogs(UUID applicationGuid, LocalDateTime offset, int timeSlices) {
+        return logCacheClient.getAllLogs(applicationGuid, offset, timeSlices)
+                             .map(RawApplicationLog::deriveCompact);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Flux<ApplicationLog> getAllLogs(List<UUID> applicationGuids, LocalDateTime offset) {
+        Assert.notEmpty(applicationGuids, "Application GUIDs must not be empty");
+        // Each application's logs are read oldest first, so merging them only holds the next few logs of every application
+        Flux<ApplicationLogEntity>[] logsPerApplication = applicationGuids.stream()
+                                                                          .map(guid -> logCacheClient.streamLogs(guid, offset))
+                                                                          .toArray(Flux[]::new);
+        return Flux.mergeComparing(LOGS_MERGE_PREFETCH, Comparator.naturalOrder(), logsPerApplication)
+                   .map(RawApplicationLog::deriveCompact);
+    }
+
+    @Override
+    public Disposable tailLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        Assert.notNull(listener, "Listener must not be null");
+        return logTailer.tail(logsFetcher, applicationGuid, listener);
+    }
+
+    @Override
+    public Flux<CloudRoute> getRoutes(String domainName) {
+        assertSpaceProvided("get routes for domain");
+        return findDomainByName(domainName, true).flatMapMany(this::findRoutes);
+    }
+
+    @Override
+    public Mono<UUID> getRequiredServiceInstanceGuid(String name) {
+        return getServiceInstanceByName(name).switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                         "Not Found",
+                                                                                                         "Service instance " + name
+                                                                                                             + " not found.")))
+                                             .map(this::getGuid);
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName, true);
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName, boolean required) {
+        return getServiceInstanceIfRequired(serviceInstanceName, findServiceInstanceByName(serviceInstanceName), required);
+    }
+
+    private Mono<CloudServiceInstance> getServiceInstanceIfRequired(String serviceInstanceName, Mono<CloudServiceInstance> serviceInstance,
+                                                                    boolean required) {
+        return failIfRequiredAndMissing(serviceInstance, required, "Service instance " + serviceInstanceName + " not found.");
+    }
+
+    @Override
+    public Mono<CloudServiceBinding> getServiceBinding(UUID serviceBindingGuid) {
+        // TODO: Refactor and use serviceBindingsV3.get() when https://github.com/cloudfoundry/cf-java-client/pull/1171 is merged and
+        // released
+        return fetchMono(() -> getServiceBindingResource(serviceBindingGuid), ImmutableRawCloudServiceBinding::of);
+    }
+
+    private Mono<ServiceBindingResource> getServiceBindingResource(UUID serviceBindingGuid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .id(serviceBindingGuid.toString())
+                                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceBindingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty();
+    }
+
+    @Override
+    public Flux<CloudServiceBinding> getServiceAppBindings(UUID serviceInstanceGuid) {
+        return fetchFlux(() -> getServiceBindingResourcesByServiceInstanceGuid(serviceInstanceGuid), ImmutableRawCloudServiceBinding::of);
+    }
+
+    @Override
+    public Flux<CloudServiceBinding> getAppBindings(UUID applicationGuid) {
+        return fetchFlux(() -> getServiceBindingResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudServiceBinding::of);
+    }
+
+    @Override
+    public Mono<CloudServiceBinding> getServiceBindingForApplication(UUID applicationId, UUID serviceInstanceGuid) {
+        return fetchMono(() -> getServiceBindingResourceByApplicationGuidAndServiceInstanceGuid(applicationId, serviceInstanceGuid),
+                         ImmutableRawCloudServiceBinding::of);
+    }
+
+    @Override
+    public Mono<CloudServiceBroker> getServiceBroker(String name) {
+        return getServiceBroker(name, true);
+    }
+
+    @Override
+    public Mono<CloudServiceBroker> getServiceBroker(String name, boolean required) {
+        return failIfRequiredAndMissing(findServiceBrokerByName(name), required, "Service broker " + name + " not found.");
+    }
+
+    @Override
+    public Flux<CloudServiceBroker> getServiceBrokers() {
+        return fetchFlux(this::getServiceBrokerResources, ImmutableRawCloudServiceBroker::of);
+    }
+
+    @Override
+    public Mono<CloudServiceKey> getServiceKey(String serviceInstanceName, String serviceKeyName) {
+        return getServiceInstance(serviceInstanceName).flatMap(serviceInstance -> fetchMonoWithAuxiliaryContent(() -> getServiceKeyResourceByNameAndServiceInstanceGuid(serviceKeyName,
+                                                                                                                                                                      serviceInstance.getGuid()),
+                                                                                                                serviceKey -> zipWithAuxiliaryServiceKeyContent(serviceKey,
+                                                                                                                                                                serviceInstance)));
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeys(String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName).flatMapMany(this::getServiceKeys);
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeysWithCredentials(String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName).flatMapMany(this::getServiceKeysWithCredentials);
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance) {
+        return fetchFlux(() -> getServiceKeyResource(serviceInstance), serviceKey -> ImmutableRawCloudServiceKey.builder()
+                                                                                                                .serviceInstance(serviceInstance)
+                                                                                                                .serviceBindingResource(serviceKey)
+                                                                                                                .build());
+    }
+
+    @Override
+    public Flux<CloudServiceKey> getServiceKeysWithCredentials(CloudServiceInstance serviceInstance) {
+        return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_KEY, () -> getServiceKeyResource(serviceInstance),
+                                             serviceKey -> zipWithAuxiliaryServiceKeyContent(serviceKey, serviceInstance));
+    }
+
+    private Mono<Derivable<CloudServiceKey>> zipWithAuxiliaryServiceKeyContent(ServiceBindingResource key,
+                                                                               CloudServiceInstance serviceInstance) {
+        return getServiceKeyCredentials(key.getId()).map(credentials -> ImmutableRawCloudServiceKey.builder()
+                                                                                                   .serviceBindingResource(key)
+                                                                                                   .credentials(credentials)
+                                                                                                   .serviceInstance(serviceInstance)
+                                                                                                   .build());
+    }
+
+    private Mono<Map<String, Object>> getServiceKeyCredentials(String keyGuid) {
+        return delegate.serviceBindingsV3()
+                       .getDetails(GetServiceBindingDetailsRequest.builder()
+                                                                  .serviceBindingId(keyGuid)
+                                                                  .build())
+                       // CF V3 API returns 404 when fetching credentials of a service key which creation failed
+                       .onErrorResume(this::isNotFound, t -> Mono.just(GetServiceBindingDetailsResponse.builder()
+                                                                                                       .volumeMounts(Collections.emptyList())
+                                                                                                       .credentials(Collections.emptyMap())
+                                                                                                       .build()))
+                       .map(GetServiceBindingDetailsResponse::getCredentials);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getServiceInstanceParameters(UUID guid) {
+        return delegate.serviceInstancesV3()
+                       .getManagedServiceParameters(GetManagedServiceParametersRequest.builder()
+                                                                                      .serviceInstanceId(guid.toString())
+                                                                                      .build())
+                       .map(GetManagedServiceParametersResponse::getParameters);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getUserProvidedServiceInstanceParameters(UUID guid) {
+        return delegate.serviceInstancesV3()
+                       .getUserProvidedCredentials(GetUserProvidedCredentialsRequest.builder()
+                                                                                    .serviceInstanceId(guid.toString())
+                                                                                    .build())
+                       .map(GetUserProvidedCredentialsResponse::getCredentials);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getServiceBindingParameters(UUID guid) {
+        return delegate.serviceBindingsV3()
+                       .getParameters(GetServiceBindingParametersRequest.builder()
+                                                                        .serviceBindingId(guid.toString())
+                                                                        .build())
+                       .map(GetServiceBindingParametersResponse::getParameters);
+    }
+
+    @Override
+    public Flux<CloudServiceOffering> getServiceOfferings() {
+        return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_OFFERING, this::getServiceResources,
+                                             this::zipWithAuxiliaryServiceOfferingContent);
+    }
+
+    @Override
+    public Mono<Void> updateServicePlan(String serviceName, String planName) {
+        return getServiceInstance(serviceName).filter(service -> !service.isUserProvided())
+                                              .flatMap(service -> findPlanForService(service,
+                                                                                     planName).flatMap(plan -> updateServicePlan(service,
+                                                                                                                                 plan)));
+    }
+
+    private Mono<Void> updateServicePlan(CloudServiceInstance service, CloudServicePlan plan) {
+        return delegate.serviceInstancesV3()
+                       .update(UpdateServiceInstanceRequest.builder()
+                                                           .serviceInstanceId(service.getGuid()
+                                                                                     .toString())
+                                                           .relationships(ServiceInstanceRelationships.builder()
+                                                                                                      .servicePlan(buildToOneRelationship(plan.getGuid()))
+                                                                                                      .build())
+                                                           .build())
+                       .then()
+                       .doOnSuccess(v -> invalidateServiceCatalogCache(plan));
+    }
+
+    private void invalidateServiceCatalogCache(CloudServicePlan plan) {
+        configuration.getServiceCatalogCache()
+                     .getServicePlans()
+                     .invalidate(plan.getGuid()
+                                     .toString());
+        if (plan.getServiceOfferingId() != null) {
+            configuration.getServiceCatalogCache()
+                         .getServiceOfferings()
+                         .invalidate(plan.getServiceOfferingId());
+        }
+    }
+
+    @Override
+    public Mono<String> getServiceInstanceName(UUID serviceInstanceGuid) {
+        return getServiceInstanceByGuid(serviceInstanceGuid).map(ServiceInstance::getName);
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName) {
+        return getServiceInstanceWithoutAuxiliaryContent(serviceInstanceName, true);
+    }
+
+    @Override
+    public Mono<CloudServiceInstance> getServiceInstanceWithoutAuxiliaryContent(String serviceInstanceName, boolean required) {
+        Mono<CloudServiceInstance> serviceInstance = fetchMono(() -> getServiceInstanceResourceByName(serviceInstanceName),
+                                                               ImmutableRawCloudServiceInstance::of);
+        return getServiceInstanceIfRequired(serviceInstanceName, serviceInstance, required);
+    }
+
+    @Override
+    public Mono<Void> updateServiceParameters(String serviceName, Map<String, Object> parameters) {
+        return getServiceInstanceWithoutAuxiliaryContent(serviceName).flatMap(service -> {
+            var updateServiceInstanceRequest = UpdateServiceInstanceRequest.builder()
+                                                                           .serviceInstanceId(service.getGuid()
+                                                                                                     .toString());
+            if (service.isUserProvided()) {
+                updateServiceInstanceRequest.credentials(parameters);
+            } else {
+                updateServiceInstanceRequest.parameters(parameters);
+            }
+            return delegate.serviceInstancesV3()
+                           .update(updateServiceInstanceRequest.build())
+                           .then();
+        });
+    }
+
+    @Override
+    public Mono<Void> updateServiceTags(String serviceName, List<String> tags) {
+        return getRequiredServiceInstanceGuid(serviceName).flatMap(serviceInstanceGuid -> delegate.serviceInstancesV3()
+                                                                                                  .update(UpdateServiceInstanceRequest.builder()
+                                                                                                                                      .serviceInstanceId(serviceInstanceGuid.toString())
+                                                                                                                                      .tags(tags)
+                                                                                                                                      .build()))
+                                                          .then();
+    }
+
+    @Override
+    public Mono<Void> updateServiceSyslogDrainUrl(String serviceName, String syslogDrainUrl) {
+        String updatedSyslogDrain = StringUtils.hasText(syslogDrainUrl) ? syslogDrainUrl : "";
+        return getServiceInstanceWithoutAuxiliaryContent(serviceName).filter(CloudServiceInstance::isUserProvided)
+                                                                     .flatMap(service -> delegate.serviceInstancesV3()
+                                                                                                 .update(UpdateServiceInstanceRequest.builder()
+                                                                                                                                     .serviceInstanceId(service.getGuid()
+                                                                                                                                                               .toString())
+                                                                                                                                     .syslogDrainUrl(updatedSyslogDrain)
+                                                                                                                                     .build()))
+                                                                     .then();
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstances() {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+        return findServiceInstances(pageRequestSupplier);
+    }
+
+    private <T> List<List<T>> toBatches(Collection<T> largeList, int maxCharLength) {
+        if (largeList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<T>> batches = new ArrayList<>();
+        int currentBatchLength = 0, currentBatchIndex = 0;
+        batches.add(new ArrayList<>());
+
+        for (T element : largeList) {
+            int elementLength = element.toString()
+                                       .length();
+            if (elementLength + currentBatchLength >= maxCharLength) {
+                batches.add(new ArrayList<>());
+                currentBatchIndex++;
+                currentBatchLength = 0;
+            }
+            batches.get(currentBatchIndex)
+                   .add(element);
+            currentBatchLength += elementLength;
+        }
+        return batches;
+    }
+
+    private Flux<ServiceInstanceResource> getServiceInstancesByNames(List<String> serviceInstanceNames) {
+        String spaceGuid = getTargetSpaceGuid().toString();
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(spaceGuid)
+                                                                                                          .addAllServiceInstanceNames(serviceInstanceNames)
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceInstancesV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByNames(List<String> names) {
+        return Flux.fromIterable(toBatches(names, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .concatMap(batchOfServiceInstanceNames -> fetchFlux(() -> getServiceInstancesByNames(batchOfServiceInstanceNames),
+                                                                       ImmutableRawV3CloudServiceInstance::of));
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .labelSelector(labelSelector)
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+
+        return findServiceInstances(pageRequestSupplier);
+    }
+
+    @Override
+    public Flux<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(String labelSelector) {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .labelSelector(labelSelector)
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+
+        return fetchFlux(() -> getServiceInstanceResources(pageRequestSupplier), ImmutableRawCloudServiceInstance::of);
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(UUID spaceGuid) {
+        return fetchMonoWithAuxiliaryContent(() -> getSpaceResource(spaceGuid), this::zipWithAuxiliarySpaceContent);
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String organizationName, String spaceName) {
+        return getSpace(organizationName, spaceName, true);
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String organizationName, String spaceName, boolean required) {
+        return getOrganizationGuid(organizationName, required).flatMap(organizationGuid -> findSpaceByOrganizationGuidAndName(organizationGuid,
+                                                                                                                              spaceName,
+                                                                                                                              required));
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String spaceName) {
+        return getSpace(spaceName, true);
+    }
+
+    @Override
+    public Mono<CloudSpace> getSpace(String spaceName, boolean required) {
+        UUID organizationGuid = getTargetOrganizationGuid();
+        return findSpaceByOrganizationGuidAndName(organizationGuid, spaceName, required);
+    }
+
+    @Override
+    public Flux<CloudSpace> getSpaces() {
+        IntFunction<ListSpacesRequest> pageRequestSupplier = page -> ListSpacesRequest.builder()
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.SPACE))
+                                                                                      .build();
+        return findSpaces(pageRequestSupplier);
+    }
+
+    @Override
+    public Flux<CloudSpace> getSpaces(String organizationName) {
+        return getOrganizationGuid(organizationName, true).flatMapMany(this::findSpacesByOrganizationGuid);
+    }
+
+    @Override
+    public Mono<CloudStack> getStack(String name) {
+        return getStack(name, true);
+    }
+
+    @Override
+    public Mono<CloudStack> getStack(String name, boolean required) {
+        return failIfRequiredAndMissing(findStackResource(name), required, "Stack " + name + " not found.");
+    }
+
+    @Override
+    public Flux<CloudStack> getStacks() {
+        return fetchFlux(this::getStackResources, ImmutableRawCloudStack::of);
+    }
+
+    @Override
+    public Mono<Void> rename(String applicationName, String newName) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .update(UpdateApplicationRequest.builder()
+                                                                                                               .applicationId(applicationGuid.toString())
+                                                                                                               .name(newName)
+                                                                                                               .build())
+                                                                               .doOnNext(response -> {
+                                                                                   applicationGuids.remove(applicationName, applicationGuid);
+                                                                                   applicationGuids.put(newName, applicationGuid);
+                                                                               })
+                                                                               .then());
+    }
+
+    @Override
+    public Mono<Void> restartApplication(String applicationName) {
+        return stopApplication(applicationName).then(Mono.defer(() -> startApplication(applicationName)));
+    }
+
+    @Override
+    public Mono<Void> startApplication(String applicationName) {
+        return getRequiredApplication(applicationName).filter(application -> application.getState() != ApplicationState.STARTED)
+                                                      .flatMap(application -> delegate.applicationsV3()
+                                                                                      .start(StartApplicationRequest.builder()
+                                                                                                                    .applicationId(application.getId())
+                                                                                                                    .build()))
+                                                      .then();
+    }
+
+    @Override
+    public Mono<Void> stopApplication(String applicationName) {
+        return getRequiredApplication(applicationName).filter(application -> application.getState() != ApplicationState.STOPPED)
+                                                      .flatMap(application -> delegate.applicationsV3()
+                                                                                      .stop(StopApplicationRequest.builder()
+                                                                                                                  .applicationId(application.getId())
+                                                                                                                  .build()))
+                                                      .then();
+    }
+
+    @Override
+    public Mono<String> unbindServiceInstance(String applicationName, String serviceInstanceName) {
+        return withApplicationGuid(applicationName,
+                                   applicationGuid -> getRequiredServiceInstanceGuid(serviceInstanceName).flatMap(serviceInstanceGuid -> doUnbindServiceInstance(applicationGuid,
+                                                                                                                                                               serviceInstanceGuid)));
+    }
+
+    @Override
+    public Mono<String> deleteServiceBinding(UUID serviceBindingGuid) {
+        return doDeleteServiceBinding(serviceBindingGuid);
+    }
+
+    @Override
+    public Mono<String> unbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return doUnbindServiceInstance(applicationGuid, serviceInstanceGuid);
+    }
+
+    @Override
+    public Mono<Void> updateApplicationDiskQuota(String applicationName, int diskQuota) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .scale(ScaleApplicationRequest.builder()
+                                                                                                             .applicationId(applicationGuid.toString())
+                                                                                                             .type("web")
+                                                                                                             .diskInMb(diskQuota)
+                                                                                                             .build())
+                                                                               .then());
+    }
+
+    @Override
+    public Mono<Void> updateApplicationEnv(String applicationName, Map<String, String> env) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
+                                                                                                                                                       .applicationId(applicationGuid.toString())
+                                                                                                                                                       .vars(env)
+                                                                                                                                                       .build())
+                                                                               .then());
+    }
+
+    @Override
+    public Mono<Void> updateApplicationInstances(String applicationName, int instances) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .scale(ScaleApplicationRequest.builder()
+                                                                                                             .applicationId(applicationGuid.toString())
+                                                                                                             .type("web")
+                                                                                                             .instances(instances)
+                                                                                                             .build())
+                                                                               .then());
+    }
+
+    @Override
+    public Mono<Void> updateApplicationMemory(String applicationName, int memory) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .scale(ScaleApplicationRequest.builder()
+                                                                                                             .applicationId(applicationGuid.toString())
+                                                                                                             .type("web")
+                                                                                                             .memoryInMb(memory)
+                                                                                                             .build())
+                                                                               .then());
+    }
+
+    @Override
+    public Mono<Void> updateApplicationMetadata(UUID guid, Metadata metadata) {
+        return delegate.applicationsV3()
+                       .update(UpdateApplicationRequest.builder()
+                                                       .applicationId(guid.toString())
+                                                       .metadata(metadata)
+                                                       .build())
+                       .then();
+    }
+
+    @Override
+    public Mono<Void> updateApplicationStaging(String applicationName, Staging staging) {
+        return withApplicationGuid(applicationName, applicationGuid -> delegate.applicationsV3()
+                                                                               .update(UpdateApplicationRequest.builder()
+                                                                                                               .applicationId(applicationGuid.toString())
+                                                                                                               .lifecycle(buildApplicationLifecycle(staging))
+                                                                                                               .build())
+                                                                               .then(getApplicationProcessResource(applicationGuid))
+                                                                               .flatMap(applicationProcess -> updateApplicationProcess(applicationGuid,
+                                                                                                                                       staging,
+                                                                                                                                       applicationProcess)));
+    }
+
+    @Override
+    public Mono<Void> updateApplicationRoutes(String applicationName, Set<CloudRoute> updatedRoutes) {
+        return withApplicationGuid(applicationName, applicationGuid -> getRouteResourcesByAppGuid(applicationGuid).collectList()
+                                                                                                                  .flatMap(appRoutes -> updateApplicationRoutes(applicationGuid,
+                                                                                                                                                                appRoutes,
+                                                                                                                                                                updatedRoutes)));
+    }
+
+    private Mono<Void> updateApplicationRoutes(UUID applicationGuid, List<RouteResource> appRoutes, Set<CloudRoute> updatedRoutes) {
+        List<RouteResource> outdatedRoutes = getOutdatedRoutes(appRoutes, updatedRoutes);
+        Set<CloudRoute> newRoutes = getNewRoutes(updatedRoutes, appRoutes);
+
+        return removeRoutes(outdatedRoutes, applicationGuid).then(Mono.defer(() -> addRoutes(newRoutes, applicationGuid)));
+    }
+
+    private List<RouteResource> getOutdatedRoutes(List<RouteResource> currentRoutes, Set<CloudRoute> updatedRoutes) {
+        Set<String> urls = updatedRoutes.stream()
+                                        .map(CloudRoute::getUrl)
+                                        .collect(Collectors.toSet());
+        return currentRoutes.stream()
+                            .filter(routeResource -> !urls.contains(routeResource.getUrl()))
+                            .collect(Collectors.toList());
+    }
+
+    private Set<CloudRoute> getNewRoutes(Set<CloudRoute> updatedRoutes, List<RouteResource> currentRoutes) {
+        Set<String> urls = currentRoutes.stream()
+                                        .map(RouteResource::getUrl)
+                                        .collect(Collectors.toSet());
+        return updatedRoutes.stream()
+                            .filter(route -> !urls.contains(route.getUrl()))
+                            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<String> updateServiceBroker(CloudServiceBroker serviceBroker) {
+        Assert.notNull(serviceBroker, "Service broker must not be null.");
+
+        return getServiceBroker(serviceBroker.getName()).map(this::getGuid)
+                                                        .flatMap(brokerGuid -> delegate.serviceBrokersV3()
+                                                                                       .update(UpdateServiceBrokerRequest.builder()
+                                                                                                                         .serviceBrokerId(brokerGuid.toString())
+                                                                                                                         .name(serviceBroker.getName())
+                                                                                                                         .authentication(BasicAuthentication.builder()
+                                                                                                                                                            .username(serviceBroker.getUsername())
+                                                                                                                                                            .password(serviceBroker.getPassword())
+                                                                                                                                                            .build())
+                                                                                                                         .url(serviceBroker.getUrl())
+                                                                                                                         .build()))
+                                                        .flatMap(response -> Mono.justOrEmpty(response.jobId()));
+    }
+
+    @Override
+    public Mono<Void> updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+        return delegate.serviceInstancesV3()
+                       .update(UpdateServiceInstanceRequest.builder()
+                                                           .serviceInstanceId(guid.toString())
+                                                           .metadata(metadata)
+                                                           .build())
+                       .then();
+    }
+
+    @Override
+    public Mono<Void> updateServicePlanVisibilityForBroker(String name, ServicePlanVisibility visibility) {
+        return getServiceBroker(name).flatMapMany(broker -> findServicePlansByBrokerGuid(getGuid(broker)))
+                                     .concatMap(servicePlan -> updateServicePlanVisibility(servicePlan, visibility))
+                                     .then();
+    }
+
+    @Override
+    public Mono<CloudTask> getTask(UUID taskGuid) {
+        return fetchMono(() -> getTaskResource(taskGuid), ImmutableRawCloudTask::of);
+    }
+
+    @Override
+    public Flux<CloudTask> getTasks(String applicationName) {
+        return withApplicationGuidFlux(applicationName, applicationGuid -> fetchFlux(() -> getTaskResourcesByApplicationGuid(applicationGuid),
+                                                                                     ImmutableRawCloudTask::of));
+    }
+
+    @Override
+    public Mono<CloudTask> runTask(String applicationName, CloudTask task) {
+        return withApplicationGuid(applicationName, applicationGuid -> createTask(applicationGuid, task));
+    }
+
+    @Override
+    public Mono<CloudTask> cancelTask(UUID taskGuid) {
+        return fetchMono(() -> cancelTaskResource(taskGuid), ImmutableRawCloudTask::of);
+    }
+
+    @Override
+    public Mono<CloudPackage> asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+        Assert.notNull(file, "File must not be null");
+        Mono<CloudPackage> createdPackage = startUpload(applicationName, packageGuid -> uploadPackage(packageGuid, file, callback));
+        return createdPackage.doOnNext(cloudPackage -> uploadMonitor.watch(uploadStatusesFetcher, getGuid(cloudPackage), callback));
+    }
+
+    @Override
+    public Mono<CloudPackage> asyncUploadApplication(String applicationName, ApplicationArchive archive, UploadStatusCallback callback) {
+        Assert.notNull(archive, "Archive must not be null");
+        Mono<CloudPackage> createdPackage = startUpload(applicationName, packageGuid -> uploadPackage(packageGuid, archive, callback));
+        return createdPackage.doOnNext(cloudPackage -> uploadMonitor.watch(uploadStatusesFetcher, getGuid(cloudPackage), callback));
+    }
+
+    @Override
+    public Map<String, Mono<CloudPackage>> uploadApplications(List<ApplicationUpload> uploads) {
+        return uploadScheduler.schedule(uploads, this::uploadApplication);
+    }
+
+    @Override
+    public Flux<Upload> monitorUpload(UUID packageGuid) {
+        return uploadMonitor.watch(uploadStatusesFetcher, packageGuid);
+    }
+
+    @Override
+    public Mono<Upload> getUploadStatus(UUID packageGuid) {
+        return getPackage(packageGuid).map(this::toUpload);
+    }
+
+    private Mono<Map<UUID, Upload>> getUploadStatuses(Collection<UUID> packageGuids) {
+        return fetchFlux(() -> getPackageResources(packageGuids), ImmutableRawCloudPackage::of).collectMap(this::getGuid, this::toUpload);
+    }
+
+    private Flux<? extends PackageResource> getPackageResources(Collection<UUID> packageGuids) {
+        List<String> packageIds = packageGuids.stream()
+                                              .map(UUID::toString)
+                                              .collect(Collectors.toList());
+        IntFunction<ListPackagesRequest> pageRequestSupplier = page -> ListPackagesRequest.builder()
+                                                                                          .page(page)
+                                                                                          .perPage(getPageSize(ResourceType.PACKAGE))
+                                                                                          .packageIds(packageIds)
+                                                                                          .build();
+        return paginator.requestClientV3Resources(page -> delegate.packages()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Upload toUpload(CloudPackage cloudPackage) {
+        ErrorDetails errorDetails = null;
+        if (cloudPackage.getType() == CloudPackage.Type.BITS) {
+            errorDetails = ImmutableErrorDetails.builder()
+                                                .description(((BitsData) cloudPackage.getData()).getError())
+                                                .build();
+        }
+        return ImmutableUpload.builder()
+                              .status(cloudPackage.getStatus())
+                              .errorDetails(errorDetails)
+                              .build();
+    }
+
+    @Override
+    public Mono<CloudBuild> getBuild(UUID buildGuid) {
+        return fetchMono(() -> getBuildResource(buildGuid), ImmutableRawCloudBuild::of);
+    }
+
+    @Override
+    public Flux<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
+        return fetchFlux(() -> getBuildResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudBuild::of);
+    }
+
+    @Override
+    public Flux<CloudBuild> getBuildsForPackage(UUID packageGuid) {
+        return fetchFlux(() -> getBuildResourcesByPackageGuid(packageGuid), ImmutableRawCloudBuild::of);
+    }
+
+    @Override
+    public Mono<CloudBuild> createBuild(UUID packageGuid) {
+        return fetchMono(() -> createBuildResource(packageGuid), ImmutableRawCloudBuild::of);
+    }
+
+    @Override
+    public Mono<Void> bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .setCurrentDroplet(SetApplicationCurrentDropletRequest.builder()
+                                                                             .applicationId(applicationGuid.toString())
+                                                                             .data(Relationship.builder()
+                                                                                               .id(dropletGuid.toString())
+                                                                                               .build())
+                                                                             .build())
+                       .then();
+    }
+
+    @Override
+    public Mono<DropletInfo> getCurrentDropletForApplication(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
+                                                                             .applicationId(applicationGuid.toString())
+                                                                             .build())
+                       .map(this::tryParseDropletInfo);
+    }
+
+    private DropletInfo tryParseDropletInfo(GetApplicationCurrentDropletResponse getApplicationCurrentDropletResponse) {
+        try {
+            return parseDropletInfo(getApplicationCurrentDropletResponse);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new CloudOperationException(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private DropletInfo parseDropletInfo(GetApplicationCurrentDropletResponse getApplicationCurrentDropletResponse) {
+        String packageUrl = getApplicationCurrentDropletResponse.getLinks()
+                                                                .get(Constants.PACKAGE)
+                                                                .getHref();
+        if (packageUrl.endsWith("/")) {
+            packageUrl = packageUrl.substring(0, packageUrl.lastIndexOf("/"));
+        }
+        String packageGuid = packageUrl.substring(packageUrl.lastIndexOf("/") + 1);
+        return ImmutableDropletInfo.builder()
+                                   .guid(UUID.fromString(getApplicationCurrentDropletResponse.getId()))
+                                   .packageGuid(UUID.fromString(packageGuid))
+                                   .build();
+    }
+
+    @Override
+    public Flux<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
+        return fetchFlux(() -> getPackages(applicationGuid.toString()), ImmutableRawCloudPackage::of);
+    }
+
+    private Flux<? extends PackageResource> getPackages(String applicationGuid) {
+        IntFunction<ListApplicationPackagesRequest> pageRequestSupplier = page -> ListApplicationPackagesRequest.builder()
+                                                                                                                .page(page)
+                                                                                                                .perPage(getPageSize(ResourceType.PACKAGE))
+                                                                                                                .applicationId(applicationGuid)
+                                                                                                                .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .listPackages(pageRequestSupplier.apply(page)));
+    }
+
+    @Override
+    public Flux<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
+        return fetchFlux(() -> getRoles(spaceGuid, userGuid), ImmutableRawUserRole::of);
+    }
+
+    @Override
+    public Mono<CloudPackage> createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+        org.cloudfoundry.client.v3.packages.DockerData.Builder dockerDataBuilder = org.cloudfoundry.client.v3.packages.DockerData.builder()
+                                                                                                                                 .image(dockerInfo.getImage());
+        if (dockerInfo.getCredentials() != null) {
+            addNonNullDockerCredentials(dockerInfo.getCredentials(), dockerDataBuilder);
+        }
+        CreatePackageRequest packageRequest = CreatePackageRequest.builder()
+                                                                  .type(PackageType.DOCKER)
+                                                                  .data(dockerDataBuilder.build())
+                                                                  .relationships(buildPackageRelationships(applicationGuid))
+                                                                  .build();
+        return delegate.packages()
+                       .create(packageRequest)
+                       .flatMap(packageResponse -> getPackage(UUID.fromString(packageResponse.getId())));
+    }
+
+    @Override
+    public Mono<CloudPackage> copyPackage(UUID sourcePackageGuid, UUID targetApplicationGuid) {
+        CopyPackageRequest packageRequest = CopyPackageRequest.builder()
+                                                              .sourcePackageId(sourcePackageGuid.toString())
+                                                              .relationships(buildPackageRelationships(targetApplicationGuid))
+                                                              .build();
+        return delegate.packages()
+                       .copy(packageRequest)
+                       .flatMap(packageResponse -> awaitCopiedPackage(sourcePackageGuid, UUID.fromString(packageResponse.getId())));
+    }
+
+    private Mono<CloudPackage> awaitCopiedPackage(UUID sourcePackageGuid, UUID packageGuid) {
+        return uploadMonitor.watch(uploadStatusesFetcher, packageGuid)
+                            .last()
+                            .flatMap(upload -> {
+                                if (upload.getStatus() != Status.READY) {
+                                    return Mono.error(new CloudException(String.format(Messages.CANT_COPY_PACKAGE, sourcePackageGuid,
+                                                                                       upload.getStatus(), getErrorDescription(upload))));
+                                }
+                                return getPackage(packageGuid);
+                            });
+    }
+
+    private static String getErrorDescription(Upload upload) {
+        if (upload.getErrorDetails() == null || upload.getErrorDetails()
+                                                      .getDescription() == null) {
+            return "no error details";
+        }
+        return upload.getErrorDetails()
+                     .getDescription();
+    }
+
+    @Override
+    public Mono<CloudAsyncJob> getAsyncJob(String jobId) {
+        return fetchMono(() -> delegate.jobsV3()
+                                       .get(GetJobRequest.builder()
+                                                         .jobId(jobId)
+                                                         .build()),
+                         ImmutableRawCloudAsyncJob::of);
+    }
+
+    @Override
+    public Mono<Void> awaitJobs(Collection<String> jobIds) {
+        return jobTracker.awaitJobs(delegate, jobIds, ASYNC_JOB_TIMEOUT);
+    }
+
+    private void addNonNullDockerCredentials(DockerCredentials dockerCredentials,
+                                             org.cloudfoundry.client.v3.packages.DockerData.Builder dockerDataBuilder) {
+        String username = dockerCredentials.getUsername();
+        if (username != null) {
+            dockerDataBuilder.username(username);
+        }
+        String password = dockerCredentials.getPassword();
+        if (password != null) {
+            dockerDataBuilder.password(password);
+        }
+    }
+
+    private Flux<RoleResource> getRoles(UUID spaceGuid, UUID userGuid) {
+        IntFunction<ListRolesRequest> pageRequestSupplier = page -> ListRolesRequest.builder()
+                                                                                    .page(page)
+                                                                                    .perPage(getPageSize(ResourceType.ROLE))
+                                                                                    .spaceId(spaceGuid.toString())
+                                                                                    .userId(userGuid.toString())
+                                                                                    .types(RoleType.values())
+                                                                                    .build();
+        return paginator.requestClientV3Resources(page -> delegate.rolesV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<CloudApplication> findApplicationByName(String name, boolean required) {
+        return failIfRequiredAndMissing(findApplicationByName(name), required, "Application " + name + " not found.");
+    }
+
+    private Mono<CloudApplication> findApplicationByName(String name) {
+        return fetchMono(() -> getApplicationByName(name), application -> ImmutableRawCloudApplication.builder()
+                                                                                                      .application(application)
+                                                                                                      .space(target)
+                                                                                                      .build());
+    }
+
+    private Flux<? extends Application> getApplicationResources() {
+        assertSpaceProvided("get application");
+        IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
+                                                                                                  .spaceId(getTargetSpaceGuid().toString())
+                                                                                                  .page(page)
+                                                                                                  .perPage(getPageSize(ResourceType.APPLICATION))
+                                                                                                  .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<? extends Application> getApplicationByGuid(UUID guid) {
+        return delegate.applicationsV3()
+                       .get(GetApplicationRequest.builder()
+                                                 .applicationId(guid.toString())
+                                                 .build());
+    }
+
+    private Mono<? extends Application> getApplicationByName(String name) {
+        assertSpaceProvided("get application");
+        IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
+                                                                                                  .spaceId(getTargetSpaceGuid().toString())
+                                                                                                  .name(name)
+                                                                                                  .page(page)
+                                                                                                  .perPage(getPageSize(ResourceType.APPLICATION))
+                                                                                                  .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty()
+                        .doOnNext(application -> applicationGuids.put(name, getGuid(application)));
+    }
+
+    private Mono<? extends Application> getRequiredApplication(String name) {
+        return getApplicationByName(name).switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                     "Not Found",
+                                                                                                     "Application " + name
+                                                                                                         + " not found.")));
+    }
+
+    private Mono<CloudServiceInstance> findServiceInstanceByName(String name) {
+        return fetchMonoWithAuxiliaryContent(() -> getServiceInstanceResourceByName(name), this::zipWithAuxiliaryServiceInstanceContent);
+    }
+
+    private Flux<ServiceInstanceResource> getServiceInstanceResources() {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+        return getServiceInstanceResources(pageRequestSupplier);
+    }
+
+    private Mono<? extends ServiceInstance> getServiceInstanceByGuid(UUID serviceInstanceGuid) {
+        return delegate.serviceInstancesV3()
+                       .get(GetServiceInstanceRequest.builder()
+                                                     .serviceInstanceId(serviceInstanceGuid.toString())
+                                                     .build());
+    }
+
+    private Mono<ServiceInstanceResource> getServiceInstanceResourceByName(String name) {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .serviceInstanceName(name)
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+        return getServiceInstanceResources(pageRequestSupplier).singleOrEmpty();
+    }
+
+    private Flux<ServiceInstanceResource> getServiceInstanceResources(IntFunction<ListServiceInstancesRequest> pageRequestSupplier) {
+        return paginator.requestClientV3Resources(page -> delegate.serviceInstancesV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<CloudServiceInstance> findServiceInstances(IntFunction<ListServiceInstancesRequest> pageRequestSupplier) {
+        if (sideLoadingClient == null) {
+            return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_INSTANCE, () -> getServiceInstanceResources(pageRequestSupplier),
+                                                 this::zipWithAuxiliaryServiceInstanceContent);
+        }
+        return paginator.requestClientV3Pages(page -> sideLoadingClient.listServiceInstances(pageRequestSupplier.apply(page)))
+                        .flatMapIterable(this::toRawCloudServiceInstances)
+                        .map(Derivable::derive);
+    }
+
+    private List<RawSideLoadedCloudServiceInstance> toRawCloudServiceInstances(ListServiceInstancesWithServicePlansResponse page) {
+        Optional<ListServiceInstancesWithServicePlansResponse.Included> included = Optional.ofNullable(page.getIncluded());
+        Map<String, IncludedServicePlan> servicePlans = included.map(ListServiceInstancesWithServicePlansResponse.Included::getServicePlans)
+                                                                .orElse(Collections.emptyList())
+                                                                .stream()
+                                                                .collect(Collectors.toMap(IncludedServicePlan::getId, Function.identity(),
+                                                                                          (a, b) -> a));
+        Map<String, IncludedServiceOffering> serviceOfferings = included.map(ListServiceInstancesWithServicePlansResponse.Included::getServiceOfferings)
+                                                                        .orElse(Collections.emptyList())
+                                                                        .stream()
+                                                                        .collect(Collectors.toMap(IncludedServiceOffering::getId,
+                                                                                                  Function.identity(), (a, b) -> a));
+        return page.getResources()
+                   .stream()
+                   .map(serviceInstance -> toRawCloudServiceInstance(serviceInstance, servicePlans, serviceOfferings))
+                   .collect(Collectors.toList());
+    }
+
+    private RawSideLoadedCloudServiceInstance toRawCloudServiceInstance(ServiceInstanceResource serviceInstance,
+                                                                        Map<String, IncludedServicePlan> servicePlans,
+                                                                        Map<String, IncludedServiceOffering> serviceOfferings) {
+        if (isUserProvided(serviceInstance)) {
+            return ImmutableRawSideLoadedCloudServiceInstance.of(serviceInstance);
+        }
+        String servicePlanGuid = serviceInstance.getRelationships()
+                                                .getServicePlan()
+                                                .getData()
+                                                .getId();
+        IncludedServicePlan servicePlan = servicePlans.get(servicePlanGuid);
+        // The cloud controller leaves out the plans and offerings which the user may not see. Fetching them one by one fails with 403.
+        if (servicePlan == null) {
+            throw new CloudOperationException(HttpStatus.FORBIDDEN,
+                                              HttpStatus.FORBIDDEN.getReasonPhrase(),
+                                              MessageFormat.format(Messages.SERVICE_PLAN_WITH_GUID_0_NOT_AVAILABLE_FOR_SERVICE_INSTANCE_1,
+                                                                   servicePlanGuid, serviceInstance.getName()));
+        }
+        String serviceOfferingGuid = servicePlan.getRelationships()
+                                                .getServiceOffering()
+                                                .getData()
+                                                .getId();
+        IncludedServiceOffering serviceOffering = serviceOfferings.get(serviceOfferingGuid);
+        if (serviceOffering == null) {
+            throw new CloudOperationException(HttpStatus.FORBIDDEN,
+                                              HttpStatus.FORBIDDEN.getReasonPhrase(),
+                                              MessageFormat.format(Messages.SERVICE_OFFERING_WITH_GUID_0_IS_NOT_AVAILABLE,
+                                                                   serviceOfferingGuid));
+        }
+        return ImmutableRawSideLoadedCloudServiceInstance.builder()
+                                                         .resource(serviceInstance)
+                                                         .servicePlan(servicePlan)
+                                                         .serviceOffering(serviceOffering)
+                                                         .build();
+    }
+
+    private Mono<Derivable<CloudServiceInstance>> zipWithAuxiliaryServiceInstanceContent(ServiceInstanceResource serviceInstanceResource) {
+        if (isUserProvided(serviceInstanceResource)) {
+            return Mono.just(ImmutableRawCloudServiceInstance.of(serviceInstanceResource));
+        }
+        String servicePlanGuid = serviceInstanceResource.getRelationships()
+                                                        .getServicePlan()
+                                                        .getData()
+                                                        .getId();
+
+        return getServicePlanResource(servicePlanGuid,
+                                      serviceInstanceResource.getName()).zipWhen(servicePlan -> getServiceOffering(servicePlan.getRelationships()
+                                                                                                                              .getServiceOffering()
+                                                                                                                              .getData()
+                                                                                                                              .getId()))
+                                                                        .map(tuple -> ImmutableRawCloudServiceInstance.builder()
+                                                                                                                      .resource(serviceInstanceResource)
+                                                                                                                      .servicePlan(tuple.getT1())
+                                                                                                                      .serviceOffering(tuple.getT2())
+                                                                                                                      .build());
+    }
+
+    private boolean isUserProvided(ServiceInstanceResource serviceInstanceResource) {
+        return ServiceInstanceType.USER_PROVIDED.equals(serviceInstanceResource.getType());
+    }
+
+    private Flux<? extends ServiceBindingResource> getServiceBindingResourcesByServiceInstanceGuid(UUID serviceInstanceGuid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .serviceInstanceId(serviceInstanceGuid.toString())
+                                                                                                        .type(ServiceBindingType.APPLICATION)
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceBindingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<? extends ServiceBindingResource>
+            getServiceBindingResourceByApplicationGuidAndServiceInstanceGuid(UUID applicationGuid, UUID serviceInstanceGuid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .applicationId(applicationGuid.toString())
+                                                                                                        .serviceInstanceId(serviceInstanceGuid.toString())
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .build();
+        return getApplicationServiceBindingResources(pageRequestSupplier).singleOrEmpty();
+    }
+
+    private Flux<? extends ServiceBindingResource> getServiceBindingResourcesByApplicationGuid(UUID applicationGuid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .applicationId(applicationGuid.toString())
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .build();
+        return getApplicationServiceBindingResources(pageRequestSupplier);
+    }
+
+    private Flux<? extends ServiceBindingResource>
+            getApplicationServiceBindingResources(IntFunction<ListServiceBindingsRequest> pageRequestSupplier) {
+        return paginator.requestClientV3Resources(page -> delegate.serviceBindingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<CloudServicePlan> findServicePlansByBrokerGuid(UUID brokerGuid) {
+        return findServiceOfferingsByBrokerGuid(brokerGuid).flatMapIterable(CloudServiceOffering::getServicePlans);
+    }
+
+    private Mono<Void> updateServicePlanVisibility(CloudServicePlan servicePlan, ServicePlanVisibility visibility) {
+        return updateServicePlanVisibility(getGuid(servicePlan), visibility);
+    }
+
+    private Mono<Void> updateServicePlanVisibility(UUID servicePlanGuid, ServicePlanVisibility visibility) {
+        return delegate.servicePlansV3()
+                       .updateVisibility(UpdateServicePlanVisibilityRequest.builder()
+                                                                           .servicePlanId(servicePlanGuid.toString())
+                                                                           .type(Visibility.from(visibility.toString()))
+                                                                           .build())
+                       .then();
+    }
+
+    private Mono<? extends Task> getTaskResource(UUID guid) {
+        GetTaskRequest request = GetTaskRequest.builder()
+                                               .taskId(guid.toString())
+                                               .build();
+        return delegate.tasks()
+                       .get(request);
+    }
+
+    private Flux<? extends Task> getTaskResourcesByApplicationGuid(UUID applicationGuid) {
+        IntFunction<ListTasksRequest> pageRequestSupplier = page -> ListTasksRequest.builder()
+                                                                                    .applicationId(applicationGuid.toString())
+                                                                                    .page(page)
+                                                                                    .perPage(getPageSize(ResourceType.TASK))
+                                                                                    .build();
+        return paginator.requestClientV3Resources(page -> delegate.tasks()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<CloudTask> createTask(UUID applicationGuid, CloudTask task) {
+        return fetchMono(() -> createTaskResource(applicationGuid, task), ImmutableRawCloudTask::of);
+    }
+
+    private Mono<? extends Task> createTaskResource(UUID applicationGuid, CloudTask task) {
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                                                     .applicationId(applicationGuid.toString())
+                                                     .command(task.getCommand())
+                                                     .name(task.getName())
+                                                     .memoryInMb(task.getLimits()
+                                                                     .getMemory())
+                                                     .diskInMb(task.getLimits()
+                                                                   .getDisk())
+                                                     .build();
+        return delegate.tasks()
+                       .create(request);
+    }
+
+    private Mono<? extends Task> cancelTaskResource(UUID taskGuid) {
+        CancelTaskRequest request = CancelTaskRequest.builder()
+                                                     .taskId(taskGuid.toString())
+                                                     .build();
+        return delegate.tasks()
+                       .cancel(request);
+    }
+
+    private Mono<CloudPackage> startUpload(String applicationName, Function<UUID, Mono<CloudPackage>> packageUploader) {
+        Assert.notNull(applicationName, "AppName must not be null");
+
+        Mono<CloudPackage> createdPackage = withApplicationGuid(applicationName, this::createPackageForApplication);
+        return createdPackage.map(this::getGuid)
+                             .flatMap(packageUploader);
+    }
+
+    private Mono<CloudPackage> uploadPackage(UUID packageGuid, ApplicationArchive archive, UploadStatusCallback callback) {
+        ZipStreamer zipStreamer = new ZipStreamer(archive);
+        if (streamingUploadClient != null && configuration.shouldZipArchivesWhileUploading()) {
+            // The size of the zip is only known once it is written, so it is sent in a chunked request
+            Flux<byte[]> bits = prepareBits(zipStreamer.stream(), StreamingUploadClient.UNKNOWN_SIZE, callback);
+            return streamingUploadClient.uploadPackage(packageGuid.toString(), bits, StreamingUploadClient.UNKNOWN_SIZE)
+                                        .then(getPackage(packageGuid));
+        }
+        return Mono.using(() -> createTemporaryArchive(zipStreamer), file -> uploadPackage(packageGuid, file, callback),
+                          this::deleteTemporaryArchive)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Flux<byte[]> prepareBits(Flux<byte[]> chunks, long size, UploadStatusCallback callback) {
+        return UploadProgressTracker.track(bandwidthLimiter.limit(chunks), size, callback);
+    }
+
+    private Mono<CloudPackage> uploadApplication(ApplicationUpload upload) {
+        if (upload.getArchive() != null) {
+            return asyncUploadApplication(upload.getApplicationName(), upload.getArchive(), upload.getCallback());
+        }
+        return asyncUploadApplication(upload.getApplicationName(), upload.getFile(), upload.getCallback());
+    }
+
+    // Archives are compared by the size of their files before compression
+    private static long estimateUploadSize(ApplicationUpload upload) {
+        ApplicationArchive archive = upload.getArchive();
+        if (archive == null && Files.isDirectory(upload.getFile())) {
+            archive = new DirectoryApplicationArchive(upload.getFile());
+        }
+        if (archive == null) {
+            return upload.getFile()
+                         .toFile()
+                         .length();
+        }
+        long size = 0;
+        for (ApplicationArchive.Entry entry : archive.getEntries()) {
+            size += entry.getSize();
+        }
+        return size;
+    }
+
+    private Path createTemporaryArchive(ZipStreamer zipStreamer) throws IOException {
+        Path file = Files.createTempFile("application-", ".zip");
+        try {
+            zipStreamer.writeTo(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void deleteTemporaryArchive(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new CloudException(e.getMessage(), e);
+        }
+    }
+
+    private Mono<CloudPackage> uploadPackage(UUID packageGuid, Path file, UploadStatusCallback callback) {
+        if (resourceMatchingUploader != null && Files.isRegularFile(file)) {
+            return resourceMatchingUploader.upload(packageGuid, file, callback == null ? UploadStatusCallback.NONE : callback)
+                                           .then(getPackage(packageGuid));
+        }
+        if (streamingUploadClient != null && Files.isDirectory(file)) {
+            return uploadPackage(packageGuid, new DirectoryApplicationArchive(file), callback);
+        }
+        if (streamingUploadClient != null) {
+            long size = file.toFile()
+                            .length();
+            return streamingUploadClient.uploadPackage(packageGuid.toString(), prepareBits(PackageBits.fromFile(file), size, callback),
+                                                       size)
+                                        .then(getPackage(packageGuid));
+        }
+        return delegate.packages()
+                       .upload(UploadPackageRequest.builder()
+                                                   .bits(file)
+                                                   .packageId(packageGuid.toString())
+                                                   .build())
+                       .then(getPackage(packageGuid));
+    }
+
+    private Mono<CloudPackage> createPackageForApplication(UUID applicationGuid) {
+        return fetchMono(() -> createPackageResource(applicationGuid), ImmutableRawCloudPackage::of);
+    }
+
+    private Mono<? extends org.cloudfoundry.client.v3.packages.Package> createPackageResource(UUID applicationGuid) {
+        CreatePackageRequest request = CreatePackageRequest.builder()
+                                                           .type(PackageType.BITS)
+                                                           .relationships(buildPackageRelationships(applicationGuid))
+                                                           .build();
+        return delegate.packages()
+                       .create(request);
+    }
+
+    private PackageRelationships buildPackageRelationships(UUID applicationGuid) {
+        return PackageRelationships.builder()
+                                   .application(buildToOneRelationship(applicationGuid))
+                                   .build();
+    }
+
+    private ToOneRelationship buildToOneRelationship(UUID guid) {
+        return ToOneRelationship.builder()
+                                .data(buildRelationship(guid.toString()))
+                                .build();
+    }
+
+    private ToOneRelationship buildToOneRelationship(String guid) {
+        return ToOneRelationship.builder()
+                                .data(buildRelationship(guid))
+                                .build();
+    }
+
+    private Relationship buildRelationship(String guid) {
+        return Relationship.builder()
+                           .id(guid)
+                           .build();
+    }
+
+    private Mono<? extends Build> createBuildResource(UUID packageGuid) {
+        CreateBuildRequest request = CreateBuildRequest.builder()
+                                                       .getPackage(buildRelationship(packageGuid.toString()))
+                                                       .build();
+        return delegate.builds()
+                       .create(request);
+    }
+
+    private Mono<? extends Build> getBuildResource(UUID buildGuid) {
+        GetBuildRequest request = GetBuildRequest.builder()
+                                                 .buildId(buildGuid.toString())
+                                                 .build();
+        return delegate.builds()
+                       .get(request);
+    }
+
+    private Flux<? extends Build> getBuildResourcesByApplicationGuid(UUID applicationGuid) {
+        IntFunction<ListApplicationBuildsRequest> pageRequestSupplier = page -> ListApplicationBuildsRequest.builder()
+                                                                                                            .applicationId(applicationGuid.toString())
+                                                                                                            .page(page)
+                                                                                                            .perPage(getPageSize(ResourceType.BUILD))
+                                                                                                            .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .listBuilds(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<? extends Build> getBuildResourcesByPackageGuid(UUID packageGuid) {
+        IntFunction<ListBuildsRequest> pageRequestSupplier = page -> ListBuildsRequest.builder()
+                                                                                      .packageId(packageGuid.toString())
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.BUILD))
+                                                                                      .build();
+        return paginator.requestClientV3Resources(page -> delegate.builds()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private void assertSpaceProvided(String operation) {
+        Assert.notNull(target, "Unable to " + operation + " without specifying organization and space to use.");
+    }
+
+    private Mono<Void> removeRoutes(List<RouteResource> routes, UUID applicationGuid) {
+        return Flux.fromIterable(routes)
+                   .concatMap(route -> Flux.fromIterable(route.getDestinations())
+                                           .filter(destination -> destination.getApplication()
+                                                                             .getApplicationId()
+                                                                             .equals(applicationGuid.toString()))
+                                           .concatMap(destination -> unbindRoute(route.getId(), destination.getDestinationId())))
+                   .then();
+    }
+
+    private Mono<Void> addRoutes(Set<CloudRoute> routes, UUID applicationGuid) {
+        return getDomainsFromRoutes(routes).flatMapMany(domains -> Flux.fromIterable(routes)
+                                                                       .concatMap(route -> addRoute(route, domains, applicationGuid)))
+                                           .then();
+    }
+
+    private Mono<Void> addRoute(CloudRoute route, Map<String, UUID> domains, UUID applicationGuid) {
+        validateDomainForRoute(route, domains);
+        UUID domainGuid = domains.get(route.getDomain()
+                                           .getName());
+        return getOrAddRoute(domainGuid, route.getHost(), route.getPath()).flatMap(routeGuid -> bindRoute(routeGuid, applicationGuid));
+    }
+
+    private void validateDomainForRoute(CloudRoute route, Map<String, UUID> existingDomains) {
+        String domain = route.getDomain()
+                             .getName();
+        if (!StringUtils.hasLength(domain) || !existingDomains.containsKey(domain)) {
+            throw new CloudOperationException(HttpStatus.NOT_FOUND,
+                                              HttpStatus.NOT_FOUND.getReasonPhrase(),
+                                              "Domain '" + domain + "' not found for URI " + route.getUrl());
+        }
+    }
+
+    private Mono<Void> unbindRoute(String routeGuid, String destinationGuid) {
+        return delegate.routesV3()
+                       .removeDestinations(RemoveRouteDestinationsRequest.builder()
+                                                                         .routeId(routeGuid)
+                                                                         .destinationId(destinationGuid)
+                                                                         .build());
+    }
+
+    private Mono<Void> bindRoute(UUID routeGuid, UUID applicationGuid) {
+        return delegate.routesV3()
+                       .insertDestinations(InsertRouteDestinationsRequest.builder()
+                                                                         .routeId(routeGuid.toString())
+                                                                         .destination(createDestination(applicationGuid))
+                                                                         .build())
+                       .then();
+    }
+
+    private Destination createDestination(UUID applicationGuid) {
+        return Destination.builder()
+                          .application(org.cloudfoundry.client.v3.routes.Application.builder()
+                                                                                    .applicationId(applicationGuid.toString())
+                                                                                    .build())
+                          .build();
+    }
+
+    private Mono<UUID> getOrAddRoute(UUID domainGuid, String host, String path) {
+        return getRouteGuid(domainGuid, host, path).switchIfEmpty(Mono.defer(() -> doAddRoute(domainGuid, host, path)));
+    }
+
+    private Mono<UUID> doAddRoute(UUID domainGuid, String host, String path) {
+        assertSpaceProvided("add route");
+        return delegate.routesV3()
+                       .create(CreateRouteRequest.builder()
+                                                 .host(host)
+                                                 .path(path)
+                                                 .relationships(RouteRelationships.builder()
+                                                                                  .domain(buildToOneRelationship(domainGuid))
+                                                                                  .space(buildToOneRelationship(getTargetSpaceGuid()))
+                                                                                  .build())
+                                                 .build())
+                       .map(this::getGuid);
+    }
+
+    private Mono<Void> doCreateDomain(String name) {
+        return delegate.domainsV3()
+                       .create(CreateDomainRequest.builder()
+                                                  .name(name)
+                                                  .relationships(DomainRelationships.builder()
+                                                                                    .organization(buildToOneRelationship(getTargetOrganizationGuid()))
+                                                                                    .build())
+                                                  .build())
+                       .then();
+    }
+
+    private Mono<Void> doDeleteDomain(UUID guid) {
+        return delegate.domainsV3()
+                       .delete(DeleteDomainRequest.builder()
+                                                  .domainId(guid.toString())
+                                                  .build())
+                       .flatMap(jobId -> jobTracker.awaitJob(delegate, jobId, DELETE_JOB_TIMEOUT));
+    }
+
+    private Mono<Void> doDeleteRoute(UUID guid) {
+        return delegate.routesV3()
+                       .delete(DeleteRouteRequest.builder()
+                                                 .routeId(guid.toString())
+                                                 .build())
+                       .flatMap(jobId -> jobTracker.awaitJob(delegate, jobId, DELETE_JOB_TIMEOUT));
+    }
+
+    /**
+     * Returns as soon as the deletion is accepted, because callers follow its progress through the last operation of the service instance.
+     * Only bulk deletions wait for the resulting jobs.
+     */
+    private Mono<Void> doDeleteServiceInstance(UUID serviceInstanceGuid) {
+        return delegate.serviceInstancesV3()
+                       .delete(DeleteServiceInstanceRequest.builder()
+                                                           .serviceInstanceId(serviceInstanceGuid.toString())
+                                                           .build())
+                       .then();
+    }
+
+    private Mono<String> doUnbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return getServiceBindingGuid(applicationGuid,
+                                     serviceInstanceGuid).switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                                     "Not Found",
+                                                                                                                     "Service binding between service with GUID "
+                                                                                                                         + serviceInstanceGuid
+                                                                                                                         + " and application with GUID "
+                                                                                                                         + applicationGuid
+                                                                                                                         + " not found.")))
+                                                         .flatMap(this::doDeleteServiceBinding);
+    }
+
+    private Mono<String> doDeleteServiceBinding(UUID guid) {
+        return delegate.serviceBindingsV3()
+                       .delete(DeleteServiceBindingRequest.builder()
+                                                          .serviceBindingId(guid.toString())
+                                                          .build());
+    }
+
+    private Mono<CloudDomain> findDomainByName(String name, boolean required) {
+        return failIfRequiredAndMissing(findDomainByName(name), required, "Domain " + name + " not found.");
+    }
+
+    private Mono<CloudDomain> findDomainByName(String name) {
+        return fetchMono(() -> getDomainResourceByName(name), ImmutableRawCloudDomain::of);
+    }
+
+    private Flux<CloudDomain> findDomainsByOrganizationGuid(UUID organizationGuid) {
+        return fetchFlux(() -> getDomainResourcesByOrganizationGuid(organizationGuid), ImmutableRawCloudDomain::of);
+    }
+
+    private Mono<DomainResource> getDomainResourceByName(String name) {
+        IntFunction<ListDomainsRequest> pageRequestSupplier = page -> ListDomainsRequest.builder()
+                                                                                        .name(name)
+                                                                                        .page(page)
+                                                                                        .perPage(getPageSize(ResourceType.DOMAIN))
+                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.domainsV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty();
+    }
+
+    private Flux<DomainResource> getDomainResources() {
+        IntFunction<ListDomainsRequest> pageRequestSupplier = page -> ListDomainsRequest.builder()
+                                                                                        .page(page)
+                                                                                        .perPage(getPageSize(ResourceType.DOMAIN))
+                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.domainsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<DomainResource> getSharedDomainResources() {
+        return getDomainResources().filter(domain -> domain.getRelationships()
+                                                           .getOrganization()
+                                                           .getData() == null);
+    }
+
+    private Flux<DomainResource> getPrivateDomainResources() {
+        return getDomainResources().filter(domain -> domain.getRelationships()
+                                                           .getOrganization()
+                                                           .getData() != null);
+    }
+
+    private Flux<DomainResource> getDomainResourcesByOrganizationGuid(UUID organizationGuid) {
+        IntFunction<ListOrganizationDomainsRequest> pageRequestSupplier = page -> ListOrganizationDomainsRequest.builder()
+                                                                                                                .organizationId(organizationGuid.toString())
+                                                                                                                .page(page)
+                                                                                                                .perPage(getPageSize(ResourceType.DOMAIN))
+                                                                                                                .build();
+        return paginator.requestClientV3Resources(page -> delegate.organizationsV3()
+                                                                  .listDomains(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<DomainResource> getDomainResourcesByNamesInBatches(Set<String> names) {
+        return Flux.fromIterable(toBatches(names, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getDomainResourcesByNames);
+    }
+
+    private Flux<DomainResource> getDomainResourcesByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Flux.empty();
+        }
+        IntFunction<ListDomainsRequest> pageRequestSupplier = page -> ListDomainsRequest.builder()
+                                                                                        .names(names)
+                                                                                        .page(page)
+                                                                                        .perPage(getPageSize(ResourceType.DOMAIN))
+                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.domainsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<CloudSpace> findSpacesByOrganizationGuid(UUID organizationGuid) {
+        IntFunction<ListSpacesRequest> pageRequestSupplier = page -> ListSpacesRequest.builder()
+                                                                                      .organizationId(organizationGuid.toString())
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.SPACE))
+                                                                                      .build();
+        return findSpaces(pageRequestSupplier);
+    }
+
+    private Flux<CloudSpace> findSpaces(IntFunction<ListSpacesRequest> pageRequestSupplier) {
+        if (sideLoadingClient == null) {
+            return fetchFluxWithAuxiliaryContent(ResourceType.SPACE, () -> getSpaceResources(pageRequestSupplier),
+                                                 this::zipWithAuxiliarySpaceContent);
+        }
+        return paginator.requestClientV3Pages(page -> sideLoadingClient.listSpaces(pageRequestSupplier.apply(page)))
+                        .flatMapIterable(this::toRawCloudSpaces)
+                        .map(Derivable::derive);
+    }
+
+    private List<RawCloudSpace> toRawCloudSpaces(ListSpacesWithOrganizationsResponse page) {
+        Map<String, OrganizationResource> organizations = Optional.ofNullable(page.getIncluded())
+                                                                  .map(ListSpacesWithOrganizationsResponse.Included::getOrganizations)
+                                                                  .orElse(Collections.emptyList())
+                                                                  .stream()
+                                                                  .collect(Collectors.toMap(OrganizationResource::getId,
+                                                                                            Function.identity(), (a, b) -> a));
+        return page.getResources()
+                   .stream()
+                   .map(space -> ImmutableRawCloudSpace.builder()
+                                                       .space(space)
+                                                       .organization(Optional.ofNullable(organizations.get(getOrganizationId(space)))
+                                                                             .map(ImmutableRawCloudOrganization::of)
+                                                                             .orElse(null))
+                                                       .build())
+                   .collect(Collectors.toList());
+    }
+
+    private String getOrganizationId(Space space) {
+        return space.getRelationships()
+                    .getOrganization()
+                    .getData()
+                    .getId();
+    }
+
+    private Mono<CloudSpace> findSpaceByOrganizationGuidAndName(UUID organizationGuid, String spaceName, boolean required) {
+        return failIfRequiredAndMissing(findSpaceByOrganizationGuidAndName(organizationGuid, spaceName), required,
+                                        "Space " + spaceName + " not found in organization with GUID " + organizationGuid + ".");
+    }
+
+    private Mono<CloudSpace> findSpaceByOrganizationGuidAndName(UUID organizationGuid, String spaceName) {
+        return fetchMonoWithAuxiliaryContent(() -> getSpaceResourceByOrganizationGuidAndName(organizationGuid, spaceName),
+                                             this::zipWithAuxiliarySpaceContent);
+    }
+
+    private Mono<? extends Space> getSpaceResource(UUID guid) {
+        GetSpaceRequest request = GetSpaceRequest.builder()
+                                                 .spaceId(guid.toString())
+                                                 .build();
+        return delegate.spacesV3()
+                       .get(request);
+    }
+
+    private Mono<SpaceResource> getSpaceResourceByOrganizationGuidAndName(UUID organizationGuid, String name) {
+        IntFunction<ListSpacesRequest> pageRequestSupplier = page -> ListSpacesRequest.builder()
+                                                                                      .organizationId(organizationGuid.toString())
+                                                                                      .name(encodeAsQueryParam(name))
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.SPACE))
+                                                                                      .build();
+        return paginator.requestClientV3Resources(page -> delegate.spacesV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty();
+    }
+
+    private Flux<SpaceResource> getSpaceResources(IntFunction<ListSpacesRequest> requestForPage) {
+        return paginator.requestClientV3Resources(page -> delegate.spacesV3()
+                                                                  .list(requestForPage.apply(page)));
+    }
+
+    private Mono<Derivable<CloudSpace>> zipWithAuxiliarySpaceContent(Space space) {
+        UUID organizationGuid = UUID.fromString(space.getRelationships()
+                                                     .getOrganization()
+                                                     .getData()
+                                                     .getId());
+        return getOrganizationMono(organizationGuid).map(organization -> ImmutableRawCloudSpace.builder()
+                                                                                               .space(space)
+                                                                                               .organization(organization)
+                                                                                               .build());
+    }
+
+    private Mono<? extends Derivable<CloudOrganization>> getOrganizationMono(UUID guid) {
+        return fetchMono(() -> getOrganizationResource(guid), ImmutableRawCloudOrganization::of);
+    }
+
+    private Mono<CloudOrganization> findOrganization(String name) {
+        return fetchMono(() -> getOrganizationResourceByName(name), ImmutableRawCloudOrganization::of);
+    }
+
+    private Flux<OrganizationResource> getOrganizationResources() {
+        IntFunction<ListOrganizationsRequest> pageRequestSupplier = page -> ListOrganizationsRequest.builder()
+                                                                                                    .page(page)
+                                                                                                    .perPage(getPageSize(ResourceType.ORGANIZATION))
+                                                                                                    .build();
+        return getOrganizationResources(pageRequestSupplier);
+    }
+
+    private Mono<? extends Organization> getOrganizationResource(UUID guid) {
+        GetOrganizationRequest request = GetOrganizationRequest.builder()
+                                                               .organizationId(guid.toString())
+                                                               .build();
+        return delegate.organizationsV3()
+                       .get(request);
+    }
+
+    private Mono<OrganizationResource> getOrganizationResourceByName(String name) {
+        IntFunction<ListOrganizationsRequest> pageRequestSupplier = page -> ListOrganizationsRequest.builder()
+                                                                                                    .name(encodeAsQueryParam(name))
+                                                                                                    .page(page)
+                                                                                                    .perPage(getPageSize(ResourceType.ORGANIZATION))
+                                                                                                    .build();
+        return getOrganizationResources(pageRequestSupplier).singleOrEmpty();
+    }
+
+    private Flux<OrganizationResource> getOrganizationResources(IntFunction<ListOrganizationsRequest> pageRequestSupplier) {
+        return paginator.requestClientV3Resources(page -> delegate.organizationsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<CloudRoute> findRoutes(CloudDomain domain) {
+        return fetchFlux(() -> getRouteResourcesByDomainGuidAndSpaceGuid(domain.getGuid(), getTargetSpaceGuid()),
+                         ImmutableRawCloudRoute::of);
+    }
+
+    private Flux<RouteResource> getRouteResourcesByDomainGuidAndSpaceGuid(UUID domainGuid, UUID spaceGuid) {
+        IntFunction<ListRoutesRequest> pageRequestSupplier = page -> ListRoutesRequest.builder()
+                                                                                      .domainId(domainGuid.toString())
+                                                                                      .spaceId(spaceGuid.toString())
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.ROUTE))
+                                                                                      .build();
+        return paginator.requestClientV3Resources(page -> delegate.routesV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<RouteResource> getRouteResourcesByDomainGuidHostAndPath(UUID domainGuid, String host, String path) {
+        ListRoutesRequest.Builder requestBuilder = ListRoutesRequest.builder();
+        if (host != null) {
+            requestBuilder.host(host);
+        }
+        if (path != null) {
+            requestBuilder.path(path);
+        }
+        requestBuilder.spaceId(getTargetSpaceGuid().toString())
+                      .domainId(domainGuid.toString())
+                      .perPage(getPageSize(ResourceType.ROUTE));
+
+        return paginator.requestClientV3Resources(page -> delegate.routesV3()
+                                                                  .list(requestBuilder.page(page)
+                                                                                      .build()));
+    }
+
+    private Flux<RouteResource> getRouteResourcesByAppGuid(UUID applicationGuid) {
+        IntFunction<ListApplicationRoutesRequest> pageSupplier = page -> ListApplicationRoutesRequest.builder()
+                                                                                                     .applicationId(applicationGuid.toString())
+                                                                                                     .page(page)
+                                                                                                     .perPage(getPageSize(ResourceType.ROUTE))
+                                                                                                     .build();
+        return paginator.requestClientV3Resources(page -> delegate.applicationsV3()
+                                                                  .listRoutes(pageSupplier.apply(page)));
+    }
+
+    private Flux<CloudServiceOffering> findServiceOfferingsByBrokerGuid(UUID brokerGuid) {
+        return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_OFFERING, () -> getServiceResourcesByBrokerGuid(brokerGuid),
+                                             this::zipWithAuxiliaryServiceOfferingContent);
+    }
+
+    private Flux<CloudServiceOffering> findServiceOfferingsByLabel(String label) {
+        Assert.notNull(label, "Service label must not be null");
+        return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_OFFERING, () -> getServiceResourcesByLabel(label),
+                                             this::zipWithAuxiliaryServiceOfferingContent);
+    }
+
+    private Flux<CloudServiceOffering> findServiceOfferingsByLabelAndBrokerName(String label, String brokerName) {
+        Assert.notNull(label, "Service label must not be null");
+        Assert.notNull(brokerName, "Service broker must not be null");
+        return fetchFluxWithAuxiliaryContent(ResourceType.SERVICE_OFFERING,
+                                             () -> getServiceResourcesByLabelAndBrokerName(label, brokerName),
+                                             this::zipWithAuxiliaryServiceOfferingContent);
+    }
+
+    private Flux<? extends ServiceOfferingResource> getServiceResources() {
+        IntFunction<ListServiceOfferingsRequest> pageRequestSupplier = page -> ListServiceOfferingsRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_OFFERING))
+                                                                                                          .build();
+        return getServiceResources(pageRequestSupplier);
+    }
+
+    protected Mono<? extends ServiceOffering> getServiceOffering(String offeringId) {
+        GetServiceOfferingRequest request = GetServiceOfferingRequest.builder()
+                                                                     .serviceOfferingId(offeringId)
+                                                                     .build();
+        return configuration.getServiceCatalogCache()
+                            .getServiceOfferings()
+                            .get(offeringId, guid -> delegate.serviceOfferingsV3()
+                                                             .get(request))
+                            .onErrorMap(this::isForbidden,
+                                        t -> new CloudOperationException(HttpStatus.FORBIDDEN,
+                                                                         HttpStatus.FORBIDDEN.getReasonPhrase(),
+                                                                         MessageFormat.format(Messages.SERVICE_OFFERING_WITH_GUID_0_IS_NOT_AVAILABLE,
+                                                                                              offeringId),
+                                                                         t))
+                            .onErrorMap(this::isNotFound,
+                                        t -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                         HttpStatus.NOT_FOUND.getReasonPhrase(),
+                                                                         MessageFormat.format(Messages.SERVICE_OFFERING_WITH_GUID_0_NOT_FOUND,
+                                                                                              offeringId),
+                                                                         t));
+    }
+
+    private Flux<? extends ServiceOfferingResource> getServiceResourcesByBrokerGuid(UUID brokerGuid) {
+        IntFunction<ListServiceOfferingsRequest> pageRequestSupplier = page -> ListServiceOfferingsRequest.builder()
+                                                                                                          .serviceBrokerId(brokerGuid.toString())
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_OFFERING))
+                                                                                                          .build();
+        return getServiceResources(pageRequestSupplier);
+    }
+
+    private Flux<? extends ServiceOfferingResource> getServiceResourcesByLabel(String label) {
+        IntFunction<ListServiceOfferingsRequest> pageRequestSupplier = page -> ListServiceOfferingsRequest.builder()
+                                                                                                          .name(label)
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_OFFERING))
+                                                                                                          .build();
+        return getServiceResources(pageRequestSupplier);
+    }
+
+    private Flux<? extends ServiceOfferingResource> getServiceResourcesByLabelAndBrokerName(String label, String brokerName) {
+        IntFunction<ListServiceOfferingsRequest> pageRequestSupplier = page -> ListServiceOfferingsRequest.builder()
+                                                                                                          .name(label)
+                                                                                                          .serviceBrokerName(brokerName)
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_OFFERING))
+                                                                                                          .build();
+        return getServiceResources(pageRequestSupplier);
+    }
+
+    private Flux<? extends ServiceOfferingResource> getServiceResources(IntFunction<ListServiceOfferingsRequest> pageRequestSupplier) {
+        return paginator.requestClientV3Resources(page -> delegate.serviceOfferingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<Derivable<CloudServiceOffering>> zipWithAuxiliaryServiceOfferingContent(ServiceOfferingResource serviceOffering) {
+        UUID serviceOfferingGuid = getGuid(serviceOffering);
+        return getServicePlansFlux(serviceOfferingGuid).collectList()
+                                                       .map(servicePlans -> ImmutableRawCloudServiceOffering.builder()
+                                                                                                            .serviceOffering(serviceOffering)
+                                                                                                            .servicePlans(servicePlans)
+                                                                                                            .build());
+    }
+
+    private Flux<CloudServicePlan> getServicePlansFlux(UUID serviceOfferingGuid) {
+        return fetchFlux(() -> getServicePlanResourcesByServiceOfferingGuid(serviceOfferingGuid), ImmutableRawCloudServicePlan::of);
+    }
+
+    protected Mono<? extends ServicePlan> getServicePlanResource(String servicePlanGuid, String serviceInstanceName) {
+        GetServicePlanRequest request = GetServicePlanRequest.builder()
+                                                             .servicePlanId(servicePlanGuid)
+                                                             .build();
+
+        return configuration.getServiceCatalogCache()
+                            .getServicePlans()
+                            .get(servicePlanGuid, guid -> delegate.servicePlansV3()
+                                                                  .get(request))
+                            .onErrorMap(this::isForbidden,
+                                        t -> new CloudOperationException(HttpStatus.FORBIDDEN,
+                                                                         HttpStatus.FORBIDDEN.getReasonPhrase(),
+                                                                         MessageFormat.format(Messages.SERVICE_PLAN_WITH_GUID_0_NOT_AVAILABLE_FOR_SERVICE_INSTANCE_1,
+                                                                                              servicePlanGuid, serviceInstanceName),
+                                                                         t))
+                            .onErrorMap(this::isNotFound,
+                                        t -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                         HttpStatus.NOT_FOUND.getReasonPhrase(),
+                                                                         MessageFormat.format(Messages.NO_SERVICE_PLAN_FOUND, servicePlanGuid,
+                                                                                              serviceInstanceName),
+                                                                         t));
+    }
+
+    private Flux<? extends ServicePlanResource> getServicePlanResourcesByServiceOfferingGuid(UUID serviceOfferingGuid) {
+        IntFunction<ListServicePlansRequest> pageRequestSupplier = page -> ListServicePlansRequest.builder()
+                                                                                                  .serviceOfferingId(serviceOfferingGuid.toString())
+                                                                                                  .page(page)
+                                                                                                  .perPage(getPageSize(ResourceType.SERVICE_PLAN))
+                                                                                                  .build();
+        return paginator.requestClientV3Resources(page -> delegate.servicePlansV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<? extends ServiceBindingResource> getServiceKeyResource(CloudServiceInstance serviceInstance) {
+        UUID serviceInstanceGuid = getGuid(serviceInstance);
+        return getServiceKeyResourcesByServiceInstanceGuid(serviceInstanceGuid);
+    }
+
+    private Flux<? extends ServiceBindingResource> getServiceKeyResourcesByServiceInstanceGuid(UUID serviceInstanceGuid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .serviceInstanceId(serviceInstanceGuid.toString())
+                                                                                                        .type(ServiceBindingType.KEY)
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceBindingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<? extends ServiceBindingResource> getServiceKeyResourceByNameAndServiceInstanceGuid(String name, UUID guid) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .serviceInstanceId(guid.toString())
+                                                                                                        .type(ServiceBindingType.KEY)
+                                                                                                        .name(name)
+                                                                                                        .page(page)
+                                                                                                        .perPage(getPageSize(ResourceType.SERVICE_BINDING))
+                                                                                                        .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceBindingsV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty();
+    }
+
+    private Mono<CloudStack> findStackResource(String name) {
+        return fetchMono(() -> getStackResourceByName(name), ImmutableRawCloudStack::of);
+    }
+
+    private Flux<? extends Stack> getStackResources() {
+        IntFunction<ListStacksRequest> pageRequestSupplier = page -> ListStacksRequest.builder()
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.STACK))
+                                                                                      .build();
+        return getStackResources(pageRequestSupplier);
+    }
+
+    private Mono<? extends Stack> getStackResourceByName(String name) {
+        IntFunction<ListStacksRequest> pageRequestSupplier = page -> ListStacksRequest.builder()
+                                                                                      .name(name)
+                                                                                      .page(page)
+                                                                                      .perPage(getPageSize(ResourceType.STACK))
+                                                                                      .build();
+        return getStackResources(pageRequestSupplier).singleOrEmpty();
+    }
+
+    private Flux<? extends Stack> getStackResources(IntFunction<ListStacksRequest> requestForPage) {
+        return paginator.requestClientV3Resources(page -> delegate.stacksV3()
+                                                                  .list(requestForPage.apply(page)));
+    }
+
+    private Flux<CloudEvent> findEventsByTarget(String target) {
+        return fetchFlux(() -> getEventResourcesByTarget(target), ImmutableRawCloudEvent::of);
+    }
+
+    private Flux<AuditEventResource> getEventResources() {
+        IntFunction<ListAuditEventsRequest> pageRequestSupplier = page -> ListAuditEventsRequest.builder()
+                                                                                                .page(page)
+                                                                                                .perPage(getPageSize(ResourceType.EVENT))
+                                                                                                .build();
+        return paginator.requestClientV3Resources(page -> delegate.auditEventsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Flux<AuditEventResource> getEventResourcesByTarget(String target) {
+        IntFunction<ListAuditEventsRequest> pageRequestSupplier = page -> ListAuditEventsRequest.builder()
+                                                                                                .targetId(target)
+                                                                                                .page(page)
+                                                                                                .perPage(getPageSize(ResourceType.EVENT))
+                                                                                                .build();
+        return paginator.requestClientV3Resources(page -> delegate.auditEventsV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<InstancesInfo> findApplicationInstances(UUID applicationGuid) {
+        return fetchMono(() -> getApplicationProcessStatsResource(applicationGuid), ImmutableRawInstancesInfo::of);
+    }
+
+    private Mono<GetApplicationProcessStatisticsResponse> getApplicationProcessStatsResource(UUID applicationGuid) {
+        return delegate.applicationsV3()
+                       .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                                                                                   .applicationId(applicationGuid.toString())
+                                                                                   .type("web")
+                                                                                   .build());
+    }
+
+    private Mono<CloudServiceBroker> findServiceBrokerByName(String name) {
+        return fetchMono(() -> getServiceBrokerResourceByName(name), ImmutableRawCloudServiceBroker::of);
+    }
+
+    private Flux<? extends ServiceBrokerResource> getServiceBrokerResources() {
+        IntFunction<ListServiceBrokersRequest> pageRequestSupplier = page -> ListServiceBrokersRequest.builder()
+                                                                                                      .page(page)
+                                                                                                      .perPage(getPageSize(ResourceType.SERVICE_BROKER))
+                                                                                                      .build();
+        return getServiceBrokerResources(pageRequestSupplier);
+    }
+
+    private Mono<? extends ServiceBrokerResource> getServiceBrokerResourceByName(String name) {
+        IntFunction<ListServiceBrokersRequest> pageRequestSupplier = page -> ListServiceBrokersRequest.builder()
+                                                                                                      .page(page)
+                                                                                                      .perPage(getPageSize(ResourceType.SERVICE_BROKER))
+                                                                                                      .name(name)
+                                                                                                      .build();
+        return getServiceBrokerResources(pageRequestSupplier).singleOrEmpty();
+    }
+
+    private Flux<? extends ServiceBrokerResource> getServiceBrokerResources(IntFunction<ListServiceBrokersRequest> pageRequestSupplier) {
+        return paginator.requestClientV3Resources(page -> delegate.serviceBrokersV3()
+                                                                  .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<CloudServicePlan> findPlanForService(CloudServiceInstance service, String planName) {
+        return getServiceOfferings(service).flatMapIterable(CloudServiceOffering::getServicePlans)
+                                           .filter(plan -> planName.equals(plan.getName()))
+                                           .next()
+                                           .switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                                                                       "Not Found",
+                                                                                                       "Service plan " + service.getPlan()
+                                                                                                           + " not found.")));
+    }
+
+    private Flux<CloudServiceOffering> getServiceOfferings(CloudServiceInstance service) {
+        if (service.getBroker() == null) {
+            return findServiceOfferingsByLabel(service.getLabel());
+        }
+        return findServiceOfferingsByLabelAndBrokerName(service.getLabel(), service.getBroker());
+    }
+
+    private Mono<UUID> getRequiredApplicationGuid(String name) {
+        return Mono.defer(() -> {
+            UUID cachedGuid = applicationGuids.get(name);
+            if (cachedGuid != null) {
+                return Mono.just(cachedGuid);
+            }
+            return getRequiredApplication(name).map(this::getGuid);
+        });
+    }
+
+    /**
+     * Runs an operation with the GUID of the named application. When the operation fails with 404 for a cached GUID, the GUID is looked
+     * up again. Only if the application has a different GUID now (e.g. it was recreated by someone else), the operation is retried once
+     * with that GUID. Otherwise the 404 concerns something else and is passed on.
+     */
+    private <T> Mono<T> withApplicationGuid(String applicationName, Function<UUID, Mono<T>> operation) {
+        return Mono.defer(() -> {
+            UUID cachedGuid = applicationGuids.get(applicationName);
+            if (cachedGuid == null) {
+                return getRequiredApplicationGuid(applicationName).flatMap(operation);
+            }
+            return operation.apply(cachedGuid)
+                            .onErrorResume(this::isNotFound,
+                                           e -> lookUpChangedApplicationGuid(applicationName, cachedGuid, e).flatMap(operation));
+        });
+    }
+
+    /**
+     * Like {@link #withApplicationGuid(String, Function)}, but the operation is not retried once it has emitted elements, as they would be
+     * emitted again.
+     */
+    private <T> Flux<T> withApplicationGuidFlux(String applicationName, Function<UUID, Flux<T>> operation) {
+        return Flux.defer(() -> {
+            UUID cachedGuid = applicationGuids.get(applicationName);
+            if (cachedGuid == null) {
+                return getRequiredApplicationGuid(applicationName).flatMapMany(operation);
+            }
+            AtomicBoolean emitted = new AtomicBoolean();
+            return operation.apply(cachedGuid)
+                            .doOnNext(element -> emitted.set(true))
+                            .onErrorResume(e -> isNotFound(e) && !emitted.get(),
+                                           e -> lookUpChangedApplicationGuid(applicationName, cachedGuid, e).flatMapMany(operation));
+        });
+    }
+
+    /**
+     * @return the current GUID of the application if it differs from the cached one, or else the given error
+     */
+    private Mono<UUID> lookUpChangedApplicationGuid(String applicationName, UUID cachedGuid, Throwable error) {
+        applicationGuids.remove(applicationName, cachedGuid);
+        return getRequiredApplication(applicationName).map(this::getGuid)
+                                                      .flatMap(currentGuid -> currentGuid.equals(cachedGuid) ? Mono.error(error)
+                                                          : Mono.just(currentGuid));
+    }
+
+    private Mono<ServiceInstanceResource> getServiceInstanceByName(String name) {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .serviceInstanceName(name)
+                                                                                                          .page(page)
+                                                                                                          .perPage(getPageSize(ResourceType.SERVICE_INSTANCE))
+                                                                                                          .build();
+        return paginator.requestClientV3Resources(page -> delegate.serviceInstancesV3()
+                                                                  .list(pageRequestSupplier.apply(page)))
+                        .singleOrEmpty();
+    }
+
+    private Mono<UUID> getRequiredDomainGuid(String name) {
+        return findDomainByName(name, true).map(this::getGuid);
+    }
+
+    private Mono<UUID> getOrganizationGuid(String organizationName, boolean required) {
+        return getOrganization(organizationName, required).map(this::getGuid);
+    }
+
+    private Mono<Map<String, UUID>> getDomainsFromRoutes(Set<CloudRoute> routes) {
+        Set<String> domainNames = routes.stream()
+                                        .map(route -> route.getDomain()
+                                                           .getName())
+                                        .filter(StringUtils::hasLength)
+                                        .collect(Collectors.toSet());
+        return getDomainResourcesByNamesInBatches(domainNames).collectMap(DomainResource::getName,
+                                                                          domain -> UUID.fromString(domain.getId()));
+    }
+
+    private Mono<UUID> getRouteGuid(UUID domainGuid, String host, String path) {
+        return getRouteResourcesByDomainGuidHostAndPath(domainGuid, host, path).next()
+                                                                               .map(this::getGuid);
+    }
+
+    private Mono<UUID> getServiceBindingGuid(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return getServiceBindingResourceByApplicationGuidAndServiceInstanceGuid(applicationGuid, serviceInstanceGuid).map(this::getGuid);
+    }
+
+    @Override
+    public Mono<CloudPackage> getPackage(UUID packageGuid) {
+        return fetchMono(() -> getPackageResource(packageGuid), ImmutableRawCloudPackage::of);
+    }
+
+    private Mono<? extends Package> getPackageResource(UUID guid) {
+        GetPackageRequest request = GetPackageRequest.builder()
+                                                     .packageId(guid.toString())
+                                                     .build();
+        return delegate.packages()
+                       .get(request);
+    }
+
+    private UUID getTargetOrganizationGuid() {
+        return getGuid(target.getOrganization());
+    }
+
+    private UUID getTargetSpaceGuid() {
+        return getGuid(target);
+    }
+
+    private UUID getGuid(CloudEntity entity) {
+        return Optional.ofNullable(entity)
+                       .map(CloudEntity::getMetadata)
+                       .map(CloudMetadata::getGuid)
+                       .orElse(null);
+    }
+
+    private UUID getGuid(org.cloudfoundry.client.v3.Resource resource) {
+        return Optional.ofNullable(resource)
+                       .map(org.cloudfoundry.client.v3.Resource::getId)
+                       .map(UUID::fromString)
+                       .orElse(null);
+    }
+
+    private boolean isForbidden(Throwable t) {
+        if (t instanceof AbstractCloudFoundryException) {
+            AbstractCloudFoundryException e = (AbstractCloudFoundryException) t;
+            return e.getStatusCode() == HttpStatus.FORBIDDEN.value();
+        }
+        return false;
+    }
+
+    private boolean isNotFound(Throwable t) {
+        if (t instanceof AbstractCloudFoundryException) {
+            AbstractCloudFoundryException e = (AbstractCloudFoundryException) t;
+            return e.getStatusCode() == HttpStatus.NOT_FOUND.value();
+        }
+        return false;
+    }
+
+    private String encodeAsQueryParam(String param) {
+        return UriUtil.encodeChars(param, CHARS_TO_ENCODE);
+    }
+
+    private Integer getPageSize(ResourceType resourceType) {
+        return configuration.getPageSize(resourceType)
+                            .orElse(null);
+    }
+
+    private static <T> Mono<T> failIfRequiredAndMissing(Mono<T> resource, boolean required, String notFoundMessage) {
+        if (!required) {
+            return resource;
+        }
+        return resource.switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", notFoundMessage)));
+    }
+
+    private <T, R, D extends Derivable<T>> Flux<T> fetchFluxWithAuxiliaryContent(ResourceType resourceType,
+                                                                                 Supplier<Flux<R>> resourceSupplier,
+                                                                                 Function<R, Mono<D>> resourceMapper) {
+        FanOutConfiguration fanOut = configuration.getFanOutConfiguration(resourceType);
+        Flux<R> resources = resourceSupplier.get();
+        if (fanOut.isOrdered()) {
+            return resources.flatMapSequential(resourceMapper, fanOut.getConcurrency(), fanOut.getPrefetch())
+                            .map(Derivable::derive);
+        }
+        return resources.flatMap(resourceMapper, fanOut.getConcurrency(), fanOut.getPrefetch())
+                        .map(Derivable::derive);
+    }
+
+    private <T, R, D extends Derivable<T>> Flux<T> fetchFlux(Supplier<Flux<R>> resourceSupplier, Function<R, D> resourceMapper) {
+        return resourceSupplier.get()
+                               .map(resourceMapper)
+                               .map(Derivable::derive);
+    }
+
+    private <T, R, D extends Derivable<T>> Mono<T> fetchMonoWithAuxiliaryContent(Supplier<Mono<R>> resourceSupplier,
+                                                                                 Function<R, Mono<D>> resourceMapper) {
+        return resourceSupplier.get()
+                               .flatMap(resourceMapper)
+                               .map(Derivable::derive);
+    }
+
+    private <T, R, D extends Derivable<T>> Mono<T> fetchMono(Supplier<Mono<R>> resourceSupplier, Function<R, D> resourceMapper) {
+        return resourceSupplier.get()
+                               .map(resourceMapper)
+                               .map(Derivable::derive);
+    }
+
+    private static class DeletionOutcome {
+
+        private final UUID guid;
+        private final Throwable error;
+
+        DeletionOutcome(UUID guid, Throwable error) {
+            this.guid = guid;
+            this.error = error;
+        }
+
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.Messages;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableResourceMatches;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatches;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatches.Resource;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatchingClient;
+import com.sap.cloudfoundry.client.facade.adapters.StreamingUploadClient;
+import com.sap.cloudfoundry.client.facade.util.DigestCache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Uploads application archives without the files which are already in the resource cache of the cloud controller. The archive entries
+ * are fingerprinted and matched against the cache, and only the entries which did not match are uploaded, next to the list of the
+ * matched ones.
+ *
+ */
+class ResourceMatchingUploader {
+
+    // The cloud controller does not cache smaller files by default, so matching them is pointless
+    static final long MINIMUM_MATCHED_SIZE = 64 * 1024;
+    private static final int MAX_RESOURCES_PER_REQUEST = 5000;
+    private static final int DEFAULT_FILE_MODE = 0744;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ResourceMatchingClient matchingClient;
+    private final StreamingUploadClient uploadClient;
+    private final BandwidthLimiter bandwidthLimiter;
+    private final DigestCache digestCache;
+
+    /**
+     * @param digestCache used to skip hashing archive entries which were hashed before; may be {@code null}
+     */
+    ResourceMatchingUploader(ResourceMatchingClient matchingClient, StreamingUploadClient uploadClient, BandwidthLimiter bandwidthLimiter,
+                             DigestCache digestCache) {
+        this.matchingClient = matchingClient;
+        this.uploadClient = uploadClient;
+        this.bandwidthLimiter = bandwidthLimiter;
+        this.digestCache = digestCache;
+    }
+
+    Mono<Void> upload(UUID packageGuid, Path archive, UploadStatusCallback callback) {
+        return computeResources(archive).flatMap(this::findCachedResources)
+                   .doOnNext(cachedResources -> callback.onCheckResources())
+                   .flatMap(cachedResources -> uploadUncachedResources(packageGuid, archive, cachedResources, callback))
+                   .then();
+    }
+
+    private Mono<List<Resource>> findCachedResources(List<Resource> resources) {
+        return Flux.fromIterable(resources)
+                   .buffer(MAX_RESOURCES_PER_REQUEST)
+                   .concatMap(chunk -> matchingClient.matchResources(toResourceMatches(chunk)))
+                   .flatMapIterable(ResourceMatches::getResources)
+                   .collectList();
+    }
+
+    private Mono<?> uploadUncachedResources(UUID packageGuid, Path archive, List<Resource> cachedResources,
+                                            UploadStatusCallback callback) {
+        return Mono.using(() -> createDeltaArchive(archive, cachedResources, callback),
+                          deltaArchive -> uploadClient.uploadPackage(packageGuid.toString(), cachedResources,
+                                                                     getBits(deltaArchive, callback), getSize(deltaArchive)),
+                          DeltaArchive::delete)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Flux<byte[]> getBits(DeltaArchive deltaArchive, UploadStatusCallback callback) {
+        Path file = deltaArchive.getFile();
+        if (file == null) {
+            return null;
+        }
+        return UploadProgressTracker.track(bandwidthLimiter.limit(PackageBits.fromFile(file)), getSize(deltaArchive), callback);
+    }
+
+    private static long getSize(DeltaArchive deltaArchive) {
+        Path file = deltaArchive.getFile();
+        return file == null ? 0 : file.toFile()
+                                      .length();
+    }
+
+    /**
+     * Fingerprints the entries of the archive which the cloud controller may have cached. The entries are hashed in parallel.
+     */
+    Mono<List<Resource>> computeResources(Path archive) {
+        return Mono.using(() -> new ZipFile(archive.toFile()),
+                          zipFile -> Flux.fromIterable(Collections.list(zipFile.getEntries()))
+                                         .filter(entry -> !entry.isDirectory() && entry.getSize() >= MINIMUM_MATCHED_SIZE)
+                                         .parallel()
+                                         .runOn(Schedulers.boundedElastic())
+                                         .map(entry -> toResource(archive, zipFile, entry))
+                                         .sequential()
+                                         .collectList(),
+                          ZipFile::closeQuietly)
+                   .onErrorMap(IOException.class,
+                               e -> new CloudException(String.format(Messages.CANT_READ_APPLICATION_ARCHIVE, archive, e.getMessage()), e));
+    }
+
+    private Resource toResource(Path archive, ZipFile zipFile, ZipArchiveEntry entry) {
+        try {
+            return ImmutableResourceMatches.ImmutableResource.builder()
+                                                             .path(entry.getName())
+                                                             .sizeInBytes(entry.getSize())
+                                                             .checksum(ImmutableResourceMatches.ImmutableChecksum.of(getSha1(zipFile, entry)))
+                                                             .mode(getMode(entry))
+                                                             .build();
+        } catch (IOException e) {
+            throw new CloudException(String.format(Messages.CANT_READ_APPLICATION_ARCHIVE, archive, e.getMessage()), e);
+        }
+    }
+
+    private String getSha1(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        // The CRC-32 of an entry is unknown only if it was never written to the central directory
+        if (digestCache == null || entry.getCrc() == -1) {
+            return toHex(computeSha1(zipFile, entry));
+        }
+        byte[] digest = digestCache.get(entry.getName(), entry.getSize(), entry.getCrc());
+        if (digest == null) {
+            digest = computeSha1(zipFile, entry);
+            digestCache.put(entry.getName(), entry.getSize(), entry.getCrc(), digest);
+        }
+        return toHex(digest);
+    }
+
+    private static byte[] computeSha1(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        MessageDigest digest = createSha1Digest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream content = zipFile.getInputStream(entry)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest createSha1Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String getMode(ZipArchiveEntry entry) {
+        int mode = entry.getUnixMode() & 0777;
+        return Integer.toOctalString(mode == 0 ? DEFAULT_FILE_MODE : mode);
+    }
+
+    static DeltaArchive createDeltaArchive(Path archive, List<Resource> cachedResources, UploadStatusCallback callback) {
+        Set<String> cachedPaths = cachedResources.stream()
+                                                 .map(Resource::getPath)
+                                                 .collect(Collectors.toSet());
+        DeltaArchive deltaArchive = new DeltaArchive();
+        try {
+            deltaArchive.file = Files.createTempFile("delta-", ".zip");
+            writeDeltaArchive(archive, cachedPaths, deltaArchive);
+        } catch (IOException e) {
+            deltaArchive.delete();
+            throw new CloudException(String.format(Messages.CANT_CREATE_DELTA_ARCHIVE, e.getMessage()), e);
+        }
+        if (deltaArchive.entryCount == 0) {
+            deltaArchive.delete();
+        }
+        callback.onMatchedFileNames(deltaArchive.uploadedFiles);
+        callback.onProcessMatchedResources((int) Math.min(deltaArchive.uploadedBytes, Integer.MAX_VALUE));
+        callback.onSkipCachedResources(deltaArchive.skippedBytes, deltaArchive.skippedBytes + deltaArchive.uploadedBytes);
+        return deltaArchive;
+    }
+
+    private static void writeDeltaArchive(Path archive, Set<String> cachedPaths, DeltaArchive deltaArchive) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile());
+            ZipArchiveOutputStream output = new ZipArchiveOutputStream(deltaArchive.file.toFile())) {
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                if (!entry.isDirectory() && cachedPaths.contains(entry.getName())) {
+                    deltaArchive.skippedBytes += entry.getSize();
+                    continue;
+                }
+                // Copies the compressed entry as it is, keeping its attributes
+                output.addRawArchiveEntry(entry, zipFile.getRawInputStream(entry));
+                deltaArchive.entryCount++;
+                if (!entry.isDirectory()) {
+                    deltaArchive.uploadedFiles.add(entry.getName());
+                    deltaArchive.uploadedBytes += entry.getSize();
+                }
+            }
+        }
+    }
+
+    private static ResourceMatches toResourceMatches(List<Resource> resources) {
+        return ImmutableResourceMatches.builder()
+                                       .resources(resources)
+                                       .build();
+    }
+
+    static class DeltaArchive {
+
+        private Path file;
+        private final Set<String> uploadedFiles = new TreeSet<>();
+        private int entryCount;
+        private long uploadedBytes;
+        private long skippedBytes;
+
+        Path getFile() {
+            return file;
+        }
+
+        Set<String> getUploadedFiles() {
+            return uploadedFiles;
+        }
+
+        long getSkippedBytes() {
+            return skippedBytes;
+        }
+
+        void delete() {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new CloudException(e.getMessage(), e);
+            }
+            file = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+/**
+ * Cloud controller resource types for which the REST client allows per-type tuning.
+ *
+ */
+public enum ResourceType {
+
+    APPLICATION, BUILD, DOMAIN, EVENT, ORGANIZATION, PACKAGE, ROLE, ROUTE, SERVICE_BINDING, SERVICE_BROKER, SERVICE_INSTANCE,
+    SERVICE_KEY, SERVICE_OFFERING, SERVICE_PLAN, SPACE, STACK, TASK
+
+}
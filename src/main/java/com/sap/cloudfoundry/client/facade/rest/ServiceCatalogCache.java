@@ -0,0 +1,40 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+
+import org.cloudfoundry.client.v3.serviceofferings.GetServiceOfferingResponse;
+import org.cloudfoundry.client.v3.serviceplans.GetServicePlanResponse;
+
+import com.sap.cloudfoundry.client.facade.util.ReactiveCache;
+
+/**
+ * The service plans and offerings which a user may see, by GUID. May be shared only between clients of the same user, as every user sees
+ * different plans and offerings.
+ *
+ */
+public class ServiceCatalogCache {
+
+    private final ReactiveCache<String, GetServicePlanResponse> servicePlans;
+    private final ReactiveCache<String, GetServiceOfferingResponse> serviceOfferings;
+
+    public ServiceCatalogCache(Duration timeToLive, int maximumSize) {
+        this.servicePlans = new ReactiveCache<>(timeToLive, maximumSize);
+        this.serviceOfferings = new ReactiveCache<>(timeToLive, maximumSize);
+    }
+
+    /**
+     * Creates a cache which always fetches the plans and offerings.
+     */
+    public static ServiceCatalogCache disabled() {
+        return new ServiceCatalogCache(Duration.ZERO, 0);
+    }
+
+    public ReactiveCache<String, GetServicePlanResponse> getServicePlans() {
+        return servicePlans;
+    }
+
+    public ReactiveCache<String, GetServiceOfferingResponse> getServiceOfferings() {
+        return serviceOfferings;
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.Status;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Watches the processing of uploaded packages. All watched packages are polled from a single timer, and the packages which are due on a
+ * tick are fetched together in as few requests as possible. Each package is polled less often the longer it is processed, between the
+ * minimum and the maximum poll interval.
+ * <p>
+ * A single monitor may serve many clients. The statuses of every package are fetched through the client which watches it.
+ *
+ */
+public class UploadMonitor {
+
+    private static final Duration DEFAULT_MINIMUM_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAXIMUM_POLL_INTERVAL = Duration.ofSeconds(5);
+    private static final int MAX_PACKAGES_PER_REQUEST = 50;
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private final Duration minimumPollInterval;
+    private final Duration maximumPollInterval;
+    private final Scheduler scheduler;
+    private final Set<WatchedUpload> uploads = ConcurrentHashMap.newKeySet();
+    private Disposable poller;
+
+    public UploadMonitor() {
+        this(DEFAULT_MINIMUM_POLL_INTERVAL, DEFAULT_MAXIMUM_POLL_INTERVAL, Schedulers.parallel());
+    }
+
+    UploadMonitor(Duration minimumPollInterval, Duration maximumPollInterval, Scheduler scheduler) {
+        this.minimumPollInterval = minimumPollInterval;
+        this.maximumPollInterval = maximumPollInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param uploadStatusesFetcher fetches the statuses of packages of one client; the packages which share a fetcher are fetched together
+     * @return a {@link Flux} which emits the status of the package on every poll and completes once the package is ready, has failed or
+     *         has expired. Cancelling the subscription stops watching the package.
+     */
+    Flux<Upload> watch(Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher, UUID packageGuid) {
+        return Flux.create(sink -> {
+            WatchedUpload upload = new WatchedUpload(uploadStatusesFetcher, packageGuid, sink);
+            sink.onDispose(() -> uploads.remove(upload));
+            uploads.add(upload);
+            startPolling();
+        });
+    }
+
+    /**
+     * Reports the status of the package to the callback until the package is processed or the callback unsubscribes.
+     *
+     * @return a handle which stops watching the package when disposed
+     */
+    Disposable watch(Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher, UUID packageGuid,
+                     UploadStatusCallback callback) {
+        UploadStatusCallback statusCallback = callback == null ? UploadStatusCallback.NONE : callback;
+        return watch(uploadStatusesFetcher, packageGuid).takeUntil(upload -> notify(statusCallback, upload))
+                                                        .subscribe(upload -> {
+                                                        }, e -> statusCallback.onError(e.getMessage()));
+    }
+
+    int getWatchedUploadCount() {
+        return uploads.size();
+    }
+
+    private static boolean notify(UploadStatusCallback callback, Upload upload) {
+        Status status = upload.getStatus();
+        boolean unsubscribe = callback.onProgress(status.toString());
+        if (unsubscribe || status == Status.READY) {
+            return true;
+        }
+        if (hasFailed(status)) {
+            callback.onError(upload.getErrorDetails()
+                                   .getDescription());
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isFinal(Status status) {
+        return status == Status.READY || hasFailed(status);
+    }
+
+    private static boolean hasFailed(Status status) {
+        return status == Status.EXPIRED || status == Status.FAILED;
+    }
+
+    private synchronized void startPolling() {
+        if (poller == null) {
+            poller = Flux.interval(minimumPollInterval, minimumPollInterval, scheduler)
+                         .onBackpressureDrop()
+                         .concatMap(tick -> pollDueUploads())
+                         .subscribe();
+        }
+    }
+
+    private synchronized void stopPollingIfIdle() {
+        if (uploads.isEmpty() && poller != null) {
+            poller.dispose();
+            poller = null;
+        }
+    }
+
+    private Mono<Void> pollDueUploads() {
+        return Flux.fromIterable(getDueUploadsByFetcher().entrySet())
+                   .concatMap(dueUploads -> Flux.fromIterable(dueUploads.getValue()
+                                                                        .keySet())
+                                                .buffer(MAX_PACKAGES_PER_REQUEST)
+                                                .map(packageGuids -> poll(dueUploads.getKey(), packageGuids, dueUploads.getValue())))
+                   .flatMap(Function.identity(), MAX_CONCURRENT_REQUESTS)
+                   .then(Mono.fromRunnable(this::stopPollingIfIdle));
+    }
+
+    private Map<Function<Collection<UUID>, Mono<Map<UUID, Upload>>>, Map<UUID, List<WatchedUpload>>> getDueUploadsByFetcher() {
+        Instant now = Instant.now();
+        return uploads.stream()
+                      .filter(upload -> !upload.nextPoll.isAfter(now))
+                      .collect(Collectors.groupingBy(upload -> upload.uploadStatusesFetcher,
+                                                     Collectors.groupingBy(upload -> upload.packageGuid)));
+    }
+
+    private Mono<Void> poll(Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher, List<UUID> packageGuids,
+                            Map<UUID, List<WatchedUpload>> dueUploads) {
+        return uploadStatusesFetcher.apply(packageGuids)
+                                    .doOnNext(statuses -> packageGuids.forEach(guid -> dispatch(statuses.get(guid), dueUploads.get(guid))))
+                                    .doOnError(e -> packageGuids.forEach(guid -> dueUploads.get(guid)
+                                                                                           .forEach(upload -> fail(upload, e))))
+                                    .onErrorResume(e -> Mono.empty())
+                                    .then();
+    }
+
+    private void dispatch(Upload status, List<WatchedUpload> watchers) {
+        for (WatchedUpload upload : watchers) {
+            if (status == null) {
+                fail(upload, new CloudOperationException(HttpStatus.NOT_FOUND,
+                                                         HttpStatus.NOT_FOUND.getReasonPhrase(),
+                                                         "Package " + upload.packageGuid + " not found."));
+                continue;
+            }
+            upload.sink.next(status);
+            if (isFinal(status.getStatus())) {
+                uploads.remove(upload);
+                upload.sink.complete();
+                continue;
+            }
+            upload.backOff();
+        }
+    }
+
+    private void fail(WatchedUpload upload, Throwable error) {
+        uploads.remove(upload);
+        upload.sink.error(error);
+    }
+
+    private class WatchedUpload {
+
+        private final Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher;
+        private final UUID packageGuid;
+        private final FluxSink<Upload> sink;
+        private Duration pollInterval = minimumPollInterval;
+        private Instant nextPoll = Instant.now();
+
+        WatchedUpload(Function<Collection<UUID>, Mono<Map<UUID, Upload>>> uploadStatusesFetcher, UUID packageGuid, FluxSink<Upload> sink) {
+            this.uploadStatusesFetcher = uploadStatusesFetcher;
+            this.packageGuid = packageGuid;
+            this.sink = sink;
+        }
+
+        void backOff() {
+            Duration doubled = pollInterval.multipliedBy(2);
+            pollInterval = doubled.compareTo(maximumPollInterval) <= 0 ? doubled : maximumPollInterval;
+            nextPoll = Instant.now()
+                              .plus(pollInterval);
+        }
+
+    }
+
+}
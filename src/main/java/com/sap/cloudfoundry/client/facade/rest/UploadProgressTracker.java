@@ -0,0 +1,128 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import com.sap.cloudfoundry.client.facade.UploadProgressCallback;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableUploadProgress;
+import com.sap.cloudfoundry.client.facade.domain.UploadProgress;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Counts the bytes of an upload as they are handed to the connection and reports the progress to an {@link UploadProgressCallback}, on a
+ * fixed interval, so that stalls are reported as well.
+ *
+ */
+class UploadProgressTracker {
+
+    static final Duration DEFAULT_REPORT_INTERVAL = Duration.ofSeconds(1);
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long totalBytes;
+    private final UploadProgressCallback callback;
+    private final Duration reportInterval;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoClock;
+
+    private long bytesSent;
+    private long startTime;
+    private long lastReportTime;
+    private long lastReportBytes;
+    private Disposable ticker;
+
+    UploadProgressTracker(long totalBytes, UploadProgressCallback callback, Duration reportInterval, Scheduler scheduler,
+                          LongSupplier nanoClock) {
+        this.totalBytes = totalBytes;
+        this.callback = callback;
+        this.reportInterval = reportInterval;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param totalBytes the size of the upload, or {@code -1} if it is not known
+     * @return the given chunks, counted if the callback is an {@link UploadProgressCallback}
+     */
+    static Flux<byte[]> track(Flux<byte[]> chunks, long totalBytes, UploadStatusCallback callback) {
+        if (!(callback instanceof UploadProgressCallback)) {
+            return chunks;
+        }
+        UploadProgressTracker tracker = new UploadProgressTracker(totalBytes, (UploadProgressCallback) callback, DEFAULT_REPORT_INTERVAL,
+                                                                  Schedulers.parallel(), System::nanoTime);
+        return tracker.track(chunks);
+    }
+
+    Flux<byte[]> track(Flux<byte[]> chunks) {
+        return chunks.doOnSubscribe(subscription -> start())
+                     .doOnNext(chunk -> onSent(chunk.length))
+                     .doOnComplete(this::complete)
+                     .doFinally(signal -> stop());
+    }
+
+    // Retried uploads subscribe to the chunks again and start counting from zero
+    private synchronized void start() {
+        bytesSent = 0;
+        lastReportBytes = 0;
+        startTime = nanoClock.getAsLong();
+        lastReportTime = startTime;
+        ticker = Flux.interval(reportInterval, scheduler)
+                     .subscribe(tick -> report());
+    }
+
+    private synchronized void onSent(long bytes) {
+        bytesSent += bytes;
+    }
+
+    private void complete() {
+        stop();
+        report();
+    }
+
+    private synchronized void stop() {
+        if (ticker != null) {
+            ticker.dispose();
+        }
+    }
+
+    void report() {
+        callback.onBytesSent(snapshot());
+    }
+
+    private synchronized UploadProgress snapshot() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - startTime;
+        long sinceLastReport = now - lastReportTime;
+        double averageThroughput = elapsed > 0 ? bytesSent * NANOS_PER_SECOND / elapsed : 0;
+        double currentThroughput = sinceLastReport > 0 ? (bytesSent - lastReportBytes) * NANOS_PER_SECOND / sinceLastReport : 0;
+        lastReportTime = now;
+        lastReportBytes = bytesSent;
+        return ImmutableUploadProgress.builder()
+                                      .bytesSent(bytesSent)
+                                      .totalBytes(totalBytes)
+                                      .currentThroughput(currentThroughput)
+                                      .averageThroughput(averageThroughput)
+                                      .elapsedTime(Duration.ofNanos(elapsed))
+                                      .remainingTime(computeRemainingTime(averageThroughput))
+                                      .build();
+    }
+
+    private Duration computeRemainingTime(double averageThroughput) {
+        if (totalBytes < 0) {
+            return null;
+        }
+        long remainingBytes = Math.max(totalBytes - bytesSent, 0);
+        if (remainingBytes == 0) {
+            return Duration.ZERO;
+        }
+        if (averageThroughput == 0) {
+            return null;
+        }
+        return Duration.ofNanos((long) (remainingBytes / averageThroughput * NANOS_PER_SECOND));
+    }
+
+}
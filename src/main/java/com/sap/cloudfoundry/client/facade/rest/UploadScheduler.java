@@ -0,0 +1,133 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs application uploads with a bounded number of them in progress at the same time. Waiting uploads are started smallest first,
+ * across all batches, which keeps the average time until an upload completes low. Estimating the sizes may walk whole directories, so it
+ * runs on the given scheduler instead of the caller's thread.
+ *
+ */
+class UploadScheduler {
+
+    private final int concurrency;
+    private final ToLongFunction<ApplicationUpload> sizeEstimator;
+    private final Scheduler estimationScheduler;
+    private final Queue<QueuedUpload> queue = new PriorityQueue<>(Comparator.comparingLong((QueuedUpload upload) -> upload.size)
+                                                                            .thenComparingLong(upload -> upload.sequence));
+    private int running;
+    private long sequence;
+
+    UploadScheduler(int concurrency, ToLongFunction<ApplicationUpload> sizeEstimator, Scheduler estimationScheduler) {
+        this.concurrency = concurrency;
+        this.sizeEstimator = sizeEstimator;
+        this.estimationScheduler = estimationScheduler;
+    }
+
+    /**
+     * Queues the uploads as soon as their sizes are estimated. An upload of which the size cannot be estimated fails without being
+     * started.
+     *
+     * @param uploader starts an upload, and is called once there is room for it
+     * @return the result of every upload by application name, in the order of the given uploads
+     */
+    Map<String, Mono<CloudPackage>> schedule(List<ApplicationUpload> uploads, Function<ApplicationUpload, Mono<CloudPackage>> uploader) {
+        Map<String, Mono<CloudPackage>> results = new LinkedHashMap<>();
+        List<QueuedUpload> queuedUploads = new ArrayList<>();
+        for (ApplicationUpload upload : uploads) {
+            Assert.isTrue(!results.containsKey(upload.getApplicationName()),
+                          "Application " + upload.getApplicationName() + " is uploaded more than once");
+            QueuedUpload queuedUpload = new QueuedUpload(upload, uploader);
+            queuedUploads.add(queuedUpload);
+            results.put(upload.getApplicationName(), queuedUpload.result.asMono());
+        }
+        Mono.fromRunnable(() -> queue(queuedUploads))
+            .subscribeOn(estimationScheduler)
+            .subscribe();
+        return results;
+    }
+
+    private void queue(List<QueuedUpload> queuedUploads) {
+        List<QueuedUpload> estimatedUploads = new ArrayList<>();
+        for (QueuedUpload queuedUpload : queuedUploads) {
+            try {
+                queuedUpload.size = sizeEstimator.applyAsLong(queuedUpload.upload);
+                estimatedUploads.add(queuedUpload);
+            } catch (RuntimeException e) {
+                queuedUpload.result.tryEmitError(e);
+            }
+        }
+        synchronized (this) {
+            for (QueuedUpload queuedUpload : estimatedUploads) {
+                queuedUpload.sequence = sequence++;
+                queue.add(queuedUpload);
+            }
+        }
+        startUploads();
+    }
+
+    synchronized int getQueuedUploadCount() {
+        return queue.size();
+    }
+
+    private void startUploads() {
+        for (QueuedUpload upload : pollStartableUploads()) {
+            upload.start();
+        }
+    }
+
+    private synchronized List<QueuedUpload> pollStartableUploads() {
+        List<QueuedUpload> uploads = new ArrayList<>();
+        while (running < concurrency && !queue.isEmpty()) {
+            uploads.add(queue.poll());
+            running++;
+        }
+        return uploads;
+    }
+
+    private void onUploadFinished() {
+        synchronized (this) {
+            running--;
+        }
+        startUploads();
+    }
+
+    private class QueuedUpload {
+
+        private final ApplicationUpload upload;
+        private final Function<ApplicationUpload, Mono<CloudPackage>> uploader;
+        private final Sinks.One<CloudPackage> result = Sinks.one();
+        private long size;
+        private long sequence;
+
+        QueuedUpload(ApplicationUpload upload, Function<ApplicationUpload, Mono<CloudPackage>> uploader) {
+            this.upload = upload;
+            this.uploader = uploader;
+        }
+
+        void start() {
+            Mono.defer(() -> uploader.apply(upload))
+                .doFinally(signal -> onUploadFinished())
+                .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+        }
+
+    }
+
+}
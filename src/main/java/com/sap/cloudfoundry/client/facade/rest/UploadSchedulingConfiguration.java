@@ -0,0 +1,36 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.Optional;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Controls how application uploads share the connection to the cloud controller, so that they do not starve the other requests.
+ *
+ */
+@Value.Immutable
+public interface UploadSchedulingConfiguration {
+
+    /**
+     * The maximum number of applications which {@link ReactiveCloudControllerRestClientImpl#uploadApplications(java.util.List)} uploads
+     * at the same time. The others wait in a queue, the smallest first.
+     */
+    @Value.Default
+    default int getConcurrency() {
+        return 4;
+    }
+
+    /**
+     * The maximum number of bytes per second sent by all uploads of a client together. When absent, uploads are not throttled.
+     */
+    Optional<Long> getMaxBytesPerSecond();
+
+    @Value.Check
+    default void check() {
+        Assert.isTrue(getConcurrency() > 0, "Upload concurrency must be positive");
+        getMaxBytesPerSecond().ifPresent(maxBytesPerSecond -> Assert.isTrue(maxBytesPerSecond > 0,
+                                                                            "Maximum bytes per second must be positive"));
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.Messages;
+
+/**
+ * Remembers the SHA-1 digests of files, keyed by path, size and CRC-32, so that files which did not change need not be hashed again.
+ * The digests are kept in an open addressing hash table in a memory-mapped file, so they survive restarts. If the file is locked by
+ * another process, the digests are only kept in memory.
+ * <p>
+ * The cache holds up to a maximum number of digests. Once it is full, it is cleared before the next digest is added, so that neither the
+ * file nor the memory grow beyond what that many digests need.
+ *
+ */
+public class DigestCache implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DigestCache.class);
+
+    static final int DEFAULT_CAPACITY = 1 << 14;
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 17;
+    public static final int DIGEST_SIZE = 20;
+    private static final int MAGIC = 0x43464443;
+    private static final int VERSION = 1;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    // Header: magic, version, capacity, size
+    private static final int HEADER_SIZE = 16;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    // Record: used flag, CRC-32, path hash, file size, digest, padding
+    private static final int RECORD_SIZE = 48;
+    private static final int CRC_OFFSET = 4;
+    private static final int PATH_HASH_OFFSET = 8;
+    private static final int FILE_SIZE_OFFSET = 16;
+    private static final int DIGEST_OFFSET = 24;
+
+    private final int maximumSize;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private ByteBuffer index;
+    private int capacity;
+    private int size;
+
+    public DigestCache(Path file) {
+        this(file, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public DigestCache(Path file, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            lock = tryLock(channel);
+            if (lock == null) {
+                LOGGER.warn(String.format(Messages.DIGEST_CACHE_LOCKED, file));
+                initialize(ByteBuffer.allocate(HEADER_SIZE + DEFAULT_CAPACITY * RECORD_SIZE), DEFAULT_CAPACITY);
+            } else {
+                load();
+            }
+        } catch (IOException e) {
+            throw new CloudException(String.format(Messages.CANT_OPEN_DIGEST_CACHE, file, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * @return the digest of the file, or {@code null} if it is not cached
+     */
+    public synchronized byte[] get(String path, long fileSize, long crc) {
+        long pathHash = hash(path);
+        int slot = findSlot(pathHash, fileSize, (int) crc);
+        if (!isUsed(slot)) {
+            return null;
+        }
+        return readDigest(index, recordOffset(slot));
+    }
+
+    public synchronized void put(String path, long fileSize, long crc, byte[] digest) {
+        if (digest.length != DIGEST_SIZE) {
+            throw new IllegalArgumentException("Expected a SHA-1 digest of " + DIGEST_SIZE + " bytes");
+        }
+        long pathHash = hash(path);
+        int slot = findSlot(pathHash, fileSize, (int) crc);
+        if (!isUsed(slot)) {
+            if (size >= maximumSize) {
+                initialize(index, capacity);
+                slot = findSlot(pathHash, fileSize, (int) crc);
+            } else if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+                grow();
+                slot = findSlot(pathHash, fileSize, (int) crc);
+            }
+            size++;
+            index.putInt(SIZE_OFFSET, size);
+        }
+        writeRecord(slot, pathHash, fileSize, (int) crc, digest);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (index instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) index).force();
+        }
+        if (lock != null) {
+            lock.release();
+        }
+        channel.close();
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private void load() throws IOException {
+        if (channel.size() >= HEADER_SIZE) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            int storedCapacity = header.getInt(CAPACITY_OFFSET);
+            if (header.getInt(0) == MAGIC && header.getInt(4) == VERSION && isValidCapacity(storedCapacity)) {
+                index = map(storedCapacity);
+                capacity = storedCapacity;
+                size = index.getInt(SIZE_OFFSET);
+                return;
+            }
+        }
+        channel.truncate(0);
+        initialize(map(DEFAULT_CAPACITY), DEFAULT_CAPACITY);
+    }
+
+    private boolean isValidCapacity(int storedCapacity) throws IOException {
+        return storedCapacity > 0 && Integer.bitCount(storedCapacity) == 1
+            && channel.size() == HEADER_SIZE + (long) storedCapacity * RECORD_SIZE;
+    }
+
+    private MappedByteBuffer map(int newCapacity) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * RECORD_SIZE);
+    }
+
+    private void initialize(ByteBuffer buffer, int newCapacity) {
+        index = buffer;
+        capacity = newCapacity;
+        size = 0;
+        clearRecords();
+        index.putInt(0, MAGIC);
+        index.putInt(4, VERSION);
+        index.putInt(CAPACITY_OFFSET, capacity);
+        index.putInt(SIZE_OFFSET, size);
+    }
+
+    private void clearRecords() {
+        for (int slot = 0; slot < capacity; slot++) {
+            index.putInt(recordOffset(slot), 0);
+        }
+    }
+
+    private void grow() {
+        int oldCapacity = capacity;
+        ByteBuffer oldRecords = ByteBuffer.allocate(oldCapacity * RECORD_SIZE);
+        ByteBuffer records = index.duplicate();
+        records.position(HEADER_SIZE);
+        oldRecords.put(records);
+        try {
+            ByteBuffer buffer = lock == null ? ByteBuffer.allocate(HEADER_SIZE + oldCapacity * 2 * RECORD_SIZE) : map(oldCapacity * 2);
+            initialize(buffer, oldCapacity * 2);
+        } catch (IOException e) {
+            throw new CloudException(e.getMessage(), e);
+        }
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int offset = slot * RECORD_SIZE;
+            if (oldRecords.getInt(offset) != 0) {
+                long pathHash = oldRecords.getLong(offset + PATH_HASH_OFFSET);
+                long fileSize = oldRecords.getLong(offset + FILE_SIZE_OFFSET);
+                int crc = oldRecords.getInt(offset + CRC_OFFSET);
+                byte[] digest = readDigest(oldRecords, offset);
+                writeRecord(findSlot(pathHash, fileSize, crc), pathHash, fileSize, crc, digest);
+                size++;
+            }
+        }
+        index.putInt(SIZE_OFFSET, size);
+    }
+
+    private int findSlot(long pathHash, long fileSize, int crc) {
+        int mask = capacity - 1;
+        int slot = (int) mix(pathHash ^ fileSize * 31 ^ crc) & mask;
+        while (isUsed(slot) && !matches(slot, pathHash, fileSize, crc)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean isUsed(int slot) {
+        return index.getInt(recordOffset(slot)) != 0;
+    }
+
+    private boolean matches(int slot, long pathHash, long fileSize, int crc) {
+        int offset = recordOffset(slot);
+        return index.getLong(offset + PATH_HASH_OFFSET) == pathHash && index.getLong(offset + FILE_SIZE_OFFSET) == fileSize
+            && index.getInt(offset + CRC_OFFSET) == crc;
+    }
+
+    private void writeRecord(int slot, long pathHash, long fileSize, int crc, byte[] digest) {
+        int offset = recordOffset(slot);
+        index.putInt(offset, 1);
+        index.putInt(offset + CRC_OFFSET, crc);
+        index.putLong(offset + PATH_HASH_OFFSET, pathHash);
+        index.putLong(offset + FILE_SIZE_OFFSET, fileSize);
+        ByteBuffer digestBuffer = index.duplicate();
+        digestBuffer.position(offset + DIGEST_OFFSET);
+        digestBuffer.put(digest);
+    }
+
+    private static byte[] readDigest(ByteBuffer records, int recordOffset) {
+        ByteBuffer digestBuffer = records.duplicate();
+        digestBuffer.position(recordOffset + DIGEST_OFFSET);
+        byte[] digest = new byte[DIGEST_SIZE];
+        digestBuffer.get(digest);
+        return digest;
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    // 64-bit FNV-1a
+    private static long hash(String path) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : path.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        return mixed ^ (mixed >>> 33);
+    }
+
+}
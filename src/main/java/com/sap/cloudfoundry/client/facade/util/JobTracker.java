@@ -0,0 +1,222 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.jobs.GetJobRequest;
+import org.cloudfoundry.client.v3.jobs.Job;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.cloudfoundry.util.DelayTimeoutException;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Waits for v3 jobs. Instead of running one poll loop per job, all registered jobs are polled from a single timer. Each job is polled
+ * less often the longer it runs, between the minimum and the maximum poll interval. Registering a job which is already tracked shares
+ * the existing poll, and a job is no longer polled once all of its waiters cancelled or timed out.
+ * <p>
+ * Every waiter times out on its own, whether or not the polls of the job return. A poll which takes longer than the maximum poll interval
+ * is abandoned and retried, so that it does not hold up the polls of the other jobs.
+ * <p>
+ * A single tracker may serve many clients. Every job is polled through the client which registered it, as the jobs of one user are not
+ * visible to another.
+ *
+ */
+public class JobTracker {
+
+    private static final Duration DEFAULT_MINIMUM_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAXIMUM_POLL_INTERVAL = Duration.ofSeconds(15);
+    private static final int MAX_CONCURRENT_POLLS = 16;
+    private static final Set<JobState> FINAL_STATES = EnumSet.of(JobState.COMPLETE, JobState.FAILED);
+
+    private final Duration minimumPollInterval;
+    private final Duration maximumPollInterval;
+    private final Scheduler scheduler;
+    private final Map<JobKey, TrackedJob> jobs = new ConcurrentHashMap<>();
+    private Disposable poller;
+
+    public JobTracker() {
+        this(DEFAULT_MINIMUM_POLL_INTERVAL, DEFAULT_MAXIMUM_POLL_INTERVAL, Schedulers.parallel());
+    }
+
+    public JobTracker(Duration minimumPollInterval, Duration maximumPollInterval, Scheduler scheduler) {
+        this.minimumPollInterval = minimumPollInterval;
+        this.maximumPollInterval = maximumPollInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return a {@link Mono} which completes when the job completes, or fails when the job fails or does not finish in time. Cancelling it
+     *         stops the polls of the job, unless others wait for it as well.
+     */
+    public Mono<Void> awaitJob(CloudFoundryClient client, String jobId, Duration timeout) {
+        return Mono.defer(() -> {
+            TrackedJob job = jobs.compute(new JobKey(client, jobId),
+                                          (key, trackedJob) -> (trackedJob == null ? new TrackedJob(key) : trackedJob).addWaiter());
+            startPolling();
+            return job.result.asMono()
+                             .doOnCancel(() -> removeWaiter(job))
+                             .timeout(timeout, Mono.error(DelayTimeoutException::new), scheduler);
+        });
+    }
+
+    /**
+     * @return a {@link Mono} which completes when all jobs complete. Waits for every job, even if some of them fail, and then fails with
+     *         the first error.
+     */
+    public Mono<Void> awaitJobs(CloudFoundryClient client, Collection<String> jobIds, Duration timeout) {
+        return Mono.whenDelayError(jobIds.stream()
+                                         .map(jobId -> awaitJob(client, jobId, timeout))
+                                         .toArray(Mono[]::new));
+    }
+
+    int getTrackedJobCount() {
+        return jobs.size();
+    }
+
+    private synchronized void startPolling() {
+        if (poller == null) {
+            poller = Flux.interval(minimumPollInterval, minimumPollInterval, scheduler)
+                         .onBackpressureDrop()
+                         .concatMap(tick -> pollDueJobs())
+                         .subscribe();
+        }
+    }
+
+    private synchronized void stopPollingIfIdle() {
+        if (jobs.isEmpty() && poller != null) {
+            poller.dispose();
+            poller = null;
+        }
+    }
+
+    private Mono<Void> pollDueJobs() {
+        Instant now = Instant.now();
+        return Flux.fromIterable(jobs.values())
+                   .filter(job -> !job.nextPoll.isAfter(now))
+                   .flatMap(this::poll, MAX_CONCURRENT_POLLS)
+                   .then(Mono.fromRunnable(this::stopPollingIfIdle));
+    }
+
+    private void removeWaiter(TrackedJob job) {
+        jobs.computeIfPresent(job.key, (key, trackedJob) -> trackedJob != job || --trackedJob.waiters > 0 ? trackedJob : null);
+    }
+
+    private Mono<Void> poll(TrackedJob job) {
+        return job.key.client.jobsV3()
+                             .get(GetJobRequest.builder()
+                                               .jobId(job.key.jobId)
+                                               .build())
+                             .timeout(maximumPollInterval, scheduler)
+                             .doOnNext(response -> onJobPolled(job, response))
+                             .doOnError(e -> onPollFailed(job, e))
+                             .onErrorResume(e -> Mono.empty())
+                             .then();
+    }
+
+    private void onJobPolled(TrackedJob job, Job response) {
+        if (!FINAL_STATES.contains(response.getState())) {
+            scheduleNextPoll(job);
+            return;
+        }
+        if (response.getState() == JobState.FAILED) {
+            // Status code must be set, otherwise it will throw NPE during getStatusCode() invocation
+            finish(job, new ClientV3Exception(200, response.getErrors()));
+            return;
+        }
+        finish(job, null);
+    }
+
+    private void onPollFailed(TrackedJob job, Throwable error) {
+        if (error instanceof TimeoutException) {
+            scheduleNextPoll(job);
+            return;
+        }
+        finish(job, error);
+    }
+
+    private synchronized void scheduleNextPoll(TrackedJob job) {
+        Instant now = Instant.now();
+        job.pollInterval = min(job.pollInterval.multipliedBy(2), maximumPollInterval);
+        job.nextPoll = now.plus(job.pollInterval);
+    }
+
+    private void finish(TrackedJob job, Throwable error) {
+        jobs.remove(job.key, job);
+        if (error == null) {
+            job.result.tryEmitEmpty();
+        } else {
+            job.result.tryEmitError(error);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static class JobKey {
+
+        private final CloudFoundryClient client;
+        private final String jobId;
+
+        JobKey(CloudFoundryClient client, String jobId) {
+            this.client = client;
+            this.jobId = jobId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof JobKey)) {
+                return false;
+            }
+            JobKey otherKey = (JobKey) other;
+            return client == otherKey.client && jobId.equals(otherKey.jobId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(client), jobId);
+        }
+
+    }
+
+    private class TrackedJob {
+
+        private final JobKey key;
+        private final Sinks.Empty<Void> result = Sinks.empty();
+        // Only changed while the job is computed in the map of tracked jobs
+        private int waiters;
+        private Instant nextPoll;
+        private Duration pollInterval;
+
+        TrackedJob(JobKey key) {
+            this.key = key;
+            this.pollInterval = minimumPollInterval;
+            this.nextPoll = Instant.now();
+        }
+
+        TrackedJob addWaiter() {
+            waiters++;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.Pagination;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drop-in replacement for {@link org.cloudfoundry.util.PaginationUtils#requestClientV3Resources(Function)} which reads the total
+ * number of pages from the first page and then requests the remaining pages concurrently.
+ *
+ */
+public class ParallelPaginator {
+
+    private final int concurrency;
+    private final boolean ordered;
+
+    public ParallelPaginator(int concurrency, boolean ordered) {
+        Assert.isTrue(concurrency > 0, "Concurrency must be positive");
+        this.concurrency = concurrency;
+        this.ordered = ordered;
+    }
+
+    public <T, U extends PaginatedResponse<T>> Flux<T> requestClientV3Resources(Function<Integer, Mono<U>> pageSupplier) {
+        return requestClientV3Pages(pageSupplier).flatMapIterable(PaginatedResponse::getResources);
+    }
+
+    public <U extends PaginatedResponse<?>> Flux<U> requestClientV3Pages(Function<Integer, Mono<U>> pageSupplier) {
+        return pageSupplier.apply(1)
+                           .flatMapMany(firstPage -> requestRemainingPages(pageSupplier, getTotalPages(firstPage)).startWith(firstPage));
+    }
+
+    private <U> Flux<U> requestRemainingPages(Function<Integer, Mono<U>> pageSupplier, int totalPages) {
+        Flux<Integer> remainingPages = Flux.range(2, Math.max(totalPages - 1, 0));
+        if (ordered) {
+            return remainingPages.flatMapSequential(pageSupplier, concurrency);
+        }
+        return remainingPages.flatMap(pageSupplier, concurrency);
+    }
+
+    private static int getTotalPages(PaginatedResponse<?> page) {
+        return Optional.ofNullable(page.getPagination())
+                       .map(Pagination::getTotalPages)
+                       .orElse(1);
+    }
+
+}
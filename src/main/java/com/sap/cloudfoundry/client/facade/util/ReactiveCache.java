@@ -0,0 +1,62 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A size-bounded cache of {@link Mono} results. Values expire after the configured time to live, errors and empty results are never
+ * cached. Concurrent requests for the same key share a single subscription to the loader.
+ *
+ */
+public class ReactiveCache<K, V> {
+
+    private final Duration timeToLive;
+    private final Map<K, Mono<V>> entries;
+
+    public ReactiveCache(Duration timeToLive, int maximumSize) {
+        this.timeToLive = timeToLive;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Mono<V>> eldest) {
+                return size() > maximumSize;
+            }
+
+        });
+    }
+
+    /**
+     * Creates a cache which always calls the loader.
+     */
+    public static <K, V> ReactiveCache<K, V> disabled() {
+        return new ReactiveCache<>(Duration.ZERO, 0);
+    }
+
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        if (timeToLive.isZero()) {
+            return loader.apply(key);
+        }
+        return entries.computeIfAbsent(key, k -> loader.apply(k)
+                                                       .cache(value -> timeToLive, error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+}
@@ -6,6 +6,7 @@ open module com.sap.cloudfoundry.client.facade {
     requires org.cloudfoundry.util;
     requires com.fasterxml.jackson.databind;
     requires org.apache.commons.io;
+    requires org.apache.commons.compress;
     requires org.slf4j;
     requires spring.core;
     requires spring.security.core;
@@ -15,11 +16,11 @@ open module com.sap.cloudfoundry.client.facade {
     requires spring.webflux;
     requires reactor.core;
     requires io.netty.handler;
+    requires io.netty.codec.http;
     requires reactor.netty.core;
     requires reactor.netty.http;
     requires org.apache.commons.logging;
     requires org.reactivestreams;
-    requires java.net.http;
 
     requires static java.compiler;
     requires static org.immutables.value;
@@ -30,5 +31,6 @@ open module com.sap.cloudfoundry.client.facade {
     exports com.sap.cloudfoundry.client.facade.domain;
     exports com.sap.cloudfoundry.client.facade.adapters;
     exports com.sap.cloudfoundry.client.facade.util;
+    exports com.sap.cloudfoundry.client.facade.archive;
 
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.sap.cloudfoundry.client.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveCloudControllerClientImplTest {
+
+    private static final String APPLICATION_NAME = "foo";
+    private static final UUID APPLICATION_GUID = UUID.fromString("5e3a3a71-3b32-4a5c-9ae3-2c3c3f5b6e10");
+
+    @Mock
+    private ReactiveCloudControllerClient delegate;
+    private ReactiveCloudControllerClientImpl client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        client = new ReactiveCloudControllerClientImpl(delegate);
+    }
+
+    @Test
+    void testValueIsPassedOn() {
+        Mockito.when(delegate.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.just(APPLICATION_GUID));
+
+        assertEquals(APPLICATION_GUID, client.getApplicationGuid(APPLICATION_NAME)
+                                             .block());
+    }
+
+    @Test
+    void testCloudFoundryErrorIsConverted() {
+        ClientV3Exception notFound = clientV3Exception(HttpStatus.NOT_FOUND);
+        Mockito.when(delegate.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.error(notFound));
+
+        CloudOperationException error = assertThrows(CloudOperationException.class, () -> client.getApplicationGuid(APPLICATION_NAME)
+                                                                                                .block());
+
+        assertCloudOperationException(HttpStatus.NOT_FOUND, notFound, error);
+    }
+
+    @Test
+    void testCloudFoundryErrorOfElementsIsConverted() {
+        ClientV3Exception forbidden = clientV3Exception(HttpStatus.FORBIDDEN);
+        Mockito.when(delegate.getTasks(APPLICATION_NAME))
+               .thenReturn(Flux.error(forbidden));
+
+        CloudOperationException error = assertThrows(CloudOperationException.class, () -> client.getTasks(APPLICATION_NAME)
+                                                                                                .blockLast());
+
+        assertCloudOperationException(HttpStatus.FORBIDDEN, forbidden, error);
+    }
+
+    @Test
+    void testElementsBeforeTheErrorArePassedOn() {
+        CloudTask task = Mockito.mock(CloudTask.class);
+        Mockito.when(delegate.getTasks(APPLICATION_NAME))
+               .thenReturn(Flux.concat(Flux.just(task), Flux.error(clientV3Exception(HttpStatus.BAD_GATEWAY))));
+
+        List<CloudTask> tasks = client.getTasks(APPLICATION_NAME)
+                                      .onErrorResume(CloudOperationException.class, e -> Flux.empty())
+                                      .collectList()
+                                      .block();
+
+        assertEquals(List.of(task), tasks);
+    }
+
+    @Test
+    void testOtherErrorIsPassedOnUnchanged() {
+        IllegalStateException illegalState = new IllegalStateException();
+        Mockito.when(delegate.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.error(illegalState));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> client.getApplicationGuid(APPLICATION_NAME)
+                                                                                            .block());
+
+        assertSame(illegalState, error);
+    }
+
+    @Test
+    void testCloudFoundryErrorThrownByTheDelegateIsConverted() {
+        ClientV3Exception notFound = clientV3Exception(HttpStatus.NOT_FOUND);
+        Mockito.when(delegate.getApplicationGuid(APPLICATION_NAME))
+               .thenThrow(notFound);
+
+        Mono<UUID> applicationGuid = client.getApplicationGuid(APPLICATION_NAME);
+        CloudOperationException error = assertThrows(CloudOperationException.class, applicationGuid::block);
+
+        assertCloudOperationException(HttpStatus.NOT_FOUND, notFound, error);
+    }
+
+    @Test
+    void testDelegateIsCalledOnSubscription() {
+        Mockito.when(delegate.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.just(APPLICATION_GUID));
+
+        Mono<UUID> applicationGuid = client.getApplicationGuid(APPLICATION_NAME);
+        Mockito.verifyNoInteractions(delegate);
+
+        applicationGuid.block();
+        Mockito.verify(delegate)
+               .getApplicationGuid(APPLICATION_NAME);
+    }
+
+    @Test
+    void testCloudFoundryErrorOfEveryUploadIsConverted() {
+        CloudPackage uploadedPackage = Mockito.mock(CloudPackage.class);
+        ClientV3Exception unprocessable = clientV3Exception(HttpStatus.UNPROCESSABLE_ENTITY);
+        Mockito.when(delegate.uploadApplications(Collections.emptyList()))
+               .thenReturn(Map.of("uploaded", Mono.just(uploadedPackage), "rejected", Mono.error(unprocessable)));
+
+        Map<String, Mono<CloudPackage>> uploads = client.uploadApplications(Collections.emptyList());
+
+        assertSame(uploadedPackage, uploads.get("uploaded")
+                                           .block());
+        CloudOperationException error = assertThrows(CloudOperationException.class, () -> uploads.get("rejected")
+                                                                                                 .block());
+        assertCloudOperationException(HttpStatus.UNPROCESSABLE_ENTITY, unprocessable, error);
+    }
+
+    private static void assertCloudOperationException(HttpStatus expectedStatus, ClientV3Exception expectedCause,
+                                                      CloudOperationException error) {
+        assertEquals(expectedStatus, error.getStatusCode());
+        assertEquals(expectedStatus.getReasonPhrase(), error.getStatusText());
+        assertEquals(expectedCause.getMessage(), error.getDescription());
+        assertSame(expectedCause, error.getCause());
+    }
+
+    private static ClientV3Exception clientV3Exception(HttpStatus status) {
+        return new ClientV3Exception(status.value(), Collections.emptyList());
+    }
+
+}
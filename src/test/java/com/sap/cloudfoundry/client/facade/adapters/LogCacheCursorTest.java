@@ -0,0 +1,112 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity.ImmutableLogBody;
+
+import reactor.core.publisher.Flux;
+
+class LogCacheCursorTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final List<ApplicationLogEntity> cachedLogs = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void testAllPagesAreRead() {
+        LongStream.range(0, 35)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = read(0, 100);
+
+        assertEquals(cachedLogs, logs);
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void testLogsWithTheSameTimestampAcrossPagesAreNotLost() {
+        LongStream.range(0, 15)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "first " + timestamp)));
+        for (int i = 0; i < 5; i++) {
+            cachedLogs.add(buildLog(9, "duplicate timestamp " + i));
+        }
+
+        List<ApplicationLogEntity> logs = read(0, 100);
+
+        assertEquals(sortByTimestamp(cachedLogs), logs);
+    }
+
+    @Test
+    void testPageWithASingleTimestampDoesNotLoop() {
+        for (int i = 0; i < 15; i++) {
+            cachedLogs.add(buildLog(5, "same timestamp " + i));
+        }
+        cachedLogs.add(buildLog(6, "after"));
+
+        List<ApplicationLogEntity> logs = read(0, 100);
+
+        assertEquals(PAGE_SIZE + 1, logs.size());
+        assertEquals("after", logs.get(PAGE_SIZE)
+                                  .getLogBody()
+                                  .getMessage());
+    }
+
+    @Test
+    void testPagesAreReadOnDemand() {
+        LongStream.range(0, 35)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = new LogCacheCursor(this::readPage, PAGE_SIZE).read(20, 25)
+                                                                                       .take(3)
+                                                                                       .collectList()
+                                                                                       .block();
+
+        assertEquals(cachedLogs.subList(20, 23), logs);
+        assertEquals(1, requests.get());
+    }
+
+    private List<ApplicationLogEntity> read(long startTime, long endTime) {
+        return new LogCacheCursor(this::readPage, PAGE_SIZE).read(startTime, endTime)
+                                                            .collectList()
+                                                            .block();
+    }
+
+    private Flux<ApplicationLogEntity> readPage(long startTime, long endTime) {
+        requests.incrementAndGet();
+        List<ApplicationLogEntity> page = cachedLogs.stream()
+                                                    .filter(log -> log.getTimestampInNanoseconds() >= startTime
+                                                        && log.getTimestampInNanoseconds() < endTime)
+                                                    .sorted()
+                                                    .limit(PAGE_SIZE)
+                                                    .collect(Collectors.toList());
+        return Flux.fromIterable(page);
+    }
+
+    private static List<ApplicationLogEntity> sortByTimestamp(List<ApplicationLogEntity> logs) {
+        return logs.stream()
+                   .sorted()
+                   .collect(Collectors.toList());
+    }
+
+    private static ApplicationLogEntity buildLog(long timestamp, String message) {
+        return ImmutableApplicationLogEntity.builder()
+                                            .timestampInNanoseconds(timestamp)
+                                            .sourceId("app")
+                                            .instanceId("0")
+                                            .logBody(ImmutableLogBody.builder()
+                                                                     .message(message)
+                                                                     .messageType("OUT")
+                                                                     .build())
+                                            .build();
+    }
+
+}
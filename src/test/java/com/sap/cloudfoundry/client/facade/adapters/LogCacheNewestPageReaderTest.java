@@ -0,0 +1,123 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity.ImmutableLogBody;
+
+import reactor.core.publisher.Flux;
+
+class LogCacheNewestPageReaderTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final List<ApplicationLogEntity> cachedLogs = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    void testNewestPageIsReadOldestFirst() {
+        LongStream.range(0, 35)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = read(5);
+
+        assertEquals(cachedLogs.subList(25, 35), logs);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void testLogsAfterTheStartTimeAreRead() {
+        LongStream.range(0, 35)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = read(30);
+
+        assertEquals(cachedLogs.subList(30, 35), logs);
+    }
+
+    @Test
+    void testNothingIsReadOldestFirstWithoutLogs() {
+        List<ApplicationLogEntity> logs = read(0);
+
+        assertEquals(List.of(), logs);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void testOnlyAsManyLogsAtTheOldestTimestampAsTheNewestPageHadAreRead() {
+        for (int i = 0; i < 5; i++) {
+            cachedLogs.add(buildLog(3, "oldest timestamp " + i));
+        }
+        LongStream.range(4, 12)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = read(0);
+
+        assertEquals(PAGE_SIZE, logs.size());
+        assertEquals(2, logs.stream()
+                            .filter(log -> log.getTimestampInNanoseconds() == 3)
+                            .count());
+        assertEquals(cachedLogs.subList(5, 13), logs.subList(2, PAGE_SIZE));
+    }
+
+    @Test
+    void testReadingStopsWhenCancelled() {
+        LongStream.range(0, 35)
+                  .forEach(timestamp -> cachedLogs.add(buildLog(timestamp, "message " + timestamp)));
+
+        List<ApplicationLogEntity> logs = new LogCacheNewestPageReader(this::readNewestPage, this::readPage, PAGE_SIZE).read(0)
+                                                                                                                       .take(3)
+                                                                                                                       .collectList()
+                                                                                                                       .block();
+
+        assertEquals(cachedLogs.subList(25, 28), logs);
+    }
+
+    private List<ApplicationLogEntity> read(long startTime) {
+        return new LogCacheNewestPageReader(this::readNewestPage, this::readPage, PAGE_SIZE).read(startTime)
+                                                                                            .collectList()
+                                                                                            .block();
+    }
+
+    private Flux<ApplicationLogEntity> readNewestPage(long startTime) {
+        requests.incrementAndGet();
+        List<ApplicationLogEntity> page = cachedLogs.stream()
+                                                    .filter(log -> log.getTimestampInNanoseconds() >= startTime)
+                                                    .sorted(Comparator.reverseOrder())
+                                                    .limit(PAGE_SIZE)
+                                                    .collect(Collectors.toList());
+        return Flux.fromIterable(page);
+    }
+
+    private Flux<ApplicationLogEntity> readPage(long startTime, long endTime) {
+        requests.incrementAndGet();
+        List<ApplicationLogEntity> page = cachedLogs.stream()
+                                                    .filter(log -> log.getTimestampInNanoseconds() >= startTime
+                                                        && log.getTimestampInNanoseconds() < endTime)
+                                                    .sorted()
+                                                    .limit(PAGE_SIZE)
+                                                    .collect(Collectors.toList());
+        return Flux.fromIterable(page);
+    }
+
+    private static ApplicationLogEntity buildLog(long timestamp, String message) {
+        return ImmutableApplicationLogEntity.builder()
+                                            .timestampInNanoseconds(timestamp)
+                                            .sourceId("app")
+                                            .instanceId("0")
+                                            .logBody(ImmutableLogBody.builder()
+                                                                     .message(message)
+                                                                     .messageType("OUT")
+                                                                     .build())
+                                            .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+class LogEnvelopeParserTest {
+
+    private static final ObjectReader ENTITY_READER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                                                                        .readerFor(ApplicationLogEntity.class);
+    private static final String ENVELOPE = "{\"timestamp\":\"%d\",\"source_id\":\"app\",\"instance_id\":\"0\","
+        + "\"tags\":{\"source_type\":\"APP\"},\"log\":{\"payload\":\"aGVsbG8=\",\"type\":\"OUT\"}}";
+    private static final String RESPONSE = "{\"next_page\":{\"skipped\":[1,2]},\"envelopes\":{\"meta\":{\"batch\":[]},\"batch\":["
+        + String.format(ENVELOPE, 2) + "," + String.format(ENVELOPE, 1) + "]}}";
+
+    @Test
+    void testEnvelopesAreParsedInOrder() throws IOException {
+        List<ApplicationLogEntity> logs = parse(RESPONSE, RESPONSE.length());
+
+        assertEquals(List.of(2L, 1L), getTimestamps(logs));
+    }
+
+    @Test
+    void testPayloadsAreDecoded() throws IOException {
+        List<ApplicationLogEntity> logs = parse(RESPONSE, 3);
+
+        ApplicationLogEntity.LogBody logBody = logs.get(0)
+                                                   .getLogBody();
+        assertEquals("hello", logBody.getMessage());
+        assertTrue(logBody.isMessageDecoded());
+        assertEquals("hello", RawApplicationLog.deriveCompact(logs.get(1))
+                                               .getMessage());
+    }
+
+    @Test
+    void testInvalidPayloadIsKeptEncoded() throws IOException {
+        String response = "{\"envelopes\":{\"batch\":[" + String.format(ENVELOPE, 1)
+                                                                  .replace("aGVsbG8=", "aGVsbG8=x") + "]}}";
+
+        ApplicationLogEntity log = parse(response, response.length()).get(0);
+
+        assertEquals("aGVsbG8=x", log.getLogBody()
+                                     .getMessage());
+        assertFalse(log.getLogBody()
+                       .isMessageDecoded());
+        assertThrows(IllegalArgumentException.class, () -> RawApplicationLog.deriveCompact(log));
+    }
+
+    @Test
+    void testEnvelopesAreParsedFromChunks() throws IOException {
+        assertEquals(List.of(2L, 1L), getTimestamps(parse(RESPONSE, 1)));
+        assertEquals(List.of(2L, 1L), getTimestamps(parse(RESPONSE, 7)));
+    }
+
+    @Test
+    void testEnvelopeIsReturnedOnceItIsComplete() throws IOException {
+        LogEnvelopeParser parser = new LogEnvelopeParser(ENTITY_READER);
+        String firstEnvelope = "{\"envelopes\":{\"batch\":[" + String.format(ENVELOPE, 1);
+
+        assertTrue(parser.feed(toBytes(firstEnvelope.substring(0, firstEnvelope.length() - 1)))
+                         .isEmpty());
+        assertEquals(1, parser.feed(toBytes("}"))
+                              .size());
+    }
+
+    @Test
+    void testResponseWithoutEnvelopesIsEmpty() throws IOException {
+        assertTrue(parse("{\"envelopes\":{}}", 4).isEmpty());
+    }
+
+    @Test
+    void testTruncatedResponseFails() throws IOException {
+        LogEnvelopeParser parser = new LogEnvelopeParser(ENTITY_READER);
+
+        assertEquals(1, parser.feed(toBytes("{\"envelopes\":{\"batch\":[" + String.format(ENVELOPE, 1) + ",{\"timestamp\""))
+                              .size());
+        assertThrows(IOException.class, parser::finish);
+    }
+
+    private static List<ApplicationLogEntity> parse(String response, int chunkSize) throws IOException {
+        LogEnvelopeParser parser = new LogEnvelopeParser(ENTITY_READER);
+        byte[] bytes = toBytes(response);
+        List<ApplicationLogEntity> logs = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            logs.addAll(parser.feed(Arrays.copyOfRange(bytes, offset, Math.min(offset + chunkSize, bytes.length))));
+        }
+        logs.addAll(parser.finish());
+        return logs;
+    }
+
+    private static List<Long> getTimestamps(List<ApplicationLogEntity> logs) {
+        return logs.stream()
+                   .map(ApplicationLogEntity::getTimestampInNanoseconds)
+                   .collect(Collectors.toList());
+    }
+
+    private static byte[] toBytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LogPayloadDecoderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "a", "ab", "abc", "abcd", "Some message here", "Grüße, 世界 😀", "line\nwith\ttabs" })
+    void testDecode(String message) {
+        assertEquals(message, LogPayloadDecoder.decode(encodeBase64(message)));
+    }
+
+    @Test
+    void testDecodeLargePayload() {
+        String message = "x".repeat(100_000);
+
+        assertEquals(message, LogPayloadDecoder.decode(encodeBase64(message)));
+        assertEquals("small", LogPayloadDecoder.decode(encodeBase64("small")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base64!", "a", "abcde", "ab=", "abc==", "abcd=", "=", "ab==cd", "ab==x", "abc=\n", "ab-_", "abc\u00e9" })
+    void testDecodeInvalidPayload(String payload) {
+        assertThrows(IllegalArgumentException.class, () -> Base64.getDecoder()
+                                                                 .decode(payload));
+        assertThrows(IllegalArgumentException.class, () -> LogPayloadDecoder.decode(payload));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "YQ", "YWI", "YQ==", "YWI=", "YWJj" })
+    void testDecodeAcceptsWhatTheJdkDecoderAccepts(String payload) {
+        assertEquals(new String(Base64.getDecoder()
+                                      .decode(payload),
+                                StandardCharsets.UTF_8),
+                     LogPayloadDecoder.decode(payload));
+    }
+
+    @Test
+    void testDecodeRangeOfCharacters() {
+        char[] characters = ("xx" + encodeBase64("message") + "yy").toCharArray();
+
+        assertEquals("message", LogPayloadDecoder.decode(characters, 2, characters.length - 4));
+    }
+
+    private static String encodeBase64(String message) {
+        return Base64.getEncoder()
+                     .encodeToString(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
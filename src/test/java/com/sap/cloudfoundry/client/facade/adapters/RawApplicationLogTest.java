@@ -1,5 +1,8 @@
 package com.sap.cloudfoundry.client.facade.adapters;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
@@ -27,6 +30,31 @@ class RawApplicationLogTest {
         RawCloudEntityTest.testDerive(buildExpectedApplicationLog(), buildActualApplicationLog());
     }
 
+    @Test
+    void testDeriveCompact() {
+        ApplicationLog expectedLog = buildExpectedApplicationLog();
+
+        ApplicationLog actualLog = RawApplicationLog.deriveCompact(buildActualApplicationLog().getLog());
+
+        assertEquals(expectedLog.getApplicationGuid(), actualLog.getApplicationGuid());
+        assertEquals(expectedLog.getMessage(), actualLog.getMessage());
+        assertEquals(expectedLog.getTimestamp(), actualLog.getTimestamp());
+        assertEquals(expectedLog.getTimestampInNanoseconds(), actualLog.getTimestampInNanoseconds());
+        assertEquals(expectedLog.getMessageType(), actualLog.getMessageType());
+        assertEquals(expectedLog.getSourceName(), actualLog.getSourceName());
+        assertEquals(0, expectedLog.compareTo(actualLog));
+    }
+
+    @Test
+    void testDeriveCompactEquality() {
+        ApplicationLog log = RawApplicationLog.deriveCompact(buildActualApplicationLog().getLog());
+        ApplicationLog sameLog = RawApplicationLog.deriveCompact(buildActualApplicationLog().getLog());
+
+        assertEquals(log, sameLog);
+        assertEquals(log.hashCode(), sameLog.hashCode());
+        assertSame(log.getTimestamp(), log.getTimestamp());
+    }
+
     private ApplicationLog buildExpectedApplicationLog() {
         return ImmutableApplicationLog.builder()
                                       .applicationGuid(APPLICATION_GUID)
@@ -0,0 +1,115 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.cloudfoundry.client.v3.LastOperation;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceType;
+import org.cloudfoundry.client.v3.serviceplans.ServicePlanRelationships;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.ServiceOperation;
+import com.sap.cloudfoundry.client.facade.domain.ServiceOperation.State;
+import com.sap.cloudfoundry.client.facade.domain.ServiceOperation.Type;
+
+class RawSideLoadedCloudServiceInstanceTest {
+
+    private static final String NAME = "my-db";
+    private static final String OFFERING_NAME = "postgresql";
+    private static final String PLAN_NAME = "v9.4-small";
+    private static final String PLAN_GUID = "810a0322-342c-11ed-a261-0242ac120002";
+    private static final String OFFERING_GUID = "5f5a8db4-342c-11ed-a261-0242ac120002";
+    private static final List<String> TAGS = List.of("test-tag-1", "test-tag-2");
+
+    private static final String LIST_RESPONSE = "{\"pagination\":{\"total_results\":1,\"total_pages\":1},"
+        + "\"resources\":[],"
+        + "\"included\":{\"service_plans\":[{\"guid\":\"" + PLAN_GUID + "\",\"name\":\"" + PLAN_NAME + "\","
+        + "\"relationships\":{\"service_offering\":{\"data\":{\"guid\":\"" + OFFERING_GUID + "\"}}}}],"
+        + "\"service_offerings\":[{\"guid\":\"" + OFFERING_GUID + "\",\"name\":\"" + OFFERING_NAME + "\"}]}}";
+
+    @Test
+    void testDerive() {
+        RawCloudEntityTest.testDerive(buildExpectedService(), buildRawService());
+    }
+
+    @Test
+    void testDeserializeIncludedContent() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ListServiceInstancesWithServicePlansResponse response = mapper.readValue(LIST_RESPONSE,
+                                                                                 ListServiceInstancesWithServicePlansResponse.class);
+
+        assertEquals(Integer.valueOf(1), response.getPagination()
+                                                 .getTotalPages());
+        assertEquals(buildServicePlan(), response.getIncluded()
+                                                 .getServicePlans()
+                                                 .get(0));
+        assertEquals(buildServiceOffering(), response.getIncluded()
+                                                     .getServiceOfferings()
+                                                     .get(0));
+    }
+
+    private static CloudServiceInstance buildExpectedService() {
+        return ImmutableCloudServiceInstance.builder()
+                                            .metadata(RawCloudEntityTest.EXPECTED_METADATA_PARSED_FROM_V3_RESOURCE)
+                                            .name(NAME)
+                                            .plan(PLAN_NAME)
+                                            .label(OFFERING_NAME)
+                                            .type(ServiceInstanceType.MANAGED)
+                                            .tags(TAGS)
+                                            .lastOperation(new ServiceOperation(Type.CREATE, "", State.SUCCEEDED))
+                                            .build();
+    }
+
+    private static RawSideLoadedCloudServiceInstance buildRawService() {
+        return ImmutableRawSideLoadedCloudServiceInstance.builder()
+                                                         .resource(buildTestResource())
+                                                         .servicePlan(buildServicePlan())
+                                                         .serviceOffering(buildServiceOffering())
+                                                         .build();
+    }
+
+    private static ServiceInstanceResource buildTestResource() {
+        return ServiceInstanceResource.builder()
+                                      .id(RawCloudEntityTest.GUID_STRING)
+                                      .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                                      .updatedAt(RawCloudEntityTest.UPDATED_AT_STRING)
+                                      .name(NAME)
+                                      .type(ServiceInstanceType.MANAGED)
+                                      .addAllTags(TAGS)
+                                      .lastOperation(LastOperation.builder()
+                                                                  .type("create")
+                                                                  .state("succeeded")
+                                                                  .build())
+                                      .build();
+    }
+
+    private static ListServiceInstancesWithServicePlansResponse.IncludedServicePlan buildServicePlan() {
+        return ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncludedServicePlan.builder()
+                                                                                                 .id(PLAN_GUID)
+                                                                                                 .name(PLAN_NAME)
+                                                                                                 .relationships(ServicePlanRelationships.builder()
+                                                                                                                                        .serviceOffering(ToOneRelationship.builder()
+                                                                                                                                                                          .data(Relationship.builder()
+                                                                                                                                                                                            .id(OFFERING_GUID)
+                                                                                                                                                                                            .build())
+                                                                                                                                                                          .build())
+                                                                                                                                        .build())
+                                                                                                 .build();
+    }
+
+    private static ListServiceInstancesWithServicePlansResponse.IncludedServiceOffering buildServiceOffering() {
+        return ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncludedServiceOffering.builder()
+                                                                                                     .id(OFFERING_GUID)
+                                                                                                     .name(OFFERING_NAME)
+                                                                                                     .build();
+    }
+
+}
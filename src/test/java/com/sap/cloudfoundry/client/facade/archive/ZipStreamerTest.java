@@ -0,0 +1,153 @@
+package com.sap.cloudfoundry.client.facade.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+
+import reactor.core.scheduler.Schedulers;
+
+class ZipStreamerTest {
+
+    private static final int MAX_BUFFERED_ENTRY_SIZE = 1024;
+    private static final byte[] LARGE_CONTENT = new byte[3 * 64 * 1024];
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("app-");
+        write("manifest.yml", "applications: []".getBytes(StandardCharsets.UTF_8));
+        write("bin/start.sh", "#!/bin/sh".getBytes(StandardCharsets.UTF_8));
+        Files.setPosixFilePermissions(directory.resolve("bin/start.sh"), PosixFilePermissions.fromString("rwxr-xr-x"));
+        for (int i = 0; i < LARGE_CONTENT.length; i++) {
+            LARGE_CONTENT[i] = (byte) (i % 7);
+        }
+        write("lib/library.jar", LARGE_CONTENT);
+        write("logs/app.log", new byte[10]);
+        write(".git/config", new byte[10]);
+        write("lib/debug.log", new byte[10]);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Test
+    void testStreamZipsDirectoryWithoutExcludedFiles() throws IOException {
+        ZipStreamer zipStreamer = createZipStreamer(new DirectoryApplicationArchive(directory, List.of(".git", "*.log")));
+
+        try (ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(collect(zipStreamer)))) {
+            assertEquals(List.of("bin/", "bin/start.sh", "lib/", "lib/library.jar", "logs/", "manifest.yml"), getSortedNames(zipFile));
+            assertArrayEquals(LARGE_CONTENT, read(zipFile, "lib/library.jar"));
+            assertArrayEquals("applications: []".getBytes(StandardCharsets.UTF_8), read(zipFile, "manifest.yml"));
+            assertEquals(0755, zipFile.getEntry("bin/start.sh")
+                                      .getUnixMode()
+                & 0777);
+        }
+    }
+
+    @Test
+    void testWriteToProducesSameEntries() throws IOException {
+        ZipStreamer zipStreamer = createZipStreamer(new DirectoryApplicationArchive(directory));
+        Path file = Files.createTempFile("app-", ".zip");
+        try {
+            zipStreamer.writeTo(file);
+
+            try (ZipFile zipFile = new ZipFile(file.toFile())) {
+                assertEquals(List.of(".git/", ".git/config", "bin/", "bin/start.sh", "lib/", "lib/debug.log", "lib/library.jar", "logs/",
+                                     "logs/app.log", "manifest.yml"),
+                             getSortedNames(zipFile));
+                assertArrayEquals(LARGE_CONTENT, read(zipFile, "lib/library.jar"));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testStreamFailsWhenFileCannotBeRead() {
+        ApplicationArchive archive = () -> List.of(new UnreadableEntry());
+        ZipStreamer zipStreamer = createZipStreamer(archive);
+
+        assertThrows(CloudException.class, () -> collect(zipStreamer));
+    }
+
+    private ZipStreamer createZipStreamer(ApplicationArchive archive) {
+        return new ZipStreamer(archive, 4, MAX_BUFFERED_ENTRY_SIZE, Schedulers.boundedElastic());
+    }
+
+    private void write(String name, byte[] content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+
+    private static byte[] collect(ZipStreamer zipStreamer) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        zipStreamer.stream()
+                   .doOnNext(output::writeBytes)
+                   .blockLast();
+        return output.toByteArray();
+    }
+
+    private static List<String> getSortedNames(ZipFile zipFile) {
+        return Collections.list(zipFile.getEntries())
+                          .stream()
+                          .map(ZipArchiveEntry::getName)
+                          .sorted()
+                          .collect(Collectors.toList());
+    }
+
+    private static byte[] read(ZipFile zipFile, String name) throws IOException {
+        try (InputStream content = zipFile.getInputStream(zipFile.getEntry(name))) {
+            return content.readAllBytes();
+        }
+    }
+
+    private static class UnreadableEntry implements ApplicationArchive.Entry {
+
+        @Override
+        public String getName() {
+            return "unreadable.txt";
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public long getSize() {
+            return 10;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            throw new IOException("Permission denied");
+        }
+
+    }
+
+}
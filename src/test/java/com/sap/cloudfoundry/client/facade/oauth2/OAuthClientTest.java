@@ -0,0 +1,188 @@
+package com.sap.cloudfoundry.client.facade.oauth2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import com.sap.cloudfoundry.client.facade.CloudCredentials;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class OAuthClientTest {
+
+    private static final int CONCURRENT_CALLERS = 8;
+
+    @Test
+    void testConcurrentCallersShareOneRefresh() throws Exception {
+        CountingOAuthClient client = new CountingOAuthClient(Duration.ofSeconds(10), Duration.ofHours(1));
+        client.init(new CloudCredentials("user", "password"));
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            List<Future<OAuth2AccessTokenWithAdditionalInfo>> tokens = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+                tokens.add(executor.submit(client::getToken));
+            }
+            OAuth2AccessTokenWithAdditionalInfo refreshedToken = tokens.get(0)
+                                                                       .get();
+            for (Future<OAuth2AccessTokenWithAdditionalInfo> token : tokens) {
+                assertSame(refreshedToken, token.get());
+            }
+        } finally {
+            executor.shutdownNow();
+            client.clear();
+        }
+
+        assertEquals(2, client.createdTokens.get());
+    }
+
+    @Test
+    void testSubscribersShareOneRefreshWhichOutlivesThem() throws Exception {
+        CountingOAuthClient client = new CountingOAuthClient(Duration.ofSeconds(10), Duration.ofHours(1));
+        client.init(new CloudCredentials("user", "password"));
+        try {
+            client.getAuthorizationHeaderValueAsync()
+                  .subscribe()
+                  .dispose();
+            List<String> authorizationHeaderValues = Flux.range(0, CONCURRENT_CALLERS)
+                                                         .flatMap(i -> client.getAuthorizationHeaderValueAsync())
+                                                         .collectList()
+                                                         .block(Duration.ofSeconds(5));
+
+            assertEquals(CONCURRENT_CALLERS, authorizationHeaderValues.size());
+        } finally {
+            client.clear();
+        }
+
+        assertEquals(2, client.createdTokens.get());
+    }
+
+    @Test
+    void testRefreshWhichCompletesRightAway() throws Exception {
+        CountingOAuthClient client = new CountingOAuthClient(Duration.ofSeconds(10), Duration.ofHours(1), Duration.ZERO);
+        client.init(new CloudCredentials("user", "password"));
+        try {
+            OAuth2AccessTokenWithAdditionalInfo refreshedToken = client.getToken();
+
+            assertSame(refreshedToken, client.getTokenAsync()
+                                             .block());
+        } finally {
+            client.clear();
+        }
+
+        assertEquals(2, client.createdTokens.get());
+    }
+
+    @Test
+    void testRefreshWhichFailsRightAway() throws Exception {
+        FailingOAuthClient client = new FailingOAuthClient();
+        client.init(new CloudCredentials(client.buildToken(Duration.ofSeconds(10))));
+        try {
+            assertThrows(IllegalStateException.class, client::getToken);
+            Mono<OAuth2AccessTokenWithAdditionalInfo> token = client.getTokenAsync();
+            assertThrows(IllegalStateException.class, token::block);
+        } finally {
+            client.clear();
+        }
+
+        // The failed refresh is not reused by later callers
+        assertEquals(2, client.attempts.get());
+    }
+
+    @Test
+    void testTokenIsRefreshedInTheBackgroundBeforeItExpires() throws Exception {
+        CountingOAuthClient client = new CountingOAuthClient(Duration.ofSeconds(52), Duration.ofHours(1));
+        client.init(new CloudCredentials("user", "password"));
+        OAuth2AccessTokenWithAdditionalInfo initialToken = client.token;
+
+        // Nothing asks for the token until it is replaced, so only the background refresh can replace it
+        long deadline = System.currentTimeMillis() + 5000;
+        while (client.token == initialToken && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        OAuth2AccessTokenWithAdditionalInfo refreshedToken = client.getToken();
+        client.clear();
+
+        assertNotSame(initialToken, refreshedToken);
+        assertEquals(2, client.createdTokens.get());
+    }
+
+    @Test
+    void testTokenWhichIsNotRefreshableIsKept() throws MalformedURLException {
+        CountingOAuthClient client = new CountingOAuthClient(Duration.ofSeconds(10), Duration.ofHours(1));
+        OAuth2AccessTokenWithAdditionalInfo token = client.buildToken(Duration.ofSeconds(10));
+        client.init(new CloudCredentials(token, false));
+
+        assertSame(token, client.getToken());
+        assertEquals(0, client.createdTokens.get());
+    }
+
+    private static class CountingOAuthClient extends OAuthClient {
+
+        private final Duration firstTokenLifetime;
+        private final Duration tokenLifetime;
+        private final Duration creationTime;
+        private final AtomicInteger createdTokens = new AtomicInteger();
+
+        CountingOAuthClient(Duration firstTokenLifetime, Duration tokenLifetime) throws MalformedURLException {
+            this(firstTokenLifetime, tokenLifetime, Duration.ofMillis(100));
+        }
+
+        CountingOAuthClient(Duration firstTokenLifetime, Duration tokenLifetime, Duration creationTime) throws MalformedURLException {
+            super(new URL("https://uaa.example.com"), null);
+            this.firstTokenLifetime = firstTokenLifetime;
+            this.tokenLifetime = tokenLifetime;
+            this.creationTime = creationTime;
+        }
+
+        @Override
+        protected Mono<OAuth2AccessTokenWithAdditionalInfo> createTokenAsync() {
+            OAuth2AccessTokenWithAdditionalInfo newToken = buildToken(createdTokens.incrementAndGet() == 1 ? firstTokenLifetime
+                : tokenLifetime);
+            if (creationTime.isZero()) {
+                return Mono.just(newToken);
+            }
+            return Mono.just(newToken)
+                       .delayElement(creationTime);
+        }
+
+        OAuth2AccessTokenWithAdditionalInfo buildToken(Duration lifetime) {
+            Instant now = Instant.now();
+            return new OAuth2AccessTokenWithAdditionalInfo(new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token", now,
+                                                                                 now.plus(lifetime)));
+        }
+
+    }
+
+    private static class FailingOAuthClient extends CountingOAuthClient {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        FailingOAuthClient() throws MalformedURLException {
+            super(Duration.ZERO, Duration.ZERO);
+        }
+
+        @Override
+        protected Mono<OAuth2AccessTokenWithAdditionalInfo> createTokenAsync() {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("UAA unavailable"));
+        }
+
+    }
+
+}
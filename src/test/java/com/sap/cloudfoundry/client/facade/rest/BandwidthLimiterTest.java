@@ -0,0 +1,52 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+class BandwidthLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final BandwidthLimiter limiter = new BandwidthLimiter(1000, Schedulers.parallel(), clock::get);
+
+    @Test
+    void testChunksAreDelayedAfterEachOther() {
+        assertEquals(0, limiter.reserve(500));
+        assertEquals(millis(500), limiter.reserve(1000));
+        assertEquals(millis(1500), limiter.reserve(100));
+
+        clock.addAndGet(millis(1000));
+
+        assertEquals(millis(600), limiter.reserve(100));
+    }
+
+    @Test
+    void testIdleTimeIsNotCredited() {
+        assertEquals(0, limiter.reserve(1000));
+
+        clock.addAndGet(millis(5000));
+
+        assertEquals(0, limiter.reserve(1000));
+        assertEquals(millis(1000), limiter.reserve(1000));
+    }
+
+    @Test
+    void testUnlimitedChunksAreNotDelayed() {
+        Flux<byte[]> chunks = Flux.just(new byte[1]);
+
+        assertSame(chunks, new BandwidthLimiter(BandwidthLimiter.UNLIMITED, Schedulers.parallel()).limit(chunks));
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis)
+                       .toNanos();
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CloudControllerRestClientConfigurationTest {
+
+    @Test
+    void testPageSizeOfResourceTypeIsUsed() {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .defaultPageSize(200)
+                                                                                                              .putPageSize(ResourceType.APPLICATION,
+                                                                                                                           50)
+                                                                                                              .build();
+
+        assertEquals(Optional.of(50), configuration.getPageSize(ResourceType.APPLICATION));
+    }
+
+    @Test
+    void testDefaultPageSizeIsUsedForOtherResourceTypes() {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .defaultPageSize(200)
+                                                                                                              .putPageSize(ResourceType.APPLICATION,
+                                                                                                                           50)
+                                                                                                              .build();
+
+        assertEquals(Optional.of(200), configuration.getPageSize(ResourceType.SPACE));
+    }
+
+    @Test
+    void testNoPageSizeIsUsedWithoutDefault() {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .putPageSize(ResourceType.APPLICATION,
+                                                                                                                           50)
+                                                                                                              .build();
+
+        assertEquals(Optional.empty(), configuration.getPageSize(ResourceType.SPACE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, CloudControllerRestClientConfiguration.MAX_PAGE_SIZE })
+    void testPageSizeWithinLimitsIsAccepted(int pageSize) {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .defaultPageSize(pageSize)
+                                                                                                              .putPageSize(ResourceType.APPLICATION,
+                                                                                                                           pageSize)
+                                                                                                              .build();
+
+        assertEquals(Optional.of(pageSize), configuration.getPageSize(ResourceType.APPLICATION));
+        assertEquals(Optional.of(pageSize), configuration.getPageSize(ResourceType.SPACE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 0, CloudControllerRestClientConfiguration.MAX_PAGE_SIZE + 1 })
+    void testDefaultPageSizeOutsideLimitsIsRejected(int pageSize) {
+        ImmutableCloudControllerRestClientConfiguration.Builder builder = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                                         .defaultPageSize(pageSize);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertEquals("Page size must be between 1 and " + CloudControllerRestClientConfiguration.MAX_PAGE_SIZE, error.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 0, CloudControllerRestClientConfiguration.MAX_PAGE_SIZE + 1 })
+    void testPageSizeOfResourceTypeOutsideLimitsIsRejected(int pageSize) {
+        ImmutableCloudControllerRestClientConfiguration.Builder builder = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                                         .putPageSize(ResourceType.APPLICATION,
+                                                                                                                                      pageSize);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, builder::build);
+
+        assertEquals("Page size must be between 1 and " + CloudControllerRestClientConfiguration.MAX_PAGE_SIZE, error.getMessage());
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.cloudfoundry.client.v3.serviceplans.GetServicePlanResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
+import com.sap.cloudfoundry.client.facade.util.DigestCache;
+
+import reactor.core.publisher.Mono;
+
+class CloudControllerRestClientFactoryTest {
+
+    private static final int CLIENT_COUNT = 10;
+    private static final int MAX_GARBAGE_COLLECTIONS = 50;
+
+    private final CloudControllerRestClientFactory factory = ImmutableCloudControllerRestClientFactory.builder()
+                                                                                                      .build();
+
+    @Test
+    void testClientsOfTheSameOAuthClientShareAServiceCatalogCache() throws Exception {
+        OAuthClient oAuthClient = createOAuthClient();
+
+        ServiceCatalogCache firstCache = factory.getRestClientConfiguration(oAuthClient)
+                                                .getServiceCatalogCache();
+        ServiceCatalogCache secondCache = factory.getRestClientConfiguration(oAuthClient)
+                                                 .getServiceCatalogCache();
+        ServiceCatalogCache otherCache = factory.getRestClientConfiguration(createOAuthClient())
+                                                .getServiceCatalogCache();
+
+        assertSame(firstCache, secondCache);
+        assertNotSame(firstCache, otherCache);
+        assertEquals(2, factory.getServiceCatalogCacheCount());
+    }
+
+    @Test
+    void testServiceCatalogCachesAreDroppedWithTheirClients() throws Exception {
+        List<OAuthClient> oAuthClients = new ArrayList<>();
+        List<CloudControllerRestClientConfiguration> clientConfigurations = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            OAuthClient oAuthClient = createOAuthClient();
+            CloudControllerRestClientConfiguration configuration = factory.getRestClientConfiguration(oAuthClient);
+            // Like the requests of a client, the cached request references the OAuthClient
+            configuration.getServiceCatalogCache()
+                         .getServicePlans()
+                         .get("plan-" + i, guid -> fetchServicePlan(oAuthClient));
+            oAuthClients.add(oAuthClient);
+            clientConfigurations.add(configuration);
+        }
+        assertEquals(CLIENT_COUNT, factory.getServiceCatalogCacheCount());
+
+        clientConfigurations.clear();
+
+        // The OAuthClients stay reachable, so the caches must not be kept by them
+        assertEquals(0, awaitServiceCatalogCacheCount(0));
+        assertEquals(CLIENT_COUNT, oAuthClients.size());
+    }
+
+    @Test
+    void testCopiesOfTheFactoryShareTheDigestCache() throws Exception {
+        Path file = Files.createTempFile("digests-", ".bin");
+        try (DigestCache digestCache = new DigestCache(file)) {
+            CloudControllerRestClientFactory matchingFactory = ImmutableCloudControllerRestClientFactory.builder()
+                                                                                                        .shouldMatchUploadedResources(true)
+                                                                                                        .digestCache(digestCache)
+                                                                                                        .build();
+            CloudControllerRestClientFactory copy = ImmutableCloudControllerRestClientFactory.copyOf(matchingFactory)
+                                                                                             .withConnectionPoolSize(4);
+
+            assertSame(digestCache, getDigestCache(matchingFactory));
+            assertSame(digestCache, getDigestCache(copy));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testDigestCacheIsOnlyUsedWhenResourcesAreMatched() throws Exception {
+        Path file = Files.createTempFile("digests-", ".bin");
+        try (DigestCache digestCache = new DigestCache(file)) {
+            CloudControllerRestClientFactory nonMatchingFactory = ImmutableCloudControllerRestClientFactory.builder()
+                                                                                                           .digestCache(digestCache)
+                                                                                                           .build();
+
+            assertEquals(Optional.empty(), nonMatchingFactory.getRestClientConfiguration(createOAuthClient())
+                                                             .getDigestCache());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static DigestCache getDigestCache(CloudControllerRestClientFactory factory) throws MalformedURLException {
+        return factory.getRestClientConfiguration(createOAuthClient())
+                      .getDigestCache()
+                      .get();
+    }
+
+    private int awaitServiceCatalogCacheCount(int expectedCount) throws InterruptedException {
+        for (int i = 0; i < MAX_GARBAGE_COLLECTIONS && factory.getServiceCatalogCacheCount() > expectedCount; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return factory.getServiceCatalogCacheCount();
+    }
+
+    private static Mono<GetServicePlanResponse> fetchServicePlan(OAuthClient oAuthClient) {
+        return oAuthClient.getAuthorizationHeaderValueAsync()
+                          .then(Mono.empty());
+    }
+
+    private static OAuthClient createOAuthClient() throws MalformedURLException {
+        return new OAuthClient(new URL("https://login.example.com"), WebClient.create());
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.sap.cloudfoundry.client.facade.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.client.CloudFoundryClient;
@@ -34,8 +38,11 @@ import com.sap.cloudfoundry.client.facade.CloudCredentials;
 import com.sap.cloudfoundry.client.facade.CloudOperationException;
 import com.sap.cloudfoundry.client.facade.adapters.RawCloudServiceOfferingTest;
 import com.sap.cloudfoundry.client.facade.adapters.RawCloudServicePlanTest;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudEvent;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 class CloudControllerRestClientImplTest {
@@ -47,6 +54,9 @@ class CloudControllerRestClientImplTest {
     private static final String SERVICE_INSTANCE_GUID = "26949ebb-a624-35c0-000-1110a01f1880";
     private static final String SERVICE_OFFERING_GUID = "1803e5a7-40c7-438e-b2be-e2045c9b7cda";
     private static final String PLAN_NAME = "test-plan";
+    private static final String APPLICATION_NAME = "foo";
+    private static final String SERVICE_INSTANCE_NAME = "bar";
+    private static final UUID APPLICATION_GUID = UUID.fromString("5e3a3a71-3b32-4a5c-9ae3-2c3c3f5b6e10");
 
     private static URL createUrl(String string) {
         try {
@@ -65,13 +75,74 @@ class CloudControllerRestClientImplTest {
     private DopplerClient dopplerClient;
     @Mock
     private CloudFoundryClient delegate;
+    @Mock
+    private ReactiveCloudControllerRestClientImpl reactiveClient;
     private CloudControllerRestClientImpl controllerClient;
+    private CloudControllerRestClientImpl blockingClient;
 
     @BeforeEach
     public void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
         controllerClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate);
+        blockingClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, reactiveClient);
+    }
+
+    @Test
+    void testBlockingCallReturnsTheValueOfTheReactiveClient() {
+        Mockito.when(reactiveClient.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.just(APPLICATION_GUID));
+
+        assertEquals(APPLICATION_GUID, blockingClient.getApplicationGuid(APPLICATION_NAME));
+    }
+
+    @Test
+    void testBlockingCallReturnsAnOptionalOfTheReactiveClientValue() {
+        Mockito.when(reactiveClient.bindServiceInstance(APPLICATION_NAME, SERVICE_INSTANCE_NAME))
+               .thenReturn(Mono.just("job"));
+
+        assertEquals(Optional.of("job"), blockingClient.bindServiceInstance(APPLICATION_NAME, SERVICE_INSTANCE_NAME));
+    }
+
+    @Test
+    void testBlockingCallReturnsAnEmptyOptionalWhenTheReactiveClientEmitsNothing() {
+        Mockito.when(reactiveClient.bindServiceInstance(APPLICATION_NAME, SERVICE_INSTANCE_NAME))
+               .thenReturn(Mono.empty());
+
+        assertEquals(Optional.empty(), blockingClient.bindServiceInstance(APPLICATION_NAME, SERVICE_INSTANCE_NAME));
+    }
+
+    @Test
+    void testBlockingCallCollectsTheElementsOfTheReactiveClient() {
+        List<CloudEvent> events = List.of(buildEvent("audit.app.start"), buildEvent("audit.app.stop"));
+        Mockito.when(reactiveClient.getApplicationEvents(APPLICATION_NAME))
+               .thenReturn(Flux.fromIterable(events));
+
+        assertEquals(events, blockingClient.getApplicationEvents(APPLICATION_NAME));
+    }
+
+    @Test
+    void testBlockingCallRethrowsTheErrorOfTheReactiveClient() {
+        CloudOperationException notFound = new CloudOperationException(HttpStatus.NOT_FOUND);
+        Mockito.when(reactiveClient.getApplicationGuid(APPLICATION_NAME))
+               .thenReturn(Mono.error(notFound));
+
+        CloudOperationException error = assertThrows(CloudOperationException.class,
+                                                     () -> blockingClient.getApplicationGuid(APPLICATION_NAME));
+
+        assertSame(notFound, error);
+    }
+
+    @Test
+    void testBlockingCallRethrowsTheErrorOfTheReactiveClientElements() {
+        CloudOperationException forbidden = new CloudOperationException(HttpStatus.FORBIDDEN);
+        Mockito.when(reactiveClient.getApplicationEvents(APPLICATION_NAME))
+               .thenReturn(Flux.concat(Flux.just(buildEvent("audit.app.start")), Flux.error(forbidden)));
+
+        CloudOperationException error = assertThrows(CloudOperationException.class,
+                                                     () -> blockingClient.getApplicationEvents(APPLICATION_NAME));
+
+        assertSame(forbidden, error);
     }
 
     @Test
@@ -175,6 +246,12 @@ class CloudControllerRestClientImplTest {
         assertEquals(response, servicePlanResource);
     }
 
+    private static CloudEvent buildEvent(String type) {
+        return ImmutableCloudEvent.builder()
+                                  .type(type)
+                                  .build();
+    }
+
     private ClientV3Exception clientV3Exception(int statusCode) {
         return new ClientV3Exception(statusCode, Collections.emptyList());
     }
@@ -0,0 +1,94 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog.MessageType;
+
+class LogRingBufferTest {
+
+    private static final String APPLICATION_GUID = "1d3c4f28-37d4-4c5d-8b6b-29a7a0d1f4a1";
+    // The header, the source name "APP" and a message of 10 characters
+    private static final int RECORD_SIZE = 15 + 3 + 10;
+
+    @Test
+    void testLogsAreReadOldestFirst() {
+        LogRingBuffer buffer = new LogRingBuffer(1024);
+        append(buffer, 1, "first", MessageType.STDOUT);
+        append(buffer, 2, "grüße", MessageType.STDERR);
+
+        List<ApplicationLog> logs = buffer.read(APPLICATION_GUID, 0, 10);
+
+        assertEquals(List.of("first", "grüße"), getMessages(logs));
+        assertEquals(APPLICATION_GUID, logs.get(1)
+                                           .getApplicationGuid());
+        assertEquals(2, logs.get(1)
+                            .getTimestampInNanoseconds());
+        assertEquals(MessageType.STDERR, logs.get(1)
+                                             .getMessageType());
+        assertEquals("APP", logs.get(1)
+                                .getSourceName());
+    }
+
+    @Test
+    void testOnlyTheNewestLogsAfterTheTimestampAreRead() {
+        LogRingBuffer buffer = new LogRingBuffer(1024);
+        LongStream.rangeClosed(1, 10)
+                  .forEach(timestamp -> append(buffer, timestamp, "message " + timestamp, MessageType.STDOUT));
+
+        assertEquals(List.of("message 8", "message 9", "message 10"), getMessages(buffer.read(APPLICATION_GUID, 2, 3)));
+        assertEquals(List.of("message 9", "message 10"), getMessages(buffer.read(APPLICATION_GUID, 8, 3)));
+    }
+
+    @Test
+    void testOldestLogsAreEvictedWhenTheBufferIsFull() {
+        // Room for three records and a half, so the records wrap around the end of the buffer
+        LogRingBuffer buffer = new LogRingBuffer(RECORD_SIZE * 7 / 2);
+        LongStream.rangeClosed(1, 20)
+                  .forEach(timestamp -> append(buffer, timestamp, String.format("message %02d", timestamp), MessageType.STDOUT));
+
+        assertEquals(List.of("message 18", "message 19", "message 20"), getMessages(buffer.read(APPLICATION_GUID, 0, 10)));
+        assertEquals(17, buffer.getEvictedUntil());
+    }
+
+    @Test
+    void testLogsOlderThanTheTimestampAreEvicted() {
+        LogRingBuffer buffer = new LogRingBuffer(1024);
+        LongStream.rangeClosed(1, 5)
+                  .forEach(timestamp -> append(buffer, timestamp, "message " + timestamp, MessageType.STDOUT));
+
+        buffer.evictOlderThan(4);
+
+        assertEquals(2, buffer.getCount());
+        assertEquals(3, buffer.getEvictedUntil());
+    }
+
+    @Test
+    void testLogLargerThanTheBufferIsNotAppended() {
+        LogRingBuffer buffer = new LogRingBuffer(RECORD_SIZE);
+
+        assertTrue(append(buffer, 1, "0123456789", MessageType.STDOUT));
+        assertFalse(append(buffer, 2, "01234567890", MessageType.STDOUT));
+        assertEquals(List.of("0123456789"), getMessages(buffer.read(APPLICATION_GUID, 0, 10)));
+    }
+
+    private static boolean append(LogRingBuffer buffer, long timestamp, String message, MessageType messageType) {
+        return buffer.append(timestamp, messageType, "APP".getBytes(StandardCharsets.UTF_8), message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> getMessages(List<ApplicationLog> logs) {
+        return logs.stream()
+                   .map(ApplicationLog::getMessage)
+                   .collect(Collectors.toList());
+    }
+
+}
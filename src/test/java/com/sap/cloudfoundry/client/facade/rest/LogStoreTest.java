@@ -0,0 +1,158 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.adapters.ApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity.ImmutableLogBody;
+import com.sap.cloudfoundry.client.facade.adapters.LogCacheClient;
+import com.sap.cloudfoundry.client.facade.adapters.RawApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.publisher.Flux;
+
+class LogStoreTest {
+
+    private static final UUID APPLICATION_GUID = UUID.fromString("1d3c4f28-37d4-4c5d-8b6b-29a7a0d1f4a1");
+    private static final Instant NOW = Instant.now();
+
+    private final List<ApplicationLogEntity> cachedLogs = new CopyOnWriteArrayList<>();
+    private final List<ApplicationLogEntity> fetchedLogs = new CopyOnWriteArrayList<>();
+    private final AtomicInteger logCacheReads = new AtomicInteger();
+
+    @Test
+    void testOnlyNewLogsAreFetched() {
+        LogStore store = createStore(ImmutableLogStoreConfiguration.builder()
+                                                                   .build());
+        cachedLogs.add(buildLog(NOW.minusSeconds(30), "first"));
+        cachedLogs.add(buildLog(NOW.minusSeconds(20), "second"));
+
+        assertEquals(List.of("first", "second"), getRecentLogs(store, NOW.minusSeconds(60)));
+        cachedLogs.add(buildLog(NOW.minusSeconds(10), "third"));
+        assertEquals(List.of("second", "third"), getRecentLogs(store, NOW.minusSeconds(25)));
+
+        assertEquals(List.of("third"), getMessages(fetchedLogs));
+        assertEquals(1, logCacheReads.get());
+    }
+
+    @Test
+    void testStoreIsFilledWithTheNewestPage() {
+        LogStore store = createStore(ImmutableLogStoreConfiguration.builder()
+                                                                   .build());
+        for (int i = 0; i <= LogCacheClient.RECENT_LOGS_LIMIT; i++) {
+            cachedLogs.add(buildLog(NOW.minusSeconds(60)
+                                       .plusMillis(i), Integer.toString(i)));
+        }
+
+        List<String> firstLogs = getRecentLogs(store, NOW.minusSeconds(120));
+        cachedLogs.add(buildLog(NOW.minusSeconds(10), "newest"));
+        List<String> secondLogs = getRecentLogs(store, NOW.minusSeconds(120));
+
+        assertEquals(LogCacheClient.RECENT_LOGS_LIMIT, firstLogs.size());
+        assertEquals("1", firstLogs.get(0));
+        assertEquals(LogCacheClient.RECENT_LOGS_LIMIT, secondLogs.size());
+        assertEquals("2", secondLogs.get(0));
+        assertEquals("newest", secondLogs.get(LogCacheClient.RECENT_LOGS_LIMIT - 1));
+        assertEquals(List.of("newest"), getMessages(fetchedLogs));
+        assertEquals(1, logCacheReads.get());
+    }
+
+    @Test
+    void testOffsetBeforeTheStoredLogsIsReadFromTheLogCache() {
+        LogStore store = createStore(ImmutableLogStoreConfiguration.builder()
+                                                                   .build());
+        cachedLogs.add(buildLog(NOW.minusSeconds(30), "first"));
+        cachedLogs.add(buildLog(NOW.minusSeconds(20), "second"));
+
+        assertEquals(List.of("second"), getRecentLogs(store, NOW.minusSeconds(25)));
+        assertEquals(List.of("first", "second"), getRecentLogs(store, NOW.minusSeconds(60)));
+
+        assertEquals(2, logCacheReads.get());
+    }
+
+    @Test
+    void testLeastRecentlyReadApplicationIsEvicted() {
+        LogStore store = createStore(ImmutableLogStoreConfiguration.builder()
+                                                                   .maxApplications(2)
+                                                                   .build());
+
+        for (int i = 0; i < 3; i++) {
+            store.getRecentLogs(UUID.randomUUID(), toDateTime(NOW.minusSeconds(60)))
+                 .blockLast();
+        }
+
+        assertEquals(2, store.getStoredApplicationCount());
+    }
+
+    private LogStore createStore(LogStoreConfiguration configuration) {
+        return new LogStore(this::fetchLogs, this::readFromLogCache, configuration);
+    }
+
+    private List<String> getRecentLogs(LogStore store, Instant offset) {
+        return store.getRecentLogs(APPLICATION_GUID, toDateTime(offset))
+                    .map(ApplicationLog::getMessage)
+                    .collectList()
+                    .block();
+    }
+
+    private static List<String> getMessages(List<ApplicationLogEntity> logs) {
+        return logs.stream()
+                   .map(log -> RawApplicationLog.deriveCompact(log)
+                                                .getMessage())
+                   .collect(Collectors.toList());
+    }
+
+    private Flux<ApplicationLogEntity> fetchLogs(UUID applicationGuid, LocalDateTime offset) {
+        return getLogsAfter(offset).doOnNext(fetchedLogs::add);
+    }
+
+    private Flux<ApplicationLog> readFromLogCache(UUID applicationGuid, LocalDateTime offset) {
+        logCacheReads.incrementAndGet();
+        return getLogsAfter(offset).takeLast(LogCacheClient.RECENT_LOGS_LIMIT)
+                                   .map(RawApplicationLog::deriveCompact);
+    }
+
+    private Flux<ApplicationLogEntity> getLogsAfter(LocalDateTime offset) {
+        Instant offsetInstant = offset.toInstant(ZoneOffset.UTC);
+        long offsetInNanos = offsetInstant.getEpochSecond() * 1_000_000_000L + offsetInstant.getNano();
+        return Flux.fromIterable(cachedLogs)
+                   .filter(log -> log.getTimestampInNanoseconds() > offsetInNanos)
+                   .sort();
+    }
+
+    private static LocalDateTime toDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static ApplicationLogEntity buildLog(Instant timestamp, String message) {
+        return ImmutableApplicationLogEntity.builder()
+                                            .timestampInNanoseconds(timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano())
+                                            .sourceId(APPLICATION_GUID.toString())
+                                            .instanceId("0")
+                                            .putTag("source_type", "APP")
+                                            .logBody(ImmutableLogBody.builder()
+                                                                     .message(encodeBase64(message))
+                                                                     .messageType("OUT")
+                                                                     .build())
+                                            .build();
+    }
+
+    private static String encodeBase64(String message) {
+        return Base64.getEncoder()
+                     .encodeToString(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
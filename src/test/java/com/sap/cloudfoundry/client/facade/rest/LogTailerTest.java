@@ -0,0 +1,199 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.adapters.ApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableApplicationLogEntity.ImmutableLogBody;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+class LogTailerTest {
+
+    private static final UUID APPLICATION_GUID = UUID.fromString("1d3c4f28-37d4-4c5d-8b6b-29a7a0d1f4a1");
+    private static final long START = Instant.now()
+                                             .plusSeconds(60)
+                                             .getEpochSecond()
+        * 1_000_000_000L;
+
+    private final List<ApplicationLogEntity> cachedLogs = new CopyOnWriteArrayList<>();
+    private final BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> logsFetcher = this::fetchLogs;
+
+    @Test
+    void testLogsArePushedOnceInOrder() throws Exception {
+        cachedLogs.add(buildLog(START, "first"));
+        cachedLogs.add(buildLog(START + 1, "second"));
+        LogTailer tailer = createTailer();
+        RecordingListener listener = new RecordingListener();
+
+        Disposable tail = tailer.tail(logsFetcher, APPLICATION_GUID, listener);
+        listener.awaitMessages(2);
+        // A log which arrives late with the timestamp of the newest pushed log
+        cachedLogs.add(buildLog(START + 1, "late"));
+        cachedLogs.add(buildLog(START + 2, "third"));
+        listener.awaitMessages(4);
+        tail.dispose();
+
+        assertEquals(List.of("first", "second", "late", "third"), listener.getMessages());
+    }
+
+    @Test
+    void testListenersOfAnApplicationShareItsPolls() throws Exception {
+        cachedLogs.add(buildLog(START, "first"));
+        LogTailer tailer = createTailer();
+        RecordingListener firstListener = new RecordingListener();
+        RecordingListener secondListener = new RecordingListener();
+
+        Disposable firstTail = tailer.tail(logsFetcher, APPLICATION_GUID, firstListener);
+        Disposable secondTail = tailer.tail(logsFetcher, APPLICATION_GUID, secondListener);
+
+        assertEquals(1, tailer.getTailedApplicationCount());
+        firstListener.awaitMessages(1);
+        secondListener.awaitMessages(1);
+        firstTail.dispose();
+        assertEquals(1, tailer.getTailedApplicationCount());
+        secondTail.dispose();
+        assertEquals(0, tailer.getTailedApplicationCount());
+    }
+
+    @Test
+    void testDisposingCompletesListener() throws Exception {
+        LogTailer tailer = createTailer();
+        RecordingListener listener = new RecordingListener();
+
+        tailer.tail(logsFetcher, APPLICATION_GUID, listener)
+              .dispose();
+
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS));
+        assertTrue(listener.completed);
+        assertEquals(0, tailer.getTailedApplicationCount());
+    }
+
+    @Test
+    void testFailureIsPushedToListener() throws Exception {
+        LogTailer tailer = createTailer();
+        RecordingListener listener = new RecordingListener();
+
+        tailer.tail((applicationGuid, offset) -> Flux.error(new CloudException("Log cache unavailable")), APPLICATION_GUID, listener);
+
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS));
+        assertEquals("Log cache unavailable", listener.error.getMessage());
+        assertEquals(0, tailer.getTailedApplicationCount());
+    }
+
+    @Test
+    void testApplicationTailedByDifferentClientsIsPolledThroughEachClient() throws Exception {
+        cachedLogs.add(buildLog(START, "first"));
+        AtomicInteger otherPolls = new AtomicInteger();
+        BiFunction<UUID, LocalDateTime, Flux<ApplicationLogEntity>> otherLogsFetcher = (applicationGuid, offset) -> {
+            otherPolls.incrementAndGet();
+            return fetchLogs(applicationGuid, offset);
+        };
+        LogTailer tailer = createTailer();
+        RecordingListener listener = new RecordingListener();
+        RecordingListener otherListener = new RecordingListener();
+
+        Disposable tail = tailer.tail(logsFetcher, APPLICATION_GUID, listener);
+        Disposable otherTail = tailer.tail(otherLogsFetcher, APPLICATION_GUID, otherListener);
+
+        assertEquals(2, tailer.getTailedApplicationCount());
+        listener.awaitMessages(1);
+        otherListener.awaitMessages(1);
+        tail.dispose();
+        otherTail.dispose();
+        assertTrue(otherPolls.get() > 0);
+    }
+
+    private LogTailer createTailer() {
+        return new LogTailer(Duration.ofMillis(10), Duration.ofMillis(40), Schedulers.parallel());
+    }
+
+    private Flux<ApplicationLogEntity> fetchLogs(UUID applicationGuid, LocalDateTime offset) {
+        Instant offsetInstant = offset.toInstant(ZoneOffset.UTC);
+        long offsetInNanos = offsetInstant.getEpochSecond() * 1_000_000_000L + offsetInstant.getNano();
+        return Flux.fromIterable(cachedLogs)
+                   .filter(log -> log.getTimestampInNanoseconds() > offsetInNanos)
+                   .sort();
+    }
+
+    private static ApplicationLogEntity buildLog(long timestamp, String message) {
+        return ImmutableApplicationLogEntity.builder()
+                                            .timestampInNanoseconds(timestamp)
+                                            .sourceId(APPLICATION_GUID.toString())
+                                            .instanceId("0")
+                                            .putTag("source_type", "APP")
+                                            .logBody(ImmutableLogBody.builder()
+                                                                     .message(encodeBase64(message))
+                                                                     .messageType("OUT")
+                                                                     .build())
+                                            .build();
+    }
+
+    private static String encodeBase64(String message) {
+        return Base64.getEncoder()
+                     .encodeToString(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingListener implements ApplicationLogListener {
+
+        private final List<ApplicationLog> logs = new CopyOnWriteArrayList<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            finished.countDown();
+        }
+
+        @Override
+        public void onError(Throwable exception) {
+            error = exception;
+            finished.countDown();
+        }
+
+        @Override
+        public void onMessage(ApplicationLog log) {
+            logs.add(log);
+        }
+
+        void awaitMessages(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (logs.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        List<String> getMessages() {
+            return logs.stream()
+                       .map(ApplicationLog::getMessage)
+                       .collect(Collectors.toList());
+        }
+
+    }
+
+}
@@ -0,0 +1,769 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.ApplicationsV3;
+import org.cloudfoundry.client.v3.applications.DeleteApplicationRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentVariablesRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentVariablesResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
+import org.cloudfoundry.client.v3.auditevents.AuditEventResource;
+import org.cloudfoundry.client.v3.auditevents.AuditEventsV3;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsRequest;
+import org.cloudfoundry.client.v3.auditevents.ListAuditEventsResponse;
+import org.cloudfoundry.client.v3.jobs.GetJobRequest;
+import org.cloudfoundry.client.v3.jobs.GetJobResponse;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.cloudfoundry.client.v3.jobs.JobsV3;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationRequest;
+import org.cloudfoundry.client.v3.organizations.GetOrganizationResponse;
+import org.cloudfoundry.client.v3.organizations.OrganizationsV3;
+import org.cloudfoundry.client.v3.packages.BitsData;
+import org.cloudfoundry.client.v3.packages.CopyPackageRequest;
+import org.cloudfoundry.client.v3.packages.CopyPackageResponse;
+import org.cloudfoundry.client.v3.packages.GetPackageRequest;
+import org.cloudfoundry.client.v3.packages.GetPackageResponse;
+import org.cloudfoundry.client.v3.packages.ListPackagesRequest;
+import org.cloudfoundry.client.v3.packages.ListPackagesResponse;
+import org.cloudfoundry.client.v3.packages.PackageResource;
+import org.cloudfoundry.client.v3.packages.PackageState;
+import org.cloudfoundry.client.v3.packages.PackageType;
+import org.cloudfoundry.client.v3.packages.Packages;
+import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesRequest;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceRelationships;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceType;
+import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
+import org.cloudfoundry.client.v3.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v3.spaces.SpaceRelationships;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.cloudfoundry.client.v3.spaces.SpacesV3;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableListServiceInstancesWithServicePlansResponse;
+import com.sap.cloudfoundry.client.facade.adapters.ListServiceInstancesWithServicePlansResponse;
+import com.sap.cloudfoundry.client.facade.adapters.SideLoadingClient;
+import com.sap.cloudfoundry.client.facade.domain.BulkDeleteResult;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudSpace;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class ReactiveCloudControllerRestClientImplTest {
+
+    private static final String APPLICATION_NAME = "foo";
+    private static final int APPLICATION_GUID_CACHE_MAXIMUM_SIZE = 1000;
+    private static final int SPACE_COUNT = 5;
+    private static final UUID SPACE_GUID = UUID.fromString("0b3e2e32-6d2f-4ad7-8b5b-7a6b0a1bb3f5");
+    private static final UUID APPLICATION_GUID = UUID.fromString("5e3a3a71-3b32-4a5c-9ae3-2c3c3f5b6e10");
+    private static final UUID RECREATED_APPLICATION_GUID = UUID.fromString("a7f0c5d6-2a6c-4f44-a3b3-1b8f1f7d2c11");
+    private static final UUID SOURCE_PACKAGE_GUID = UUID.fromString("c4b2b0a3-0e55-4a77-9a0c-3f0f4f7c9e21");
+    private static final UUID COPIED_PACKAGE_GUID = UUID.fromString("d9e1f6a2-7b1c-4c0e-8e5d-6a2b3c4d5e32");
+    private static final String SERVICE_PLAN_GUID = "1803e5a7-40c7-438e-b2be-e2045c9b7cda";
+    private static final String PACKAGE_ERROR = "Package expired";
+    private static final String CREATED_AT = "2022-01-01T00:00:00Z";
+    private static final Lifecycle LIFECYCLE = Lifecycle.builder()
+                                                        .type(LifecycleType.BUILDPACK)
+                                                        .data(BuildpackData.builder()
+                                                                           .build())
+                                                        .build();
+
+    @Mock
+    private CloudFoundryClient delegate;
+    @Mock
+    private ApplicationsV3 applications;
+    @Mock
+    private AuditEventsV3 auditEvents;
+    @Mock
+    private JobsV3 jobs;
+    @Mock
+    private Packages packages;
+    private ReactiveCloudControllerRestClientImpl client;
+    private final List<UUID> applicationsInSpace = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        Mockito.when(delegate.applicationsV3())
+               .thenReturn(applications);
+        Mockito.when(delegate.auditEventsV3())
+               .thenReturn(auditEvents);
+        Mockito.when(delegate.jobsV3())
+               .thenReturn(jobs);
+        Mockito.when(delegate.packages())
+               .thenReturn(packages);
+        Mockito.when(applications.list(Mockito.any(ListApplicationsRequest.class)))
+               .thenAnswer(invocation -> Mono.fromSupplier(this::listApplications));
+        client = new ReactiveCloudControllerRestClientImpl(delegate, null, buildTarget());
+    }
+
+    @Test
+    void testApplicationGuidIsLookedUpOnce() {
+        applicationsInSpace.add(APPLICATION_GUID);
+
+        assertEquals(APPLICATION_GUID, client.getApplicationGuid(APPLICATION_NAME)
+                                             .block());
+        assertEquals(APPLICATION_GUID, client.getApplicationGuid(APPLICATION_NAME)
+                                             .block());
+
+        Mockito.verify(applications)
+               .list(Mockito.any(ListApplicationsRequest.class));
+    }
+
+    @Test
+    void testLeastRecentlyUsedGuidIsEvicted() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+
+        lookUpOtherApplicationGuids(APPLICATION_GUID_CACHE_MAXIMUM_SIZE);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+
+        Mockito.verify(applications, Mockito.times(APPLICATION_GUID_CACHE_MAXIMUM_SIZE + 2))
+               .list(Mockito.any(ListApplicationsRequest.class));
+    }
+
+    @Test
+    void testRecentlyUsedGuidIsNotEvicted() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+
+        lookUpOtherApplicationGuids(APPLICATION_GUID_CACHE_MAXIMUM_SIZE - 1);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        lookUpOtherApplicationGuids(1);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+
+        Mockito.verify(applications, Mockito.times(APPLICATION_GUID_CACHE_MAXIMUM_SIZE + 1))
+               .list(Mockito.any(ListApplicationsRequest.class));
+    }
+
+    @Test
+    void testPageSizeOfResourceTypeIsRequested() {
+        client = createClient(ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                             .defaultPageSize(200)
+                                                                             .putPageSize(ResourceType.APPLICATION, 50)
+                                                                             .build());
+
+        assertEquals(Integer.valueOf(50), getRequestedApplicationPageSize());
+    }
+
+    @Test
+    void testDefaultPageSizeIsRequestedForOtherResourceTypes() {
+        client = createClient(ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                             .defaultPageSize(200)
+                                                                             .putPageSize(ResourceType.EVENT, 50)
+                                                                             .build());
+
+        assertEquals(Integer.valueOf(200), getRequestedApplicationPageSize());
+    }
+
+    @Test
+    void testNoPageSizeIsRequestedWithoutConfiguration() {
+        assertNull(getRequestedApplicationPageSize());
+    }
+
+    @Test
+    void testRenameMovesCachedGuid() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        Mockito.when(applications.update(Mockito.any(UpdateApplicationRequest.class)))
+               .thenReturn(Mono.just(buildUpdateResponse("bar")));
+
+        client.rename(APPLICATION_NAME, "bar")
+              .block();
+
+        assertEquals(APPLICATION_GUID, client.getApplicationGuid("bar")
+                                             .block());
+        Mockito.verify(applications)
+               .list(Mockito.any(ListApplicationsRequest.class));
+    }
+
+    @Test
+    void testDeleteDropsCachedGuid() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        Mockito.when(applications.delete(Mockito.any(DeleteApplicationRequest.class)))
+               .thenReturn(Mono.just("job"));
+        mockJob("job", JobState.COMPLETE);
+
+        client.deleteApplication(APPLICATION_NAME)
+              .block();
+        applicationsInSpace.clear();
+
+        assertThrows(CloudOperationException.class, () -> client.getApplicationGuid(APPLICATION_NAME)
+                                                                .block());
+        Mockito.verify(applications, Mockito.times(2))
+               .list(Mockito.any(ListApplicationsRequest.class));
+    }
+
+    @Test
+    void testOperationIsRetriedWithTheGuidOfRecreatedApplication() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        applicationsInSpace.set(0, RECREATED_APPLICATION_GUID);
+        mockEnvironment(APPLICATION_GUID, Mono.error(new ClientV3Exception(404, Collections.emptyList())));
+        mockEnvironment(RECREATED_APPLICATION_GUID, Mono.just(buildEnvironment()));
+
+        assertEquals(Map.of("key", "value"), client.getApplicationEnvironment(APPLICATION_NAME)
+                                                   .block());
+        assertEquals(RECREATED_APPLICATION_GUID, client.getApplicationGuid(APPLICATION_NAME)
+                                                       .block());
+    }
+
+    @Test
+    void testNotFoundErrorOfOtherResourceIsNotRetried() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        ClientV3Exception notFound = new ClientV3Exception(404, Collections.emptyList());
+        mockEnvironment(APPLICATION_GUID, Mono.error(notFound));
+
+        ClientV3Exception error = assertThrows(ClientV3Exception.class, () -> client.getApplicationEnvironment(APPLICATION_NAME)
+                                                                                    .block());
+
+        assertSame(notFound, error);
+        Mockito.verify(applications)
+               .getEnvironmentVariables(Mockito.any(GetApplicationEnvironmentVariablesRequest.class));
+    }
+
+    @Test
+    void testFluxWhichEmittedIsNotRetried() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        applicationsInSpace.set(0, RECREATED_APPLICATION_GUID);
+        Mockito.when(auditEvents.list(Mockito.any(ListAuditEventsRequest.class)))
+               .thenAnswer(invocation -> {
+                   ListAuditEventsRequest request = invocation.getArgument(0);
+                   if (request.getPage() == 1) {
+                       return Mono.just(buildEventsPage());
+                   }
+                   return Mono.error(new ClientV3Exception(404, Collections.emptyList()));
+               });
+        List<CloudEvent> events = new CopyOnWriteArrayList<>();
+
+        Flux<CloudEvent> eventsOfApplication = client.getApplicationEvents(APPLICATION_NAME)
+                                                                .doOnNext(events::add);
+        assertThrows(ClientV3Exception.class, eventsOfApplication::blockLast);
+
+        assertEquals(1, events.size());
+        Mockito.verify(auditEvents, Mockito.times(2))
+               .list(Mockito.any(ListAuditEventsRequest.class));
+    }
+
+    @Test
+    void testBulkDeletionReportsEveryOutcome() {
+        UUID rejectedApplication = UUID.randomUUID();
+        UUID applicationWithFailedJob = UUID.randomUUID();
+        UUID deletedApplication = UUID.randomUUID();
+        applicationsInSpace.addAll(List.of(rejectedApplication, applicationWithFailedJob, deletedApplication));
+        mockApplicationDeletion(rejectedApplication, Mono.error(new ClientV3Exception(422, Collections.emptyList())));
+        mockApplicationDeletion(applicationWithFailedJob, Mono.just("failed-job"));
+        mockApplicationDeletion(deletedApplication, Mono.just("job"));
+        mockJob("failed-job", JobState.FAILED);
+        mockJob("job", JobState.COMPLETE);
+
+        BulkDeleteResult result = client.tryDeleteAllApplications()
+                                        .block();
+
+        assertEquals(List.of(deletedApplication), result.getDeletedResources());
+        assertEquals(Set.of(rejectedApplication, applicationWithFailedJob), result.getFailedResources()
+                                                                                  .keySet());
+        assertEquals(422, result.getFailedResources()
+                                .get(rejectedApplication)
+                                .getCode());
+    }
+
+    @Test
+    void testBulkDeletionFailsOnlyAfterEveryDeletionFinished() {
+        UUID rejectedApplication = UUID.randomUUID();
+        UUID deletedApplication = UUID.randomUUID();
+        applicationsInSpace.addAll(List.of(rejectedApplication, deletedApplication));
+        mockApplicationDeletion(rejectedApplication, Mono.error(new ClientV3Exception(422, Collections.emptyList())));
+        mockApplicationDeletion(deletedApplication, Mono.just("job"));
+        mockJob("job", JobState.COMPLETE);
+
+        assertThrows(ClientV3Exception.class, () -> client.deleteAllApplications()
+                                                          .block());
+
+        Mockito.verify(applications, Mockito.times(2))
+               .delete(Mockito.any(DeleteApplicationRequest.class));
+        Mockito.verify(jobs)
+               .get(Mockito.any(GetJobRequest.class));
+    }
+
+    @Test
+    void testBulkDeletionSubmitsBoundedNumberOfRequests() {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .bulkDeleteConcurrency(2)
+                                                                                                              .build();
+        ReactiveCloudControllerRestClientImpl boundedClient = new ReactiveCloudControllerRestClientImpl(delegate, null, buildTarget(),
+                                                                                                        configuration);
+        for (int i = 0; i < 6; i++) {
+            applicationsInSpace.add(UUID.randomUUID());
+        }
+        AtomicInteger submissions = new AtomicInteger();
+        AtomicInteger maxSubmissions = new AtomicInteger();
+        Mockito.when(applications.delete(Mockito.any(DeleteApplicationRequest.class)))
+               .thenAnswer(invocation -> Mono.defer(() -> {
+                   maxSubmissions.accumulateAndGet(submissions.incrementAndGet(), Math::max);
+                   return Mono.just("job")
+                              .delayElement(Duration.ofMillis(50))
+                              .doOnNext(jobId -> submissions.decrementAndGet());
+               }));
+        mockJob("job", JobState.COMPLETE);
+
+        BulkDeleteResult result = boundedClient.tryDeleteAllApplications()
+                                               .block();
+
+        assertEquals(6, result.getDeletedResources()
+                              .size());
+        assertEquals(2, maxSubmissions.get());
+    }
+
+    @Test
+    void testOrderedFanOutKeepsTheOrderOfTheListing() {
+        AtomicInteger maximumInFlight = mockSpacesWithSlowerOrganizationsFirst();
+        client = createClientWithSpaceFanOut(ImmutableFanOutConfiguration.builder()
+                                                                         .concurrency(SPACE_COUNT)
+                                                                         .isOrdered(true)
+                                                                         .build());
+
+        List<String> spaceNames = getSpaceNames();
+
+        assertEquals(buildSpaceNames(), spaceNames);
+        assertEquals(SPACE_COUNT, maximumInFlight.get());
+    }
+
+    @Test
+    void testUnorderedFanOutEmitsSpacesAsSoonAsTheirOrganizationIsFetched() {
+        mockSpacesWithSlowerOrganizationsFirst();
+        client = createClientWithSpaceFanOut(ImmutableFanOutConfiguration.builder()
+                                                                         .concurrency(SPACE_COUNT)
+                                                                         .build());
+
+        List<String> spaceNames = getSpaceNames();
+
+        List<String> expectedSpaceNames = buildSpaceNames();
+        Collections.reverse(expectedSpaceNames);
+        assertEquals(expectedSpaceNames, spaceNames);
+    }
+
+    @Test
+    void testOrderedFanOutSendsBoundedNumberOfRequests() {
+        AtomicInteger maximumInFlight = mockSpacesWithSlowerOrganizationsFirst();
+        client = createClientWithSpaceFanOut(ImmutableFanOutConfiguration.builder()
+                                                                         .concurrency(2)
+                                                                         .isOrdered(true)
+                                                                         .build());
+
+        List<String> spaceNames = getSpaceNames();
+
+        assertEquals(buildSpaceNames(), spaceNames);
+        assertEquals(2, maximumInFlight.get());
+    }
+
+    @Test
+    void testUnorderedFanOutSendsBoundedNumberOfRequests() {
+        AtomicInteger maximumInFlight = mockSpacesWithSlowerOrganizationsFirst();
+        client = createClientWithSpaceFanOut(ImmutableFanOutConfiguration.builder()
+                                                                         .concurrency(2)
+                                                                         .build());
+
+        List<String> spaceNames = getSpaceNames();
+
+        assertEquals(Set.copyOf(buildSpaceNames()), Set.copyOf(spaceNames));
+        assertEquals(SPACE_COUNT, spaceNames.size());
+        assertEquals(2, maximumInFlight.get());
+    }
+
+    @Test
+    void testCopiedPackageIsReturnedOnceProcessed() {
+        ReactiveCloudControllerRestClientImpl copyingClient = createClientWithFastUploadMonitor();
+        Mockito.when(packages.copy(Mockito.any(CopyPackageRequest.class)))
+               .thenReturn(Mono.just(buildCopyPackageResponse()));
+        AtomicInteger polls = new AtomicInteger();
+        Mockito.when(packages.list(Mockito.any(ListPackagesRequest.class)))
+               .thenAnswer(invocation -> Mono.fromSupplier(() -> {
+                   PackageState state = polls.incrementAndGet() < 2 ? PackageState.PROCESSING_UPLOAD : PackageState.READY;
+                   return buildPackagesPage(state);
+               }));
+        Mockito.when(packages.get(GetPackageRequest.builder()
+                                                   .packageId(COPIED_PACKAGE_GUID.toString())
+                                                   .build()))
+               .thenReturn(Mono.just(buildGetPackageResponse()));
+
+        CloudPackage copiedPackage = copyingClient.copyPackage(SOURCE_PACKAGE_GUID, APPLICATION_GUID)
+                                                  .block();
+
+        assertEquals(COPIED_PACKAGE_GUID, copiedPackage.getGuid());
+        assertEquals(2, polls.get());
+        ArgumentCaptor<CopyPackageRequest> request = ArgumentCaptor.forClass(CopyPackageRequest.class);
+        Mockito.verify(packages)
+               .copy(request.capture());
+        assertEquals(SOURCE_PACKAGE_GUID.toString(), request.getValue()
+                                                            .getSourcePackageId());
+        assertEquals(APPLICATION_GUID.toString(), request.getValue()
+                                                         .getRelationships()
+                                                         .getApplication()
+                                                         .getData()
+                                                         .getId());
+    }
+
+    @Test
+    void testCopyFailsWhenCopiedPackageExpires() {
+        ReactiveCloudControllerRestClientImpl copyingClient = createClientWithFastUploadMonitor();
+        Mockito.when(packages.copy(Mockito.any(CopyPackageRequest.class)))
+               .thenReturn(Mono.just(buildCopyPackageResponse()));
+        Mockito.when(packages.list(Mockito.any(ListPackagesRequest.class)))
+               .thenReturn(Mono.just(buildPackagesPage(PackageState.EXPIRED)));
+
+        Mono<CloudPackage> copiedPackage = copyingClient.copyPackage(SOURCE_PACKAGE_GUID, APPLICATION_GUID);
+
+        CloudException error = assertThrows(CloudException.class, copiedPackage::block);
+        assertTrue(error.getMessage()
+                        .contains(SOURCE_PACKAGE_GUID.toString()));
+        assertTrue(error.getMessage()
+                        .contains(PACKAGE_ERROR));
+        Mockito.verify(packages, Mockito.never())
+               .get(Mockito.any(GetPackageRequest.class));
+    }
+
+    @Test
+    void testSideLoadedServiceInstanceWithoutVisiblePlanFails() {
+        SideLoadingClient sideLoadingClient = Mockito.mock(SideLoadingClient.class);
+        Mockito.when(sideLoadingClient.listServiceInstances(Mockito.any(ListServiceInstancesRequest.class)))
+               .thenReturn(Mono.just(buildServiceInstancesPageWithoutPlans()));
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .build();
+        ReactiveCloudControllerRestClientImpl sideLoadingController = new ReactiveCloudControllerRestClientImpl(delegate, null,
+                                                                                                                sideLoadingClient,
+                                                                                                                buildTarget(),
+                                                                                                                configuration);
+
+        Mono<List<CloudServiceInstance>> serviceInstances = sideLoadingController.getServiceInstances()
+                                                                                 .collectList();
+        CloudOperationException error = assertThrows(CloudOperationException.class, serviceInstances::block);
+
+        assertEquals(HttpStatus.FORBIDDEN, error.getStatusCode());
+        assertEquals("403 Forbidden: Service plan with guid \"" + SERVICE_PLAN_GUID + "\" is not available for service instance \"bar\".",
+                     error.getMessage());
+    }
+
+    private ListApplicationsResponse listApplications() {
+        List<ApplicationResource> resources = applicationsInSpace.stream()
+                                                                 .map(applicationGuid -> ApplicationResource.builder()
+                                                                                                            .id(applicationGuid.toString())
+                                                                                                            .createdAt(CREATED_AT)
+                                                                                                            .name(APPLICATION_NAME)
+                                                                                                            .state(ApplicationState.STARTED)
+                                                                                                            .lifecycle(LIFECYCLE)
+                                                                                                            .build())
+                                                                 .collect(Collectors.toList());
+        return ListApplicationsResponse.builder()
+                                       .resources(resources)
+                                       .build();
+    }
+
+    /**
+     * Lists {@link #SPACE_COUNT} spaces, each in its own organization. The organization of an earlier space takes longer to fetch.
+     *
+     * @return the maximum number of organization requests in flight at the same time
+     */
+    private AtomicInteger mockSpacesWithSlowerOrganizationsFirst() {
+        SpacesV3 spaces = Mockito.mock(SpacesV3.class);
+        OrganizationsV3 organizations = Mockito.mock(OrganizationsV3.class);
+        Mockito.when(delegate.spacesV3())
+               .thenReturn(spaces);
+        Mockito.when(delegate.organizationsV3())
+               .thenReturn(organizations);
+        ListSpacesResponse.Builder page = ListSpacesResponse.builder()
+                                                            .pagination(Pagination.builder()
+                                                                                  .totalPages(1)
+                                                                                  .totalResults(SPACE_COUNT)
+                                                                                  .build());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maximumInFlight = new AtomicInteger();
+        for (int i = 0; i < SPACE_COUNT; i++) {
+            String organizationGuid = UUID.randomUUID()
+                                          .toString();
+            page.resource(buildSpace("space-" + i, organizationGuid));
+            GetOrganizationRequest request = GetOrganizationRequest.builder()
+                                                                   .organizationId(organizationGuid)
+                                                                   .build();
+            Duration delay = Duration.ofMillis(20L * (SPACE_COUNT - i));
+            Mockito.when(organizations.get(request))
+                   .thenReturn(Mono.delay(delay)
+                                   .map(ignored -> buildOrganization(organizationGuid))
+                                   .doOnSubscribe(subscription -> maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                                   .doOnNext(organization -> inFlight.decrementAndGet()));
+        }
+        Mockito.when(spaces.list(Mockito.any(ListSpacesRequest.class)))
+               .thenReturn(Mono.just(page.build()));
+        return maximumInFlight;
+    }
+
+    private List<String> getSpaceNames() {
+        return client.getSpaces()
+                     .map(CloudSpace::getName)
+                     .collectList()
+                     .block();
+    }
+
+    private static List<String> buildSpaceNames() {
+        return IntStream.range(0, SPACE_COUNT)
+                        .mapToObj(i -> "space-" + i)
+                        .collect(Collectors.toList());
+    }
+
+    private static SpaceResource buildSpace(String name, String organizationGuid) {
+        return SpaceResource.builder()
+                            .id(UUID.randomUUID()
+                                    .toString())
+                            .createdAt(CREATED_AT)
+                            .name(name)
+                            .relationships(SpaceRelationships.builder()
+                                                             .organization(ToOneRelationship.builder()
+                                                                                            .data(Relationship.builder()
+                                                                                                              .id(organizationGuid)
+                                                                                                              .build())
+                                                                                            .build())
+                                                             .build())
+                            .build();
+    }
+
+    private static GetOrganizationResponse buildOrganization(String organizationGuid) {
+        return GetOrganizationResponse.builder()
+                                      .id(organizationGuid)
+                                      .createdAt(CREATED_AT)
+                                      .name("organization")
+                                      .metadata(Metadata.builder()
+                                                        .build())
+                                      .build();
+    }
+
+    private ReactiveCloudControllerRestClientImpl createClientWithSpaceFanOut(FanOutConfiguration fanOutConfiguration) {
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .putFanOutConfiguration(ResourceType.SPACE,
+                                                                                                                                      fanOutConfiguration)
+                                                                                                              .build();
+        return new ReactiveCloudControllerRestClientImpl(delegate, null, buildTarget(), configuration);
+    }
+
+    private Integer getRequestedApplicationPageSize() {
+        applicationsInSpace.add(APPLICATION_GUID);
+        client.getApplicationGuid(APPLICATION_NAME)
+              .block();
+        ArgumentCaptor<ListApplicationsRequest> request = ArgumentCaptor.forClass(ListApplicationsRequest.class);
+        Mockito.verify(applications)
+               .list(request.capture());
+        return request.getValue()
+                      .getPerPage();
+    }
+
+    private ReactiveCloudControllerRestClientImpl createClient(CloudControllerRestClientConfiguration configuration) {
+        return new ReactiveCloudControllerRestClientImpl(delegate, null, buildTarget(), configuration);
+    }
+
+    private void lookUpOtherApplicationGuids(int count) {
+        for (int i = 0; i < count; i++) {
+            client.getApplicationGuid(APPLICATION_NAME + "-" + UUID.randomUUID())
+                  .block();
+        }
+    }
+
+    private ReactiveCloudControllerRestClientImpl createClientWithFastUploadMonitor() {
+        UploadMonitor uploadMonitor = new UploadMonitor(Duration.ofMillis(10), Duration.ofMillis(40), Schedulers.parallel());
+        CloudControllerRestClientConfiguration configuration = ImmutableCloudControllerRestClientConfiguration.builder()
+                                                                                                              .uploadMonitor(uploadMonitor)
+                                                                                                              .build();
+        return new ReactiveCloudControllerRestClientImpl(delegate, null, buildTarget(), configuration);
+    }
+
+    private static CopyPackageResponse buildCopyPackageResponse() {
+        return CopyPackageResponse.builder()
+                                  .id(COPIED_PACKAGE_GUID.toString())
+                                  .createdAt(CREATED_AT)
+                                  .type(PackageType.BITS)
+                                  .data(buildBitsData())
+                                  .state(PackageState.COPYING)
+                                  .build();
+    }
+
+    private static ListPackagesResponse buildPackagesPage(PackageState state) {
+        PackageResource copiedPackage = PackageResource.builder()
+                                                       .id(COPIED_PACKAGE_GUID.toString())
+                                                       .createdAt(CREATED_AT)
+                                                       .type(PackageType.BITS)
+                                                       .data(buildBitsData())
+                                                       .state(state)
+                                                       .build();
+        return ListPackagesResponse.builder()
+                                   .pagination(Pagination.builder()
+                                                         .totalPages(1)
+                                                         .totalResults(1)
+                                                         .build())
+                                   .resource(copiedPackage)
+                                   .build();
+    }
+
+    private static GetPackageResponse buildGetPackageResponse() {
+        return GetPackageResponse.builder()
+                                 .id(COPIED_PACKAGE_GUID.toString())
+                                 .createdAt(CREATED_AT)
+                                 .type(PackageType.BITS)
+                                 .data(buildBitsData())
+                                 .state(PackageState.READY)
+                                 .build();
+    }
+
+    private static BitsData buildBitsData() {
+        return BitsData.builder()
+                       .error(PACKAGE_ERROR)
+                       .build();
+    }
+
+    private static CloudSpace buildTarget() {
+        return ImmutableCloudSpace.builder()
+                                  .metadata(ImmutableCloudMetadata.of(SPACE_GUID))
+                                  .name("space")
+                                  .build();
+    }
+
+    private static ListServiceInstancesWithServicePlansResponse buildServiceInstancesPageWithoutPlans() {
+        ServiceInstanceResource serviceInstance = ServiceInstanceResource.builder()
+                                                                         .id(UUID.randomUUID()
+                                                                                 .toString())
+                                                                         .createdAt(CREATED_AT)
+                                                                         .name("bar")
+                                                                         .type(ServiceInstanceType.MANAGED)
+                                                                         .relationships(ServiceInstanceRelationships.builder()
+                                                                                                                    .servicePlan(ToOneRelationship.builder()
+                                                                                                                                                  .data(Relationship.builder()
+                                                                                                                                                                    .id(SERVICE_PLAN_GUID)
+                                                                                                                                                                    .build())
+                                                                                                                                                  .build())
+                                                                                                                    .build())
+                                                                         .build();
+        return ImmutableListServiceInstancesWithServicePlansResponse.builder()
+                                                                    .addResource(serviceInstance)
+                                                                    .included(ImmutableListServiceInstancesWithServicePlansResponse.ImmutableIncluded.builder()
+                                                                                                                                                     .build())
+                                                                    .build();
+    }
+
+    private void mockApplicationDeletion(UUID applicationGuid, Mono<String> jobId) {
+        DeleteApplicationRequest request = DeleteApplicationRequest.builder()
+                                                                   .applicationId(applicationGuid.toString())
+                                                                   .build();
+        Mockito.when(applications.delete(request))
+               .thenReturn(jobId);
+    }
+
+    private void mockJob(String jobId, JobState state) {
+        GetJobRequest request = GetJobRequest.builder()
+                                             .jobId(jobId)
+                                             .build();
+        Mockito.when(jobs.get(request))
+               .thenReturn(Mono.just(buildJob(jobId, state)));
+    }
+
+    private void mockEnvironment(UUID applicationGuid, Mono<GetApplicationEnvironmentVariablesResponse> response) {
+        GetApplicationEnvironmentVariablesRequest request = GetApplicationEnvironmentVariablesRequest.builder()
+                                                                                                    .applicationId(applicationGuid.toString())
+                                                                                                    .build();
+        Mockito.when(applications.getEnvironmentVariables(request))
+               .thenReturn(response);
+    }
+
+    private static GetApplicationEnvironmentVariablesResponse buildEnvironment() {
+        return GetApplicationEnvironmentVariablesResponse.builder()
+                                                         .var("key", "value")
+                                                         .build();
+    }
+
+    private static UpdateApplicationResponse buildUpdateResponse(String name) {
+        return UpdateApplicationResponse.builder()
+                                        .id(APPLICATION_GUID.toString())
+                                        .createdAt(CREATED_AT)
+                                        .name(name)
+                                        .state(ApplicationState.STARTED)
+                                        .lifecycle(LIFECYCLE)
+                                        .build();
+    }
+
+    private static GetJobResponse buildJob(String jobId, JobState state) {
+        return GetJobResponse.builder()
+                             .id(jobId)
+                             .createdAt(CREATED_AT)
+                             .operation("app.delete")
+                             .state(state)
+                             .build();
+    }
+
+    private static ListAuditEventsResponse buildEventsPage() {
+        return ListAuditEventsResponse.builder()
+                                      .pagination(Pagination.builder()
+                                                            .totalPages(2)
+                                                            .totalResults(2)
+                                                            .build())
+                                      .resource(AuditEventResource.builder()
+                                                                  .id(UUID.randomUUID()
+                                                                          .toString())
+                                                                  .createdAt(CREATED_AT)
+                                                                  .build())
+                                      .build();
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableResourceMatches;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatches;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatches.Resource;
+import com.sap.cloudfoundry.client.facade.adapters.ResourceMatchingClient;
+import com.sap.cloudfoundry.client.facade.adapters.StreamingUploadClient;
+import com.sap.cloudfoundry.client.facade.util.DigestCache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class ResourceMatchingUploaderTest {
+
+    private static final String LIBRARY = "lib/library.jar";
+    private static final String SCRIPT = "bin/start.sh";
+    private static final String DIRECTORY = "lib/";
+    private static final int LIBRARY_SIZE = (int) ResourceMatchingUploader.MINIMUM_MATCHED_SIZE + 1;
+    // SHA-1 of LIBRARY_SIZE bytes with value 1
+    private static final String LIBRARY_SHA1 = "a5eaa13769506fdb668b4cd929ac5da1903d7f82";
+
+    private Path archive;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        archive = Files.createTempFile("app-", ".zip");
+        try (ZipArchiveOutputStream output = new ZipArchiveOutputStream(archive.toFile())) {
+            addEntry(output, DIRECTORY, null, 0755);
+            byte[] library = new byte[LIBRARY_SIZE];
+            Arrays.fill(library, (byte) 1);
+            addEntry(output, LIBRARY, library, 0644);
+            addEntry(output, SCRIPT, "#!/bin/sh".getBytes(), 0755);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(archive);
+    }
+
+    @Test
+    void testComputeResourcesSkipsSmallFiles() {
+        List<Resource> resources = new ResourceMatchingUploader(null, null, null, null).computeResources(archive)
+                                                                                       .block();
+
+        assertEquals(List.of(buildLibraryResource()), resources);
+    }
+
+    @Test
+    void testComputeResourcesReusesCachedDigests() throws IOException {
+        Path cacheFile = Files.createTempFile("digests-", ".bin");
+        try (DigestCache digestCache = new DigestCache(cacheFile)) {
+            ResourceMatchingUploader uploader = new ResourceMatchingUploader(null, null, null, digestCache);
+            uploader.computeResources(archive)
+                    .block();
+            assertEquals(1, digestCache.size());
+
+            // A cached digest is used as it is, which proves that the entry is not hashed again
+            byte[] cachedDigest = new byte[DigestCache.DIGEST_SIZE];
+            long crc = getCrc(LIBRARY);
+            digestCache.put(LIBRARY, LIBRARY_SIZE, crc, cachedDigest);
+            List<Resource> resources = uploader.computeResources(archive)
+                                               .block();
+
+            assertEquals("0".repeat(2 * DigestCache.DIGEST_SIZE), resources.get(0)
+                                                                           .getChecksum()
+                                                                           .getValue());
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    @Test
+    void testDeltaArchiveLeavesOutCachedFiles() throws IOException {
+        RecordingCallback callback = new RecordingCallback();
+
+        ResourceMatchingUploader.DeltaArchive deltaArchive = ResourceMatchingUploader.createDeltaArchive(archive,
+                                                                                                         List.of(buildLibraryResource()),
+                                                                                                         callback);
+        try (ZipFile zipFile = new ZipFile(deltaArchive.getFile()
+                                                       .toFile())) {
+            List<ZipArchiveEntry> entries = Collections.list(zipFile.getEntries());
+
+            assertEquals(List.of(DIRECTORY, SCRIPT), entries.stream()
+                                                          .map(ZipArchiveEntry::getName)
+                                                          .collect(Collectors.toList()));
+            assertEquals(0755, entries.get(1)
+                                      .getUnixMode()
+                & 0777);
+        } finally {
+            deltaArchive.delete();
+        }
+        assertEquals(Set.of(SCRIPT), callback.uploadedFiles);
+        assertEquals(LIBRARY_SIZE, callback.skippedBytes);
+        assertEquals(LIBRARY_SIZE + 9, callback.totalBytes);
+    }
+
+    @Test
+    void testDeltaArchiveIsOmittedWhenEverythingIsCached() throws IOException {
+        Path libraryOnly = Files.createTempFile("app-", ".zip");
+        try {
+            try (ZipArchiveOutputStream output = new ZipArchiveOutputStream(libraryOnly.toFile())) {
+                addEntry(output, LIBRARY, new byte[LIBRARY_SIZE], 0644);
+            }
+
+            ResourceMatchingUploader.DeltaArchive deltaArchive = ResourceMatchingUploader.createDeltaArchive(libraryOnly,
+                                                                                                             List.of(buildLibraryResource()),
+                                                                                                             UploadStatusCallback.NONE);
+
+            assertNull(deltaArchive.getFile());
+        } finally {
+            Files.deleteIfExists(libraryOnly);
+        }
+    }
+
+    @Test
+    void testUploadSendsCachedResourcesAndDeltaArchive() {
+        ResourceMatchingClient matchingClient = Mockito.mock(ResourceMatchingClient.class);
+        StreamingUploadClient uploadClient = Mockito.mock(StreamingUploadClient.class);
+        ResourceMatches cachedResources = ImmutableResourceMatches.builder()
+                                                                  .addResource(buildLibraryResource())
+                                                                  .build();
+        Mockito.when(matchingClient.matchResources(cachedResources))
+               .thenReturn(Mono.just(cachedResources));
+        Mockito.when(uploadClient.uploadPackage(Mockito.anyString(), Mockito.anyList(), Mockito.any(), Mockito.anyLong()))
+               .thenReturn(Mono.empty());
+        UUID packageGuid = UUID.randomUUID();
+
+        BandwidthLimiter bandwidthLimiter = new BandwidthLimiter(BandwidthLimiter.UNLIMITED, Schedulers.parallel());
+        new ResourceMatchingUploader(matchingClient, uploadClient, bandwidthLimiter, null).upload(packageGuid, archive,
+                                                                                                  UploadStatusCallback.NONE)
+                                                                                          .block();
+
+        Mockito.verify(uploadClient)
+               .uploadPackage(Mockito.eq(packageGuid.toString()), Mockito.eq(cachedResources.getResources()), Mockito.notNull(),
+                               Mockito.anyLong());
+    }
+
+    private long getCrc(String entryName) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            return zipFile.getEntry(entryName)
+                          .getCrc();
+        }
+    }
+
+    private static Resource buildLibraryResource() {
+        return ImmutableResourceMatches.ImmutableResource.builder()
+                                                         .path(LIBRARY)
+                                                         .sizeInBytes(LIBRARY_SIZE)
+                                                         .checksum(ImmutableResourceMatches.ImmutableChecksum.of(LIBRARY_SHA1))
+                                                         .mode("644")
+                                                         .build();
+    }
+
+    private static void addEntry(ZipArchiveOutputStream output, String name, byte[] content, int mode) throws IOException {
+        ZipArchiveEntry entry = new ZipArchiveEntry(name);
+        entry.setUnixMode(mode);
+        output.putArchiveEntry(entry);
+        if (content != null) {
+            output.write(content);
+        }
+        output.closeArchiveEntry();
+    }
+
+    private static class RecordingCallback implements UploadStatusCallback {
+
+        private Set<String> uploadedFiles;
+        private long skippedBytes;
+        private long totalBytes;
+
+        @Override
+        public void onCheckResources() {
+        }
+
+        @Override
+        public void onMatchedFileNames(Set<String> matchedFileNames) {
+            uploadedFiles = matchedFileNames;
+        }
+
+        @Override
+        public void onProcessMatchedResources(int length) {
+        }
+
+        @Override
+        public boolean onProgress(String status) {
+            return false;
+        }
+
+        @Override
+        public void onError(String description) {
+        }
+
+        @Override
+        public void onSkipCachedResources(long skippedBytes, long totalBytes) {
+            this.skippedBytes = skippedBytes;
+            this.totalBytes = totalBytes;
+        }
+    }
+
+}
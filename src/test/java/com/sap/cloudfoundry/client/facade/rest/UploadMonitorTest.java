@@ -0,0 +1,184 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableUpload;
+import com.sap.cloudfoundry.client.facade.domain.Status;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class UploadMonitorTest {
+
+    private static final UUID PACKAGE_1 = UUID.fromString("1d3c4f28-37d4-4c5d-8b6b-29a7a0d1f4a1");
+    private static final UUID PACKAGE_2 = UUID.fromString("2d3c4f28-37d4-4c5d-8b6b-29a7a0d1f4a2");
+
+    private final Map<UUID, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> pollsUntilReady = new ConcurrentHashMap<>();
+    private final List<Collection<UUID>> requests = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testWatchEmitsStatusesUntilReady() {
+        pollsUntilReady.put(PACKAGE_1, 3);
+        UploadMonitor monitor = createMonitor();
+
+        List<Status> statuses = monitor.watch(this::fetchStatuses, PACKAGE_1)
+                                       .map(Upload::getStatus)
+                                       .collectList()
+                                       .block();
+
+        assertEquals(List.of(Status.PROCESSING_UPLOAD, Status.PROCESSING_UPLOAD, Status.READY), statuses);
+        assertEquals(0, monitor.getWatchedUploadCount());
+    }
+
+    @Test
+    void testDuePackagesAreFetchedTogether() {
+        pollsUntilReady.put(PACKAGE_1, 1);
+        pollsUntilReady.put(PACKAGE_2, 1);
+        UploadMonitor monitor = createMonitor();
+        Function<Collection<UUID>, Mono<Map<UUID, Upload>>> fetcher = this::fetchStatuses;
+
+        Flux.merge(monitor.watch(fetcher, PACKAGE_1), monitor.watch(fetcher, PACKAGE_2))
+            .blockLast();
+
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.get(0)
+                                .size());
+    }
+
+    @Test
+    void testPackagesOfDifferentClientsAreFetchedThroughTheirClient() {
+        pollsUntilReady.put(PACKAGE_1, 1);
+        UploadMonitor monitor = createMonitor();
+        List<Collection<UUID>> otherRequests = new CopyOnWriteArrayList<>();
+        Function<Collection<UUID>, Mono<Map<UUID, Upload>>> otherFetcher = packageGuids -> {
+            otherRequests.add(new ArrayList<>(packageGuids));
+            return Mono.just(Map.of(PACKAGE_2, buildUpload(Status.READY)));
+        };
+
+        Flux.merge(monitor.watch(this::fetchStatuses, PACKAGE_1), monitor.watch(otherFetcher, PACKAGE_2))
+            .blockLast();
+
+        assertEquals(List.of(List.of(PACKAGE_1)), requests);
+        assertEquals(List.of(List.of(PACKAGE_2)), otherRequests);
+    }
+
+    @Test
+    void testCancellingStopsPolling() throws Exception {
+        pollsUntilReady.put(PACKAGE_1, Integer.MAX_VALUE);
+        UploadMonitor monitor = createMonitor();
+
+        monitor.watch(this::fetchStatuses, PACKAGE_1)
+               .take(2)
+               .blockLast();
+        int pollsAfterCancel = polls.get(PACKAGE_1)
+                                    .get();
+        Thread.sleep(100);
+
+        assertEquals(pollsAfterCancel, polls.get(PACKAGE_1)
+                                            .get());
+        assertEquals(0, monitor.getWatchedUploadCount());
+    }
+
+    @Test
+    void testCallbackReceivesFailure() throws Exception {
+        UploadMonitor monitor = createMonitor();
+        RecordingCallback callback = new RecordingCallback();
+
+        monitor.watch(packageGuids -> Mono.just(Map.of(PACKAGE_1, buildUpload(Status.FAILED))), PACKAGE_1, callback);
+
+        assertTrue(callback.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Status.FAILED.toString()), callback.statuses);
+        assertEquals("Upload failed", callback.error);
+    }
+
+    @Test
+    void testWatchFailsForMissingPackage() {
+        UploadMonitor monitor = createMonitor();
+
+        Flux<Upload> result = monitor.watch(packageGuids -> Mono.just(Map.of()), PACKAGE_1);
+
+        assertThrows(CloudOperationException.class, result::blockLast);
+    }
+
+    private UploadMonitor createMonitor() {
+        return new UploadMonitor(Duration.ofMillis(10), Duration.ofMillis(40), Schedulers.parallel());
+    }
+
+    private Mono<Map<UUID, Upload>> fetchStatuses(Collection<UUID> packageGuids) {
+        requests.add(new ArrayList<>(packageGuids));
+        return Mono.fromSupplier(() -> packageGuids.stream()
+                                                   .collect(Collectors.toMap(Function.identity(), this::nextUpload)));
+    }
+
+    private Upload nextUpload(UUID packageGuid) {
+        int count = polls.computeIfAbsent(packageGuid, guid -> new AtomicInteger())
+                         .incrementAndGet();
+        return buildUpload(count < pollsUntilReady.get(packageGuid) ? Status.PROCESSING_UPLOAD : Status.READY);
+    }
+
+    private static Upload buildUpload(Status status) {
+        return ImmutableUpload.builder()
+                              .status(status)
+                              .errorDetails(ImmutableErrorDetails.builder()
+                                                                 .description("Upload failed")
+                                                                 .build())
+                              .build();
+    }
+
+    private static class RecordingCallback implements UploadStatusCallback {
+
+        private final List<String> statuses = new CopyOnWriteArrayList<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile String error;
+
+        @Override
+        public void onCheckResources() {
+        }
+
+        @Override
+        public void onMatchedFileNames(Set<String> matchedFileNames) {
+        }
+
+        @Override
+        public void onProcessMatchedResources(int length) {
+        }
+
+        @Override
+        public boolean onProgress(String status) {
+            statuses.add(status);
+            return false;
+        }
+
+        @Override
+        public void onError(String description) {
+            error = description;
+            finished.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.UploadProgress;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+class UploadProgressTrackerTest {
+
+    private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<UploadProgress> reports = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testProgressIsReportedWhileUploading() {
+        UploadProgressTracker tracker = createTracker(4000);
+        Sinks.Many<byte[]> chunks = Sinks.many()
+                                         .unicast()
+                                         .onBackpressureBuffer();
+        Disposable upload = tracker.track(chunks.asFlux())
+                                   .subscribe();
+
+        chunks.tryEmitNext(new byte[1000]);
+        advanceSeconds(1);
+        tracker.report();
+        advanceSeconds(1);
+        tracker.report();
+        upload.dispose();
+
+        UploadProgress first = reports.get(0);
+        assertEquals(1000, first.getBytesSent());
+        assertEquals(1000, first.getCurrentThroughput());
+        assertEquals(Duration.ofSeconds(3), first.getRemainingTime());
+        UploadProgress stalled = reports.get(1);
+        assertEquals(0, stalled.getCurrentThroughput());
+        assertEquals(500, stalled.getAverageThroughput());
+        assertEquals(Duration.ofSeconds(6), stalled.getRemainingTime());
+    }
+
+    @Test
+    void testCompletionIsReported() {
+        UploadProgressTracker tracker = createTracker(3000);
+
+        tracker.track(Flux.just(new byte[1000], new byte[2000])
+                          .doOnNext(chunk -> advanceSeconds(1)))
+               .blockLast();
+
+        UploadProgress last = reports.get(reports.size() - 1);
+        assertEquals(3000, last.getBytesSent());
+        assertEquals(1500, last.getAverageThroughput());
+        assertEquals(Duration.ZERO, last.getRemainingTime());
+    }
+
+    @Test
+    void testRetriedUploadStartsCountingFromZero() {
+        UploadProgressTracker tracker = createTracker(2000);
+        AtomicLong attempts = new AtomicLong();
+
+        tracker.track(Flux.just(new byte[1000], new byte[1000])
+                          .doOnNext(chunk -> advanceSeconds(1))
+                          .concatWith(Flux.defer(() -> attempts.incrementAndGet() == 1 ? Flux.error(new IllegalStateException())
+                              : Flux.empty())))
+               .retry(1)
+               .blockLast();
+
+        UploadProgress last = reports.get(reports.size() - 1);
+        assertEquals(2000, last.getBytesSent());
+        assertEquals(Duration.ZERO, last.getRemainingTime());
+    }
+
+    @Test
+    void testRemainingTimeIsUnknownWithoutTotalSize() {
+        UploadProgressTracker tracker = createTracker(-1);
+
+        tracker.track(Flux.just(new byte[1000])
+                          .doOnNext(chunk -> advanceSeconds(1)))
+               .blockLast();
+
+        assertNull(reports.get(0)
+                          .getRemainingTime());
+    }
+
+    @Test
+    void testChunksAreNotTrackedWithoutProgressCallback() {
+        Flux<byte[]> chunks = Flux.just(new byte[1]);
+
+        assertSame(chunks, UploadProgressTracker.track(chunks, 1, UploadStatusCallback.NONE));
+    }
+
+    private UploadProgressTracker createTracker(long totalBytes) {
+        return new UploadProgressTracker(totalBytes, reports::add, LONG_INTERVAL, Schedulers.parallel(), clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds)
+                                .toNanos());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.CloudException;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationUpload;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudPackage;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+class UploadSchedulerTest {
+
+    private static final Map<String, Long> SIZES = Map.of("small", 1L, "medium", 10L, "large", 100L, "huge", 1000L);
+
+    private final List<String> startedUploads = new CopyOnWriteArrayList<>();
+    private final Map<String, Sinks.One<CloudPackage>> runningUploads = new ConcurrentHashMap<>();
+    private final UploadScheduler scheduler = new UploadScheduler(2, upload -> SIZES.get(upload.getApplicationName()),
+                                                                  Schedulers.immediate());
+
+    @Test
+    void testUploadsAreStartedSmallestFirstWithinConcurrency() {
+        scheduler.schedule(List.of(buildUpload("huge"), buildUpload("large")), this::startUpload);
+        scheduler.schedule(List.of(buildUpload("medium"), buildUpload("small")), this::startUpload);
+
+        assertEquals(List.of("large", "huge"), startedUploads);
+        assertEquals(2, scheduler.getQueuedUploadCount());
+
+        finishUpload("large");
+
+        assertEquals(List.of("large", "huge", "small"), startedUploads);
+        assertEquals(1, scheduler.getQueuedUploadCount());
+    }
+
+    @Test
+    void testResultsArePublishedPerApplication() {
+        CloudPackage uploadedPackage = buildPackage();
+        Map<String, Mono<CloudPackage>> results = scheduler.schedule(List.of(buildUpload("large"), buildUpload("small")),
+                                                                     this::startUpload);
+        runningUploads.get("small")
+                      .tryEmitValue(uploadedPackage);
+        runningUploads.get("large")
+                      .tryEmitError(new CloudException("Upload failed"));
+
+        assertEquals(List.of("large", "small"), List.copyOf(results.keySet()));
+        assertEquals(uploadedPackage, results.get("small")
+                                             .block());
+        assertThrows(CloudException.class, () -> results.get("large")
+                                                        .block());
+        assertEquals(0, scheduler.getQueuedUploadCount());
+    }
+
+    @Test
+    void testApplicationCannotBeUploadedTwiceInOneBatch() {
+        List<ApplicationUpload> uploads = List.of(buildUpload("small"), buildUpload("small"));
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(uploads, this::startUpload));
+        assertEquals(0, scheduler.getQueuedUploadCount());
+    }
+
+    @Test
+    void testSizesAreEstimatedOnTheGivenScheduler() {
+        AtomicReference<Thread> estimatingThread = new AtomicReference<>();
+        UploadScheduler backgroundScheduler = new UploadScheduler(2, upload -> {
+            estimatingThread.set(Thread.currentThread());
+            return SIZES.get(upload.getApplicationName());
+        }, Schedulers.boundedElastic());
+        CloudPackage uploadedPackage = buildPackage();
+
+        Map<String, Mono<CloudPackage>> results = backgroundScheduler.schedule(List.of(buildUpload("small")),
+                                                                               upload -> Mono.just(uploadedPackage));
+
+        assertEquals(uploadedPackage, results.get("small")
+                                             .block(Duration.ofSeconds(5)));
+        assertNotSame(Thread.currentThread(), estimatingThread.get());
+    }
+
+    @Test
+    void testUploadFailsWhenItsSizeCannotBeEstimated() {
+        UploadScheduler failingScheduler = new UploadScheduler(2, upload -> {
+            throw new CloudException("Cannot read " + upload.getApplicationName());
+        }, Schedulers.immediate());
+
+        Map<String, Mono<CloudPackage>> results = failingScheduler.schedule(List.of(buildUpload("small")), this::startUpload);
+
+        assertThrows(CloudException.class, () -> results.get("small")
+                                                        .block());
+        assertEquals(List.of(), startedUploads);
+    }
+
+    private Mono<CloudPackage> startUpload(ApplicationUpload upload) {
+        startedUploads.add(upload.getApplicationName());
+        Sinks.One<CloudPackage> result = Sinks.one();
+        runningUploads.put(upload.getApplicationName(), result);
+        return result.asMono();
+    }
+
+    private void finishUpload(String applicationName) {
+        runningUploads.get(applicationName)
+                      .tryEmitValue(buildPackage());
+    }
+
+    private static ApplicationUpload buildUpload(String applicationName) {
+        return ImmutableApplicationUpload.builder()
+                                         .applicationName(applicationName)
+                                         .file(Path.of(applicationName + ".zip"))
+                                         .build();
+    }
+
+    private static CloudPackage buildPackage() {
+        return ImmutableCloudPackage.builder()
+                                    .metadata(ImmutableCloudMetadata.of(UUID.randomUUID()))
+                                    .build();
+    }
+
+}
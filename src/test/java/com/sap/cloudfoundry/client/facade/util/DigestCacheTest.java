@@ -0,0 +1,136 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DigestCacheTest {
+
+    private static final String PATH = "lib/library.jar";
+    private static final long SIZE = 1024;
+    private static final long CRC = 0xcafebabeL;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("digests-", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testGetReturnsPutDigest() throws IOException {
+        try (DigestCache cache = new DigestCache(file)) {
+            cache.put(PATH, SIZE, CRC, digest(1));
+
+            assertArrayEquals(digest(1), cache.get(PATH, SIZE, CRC));
+            assertNull(cache.get(PATH, SIZE + 1, CRC));
+            assertNull(cache.get(PATH, SIZE, CRC + 1));
+            assertNull(cache.get("lib/other.jar", SIZE, CRC));
+        }
+    }
+
+    @Test
+    void testPutReplacesDigest() throws IOException {
+        try (DigestCache cache = new DigestCache(file)) {
+            cache.put(PATH, SIZE, CRC, digest(1));
+            cache.put(PATH, SIZE, CRC, digest(2));
+
+            assertArrayEquals(digest(2), cache.get(PATH, SIZE, CRC));
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    void testDigestsArePersisted() throws IOException {
+        try (DigestCache cache = new DigestCache(file)) {
+            cache.put(PATH, SIZE, CRC, digest(1));
+        }
+
+        try (DigestCache cache = new DigestCache(file)) {
+            assertArrayEquals(digest(1), cache.get(PATH, SIZE, CRC));
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    void testCacheGrows() throws IOException {
+        int count = DigestCache.DEFAULT_CAPACITY * 2;
+        try (DigestCache cache = new DigestCache(file)) {
+            for (int i = 0; i < count; i++) {
+                cache.put("file-" + i, i, i, digest(i));
+            }
+        }
+
+        try (DigestCache cache = new DigestCache(file)) {
+            assertEquals(count, cache.size());
+            for (int i = 0; i < count; i++) {
+                assertArrayEquals(digest(i), cache.get("file-" + i, i, i));
+            }
+        }
+    }
+
+    @Test
+    void testFullCacheIsCleared() throws IOException {
+        int maximumSize = 100;
+        try (DigestCache cache = new DigestCache(file, maximumSize)) {
+            for (int i = 0; i < maximumSize; i++) {
+                cache.put("file-" + i, i, i, digest(i));
+            }
+            long fileSize = Files.size(file);
+
+            cache.put(PATH, SIZE, CRC, digest(1));
+
+            assertEquals(1, cache.size());
+            assertArrayEquals(digest(1), cache.get(PATH, SIZE, CRC));
+            assertNull(cache.get("file-0", 0, 0));
+            assertEquals(fileSize, Files.size(file));
+        }
+    }
+
+    @Test
+    void testInvalidFileIsReset() throws IOException {
+        Files.write(file, "not a digest cache".getBytes(StandardCharsets.UTF_8));
+
+        try (DigestCache cache = new DigestCache(file)) {
+            assertEquals(0, cache.size());
+            cache.put(PATH, SIZE, CRC, digest(1));
+        }
+
+        try (DigestCache cache = new DigestCache(file)) {
+            assertArrayEquals(digest(1), cache.get(PATH, SIZE, CRC));
+        }
+    }
+
+    @Test
+    void testLockedFileIsCachedInMemory() throws IOException {
+        try (DigestCache cache = new DigestCache(file); DigestCache secondCache = new DigestCache(file)) {
+            secondCache.put(PATH, SIZE, CRC, digest(1));
+
+            assertArrayEquals(digest(1), secondCache.get(PATH, SIZE, CRC));
+            assertNull(cache.get(PATH, SIZE, CRC));
+        }
+    }
+
+    private static byte[] digest(int seed) {
+        byte[] digest = new byte[DigestCache.DIGEST_SIZE];
+        for (int i = 0; i < digest.length; i++) {
+            digest[i] = (byte) (seed * 31 + i);
+        }
+        return digest;
+    }
+
+}
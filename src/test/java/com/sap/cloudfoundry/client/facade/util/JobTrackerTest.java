@@ -0,0 +1,211 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.Error;
+import org.cloudfoundry.client.v3.jobs.GetJobRequest;
+import org.cloudfoundry.client.v3.jobs.GetJobResponse;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.cloudfoundry.client.v3.jobs.JobsV3;
+import org.cloudfoundry.util.DelayTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class JobTrackerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String JOB_1 = "job-1";
+    private static final String JOB_2 = "job-2";
+
+    @Mock
+    private CloudFoundryClient client;
+    @Mock
+    private JobsV3 jobs;
+    private JobTracker jobTracker;
+    private final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        Mockito.when(client.jobsV3())
+               .thenReturn(jobs);
+        jobTracker = new JobTracker(Duration.ofMillis(10), Duration.ofMillis(40), Schedulers.parallel());
+    }
+
+    @Test
+    void testAwaitJobsPollsUntilComplete() {
+        mockJob(JOB_1, 3, JobState.COMPLETE);
+        mockJob(JOB_2, 1, JobState.COMPLETE);
+
+        jobTracker.awaitJobs(client, List.of(JOB_1, JOB_2), TIMEOUT)
+                  .block();
+
+        assertEquals(3, polls.get(JOB_1)
+                             .get());
+        assertEquals(1, polls.get(JOB_2)
+                             .get());
+        assertEquals(0, jobTracker.getTrackedJobCount());
+    }
+
+    @Test
+    void testAwaitJobsFailsWhenJobFails() {
+        mockJob(JOB_1, 1, JobState.FAILED);
+        mockJob(JOB_2, 2, JobState.COMPLETE);
+
+        Mono<Void> result = jobTracker.awaitJobs(client, List.of(JOB_1, JOB_2), TIMEOUT);
+
+        assertThrows(ClientV3Exception.class, result::block);
+        assertEquals(2, polls.get(JOB_2)
+                             .get());
+    }
+
+    @Test
+    void testAwaitJobTimesOut() {
+        mockJob(JOB_1, Integer.MAX_VALUE, JobState.COMPLETE);
+
+        Mono<Void> result = jobTracker.awaitJob(client, JOB_1, Duration.ofMillis(50));
+
+        assertThrows(DelayTimeoutException.class, result::block);
+        assertEquals(0, jobTracker.getTrackedJobCount());
+    }
+
+    @Test
+    void testHangingPollDoesNotPreventTheTimeout() {
+        Mockito.when(jobs.get(buildRequest(JOB_1)))
+               .thenReturn(Mono.never());
+        mockJob(JOB_2, 3, JobState.COMPLETE);
+
+        Mono<Void> hangingJob = jobTracker.awaitJob(client, JOB_1, Duration.ofMillis(100));
+        Mono<Void> otherJob = jobTracker.awaitJob(client, JOB_2, TIMEOUT);
+
+        assertThrows(DelayTimeoutException.class, () -> Mono.when(hangingJob, otherJob)
+                                                            .block());
+        otherJob.block();
+        assertEquals(3, polls.get(JOB_2)
+                             .get());
+        assertEquals(0, jobTracker.getTrackedJobCount());
+    }
+
+    @Test
+    void testCancelledJobIsNoLongerPolled() throws InterruptedException {
+        mockJob(JOB_1, Integer.MAX_VALUE, JobState.COMPLETE);
+        Disposable waiter = jobTracker.awaitJob(client, JOB_1, TIMEOUT)
+                                      .subscribe();
+        Thread.sleep(50);
+
+        waiter.dispose();
+        Thread.sleep(20);
+        int pollsAfterCancel = polls.get(JOB_1)
+                                    .get();
+        Thread.sleep(100);
+
+        assertEquals(0, jobTracker.getTrackedJobCount());
+        assertEquals(pollsAfterCancel, polls.get(JOB_1)
+                                            .get());
+    }
+
+    @Test
+    void testJobIsPolledUntilAllWaitersCancel() {
+        mockJob(JOB_1, Integer.MAX_VALUE, JobState.COMPLETE);
+        Disposable firstWaiter = jobTracker.awaitJob(client, JOB_1, TIMEOUT)
+                                           .subscribe();
+        Disposable secondWaiter = jobTracker.awaitJob(client, JOB_1, TIMEOUT)
+                                            .subscribe();
+
+        firstWaiter.dispose();
+        assertEquals(1, jobTracker.getTrackedJobCount());
+        secondWaiter.dispose();
+        assertEquals(0, jobTracker.getTrackedJobCount());
+    }
+
+    @Test
+    void testWaitersTimeOutOnTheirOwn() {
+        mockJob(JOB_1, Integer.MAX_VALUE, JobState.COMPLETE);
+        Disposable patientWaiter = jobTracker.awaitJob(client, JOB_1, TIMEOUT)
+                                             .subscribe();
+
+        assertThrows(DelayTimeoutException.class, () -> jobTracker.awaitJob(client, JOB_1, Duration.ofMillis(50))
+                                                                  .block());
+        assertEquals(1, jobTracker.getTrackedJobCount());
+        patientWaiter.dispose();
+    }
+
+    @Test
+    void testAwaitingTheSameJobTwiceSharesThePoll() {
+        mockJob(JOB_1, 2, JobState.COMPLETE);
+
+        Mono.when(jobTracker.awaitJob(client, JOB_1, TIMEOUT), jobTracker.awaitJob(client, JOB_1, TIMEOUT))
+            .block();
+
+        assertEquals(2, polls.get(JOB_1)
+                             .get());
+    }
+
+    @Test
+    void testJobsOfDifferentClientsArePolledThroughTheirClient() {
+        CloudFoundryClient otherClient = Mockito.mock(CloudFoundryClient.class);
+        JobsV3 otherJobs = Mockito.mock(JobsV3.class);
+        Mockito.when(otherClient.jobsV3())
+               .thenReturn(otherJobs);
+        Mockito.when(otherJobs.get(Mockito.any(GetJobRequest.class)))
+               .thenReturn(Mono.just(buildJob(JOB_1, JobState.COMPLETE)));
+        mockJob(JOB_1, 2, JobState.COMPLETE);
+
+        Mono.when(jobTracker.awaitJob(client, JOB_1, TIMEOUT), jobTracker.awaitJob(otherClient, JOB_1, TIMEOUT))
+            .block();
+
+        assertEquals(2, polls.get(JOB_1)
+                             .get());
+        Mockito.verify(otherJobs)
+               .get(Mockito.any(GetJobRequest.class));
+    }
+
+    private void mockJob(String jobId, int pollsUntilFinished, JobState finalState) {
+        AtomicInteger pollCount = polls.computeIfAbsent(jobId, id -> new AtomicInteger());
+        Mockito.when(jobs.get(buildRequest(jobId)))
+               .thenAnswer(invocation -> Mono.fromSupplier(() -> {
+                   JobState state = pollCount.incrementAndGet() < pollsUntilFinished ? JobState.PROCESSING : finalState;
+                   return buildJob(jobId, state);
+               }));
+    }
+
+    private static GetJobRequest buildRequest(String jobId) {
+        return GetJobRequest.builder()
+                            .jobId(jobId)
+                            .build();
+    }
+
+    private static GetJobResponse buildJob(String jobId, JobState state) {
+        GetJobResponse.Builder builder = GetJobResponse.builder()
+                                                       .id(jobId)
+                                                       .createdAt("2022-01-01T00:00:00Z")
+                                                       .operation("app.delete")
+                                                       .state(state);
+        if (state == JobState.FAILED) {
+            builder.error(Error.builder()
+                               .code(10008)
+                               .title("CF-UnprocessableEntity")
+                               .detail("Job failed")
+                               .build());
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.client.v3.PaginatedResponse;
+import org.cloudfoundry.client.v3.Pagination;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+class ParallelPaginatorTest {
+
+    private static final int TOTAL_PAGES = 6;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    void testOrderedKeepsPageOrder() {
+        ParallelPaginator paginator = new ParallelPaginator(TOTAL_PAGES, true);
+
+        List<Integer> resources = paginator.requestClientV3Resources(page -> requestPage(page, TOTAL_PAGES))
+                                           .collectList()
+                                           .block();
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), resources);
+        assertEquals(TOTAL_PAGES, requests.get());
+    }
+
+    @Test
+    void testUnorderedEmitsEveryPage() {
+        ParallelPaginator paginator = new ParallelPaginator(TOTAL_PAGES, false);
+
+        List<Integer> resources = paginator.requestClientV3Resources(page -> requestPage(page, TOTAL_PAGES))
+                                           .collectList()
+                                           .block();
+
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6), resources.stream()
+                                                         .collect(Collectors.toSet()));
+        assertEquals(TOTAL_PAGES, resources.size());
+    }
+
+    @Test
+    void testConcurrencyIsLimited() {
+        ParallelPaginator paginator = new ParallelPaginator(2, true);
+
+        paginator.requestClientV3Resources(page -> requestPage(page, TOTAL_PAGES))
+                 .blockLast();
+
+        assertTrue(maxInFlight.get() <= 2, "At most 2 pages should be requested at once, but were " + maxInFlight.get());
+        assertEquals(TOTAL_PAGES, requests.get());
+    }
+
+    @Test
+    void testSinglePageListing() {
+        ParallelPaginator paginator = new ParallelPaginator(4, true);
+
+        List<Integer> resources = paginator.requestClientV3Resources(page -> requestPage(page, 1))
+                                           .collectList()
+                                           .block();
+
+        assertEquals(List.of(1), resources);
+        assertEquals(1, requests.get());
+    }
+
+    private Mono<PaginatedResponse<Integer>> requestPage(int page, int totalPages) {
+        // Earlier pages take longer, so that unordered results arrive out of order
+        return Mono.fromSupplier(() -> startRequest(page, totalPages))
+                   .delayElement(Duration.ofMillis(10L * (TOTAL_PAGES - page + 1)))
+                   .doOnNext(response -> inFlight.decrementAndGet());
+    }
+
+    private PaginatedResponse<Integer> startRequest(int page, int totalPages) {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return buildPage(page, totalPages);
+    }
+
+    private static PaginatedResponse<Integer> buildPage(int page, int totalPages) {
+        return new PaginatedResponse<>() {
+
+            @Override
+            public Pagination getPagination() {
+                return Pagination.builder()
+                                 .totalPages(totalPages)
+                                 .build();
+            }
+
+            @Override
+            public List<Integer> getResources() {
+                return List.of(page);
+            }
+        };
+    }
+
+}
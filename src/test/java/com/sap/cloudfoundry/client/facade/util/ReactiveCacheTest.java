@@ -0,0 +1,102 @@
+package com.sap.cloudfoundry.client.facade.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveCacheTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testConcurrentRequestsShareOneLoad() {
+        ReactiveCache<String, String> cache = new ReactiveCache<>(TIME_TO_LIVE, 10);
+        Function<String, Mono<String>> slowLoader = key -> Mono.fromSupplier(() -> countingLoad(key))
+                                                              .delayElement(Duration.ofMillis(50));
+
+        Flux.range(0, 20)
+            .flatMap(i -> cache.get("plan", slowLoader))
+            .blockLast();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        ReactiveCache<String, String> cache = new ReactiveCache<>(TIME_TO_LIVE, 10);
+
+        cache.get("plan", this::load)
+             .block();
+        cache.invalidate("plan");
+        cache.get("plan", this::load)
+             .block();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testErrorsAreNotCached() {
+        ReactiveCache<String, String> cache = new ReactiveCache<>(TIME_TO_LIVE, 10);
+        Function<String, Mono<String>> failingOnceLoader = key -> Mono.fromSupplier(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return key;
+        });
+
+        assertThrows(IllegalStateException.class, () -> cache.get("plan", failingOnceLoader)
+                                                             .block());
+        assertEquals("plan", cache.get("plan", failingOnceLoader)
+                                  .block());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ReactiveCache<String, String> cache = new ReactiveCache<>(TIME_TO_LIVE, 2);
+
+        cache.get("first", this::load)
+             .block();
+        cache.get("second", this::load)
+             .block();
+        cache.get("third", this::load)
+             .block();
+
+        assertEquals(2, cache.size());
+        cache.get("first", this::load)
+             .block();
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        ReactiveCache<String, String> cache = ReactiveCache.disabled();
+
+        cache.get("plan", this::load)
+             .block();
+        cache.get("plan", this::load)
+             .block();
+
+        assertEquals(2, loads.get());
+    }
+
+    private Mono<String> load(String key) {
+        return Mono.fromSupplier(() -> countingLoad(key));
+    }
+
+    private String countingLoad(String key) {
+        loads.incrementAndGet();
+        return key;
+    }
+
+}